@@ -20,6 +20,10 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter")
 }
 
+tasks.withType<JavaCompile> {
+    options.compilerArgs.add("-Adooq.converters=true")
+}
+
 tasks.test {
     useJUnitPlatform()
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package org.dooq.test;
+
+import java.math.BigDecimal;
+
+public class Dimensions {
+
+    private BigDecimal width;
+    private BigDecimal height;
+    private int units;
+
+    public BigDecimal getWidth() {
+        return width;
+    }
+
+    public Dimensions setWidth(BigDecimal width) {
+        this.width = width;
+        return this;
+    }
+
+    public BigDecimal getHeight() {
+        return height;
+    }
+
+    public Dimensions setHeight(BigDecimal height) {
+        this.height = height;
+        return this;
+    }
+
+    public int getUnits() {
+        return units;
+    }
+
+    public Dimensions setUnits(int units) {
+        this.units = units;
+        return this;
+    }
+}
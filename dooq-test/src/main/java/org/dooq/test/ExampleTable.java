@@ -1,8 +1,10 @@
 package org.dooq.test;
 
 import org.dooq.api.*;
+import org.dooq.util.LongArrayList;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @LocalIndex(name = "category-index", sortKey = "categoryId", projectionMode = ProjectionMode.ALL)
 @GlobalIndex(name = "sku-index", partitionKey = "sku", projectionMode = ProjectionMode.ALL)
@@ -12,11 +14,21 @@ public class ExampleTable {
     private String partition;
     @SortKey(alias = "sk")
     private String sort;
+    @Compressed(threshold = 64)
     private String description;
     private BigDecimal price;
     private String sku;
     @ColumnAlias("categoryId")
+    @Deduplicate(pool = "categories")
     private String categoryUuid;
     private boolean saleable;
+    private Dimensions dimensions;
+    private float[] embedding;
+    @ArrayFormat(ArrayFormat.Encoding.NUMBER_SET)
+    private LongArrayList relatedSkus;
+    @EnumFormat(EnumFormat.Encoding.ORDINAL)
+    private ProductStatus status;
+    @EpochEncoded
+    private Instant updatedAt;
 
 }
@@ -0,0 +1,7 @@
+package org.dooq.test;
+
+public enum ProductStatus {
+    DRAFT,
+    PUBLISHED,
+    DISCONTINUED
+}
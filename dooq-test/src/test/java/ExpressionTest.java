@@ -0,0 +1,76 @@
+import org.dooq.DynamoSL;
+import org.dooq.test.ProductStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.Instant;
+
+import static org.dooq.test.Tables.PRODUCTS;
+
+/**
+ * Condition, key and update values are encoded as the record converter stores them
+ */
+public class ExpressionTest {
+
+    final DynamoSL dsl = new DynamoSL(new DynamoDbClient() {
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    });
+
+    @Test
+    void ordinalCondition() {
+
+        var query = dsl.prepare(dsl.selectFrom(PRODUCTS)
+                .where(PRODUCTS.PARTITION.eq("partition")
+                        .and(PRODUCTS.STATUS.eq(ProductStatus.DISCONTINUED))));
+
+        Assertions.assertTrue(query.values().containsValue(AttributeValue.fromN("2")), query.values()::toString);
+        Assertions.assertFalse(query.values().containsValue(AttributeValue.fromS("DISCONTINUED")));
+    }
+
+    @Test
+    void ordinalUpdate() {
+
+        var update = dsl.prepare(dsl.update(PRODUCTS)
+                .set(PRODUCTS.STATUS, ProductStatus.DISCONTINUED)
+                .key(key -> key.partition("partition").sort("sort")));
+
+        Assertions.assertEquals(AttributeValue.fromN("2"), update.values().get(PRODUCTS.STATUS.param()));
+    }
+
+    @Test
+    void epochRange() {
+
+        var from = Instant.ofEpochMilli(1_710_073_845_123L);
+        var to = from.plusSeconds(60);
+
+        var query = dsl.prepare(dsl.selectFrom(PRODUCTS)
+                .where(PRODUCTS.PARTITION.eq("partition")
+                        .and(PRODUCTS.UPDATEDAT.between(from).and(to))));
+
+        Assertions.assertTrue(query.values().containsValue(AttributeValue.fromN("1710073845123")), query.values()::toString);
+        Assertions.assertTrue(query.values().containsValue(AttributeValue.fromN("1710073905123")));
+
+        query = dsl.prepare(dsl.selectFrom(PRODUCTS)
+                .where(PRODUCTS.PARTITION.eq("partition")
+                        .and(PRODUCTS.UPDATEDAT.greaterThan(from))));
+
+        Assertions.assertEquals(1, query.values().values().stream()
+                .filter(value -> "1710073845123".equals(value.n()))
+                .count());
+
+        var update = dsl.prepare(dsl.update(PRODUCTS)
+                .set(PRODUCTS.UPDATEDAT, from)
+                .key(key -> key.partition("partition").sort("sort")));
+
+        Assertions.assertEquals(AttributeValue.fromN("1710073845123"), update.values().get(PRODUCTS.UPDATEDAT.param()));
+    }
+}
@@ -1,7 +1,19 @@
 import org.dooq.api.DynamoConverter;
+import org.dooq.api.NumberField;
+import org.dooq.test.Dimensions;
+import org.dooq.test.ProductStatus;
 import org.dooq.test.ProductsRecord;
+import org.dooq.test.ProductsRecordConverter;
+import org.dooq.test.Tables;
+import org.dooq.util.LongArrayList;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
 
 public class ParserTest {
 
@@ -13,7 +25,10 @@ public class ParserTest {
                 .setPartition("partition")
                 .setSort("sort")
                 .setDescription("description")
-                .setCategoryUuid("categoryId");
+                .setCategoryUuid("categoryId")
+                .setDimensions(new Dimensions()
+                        .setWidth(BigDecimal.ONE)
+                        .setUnits(3));
 
         var result = parser.write(record);
 
@@ -27,6 +42,89 @@ public class ParserTest {
         Assertions.assertEquals(record.getSort(), newRecord.getSort());
         Assertions.assertEquals(record.getDescription(), newRecord.getDescription());
         Assertions.assertEquals(record.getCategoryUuid(), newRecord.getCategoryUuid());
+        Assertions.assertEquals(BigDecimal.ONE, newRecord.getDimensions().getWidth());
+        Assertions.assertEquals(3, newRecord.getDimensions().getUnits());
+    }
+
+    @Test
+    void compressedDescription() {
+        var parser = DynamoConverter.getConverter(ProductsRecord.class);
+
+        var description = "A long description ".repeat(20);
+
+        var item = parser.write(new ProductsRecord()
+                .setPartition("partition")
+                .setDescription(description));
+
+        Assertions.assertNotNull(item.get("description").b());
+        Assertions.assertEquals(description, parser.read(item).getDescription());
+    }
+
+    @Test
+    void packedEmbedding() {
+        var parser = DynamoConverter.getConverter(ProductsRecord.class);
+
+        var embedding = new float[]{0.25f, -1.5f, 3f};
+
+        var item = parser.write(new ProductsRecord()
+                .setPartition("partition")
+                .setEmbedding(embedding));
+
+        Assertions.assertEquals(12, item.get("embedding").b().asByteArray().length);
+        Assertions.assertArrayEquals(embedding, parser.read(item).getEmbedding());
+    }
 
+    @Test
+    void relatedSkus() {
+        var parser = DynamoConverter.getConverter(ProductsRecord.class);
+
+        var item = parser.write(new ProductsRecord()
+                .setPartition("partition")
+                .setRelatedSkus(LongArrayList.of(3, 1, 2)));
+
+        Assertions.assertEquals(3, item.get("relatedSkus").ns().size());
+        Assertions.assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(parser.read(item).getRelatedSkus()));
+    }
+
+    @Test
+    void ordinalStatus() {
+        var parser = DynamoConverter.getConverter(ProductsRecord.class);
+
+        var item = parser.write(new ProductsRecord()
+                .setPartition("partition")
+                .setStatus(ProductStatus.DISCONTINUED));
+
+        Assertions.assertEquals("2", item.get("status").n());
+        Assertions.assertEquals(ProductStatus.DISCONTINUED, parser.read(item).getStatus());
+    }
+
+    @Test
+    void deduplicatedCategory() {
+        var parser = DynamoConverter.getConverter(ProductsRecord.class);
+
+        var first = parser.read(Map.of("categoryId", AttributeValue.fromS(new String("toys"))));
+        var second = parser.read(Map.of("categoryId", AttributeValue.fromS(new String("toys"))));
+
+        Assertions.assertSame(first.getCategoryUuid(), second.getCategoryUuid());
+    }
+
+    @Test
+    void epochUpdatedAt() {
+        var parser = DynamoConverter.getConverter(ProductsRecord.class);
+
+        var updatedAt = Instant.ofEpochMilli(1_710_073_845_123L);
+
+        var item = parser.write(new ProductsRecord()
+                .setPartition("partition")
+                .setUpdatedAt(updatedAt));
+
+        Assertions.assertEquals("1710073845123", item.get("updatedAt").n());
+        Assertions.assertEquals(updatedAt, parser.read(item).getUpdatedAt());
+        Assertions.assertInstanceOf(NumberField.class, Tables.PRODUCTS.UPDATEDAT);
+    }
+
+    @Test
+    void generatedConverter() {
+        Assertions.assertInstanceOf(ProductsRecordConverter.class, DynamoConverter.getConverter(ProductsRecord.class));
     }
 }
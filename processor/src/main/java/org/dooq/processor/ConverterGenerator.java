@@ -0,0 +1,622 @@
+package org.dooq.processor;
+
+import org.dooq.api.ArrayFormat;
+import org.dooq.api.ColumnAlias;
+import org.dooq.api.Compressed;
+import org.dooq.api.Deduplicate;
+import org.dooq.api.DynamoIgnore;
+import org.dooq.api.EnumFormat;
+import org.dooq.api.EpochEncoded;
+import org.dooq.api.Packed;
+import org.dooq.api.PartitionKey;
+import org.dooq.api.SortKey;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Generates plain java {@code ObjectParser} implementations, so records can be converted
+ * without runtime bytecode generation.
+ * <p>
+ * A converter is only generated when every property type is supported, otherwise the type
+ * is left to the runtime compiler.
+ *
+ * @author alex
+ */
+class ConverterGenerator {
+
+    static final String OPTION = "dooq.converters";
+
+    private static final Map<String, String[]> SCALARS = new HashMap<>();
+
+    static {
+        SCALARS.put("java.lang.String", new String[]{"parseString", "writeString"});
+        SCALARS.put("java.lang.Integer", new String[]{"parseInteger", "writeInteger"});
+        SCALARS.put("java.lang.Long", new String[]{"parseLonger", "writeLonger"});
+        SCALARS.put("java.lang.Short", new String[]{"parseShorter", "writeShorter"});
+        SCALARS.put("java.lang.Float", new String[]{"parseFloater", "writeFloater"});
+        SCALARS.put("java.lang.Double", new String[]{"parseDoubler", "writeDoubler"});
+        SCALARS.put("java.lang.Boolean", new String[]{"parseBoolean", "writeBoolean"});
+        SCALARS.put("java.math.BigDecimal", new String[]{"parseBigDecimal", "writeBigDecimal"});
+        SCALARS.put("java.math.BigInteger", new String[]{"readBigInt", "writeBigInt"});
+        SCALARS.put("java.time.LocalDate", new String[]{"parseLocalDate", "writeLocalDate"});
+        SCALARS.put("java.time.LocalDateTime", new String[]{"parseLocalDateTime", "writeLocalDateTime"});
+        SCALARS.put("java.time.LocalTime", new String[]{"parseLocalTime", "writeLocalTime"});
+        SCALARS.put("java.time.Instant", new String[]{"parseInstant", "writeInstant"});
+        SCALARS.put("java.time.OffsetDateTime", new String[]{"parseOffsetDateTime", "writeOffsetDateTime"});
+        SCALARS.put("java.util.UUID", new String[]{"parseUUID", "writeUUID"});
+        SCALARS.put("java.net.URL", new String[]{"parseURL", "writeURL"});
+    }
+
+    /**
+     * Primitive lists, type name -> element name
+     */
+    private static final Map<String, String> PRIMITIVE_LISTS = Map.of(
+            "org.dooq.util.IntArrayList", "Int",
+            "org.dooq.util.LongArrayList", "Long");
+
+    private final ProcessingEnvironment processingEnv;
+    private final Writer writer;
+
+    /**
+     * Converters generated so far, type name -> converter name
+     */
+    private final Map<String, String> converters = new LinkedHashMap<>();
+
+    interface Writer {
+        void write(String packageName, String className, String code, Element element);
+    }
+
+    ConverterGenerator(ProcessingEnvironment processingEnv, Writer writer) {
+        this.processingEnv = processingEnv;
+        this.writer = writer;
+    }
+
+    record Property(String column, TypeMirror type, String getter, String setter, Element field) {
+    }
+
+    /**
+     * Generates the converter for the record generated from the given table element
+     */
+    void generateRecordConverter(String pack, Element element, String recordName) {
+
+        var properties = new ArrayList<Property>();
+
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed instanceof VariableElement field) {
+
+                var name = field.getSimpleName().toString();
+                var methodName = name.substring(0, 1).toUpperCase() + name.substring(1);
+
+                properties.add(new Property(getColumnName(field), field.asType(),
+                        "get" + methodName + "()", "set" + methodName, field));
+            }
+        }
+
+        generate(pack, recordName, pack + "." + recordName, properties, false, element);
+    }
+
+    private void generateNested(TypeElement type) {
+
+        var qualifiedName = type.getQualifiedName().toString();
+
+        if (converters.containsKey(qualifiedName)) return;
+
+        var pack = processingEnv.getElementUtils()
+                .getPackageOf(type)
+                .getQualifiedName()
+                .toString();
+
+        var simpleName = pack.isEmpty() ? qualifiedName : qualifiedName.substring(pack.length() + 1);
+
+        boolean isRecord = type.getKind() == ElementKind.RECORD;
+
+        var methods = new HashMap<String, ExecutableElement>();
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof ExecutableElement method && !method.getModifiers().contains(Modifier.PRIVATE)) {
+                methods.put(method.getSimpleName().toString().toLowerCase() + "/" + method.getParameters().size(), method);
+            }
+        }
+
+        if (!isRecord && !hasDefaultConstructor(type)) {
+            skip(type, "no args constructor is required");
+            return;
+        }
+
+        var properties = new ArrayList<Property>();
+
+        for (Element enclosed : type.getEnclosedElements()) {
+
+            if (!(enclosed instanceof VariableElement field)) continue;
+            if (field.getKind() != ElementKind.FIELD) continue;
+
+            var modifiers = field.getModifiers();
+
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) continue;
+            if (field.getAnnotation(DynamoIgnore.class) != null) continue;
+
+            var name = field.getSimpleName().toString();
+
+            if (isRecord) {
+                properties.add(new Property(getColumnName(field), field.asType(), name + "()", null, field));
+                continue;
+            }
+
+            var getter = methods.get("get" + name.toLowerCase() + "/0");
+
+            if (getter == null && field.asType().getKind() == TypeKind.BOOLEAN) {
+                getter = methods.get("is" + name.toLowerCase() + "/0");
+            }
+
+            var setter = methods.get("set" + name.toLowerCase() + "/1");
+
+            if (getter == null || setter == null) continue;
+
+            properties.add(new Property(getColumnName(field), field.asType(),
+                    getter.getSimpleName() + "()", setter.getSimpleName().toString(), field));
+        }
+
+        generate(pack, simpleName.replace('.', '_'), type.getQualifiedName().toString(), properties, isRecord, type);
+    }
+
+    private boolean hasDefaultConstructor(TypeElement type) {
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof ExecutableElement method
+                    && method.getKind() == ElementKind.CONSTRUCTOR
+                    && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void generate(String pack, String simpleName, String typeName, List<Property> properties,
+                          boolean isRecord, Element element) {
+
+        final var className = simpleName + "Converter";
+
+        //Registered before generating the properties, so cyclic types are resolved
+        converters.put(typeName, pack + "." + className);
+
+        var readBuilder = new StringBuilder();
+        var writeBuilder = new StringBuilder();
+        var constantBuilder = new StringBuilder();
+
+        for (Property property : properties) {
+
+            var value = "map.get(\"%s\")".formatted(property.column());
+            var reader = readExpression(property.type(), value);
+            var writerExpression = writeExpression(property.type(), "value." + property.getter());
+
+            var compressed = property.field().getAnnotation(Compressed.class);
+
+            if (compressed != null && isString(property.type())) {
+                var codec = "CODEC_" + property.field().getSimpleName();
+
+                constantBuilder.append("\tprivate static final org.dooq.parser.converter.CompressionCodec ")
+                        .append(codec)
+                        .append(" = org.dooq.parser.converter.CompressionCodec.of(%d, %d);\n"
+                                .formatted(compressed.threshold(), compressed.level()));
+
+                reader = "parseCompressed(%s, %s)".formatted(value, codec);
+                writerExpression = "writeCompressed(%s, %s)".formatted("value." + property.getter(), codec);
+            } else if (compressed != null) {
+                reader = null;
+            }
+
+            var deduplicate = property.field().getAnnotation(Deduplicate.class);
+
+            if (deduplicate != null && compressed == null) {
+                var pool = "POOL_" + property.field().getSimpleName();
+
+                constantBuilder.append("\tprivate static final org.dooq.parser.converter.StringPool ")
+                        .append(pool)
+                        .append(" = org.dooq.parser.converter.StringPool.of(%s, %d);\n"
+                                .formatted(processingEnv.getElementUtils().getConstantExpression(deduplicate.pool()),
+                                        deduplicate.capacity()));
+
+                reader = isString(property.type()) ? "parseDeduplicated(%s, %s)".formatted(value, pool) : null;
+            }
+
+            var epoch = property.field().getAnnotation(EpochEncoded.class);
+
+            if (epoch != null) {
+                var codec = "EPOCH_" + property.field().getSimpleName();
+
+                constantBuilder.append("\tprivate static final org.dooq.parser.converter.EpochCodec ")
+                        .append(codec)
+                        .append(" = org.dooq.parser.converter.EpochCodec.of(%s.class, org.dooq.api.EpochEncoded.Unit.%s);\n"
+                                .formatted(erasure(property.type()), epoch.value()));
+
+                reader = "(%s) parseEpoch(%s, %s)".formatted(property.type(), value, codec);
+                writerExpression = "writeEpoch(%s, %s)".formatted("value." + property.getter(), codec);
+            }
+
+            if (isEnum(property.type())) {
+                var codec = "CODEC_" + property.field().getSimpleName();
+
+                constantBuilder.append("\tprivate static final org.dooq.parser.converter.EnumCodec<")
+                        .append(property.type())
+                        .append("> ")
+                        .append(codec)
+                        .append(" = org.dooq.parser.converter.EnumCodec.of(%s.class, org.dooq.api.EnumFormat.Encoding.%s);\n"
+                                .formatted(erasure(property.type()), enumEncoding(property)));
+
+                reader = "parseEnum(%s, %s)".formatted(value, codec);
+                writerExpression = "writeEnum(%s, %s)".formatted("value." + property.getter(), codec);
+            }
+
+            var format = property.field().getAnnotation(ArrayFormat.class);
+
+            if (format != null) {
+                var expression = arrayWriteExpression(property.type(), "value." + property.getter(), format.value());
+
+                if (expression != null) writerExpression = expression;
+            }
+
+            //Positional binary codecs are generated at runtime
+            if (isPacked(property)) {
+                reader = null;
+            }
+
+            if (reader == null || writerExpression == null) {
+                converters.remove(typeName);
+                skip(element, "unsupported type " + property.type() + " of column " + property.column());
+                return;
+            }
+
+            if (isRecord) {
+                if (!readBuilder.isEmpty()) readBuilder.append(",\n");
+                readBuilder.append("\t\t\t\t").append(reader);
+            } else {
+                readBuilder.append("\t\tvalue.")
+                        .append(property.setter())
+                        .append("(")
+                        .append(reader)
+                        .append(");\n");
+            }
+
+            writeBuilder.append("\t\tmap.put(\"")
+                    .append(property.column())
+                    .append("\", ")
+                    .append(writerExpression)
+                    .append(");\n");
+        }
+
+        var builder = new StringBuilder();
+
+        builder.append("package ")
+                .append(pack)
+                .append(";\n\n")
+                .append("import software.amazon.awssdk.services.dynamodb.model.AttributeValue;\n\n")
+                .append("import java.util.Map;\n\n")
+                .append("@javax.annotation.processing.Generated(value = \"org.dooq.processor.TableAnnotationProcessor\", date = \"%s\")\n"
+                        .formatted(LocalDateTime.now()))
+                .append("@SuppressWarnings(\"unchecked\")\n")
+                .append("public final class ")
+                .append(className)
+                .append(" extends org.dooq.parser.ObjectParser<")
+                .append(typeName)
+                .append("> {\n\n");
+
+        if (!constantBuilder.isEmpty()) {
+            builder.append(constantBuilder)
+                    .append("\n");
+        }
+
+        builder.append("\t@Override\n")
+                .append("\tpublic ").append(typeName).append(" newInstance() {\n");
+
+        if (isRecord) {
+            //Same as the runtime converters, records have no instance without values
+            builder.append("\t\treturn null;\n");
+        } else {
+            builder.append("\t\treturn new ").append(typeName).append("();\n");
+        }
+
+        builder.append("\t}\n\n");
+
+        builder.append("\t@Override\n")
+                .append("\tpublic ").append(typeName).append(" read(Map<String, AttributeValue> map) {\n");
+
+        if (isRecord) {
+            builder.append("\t\treturn new ").append(typeName).append("(\n")
+                    .append(readBuilder)
+                    .append(");\n");
+        } else {
+            builder.append("\t\tvar value = new ").append(typeName).append("();\n\n")
+                    .append(readBuilder)
+                    .append("\n\t\treturn value;\n");
+        }
+
+        builder.append("\t}\n\n");
+
+        builder.append("\t@Override\n")
+                .append("\tpublic Map<String, AttributeValue> write(").append(typeName).append(" value) {\n")
+                .append("\t\tvar map = new org.dooq.parser.FilteredMap();\n\n")
+                .append(writeBuilder)
+                .append("\n\t\treturn map;\n")
+                .append("\t}\n");
+
+        builder.append("}");
+
+        writer.write(pack, className, builder.toString(), element);
+    }
+
+    /**
+     * Generates the registry used by {@code ParserCompiler} to find the generated converters
+     */
+    void generateRegistry(String pack, Element element) {
+
+        var builder = new StringBuilder();
+
+        builder.append("package ")
+                .append(pack)
+                .append(";\n\n")
+                .append("import org.dooq.parser.ObjectParser;\n\n")
+                .append("import java.util.Map;\n\n")
+                .append("@javax.annotation.processing.Generated(value = \"org.dooq.processor.TableAnnotationProcessor\", date = \"%s\")\n"
+                        .formatted(LocalDateTime.now()))
+                .append("public final class ConverterRegistry implements org.dooq.parser.ConverterRegistry {\n\n")
+                .append("\t@Override\n")
+                .append("\tpublic Map<Class<?>, ObjectParser<?>> converters() {\n")
+                .append("\t\treturn Map.ofEntries(\n");
+
+        var iterator = converters.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+
+            builder.append("\t\t\t\tMap.entry(")
+                    .append(entry.getKey())
+                    .append(".class, new ")
+                    .append(entry.getValue())
+                    .append("())");
+
+            if (iterator.hasNext()) builder.append(",");
+
+            builder.append("\n");
+        }
+
+        builder.append("\t\t);\n")
+                .append("\t}\n")
+                .append("}");
+
+        writer.write(pack, "ConverterRegistry", builder.toString(), element);
+    }
+
+    boolean isEmpty() {
+        return converters.isEmpty();
+    }
+
+    private String readExpression(TypeMirror type, String value) {
+
+        switch (type.getKind()) {
+            case INT:
+                return "parseInt(%s)".formatted(value);
+            case LONG:
+                return "parseLong(%s)".formatted(value);
+            case FLOAT:
+                return "parseFloat(%s)".formatted(value);
+            case DOUBLE:
+                return "parseDouble(%s)".formatted(value);
+            case SHORT:
+                return "parseShort(%s)".formatted(value);
+            case BOOLEAN:
+                return "parseBool(%s)".formatted(value);
+            case ARRAY:
+                var reader = arrayMethod(type);
+                return reader == null ? null : "parse%sArray(%s)".formatted(reader, value);
+            case DECLARED:
+                break;
+            default:
+                return null;
+        }
+
+        var declared = (DeclaredType) type;
+        var name = erasure(declared);
+
+        if (SCALARS.containsKey(name)) {
+            return "%s(%s)".formatted(SCALARS.get(name)[0], value);
+        }
+
+        if (PRIMITIVE_LISTS.containsKey(name)) {
+            return "parse%sList(%s)".formatted(PRIMITIVE_LISTS.get(name), value);
+        }
+
+        var arguments = declared.getTypeArguments();
+
+        switch (name) {
+            case "java.util.List":
+                if (isString(arguments.get(0))) return "parseStringList(%s)".formatted(value);
+                if (!resolve(arguments.get(0))) return null;
+                return "(%s) parseList(%s, %s.class)".formatted(type, value, erasure(arguments.get(0)));
+            case "java.util.Set":
+                if (isString(arguments.get(0))) return "parseStringSet(%s)".formatted(value);
+                if (!resolve(arguments.get(0))) return null;
+                return "(%s) parseSet(%s, %s.class)".formatted(type, value, erasure(arguments.get(0)));
+            case "java.util.Map":
+                if (!isString(arguments.get(0)) || !resolve(arguments.get(1))) return null;
+                return "(%s) parseMap(%s, %s.class)".formatted(type, value, erasure(arguments.get(1)));
+            default:
+                if (!resolve(type)) return null;
+                return "parseComplex(%s, %s.class)".formatted(value, name);
+        }
+    }
+
+    private String writeExpression(TypeMirror type, String value) {
+
+        switch (type.getKind()) {
+            case INT:
+                return "writeInt(%s)".formatted(value);
+            case LONG:
+                return "writeLong(%s)".formatted(value);
+            case FLOAT:
+                return "writeFloat(%s)".formatted(value);
+            case DOUBLE:
+                return "writeDouble(%s)".formatted(value);
+            case SHORT:
+                return "writeShort(%s)".formatted(value);
+            case BOOLEAN:
+                return "writeBool(%s)".formatted(value);
+            case ARRAY:
+                return arrayWriteExpression(type, value, ArrayFormat.Encoding.PACKED);
+            case DECLARED:
+                break;
+            default:
+                return null;
+        }
+
+        var declared = (DeclaredType) type;
+        var name = erasure(declared);
+
+        if (SCALARS.containsKey(name)) {
+            return "%s(%s)".formatted(SCALARS.get(name)[1], value);
+        }
+
+        if (PRIMITIVE_LISTS.containsKey(name)) {
+            return arrayWriteExpression(type, value, ArrayFormat.Encoding.PACKED);
+        }
+
+        var arguments = declared.getTypeArguments();
+
+        return switch (name) {
+            case "java.util.List" -> isString(arguments.get(0)) ?
+                    "writeStringList(%s)".formatted(value) :
+                    "writeList(%s, %s.class)".formatted(value, erasure(arguments.get(0)));
+            case "java.util.Set" -> isString(arguments.get(0)) ?
+                    "writeStringSet(%s)".formatted(value) :
+                    "writeSet(%s, %s.class)".formatted(value, erasure(arguments.get(0)));
+            case "java.util.Map" -> "writeMap(%s, %s.class)".formatted(value, erasure(arguments.get(1)));
+            default -> "writeComplex(%s, %s.class)".formatted(value, name);
+        };
+    }
+
+    /**
+     * Checks the type can be converted, generating the converter of nested types
+     */
+    private boolean resolve(TypeMirror type) {
+
+        if (type.getKind() != TypeKind.DECLARED) return false;
+
+        var name = erasure(type);
+
+        if (SCALARS.containsKey(name)) return true;
+        if (PRIMITIVE_LISTS.containsKey(name)) return false;
+
+        var element = (TypeElement) ((DeclaredType) type).asElement();
+
+        if (name.startsWith("java.") || element.getKind() == ElementKind.ENUM) return false;
+
+        if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) return false;
+
+        generateNested(element);
+
+        return converters.containsKey(name);
+    }
+
+    /**
+     * @return the element name of the supported primitive arrays
+     */
+    private String arrayMethod(TypeMirror type) {
+        return switch (((ArrayType) type).getComponentType().getKind()) {
+            case INT -> "Int";
+            case LONG -> "Long";
+            case FLOAT -> "Float";
+            case DOUBLE -> "Double";
+            default -> null;
+        };
+    }
+
+    /**
+     * @return the writer of the primitive array or list, null for any other type
+     */
+    private String arrayWriteExpression(TypeMirror type, String value, ArrayFormat.Encoding encoding) {
+
+        if (type.getKind() == TypeKind.DECLARED) {
+            var list = PRIMITIVE_LISTS.get(erasure(type));
+
+            if (list == null) return null;
+
+            return "write%sList(%s, org.dooq.api.ArrayFormat.Encoding.%s)".formatted(list, value, encoding);
+        }
+
+        if (type.getKind() != TypeKind.ARRAY) return null;
+
+        var writer = arrayMethod(type);
+
+        if (writer == null) return null;
+
+        return "write%sArray(%s, org.dooq.api.ArrayFormat.Encoding.%s)".formatted(writer, value, encoding);
+    }
+
+    private boolean isEnum(TypeMirror type) {
+
+        var element = processingEnv.getTypeUtils().asElement(type);
+
+        return element != null && element.getKind() == ElementKind.ENUM;
+    }
+
+    private EnumFormat.Encoding enumEncoding(Property property) {
+
+        var format = property.field().getAnnotation(EnumFormat.class);
+
+        if (format == null) format = processingEnv.getTypeUtils().asElement(property.type()).getAnnotation(EnumFormat.class);
+
+        return format == null ? EnumFormat.Encoding.NAME : format.value();
+    }
+
+    private boolean isPacked(Property property) {
+
+        if (property.field().getAnnotation(Packed.class) != null) return true;
+
+        var element = processingEnv.getTypeUtils().asElement(property.type());
+
+        return element != null && element.getAnnotation(Packed.class) != null;
+    }
+
+    private boolean isString(TypeMirror type) {
+        return erasure(type).equals("java.lang.String");
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils()
+                .erasure(type)
+                .toString();
+    }
+
+    private void skip(Element element, String reason) {
+        processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.NOTE, "dooq: converter not generated, " + reason, element);
+    }
+
+    static String getColumnName(VariableElement field) {
+
+        var alias = "";
+
+        if (field.getAnnotation(ColumnAlias.class) != null) {
+            alias = field.getAnnotation(ColumnAlias.class).value();
+        }
+
+        if (field.getAnnotation(PartitionKey.class) != null) {
+            alias = field.getAnnotation(PartitionKey.class).alias();
+        }
+
+        if (field.getAnnotation(SortKey.class) != null) {
+            alias = field.getAnnotation(SortKey.class).alias();
+        }
+
+        return alias.isEmpty() ? field.getSimpleName().toString() : alias;
+    }
+}
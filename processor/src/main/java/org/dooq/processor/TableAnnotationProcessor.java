@@ -5,8 +5,11 @@ import org.dooq.api.*;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.*;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -15,12 +18,25 @@ import java.util.*;
 import java.util.logging.Logger;
 
 @SupportedAnnotationTypes("org.dooq.api.DynamoDBTable")
+@SupportedOptions(ConverterGenerator.OPTION)
 public class TableAnnotationProcessor extends AbstractProcessor {
+
+    private ConverterGenerator converterGenerator;
+
+    /**
+     * Converter registries generated in every round, registered as services once processing is over
+     */
+    private final Map<String, Element> registries = new LinkedHashMap<>();
+
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
 
         List<Table> tables = Collections.emptyList();
 
+        if (Boolean.parseBoolean(processingEnv.getOptions().get(ConverterGenerator.OPTION))) {
+            converterGenerator = new ConverterGenerator(processingEnv, this::writeOutClass);
+        }
+
         for (TypeElement annotation : annotations) {
             if (annotation.toString().equals("org.dooq.api.DynamoDBTable")) {
                 tables = roundEnv.getElementsAnnotatedWith(annotation)
@@ -44,6 +60,15 @@ public class TableAnnotationProcessor extends AbstractProcessor {
 
 
             writeOutClass(pack, "Tables", code, element);
+
+            if (converterGenerator != null && !converterGenerator.isEmpty()) {
+                converterGenerator.generateRegistry(pack, element);
+                registries.put(pack + ".ConverterRegistry", element);
+            }
+        }
+
+        if (roundEnv.processingOver() && !registries.isEmpty()) {
+            writeOutService();
         }
 
         return false;
@@ -127,6 +152,32 @@ public class TableAnnotationProcessor extends AbstractProcessor {
             System.out.println("Missing: " + type);
         }
 
+        var epoch = fieldElement.getAnnotation(org.dooq.api.EpochEncoded.class);
+
+        if (epoch != null) {
+            return builder.append("FieldBuilder.ofEpoch(\"")
+                    .append(columnName)
+                    .append("\", ")
+                    .append(type)
+                    .append(".class, EpochEncoded.Unit.")
+                    .append(epoch.value())
+                    .append(", this);\n")
+                    .toString();
+        }
+
+        var enumFormat = fieldElement.getAnnotation(org.dooq.api.EnumFormat.class);
+
+        if (enumFormat != null) {
+            return builder.append("FieldBuilder.ofEnum(\"")
+                    .append(columnName)
+                    .append("\", ")
+                    .append(type)
+                    .append(".class, EnumFormat.Encoding.")
+                    .append(enumFormat.value())
+                    .append(", this);\n")
+                    .toString();
+        }
+
         if (type.startsWith(String.class.getName())) {
             builder.append("FieldBuilder.ofString(\"");
         } else if (isNumber(type)) {
@@ -155,7 +206,16 @@ public class TableAnnotationProcessor extends AbstractProcessor {
         return "Field";
     }
 
+    /**
+     * Epoch encoded temporals are stored as numbers
+     */
+    private boolean isEpochEncoded(VariableElement fieldElement) {
+        return fieldElement.getAnnotation(org.dooq.api.EpochEncoded.class) != null;
+    }
+
     private boolean isNumber(String clazz) {
+        if (clazz.endsWith("[]")) return false;
+
         if (clazz.startsWith(int.class.getName())) return true;
         if (clazz.startsWith(long.class.getName())) return true;
         if (clazz.startsWith(short.class.getName())) return true;
@@ -255,7 +315,7 @@ public class TableAnnotationProcessor extends AbstractProcessor {
                 final var fieldName = fieldElement.getSimpleName().toString().toUpperCase();
 
                 builder.append("\tpublic final ")
-                        .append(getFieldType(type))
+                        .append(isEpochEncoded(fieldElement) ? "NumberField" : getFieldType(type))
                         .append("<")
                         .append(getBoxType(type))
                         .append(", ")
@@ -357,6 +417,10 @@ public class TableAnnotationProcessor extends AbstractProcessor {
         writeOutClass(pack, tableName + "Key", key, element);
         writeOutClass(pack, tableName + "Record", record, element);
 
+        if (converterGenerator != null) {
+            converterGenerator.generateRecordConverter(pack, element, tableName + "Record");
+        }
+
         return new Table(tableName, partitionColumn, element);
     }
 
@@ -417,6 +481,38 @@ public class TableAnnotationProcessor extends AbstractProcessor {
                     builder.append("\t@ColumnAlias(\"%s\")\n".formatted(fieldElement.getAnnotation(org.dooq.api.ColumnAlias.class).value()));
                 }
 
+                if (fieldElement.getAnnotation(org.dooq.api.Compressed.class) != null) {
+                    var compressed = fieldElement.getAnnotation(org.dooq.api.Compressed.class);
+
+                    builder.append("\t@Compressed(threshold = %d, level = %d)\n".formatted(compressed.threshold(), compressed.level()));
+                }
+
+                if (fieldElement.getAnnotation(org.dooq.api.Packed.class) != null) {
+                    builder.append("\t@Packed\n");
+                }
+
+                if (fieldElement.getAnnotation(org.dooq.api.ArrayFormat.class) != null) {
+                    builder.append("\t@ArrayFormat(ArrayFormat.Encoding.%s)\n"
+                            .formatted(fieldElement.getAnnotation(org.dooq.api.ArrayFormat.class).value()));
+                }
+
+                if (fieldElement.getAnnotation(org.dooq.api.Deduplicate.class) != null) {
+                    var deduplicate = fieldElement.getAnnotation(org.dooq.api.Deduplicate.class);
+
+                    builder.append("\t@Deduplicate(pool = %s, capacity = %d)\n".formatted(
+                            processingEnv.getElementUtils().getConstantExpression(deduplicate.pool()), deduplicate.capacity()));
+                }
+
+                if (fieldElement.getAnnotation(org.dooq.api.EpochEncoded.class) != null) {
+                    builder.append("\t@EpochEncoded(EpochEncoded.Unit.%s)\n"
+                            .formatted(fieldElement.getAnnotation(org.dooq.api.EpochEncoded.class).value()));
+                }
+
+                if (fieldElement.getAnnotation(org.dooq.api.EnumFormat.class) != null) {
+                    builder.append("\t@EnumFormat(EnumFormat.Encoding.%s)\n"
+                            .formatted(fieldElement.getAnnotation(org.dooq.api.EnumFormat.class).value()));
+                }
+
                 builder.append("\tprivate ")
                         .append(fieldElement.asType().toString())
                         .append(" ")
@@ -626,6 +722,32 @@ public class TableAnnotationProcessor extends AbstractProcessor {
     }
 
 
+    /**
+     * Registers the generated converter registries as services, the file can only be created once
+     */
+    private void writeOutService() {
+
+        try {
+
+            var resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "",
+                            "META-INF/services/org.dooq.parser.ConverterRegistry",
+                            registries.values().toArray(Element[]::new));
+
+            try (Writer writer = resource.openWriter()) {
+                for (String registryName : registries.keySet()) {
+                    writer.write(registryName);
+                    writer.write("\n");
+                }
+            }
+
+        } catch (Exception ex) {
+            processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Failed to register the converter registries "
+                            + registries.keySet() + ": " + ex);
+        }
+    }
+
     record Table(String name, String firstField, Element element) {
     }
 
@@ -5,6 +5,8 @@ import org.dooq.api.DynamoRecord;
 import org.dooq.api.Table;
 import org.dooq.core.DynamoOperation;
 import org.dooq.core.response.BufferedBatchGetItemResponse;
+import org.dooq.document.Document;
+import org.dooq.engine.ExplainPlan;
 import org.dooq.util.AwsLimits;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -121,6 +123,14 @@ public class BatchGetOperation<R extends DynamoRecord<R>, K extends Key> extends
                 .items();
     }
 
+    /**
+     * Fetches the items as schemaless documents, see {@link Document}
+     */
+    public List<Document> fetchDocuments() {
+        return execute()
+                .documents();
+    }
+
     public Stream<R> stream() {
         return fetch().stream();
     }
@@ -132,6 +142,15 @@ public class BatchGetOperation<R extends DynamoRecord<R>, K extends Key> extends
     }
 
 
+    /**
+     * Plans the operation without executing it, one request per 100 keys
+     */
+    public @NotNull ExplainPlan explain() {
+        return ExplainPlan.batchGet(getTable(), keyList.size(), columns.stream()
+                .map(Column::name)
+                .toList(), consistent);
+    }
+
     //Limit 100 keys per request
     public BufferedBatchGetItemResponse<R, K> execute() {
 
@@ -0,0 +1,89 @@
+package org.dooq;
+
+import org.dooq.api.Column;
+import org.dooq.core.AttributeWriter;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values bound to the {@code :param} slots of a prepared operation for a single execution,
+ * the slot of a column is {@link Column#param()}, later comparisons of the same column are numbered
+ * in rendering order e.g. {@code :price_1}.
+ *
+ * @author alex
+ * @see DynamoSL#prepare(QueryOperation)
+ */
+public final class Bindings {
+
+    private final Map<String, AttributeValue> values = new HashMap<>(8);
+
+    private Bindings() {
+    }
+
+    @Contract(" -> new")
+    public static @NotNull Bindings empty() {
+        return new Bindings();
+    }
+
+    @Contract("_, _ -> new")
+    public static @NotNull Bindings of(@NotNull Column<?, ?> column, @Nullable Object value) {
+        return new Bindings().and(column, value);
+    }
+
+    @Contract("_, _ -> new")
+    public static @NotNull Bindings of(@NotNull String param, @Nullable Object value) {
+        return new Bindings().and(param, value);
+    }
+
+    public @NotNull Bindings and(@NotNull Column<?, ?> column, @Nullable Object value) {
+        values.put(column.param(), column.encode(value));
+        return this;
+    }
+
+    /**
+     * Binds the value of a column compared several times
+     *
+     * @param occurrence the position of the comparison in the rendered expressions, 0 for {@link Column#param()}
+     */
+    public @NotNull Bindings and(@NotNull Column<?, ?> column, int occurrence, @Nullable Object value) {
+        values.put(occurrence == 0 ? column.param() : column.param() + "_" + occurrence, column.encode(value));
+        return this;
+    }
+
+    public @NotNull Bindings and(@NotNull String param, @Nullable Object value) {
+        values.put(param, AttributeWriter.parse(value));
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * @return the prepared values with the bound ones
+     * @throws IllegalArgumentException if a bound slot is not part of the prepared values
+     */
+    @NotNull Map<String, AttributeValue> apply(@NotNull Map<String, AttributeValue> prepared) {
+
+        if (values.isEmpty()) return prepared;
+
+        var result = new HashMap<>(prepared);
+
+        for (Map.Entry<String, AttributeValue> entry : values.entrySet()) {
+
+            if (!prepared.containsKey(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown parameter '%s', expected one of %s"
+                        .formatted(entry.getKey(), prepared.keySet()));
+            }
+
+            result.put(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+}
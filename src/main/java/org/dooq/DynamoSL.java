@@ -38,6 +38,28 @@ public class DynamoSL {
         return client;
     }
 
+    /**
+     * Compiles the converters of the tables declared as static fields of the given class, e.g. the generated
+     * {@code Tables}, and primes them with synthetic items
+     *
+     * @see WarmUp
+     */
+    public WarmUp.@NotNull Report warmUp(@NotNull Class<?> tables) {
+        return warmUp(WarmUp.getTables(tables));
+    }
+
+    public WarmUp.@NotNull Report warmUp(@NotNull Collection<? extends Table<?, ?>> tables) {
+        return prepareWarmUp(tables)
+                .execute();
+    }
+
+    /**
+     * Same as {@link #warmUp(Collection)}, the executor size and the synthetic rounds can be set before executing
+     */
+    public @NotNull WarmUp prepareWarmUp(@NotNull Collection<? extends Table<?, ?>> tables) {
+        return new WarmUp(tables);
+    }
+
     public <R extends DynamoRecord<R>, K extends Key> @NotNull UpdateOperation<R, K> update(Table<R, K> table) {
         return new UpdateOperation<>(table)
                 .setClient(client);
@@ -181,6 +203,22 @@ public class DynamoSL {
                 .isEmpty();
     }
 
+    /**
+     * Compiles the query once, the returned plan is immutable and can be executed concurrently
+     * with different {@link Bindings}
+     */
+    public <R extends DynamoRecord<R>, K extends Key> @NotNull PreparedQuery<R, K> prepare(@NotNull QueryOperation<R, K> query) {
+        return query.prepare();
+    }
+
+    public <R extends DynamoRecord<R>, K extends Key> @NotNull PreparedScan<R, K> prepare(@NotNull ScanOperation<R, K> scan) {
+        return scan.prepare();
+    }
+
+    public <R extends DynamoRecord<R>, K extends Key> @NotNull PreparedUpdate<R, K> prepare(@NotNull UpdateOperation<R, K> update) {
+        return update.prepare();
+    }
+
     public <R extends DynamoRecord<R>, K extends Key> ScanOperation<R, K> scan(Table<R, K> table) {
         return new ScanOperation<>(table)
                 .setClient(client);
@@ -9,6 +9,8 @@ import org.dooq.core.ReservedWords;
 import org.dooq.core.SingleResponse;
 import org.dooq.core.exception.DynamoOperationException;
 import org.dooq.core.response.BufferedGetResponse;
+import org.dooq.document.Document;
+import org.dooq.engine.ExplainPlan;
 import org.dooq.engine.ExpressionRenderer;
 import org.dooq.join.JoinExpression;
 import org.dooq.join.TableMergeExpression;
@@ -160,15 +162,47 @@ public class GetOperation<R extends DynamoRecord<R>, K extends Key> extends Dyna
     }
 
     public QueryOperation<R, K> where(ExpressionRenderer<R, K> renderer) {
-        return new QueryOperation<>(getTable())
+
+        var query = new QueryOperation<>(getTable())
                 .setClient(client)
                 .select(columns)
                 .where(renderer);
+
+        //The planner skips global indices for consistent reads
+        if (Boolean.TRUE.equals(builder.build().consistentRead())) {
+            query.consistentRead();
+        }
+
+        return query;
     }
 
     public @Nullable R fetch() {
+
+        var response = execute();
+
+        if (response.isEmpty()) return null;
+
+        return response.into(getProjectionParser(columns));
+    }
+
+    /**
+     * Fetches the record decoded on first access of each property, see {@link org.dooq.lazy.LazyView}
+     */
+    public @Nullable R fetchLazy() {
+
+        var response = execute();
+
+        if (response.isEmpty()) return null;
+
+        return response.into(getLazyParser());
+    }
+
+    /**
+     * Fetches the item as a schemaless document, see {@link Document}
+     */
+    public @Nullable Document fetchDocument() {
         return execute()
-                .into(getTable().getRecordType());
+                .document();
     }
 
     public <T> @Nullable T fetch(ObjectParser<T> parser) {
@@ -194,6 +228,15 @@ public class GetOperation<R extends DynamoRecord<R>, K extends Key> extends Dyna
         return this;
     }
 
+    /**
+     * Renders the operation without executing it
+     */
+    public @NotNull ExplainPlan explain() {
+        var projection = columns.size() == getTable().getColumns().size() ? List.<String>of() : ExplainPlan.names(columns);
+
+        return ExplainPlan.getItem(getTable(), build(), projection);
+    }
+
     public SingleResponse<R, K> execute() {
         return execute(client);
     }
@@ -48,34 +48,41 @@ public class Key extends HashMap<String, AttributeValue> {
     }
 
     public Key and(@NotNull Column<?, ?> column, Object value) {
-        put(column.name(), AttributeWriter.parse(value));
+        put(column.name(), column.encode(value));
 
         return this;
     }
 
     public Key setPartitionKey(@NotNull Column<?, ?> column, Object value) {
         setTable(column.table().getTableName());
-        setPartitionKey(column.name(), value);
+        Objects.requireNonNull(value, "Partition key '" + column.name() + "' can't be null");
 
-        return this;
+        return putPartitionKey(column.name(), column.encode(value));
     }
 
     public Key setPartitionKey(String name, @NotNull Object value) {
         Objects.requireNonNull(value, "Partition key '" + name + "' can't be null");
 
+        return putPartitionKey(name, AttributeWriter.parse(value));
+    }
+
+    private Key putPartitionKey(String name, AttributeValue value) {
+
         if (size() > 0) {
             throw new IllegalStateException("Must specify the partition key first");
         }
 
         this.partitionKeyName = name;
 
-        put(name, AttributeWriter.parse(value));
+        put(name, value);
 
         return this;
     }
 
     public Key setSortingKey(@NotNull Column<?, ?> column, Object value) {
-        return setSortingKey(column.name(), value);
+        Objects.requireNonNull(value, "Sort key value '" + column.name() + "' can't be null");
+
+        return putSortingKey(column.name(), column.encode(value));
     }
 
     public Key setSortingKey(@NotNull Column<?, ?> column, Object value, Object value2) {
@@ -105,13 +112,18 @@ public class Key extends HashMap<String, AttributeValue> {
 
         Objects.requireNonNull(value, "Sort key value '" + name + "' can't be null");
 
+        return putSortingKey(name, AttributeWriter.parse(value));
+    }
+
+    private Key putSortingKey(String name, AttributeValue value) {
+
         if (size() == 0) {
             throw new IllegalStateException("Must specify the partition key first");
         }
 
         this.sortKeyName = name;
 
-        put(name, AttributeWriter.parse(value));
+        put(name, value);
 
         return this;
     }
@@ -125,7 +137,7 @@ public class Key extends HashMap<String, AttributeValue> {
 
         this.sortKeyName = entry.getKey().name();
 
-        put(entry.getKey().name(), AttributeWriter.parse(entry.getValue()));
+        put(entry.getKey().name(), entry.getKey().encode(entry.getValue()));
 
         return this;
     }
@@ -136,7 +148,7 @@ public class Key extends HashMap<String, AttributeValue> {
 
         this.partitionKeyName = entry.getKey().name();
 
-        put(entry.getKey().name(), AttributeWriter.parse(entry.getValue()));
+        put(entry.getKey().name(), entry.getKey().encode(entry.getValue()));
 
         return this;
     }
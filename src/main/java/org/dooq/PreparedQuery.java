@@ -0,0 +1,181 @@
+package org.dooq;
+
+import org.dooq.api.Column;
+import org.dooq.api.DynamoRecord;
+import org.dooq.api.Table;
+import org.dooq.core.ListResponse;
+import org.dooq.core.SingleResponse;
+import org.dooq.core.exception.DynamoOperationException;
+import org.dooq.core.response.BufferedGetResponse;
+import org.dooq.core.response.BufferedQueryResponse;
+import org.dooq.document.Document;
+import org.dooq.engine.ExplainPlan;
+import org.dooq.parser.ObjectParser;
+import org.dooq.util.ExpressionResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A query compiled once: the key condition, filter and projection expressions and the attribute names
+ * are rendered when prepared, each execution only binds the values of the {@code :param} slots.
+ * <p>
+ * Immutable and thread safe, meant to be kept and shared across threads.
+ *
+ * @author alex
+ * @see DynamoSL#prepare(QueryOperation)
+ */
+public final class PreparedQuery<R extends DynamoRecord<R>, K extends Key> {
+
+    private final Table<R, K> table;
+    private final DynamoDbClient client;
+    private final QueryRequest request;
+    private final @Nullable GetItemRequest getRequest;
+    private final @Unmodifiable Map<String, AttributeValue> values;
+    private final ObjectParser<R> parser;
+    private final boolean debug;
+    private final @Unmodifiable List<String> keyColumns;
+    private final @Unmodifiable List<String> filterColumns;
+    private final @Unmodifiable List<String> projection;
+
+    /**
+     * @param request    the query without expression attribute values
+     * @param getRequest the get item request when the query matches a single key, the key is bound per execution
+     * @param values     the prepared values by slot
+     * @param compiled   the compiled expressions, null without a where clause
+     * @param projection the attributes to get, empty for all
+     */
+    PreparedQuery(@NotNull Table<R, K> table, DynamoDbClient client, @NotNull QueryRequest request,
+                  @Nullable GetItemRequest getRequest, @NotNull Map<String, AttributeValue> values,
+                  @Nullable ExpressionResult<R, K> compiled, @NotNull List<String> projection,
+                  @NotNull ObjectParser<R> parser, boolean debug) {
+        this.table = table;
+        this.client = client;
+        this.request = request;
+        this.getRequest = getRequest;
+        this.values = Map.copyOf(values);
+        this.parser = parser;
+        this.debug = debug;
+        this.keyColumns = compiled == null ? List.of() : List.copyOf(compiled.keyColumns());
+        this.filterColumns = compiled == null ? List.of() : List.copyOf(compiled.filterColumns());
+        this.projection = List.copyOf(projection);
+    }
+
+    public Table<R, K> getTable() {
+        return table;
+    }
+
+    /**
+     * @return the values of the slots as prepared
+     */
+    public @Unmodifiable Map<String, AttributeValue> values() {
+        return values;
+    }
+
+    /**
+     * @return the key condition expression, null if the query is executed as a get item
+     */
+    public @Nullable String keyConditionExpression() {
+        return getRequest == null ? request.keyConditionExpression() : null;
+    }
+
+    public @Nullable String filterExpression() {
+        return request.filterExpression();
+    }
+
+    /**
+     * @return the plan of the prepared request, without executing it
+     */
+    public @NotNull ExplainPlan explain() {
+        return getRequest == null
+                ? ExplainPlan.query(table, request, keyColumns, filterColumns, projection)
+                : ExplainPlan.getItem(table, getRequest, projection);
+    }
+
+    public ListResponse<R, K> execute() {
+        return execute(Bindings.empty(), client);
+    }
+
+    public ListResponse<R, K> execute(@NotNull Bindings bindings) {
+        return execute(bindings, client);
+    }
+
+    public ListResponse<R, K> execute(@NotNull Bindings bindings, @NotNull DynamoDbClient client) {
+
+        var bound = bindings.apply(values);
+
+        if (getRequest != null) {
+            return SingleResponse.asListResponse(executeGet(bound, client));
+        }
+
+        var operation = bound.isEmpty() ? request : request.toBuilder()
+                .expressionAttributeValues(bound)
+                .build();
+
+        if (debug) {
+            Logger.getLogger(PreparedQuery.class.getName())
+                    .log(Level.INFO, operation.toString());
+        }
+
+        try {
+            return new BufferedQueryResponse<>(client.query(operation), table);
+        } catch (Exception ex) {
+            throw new DynamoOperationException(operation, ex);
+        }
+    }
+
+    private @NotNull SingleResponse<R, K> executeGet(@NotNull Map<String, AttributeValue> bound,
+                                                     @NotNull DynamoDbClient client) {
+
+        Column<R, K> partition = table.getPartitionColumn();
+        Column<R, K> sort = table.getSortColumn();
+
+        var key = sort == null ?
+                Map.of(partition.name(), bound.get(partition.param())) :
+                Map.of(partition.name(), bound.get(partition.param()), sort.name(), bound.get(sort.param()));
+
+        var operation = getRequest.toBuilder()
+                .key(key)
+                .build();
+
+        if (debug) {
+            Logger.getLogger(PreparedQuery.class.getName())
+                    .log(Level.INFO, operation.toString());
+        }
+
+        try {
+            return new BufferedGetResponse<>(client.getItem(operation), table);
+        } catch (Exception ex) {
+            throw new DynamoOperationException(operation, ex);
+        }
+    }
+
+    public @NotNull List<R> fetch() {
+        return fetch(Bindings.empty());
+    }
+
+    public @NotNull List<R> fetch(@NotNull Bindings bindings) {
+
+        var records = execute(bindings).into(parser);
+
+        for (R record : records) {
+            record.$setTable(table);
+        }
+
+        return records;
+    }
+
+    public @NotNull List<Document> fetchDocuments(@NotNull Bindings bindings) {
+        return execute(bindings)
+                .documents();
+    }
+}
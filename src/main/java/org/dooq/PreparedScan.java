@@ -0,0 +1,119 @@
+package org.dooq;
+
+import org.dooq.api.DynamoRecord;
+import org.dooq.api.Table;
+import org.dooq.core.ListResponse;
+import org.dooq.core.exception.DynamoOperationException;
+import org.dooq.core.response.BufferedScanResponse;
+import org.dooq.document.Document;
+import org.dooq.engine.ExplainPlan;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A scan compiled once, each execution only binds the values of the {@code :param} slots of the filter.
+ * <p>
+ * Immutable and thread safe, meant to be kept and shared across threads.
+ *
+ * @author alex
+ * @see DynamoSL#prepare(ScanOperation)
+ */
+public final class PreparedScan<R extends DynamoRecord<R>, K extends Key> {
+
+    private final Table<R, K> table;
+    private final DynamoDbClient client;
+    private final ScanRequest request;
+    private final @Unmodifiable Map<String, AttributeValue> values;
+    private final boolean debug;
+    private final @Unmodifiable List<String> filterColumns;
+
+    /**
+     * @param request the scan without expression attribute values
+     * @param values        the prepared values by slot
+     * @param filterColumns the attributes of the filter
+     */
+    PreparedScan(@NotNull Table<R, K> table, DynamoDbClient client, @NotNull ScanRequest request,
+                 @NotNull Map<String, AttributeValue> values, @NotNull List<String> filterColumns, boolean debug) {
+        this.table = table;
+        this.client = client;
+        this.request = request;
+        this.values = Map.copyOf(values);
+        this.debug = debug;
+        this.filterColumns = List.copyOf(filterColumns);
+    }
+
+    public Table<R, K> getTable() {
+        return table;
+    }
+
+    /**
+     * @return the values of the slots as prepared
+     */
+    public @Unmodifiable Map<String, AttributeValue> values() {
+        return values;
+    }
+
+    public @Nullable String filterExpression() {
+        return request.filterExpression();
+    }
+
+    /**
+     * @return the plan of the prepared request, without executing it
+     */
+    public @NotNull ExplainPlan explain() {
+        return ExplainPlan.scan(table, request, filterColumns);
+    }
+
+    public ListResponse<R, K> execute() {
+        return execute(Bindings.empty(), client);
+    }
+
+    public ListResponse<R, K> execute(@NotNull Bindings bindings) {
+        return execute(bindings, client);
+    }
+
+    public ListResponse<R, K> execute(@NotNull Bindings bindings, @NotNull DynamoDbClient client) {
+
+        var bound = bindings.apply(values);
+
+        var operation = bound.isEmpty() ? request : request.toBuilder()
+                .expressionAttributeValues(bound)
+                .build();
+
+        if (debug) {
+            Logger.getLogger(PreparedScan.class.getName())
+                    .log(Level.INFO, operation.toString());
+        }
+
+        try {
+            return new BufferedScanResponse<>(client.scan(operation), table);
+        } catch (Exception ex) {
+            throw new DynamoOperationException(operation, ex);
+        }
+    }
+
+    public @NotNull List<R> fetch(@NotNull Bindings bindings) {
+
+        var records = execute(bindings).items();
+
+        for (R record : records) {
+            record.$setTable(table);
+        }
+
+        return records;
+    }
+
+    public @NotNull List<Document> fetchDocuments(@NotNull Bindings bindings) {
+        return execute(bindings)
+                .documents();
+    }
+}
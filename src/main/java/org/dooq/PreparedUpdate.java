@@ -0,0 +1,121 @@
+package org.dooq;
+
+import org.dooq.api.DynamoRecord;
+import org.dooq.api.Table;
+import org.dooq.core.exception.DynamoOperationException;
+import org.dooq.core.response.BufferedUpdateResponse;
+import org.dooq.engine.ExplainPlan;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An update compiled once: the update and condition expressions and the attribute names are rendered
+ * when prepared, each execution only binds the key and the values of the {@code :param} slots.
+ * <p>
+ * Immutable and thread safe, meant to be kept and shared across threads.
+ *
+ * @author alex
+ * @see DynamoSL#prepare(UpdateOperation)
+ */
+public final class PreparedUpdate<R extends DynamoRecord<R>, K extends Key> {
+
+    private final Table<R, K> table;
+    private final DynamoDbClient client;
+    private final UpdateItemRequest request;
+    private final @Unmodifiable Map<String, AttributeValue> values;
+    private final boolean debug;
+    private final @Unmodifiable List<String> conditionColumns;
+
+    /**
+     * @param conditionColumns the attributes of the condition, empty when given as a plain expression
+     */
+    PreparedUpdate(@NotNull Table<R, K> table, DynamoDbClient client, @NotNull UpdateItemRequest request,
+                   @NotNull List<String> conditionColumns, boolean debug) {
+        this.table = table;
+        this.client = client;
+        this.request = request;
+        this.values = Map.copyOf(request.expressionAttributeValues());
+        this.debug = debug;
+        this.conditionColumns = List.copyOf(conditionColumns);
+    }
+
+    public Table<R, K> getTable() {
+        return table;
+    }
+
+    /**
+     * @return the values of the slots as prepared
+     */
+    public @Unmodifiable Map<String, AttributeValue> values() {
+        return values;
+    }
+
+    public String updateExpression() {
+        return request.updateExpression();
+    }
+
+    public @Nullable String conditionExpression() {
+        return request.conditionExpression();
+    }
+
+    /**
+     * @return the plan of the prepared request, without executing it
+     */
+    public @NotNull ExplainPlan explain() {
+        return ExplainPlan.update(table, request, conditionColumns);
+    }
+
+    /**
+     * Updates the prepared key with the prepared values
+     */
+    public BufferedUpdateResponse<R, K> execute() {
+        return execute(null, Bindings.empty(), client);
+    }
+
+    public BufferedUpdateResponse<R, K> execute(@NotNull Bindings bindings) {
+        return execute(null, bindings, client);
+    }
+
+    public BufferedUpdateResponse<R, K> execute(@NotNull K key, @NotNull Bindings bindings) {
+        return execute(key, bindings, client);
+    }
+
+    /**
+     * @param key the key of the item, null to update the prepared key
+     */
+    public BufferedUpdateResponse<R, K> execute(@Nullable K key, @NotNull Bindings bindings,
+                                               @NotNull DynamoDbClient client) {
+
+        var operation = request;
+
+        if (key != null || !bindings.isEmpty()) {
+
+            var builder = request.toBuilder();
+
+            if (key != null) builder.key(key);
+
+            operation = builder.expressionAttributeValues(bindings.apply(values))
+                    .build();
+        }
+
+        if (debug) {
+            Logger.getLogger(PreparedUpdate.class.getName())
+                    .log(Level.INFO, operation.toString());
+        }
+
+        try {
+            return new BufferedUpdateResponse<>(client.updateItem(operation), table);
+        } catch (Exception ex) {
+            throw new DynamoOperationException(operation, ex);
+        }
+    }
+}
@@ -3,10 +3,10 @@ package org.dooq;
 import org.dooq.api.DynamoRecord;
 import org.dooq.api.FieldType;
 import org.dooq.api.Table;
-import org.dooq.core.ItemParser;
 import org.dooq.core.ReservedWords;
 import org.dooq.core.exception.DynamoOperationException;
 import org.dooq.engine.ExpressionRenderer;
+import org.dooq.parser.ParserCompiler;
 import org.dooq.projection.Projection;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -47,31 +47,31 @@ public class ProjectedGet<T, R extends DynamoRecord<R>, K extends Key> {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static <f1, f2, R extends DynamoRecord<R>, K extends Key> ProjectedGet<Projection.ProjectionResult2<f1, f2>, R, K>
     of(Table<?, K> table, FieldType<f1> f1, FieldType<f2> f2) {
-        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult1.class, List.of(f1, f2));
+        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult2.class, List.of(f1, f2));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static <f1, f2, f3, R extends DynamoRecord<R>, K extends Key> ProjectedGet<Projection.ProjectionResult3<f1, f2, f3>, R, K>
     of(Table<?, K> table, FieldType<f1> f1, FieldType<f2> f2, FieldType<f3> f3) {
-        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult1.class, List.of(f1, f2, f3));
+        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult3.class, List.of(f1, f2, f3));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static <f1, f2, f3, f4, R extends DynamoRecord<R>, K extends Key> ProjectedGet<Projection.ProjectionResult4<f1, f2, f3, f4>, R, K>
     of(Table<?, K> table, FieldType<f1> f1, FieldType<f2> f2, FieldType<f3> f3, FieldType<f4> f4) {
-        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult1.class, List.of(f1, f2, f3, f4));
+        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult4.class, List.of(f1, f2, f3, f4));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static <f1, f2, f3, f4, f5, R extends DynamoRecord<R>, K extends Key> ProjectedGet<Projection.ProjectionResult5<f1, f2, f3, f4, f5>, R, K>
     of(Table<?, K> table, FieldType<f1> f1, FieldType<f2> f2, FieldType<f3> f3, FieldType<f4> f4, FieldType<f5> f5) {
-        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult1.class, List.of(f1, f2, f3, f4, f5));
+        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult5.class, List.of(f1, f2, f3, f4, f5));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static <f1, f2, f3, f4, f5, f6, R extends DynamoRecord<R>, K extends Key> ProjectedGet<Projection.ProjectionResult6<f1, f2, f3, f4, f5, f6>, R, K>
     of(Table<?, K> table, FieldType<f1> f1, FieldType<f2> f2, FieldType<f3> f3, FieldType<f4> f4, FieldType<f5> f5, FieldType<f6> f6) {
-        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult1.class, List.of(f1, f2, f3, f4, f5, f6));
+        return (ProjectedGet) new ProjectedGet<>(table, Projection.ProjectionResult6.class, List.of(f1, f2, f3, f4, f5, f6));
     }
 
     public QueryOperation<R, K> where(ExpressionRenderer<R, K> renderer) {
@@ -153,8 +153,9 @@ public class ProjectedGet<T, R extends DynamoRecord<R>, K extends Key> {
 
             var response = client.getItem(operation);
 
-            if (response.hasItem()) {
-                return ItemParser.readRecord(response.item(), type);
+            if (response.hasItem() && !response.item().isEmpty()) {
+                return ParserCompiler.getTupleParser(type, table.getRecordType(), columns)
+                        .read(response.item());
             }
 
         } catch (Exception ex) {
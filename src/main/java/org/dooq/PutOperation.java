@@ -50,7 +50,7 @@ public class PutOperation<R extends DynamoRecord<R>, K extends Key> extends Dyna
 
         if (value == null) return this;
 
-        data.put(column.name(), AttributeWriter.parse(value));
+        data.put(column.name(), column.encode(value));
         return this;
     }
 
@@ -4,11 +4,14 @@ import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
 import org.dooq.api.Table;
 import org.dooq.core.*;
-import org.dooq.core.exception.DynamoOperationException;
-import org.dooq.core.response.BufferedQueryResponse;
+import org.dooq.document.Document;
+import org.dooq.engine.ExplainPlan;
 import org.dooq.engine.ExpressionCompiler;
 import org.dooq.engine.ExpressionRenderer;
+import org.dooq.engine.QueryPlan;
+import org.dooq.engine.QueryPlanner;
 import org.dooq.parser.ObjectParser;
+import org.dooq.util.AbstractColumn;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -17,7 +20,9 @@ import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -31,6 +36,8 @@ public class QueryOperation<R extends DynamoRecord<R>, K extends Key> extends Dy
     private final List<Column<R, K>> attributesToGet;
     private Column<R, K> index;
     private boolean debug;
+    private boolean indexSelection;
+    private @Nullable Consumer<QueryPlan> onPlan;
 
     public QueryOperation(@NotNull Table<R, K> table) {
         super(table);
@@ -123,6 +130,24 @@ public class QueryOperation<R extends DynamoRecord<R>, K extends Key> extends Dy
         return this;
     }
 
+    /**
+     * Queries the index turning the most predicates into key conditions when none is given, see {@link QueryPlanner}.
+     * <p>
+     * The table is still queried with a start key, a limit or a reversed order, as their meaning depends on the index
+     */
+    public QueryOperation<R, K> selectIndex() {
+        this.indexSelection = true;
+        return this;
+    }
+
+    /**
+     * @param consumer receives the plan each time the query is compiled, plans are also logged in debug
+     */
+    public QueryOperation<R, K> onPlan(@NotNull Consumer<QueryPlan> consumer) {
+        this.onPlan = consumer;
+        return this;
+    }
+
     public QueryOperation<R, K> setClient(DynamoDbClient client) {
         this.client = client;
         return this;
@@ -145,8 +170,44 @@ public class QueryOperation<R extends DynamoRecord<R>, K extends Key> extends Dy
     }
 
     public @NotNull List<R> fetch() {
+
+        var response = execute(client);
+
+        if (response.isEmpty()) return Collections.emptyList();
+
+        var records = response.into(getProjectionParser(attributesToGet));
+
+        for (R record : records) {
+            record.$setTable(getTable());
+        }
+
+        return records;
+    }
+
+    /**
+     * Fetches the items as schemaless documents, see {@link Document}
+     */
+    public @NotNull List<Document> fetchDocuments() {
         return execute(client)
-                .into(getTable().getRecordType());
+                .documents();
+    }
+
+    /**
+     * Fetches records decoded on first access of each property, see {@link org.dooq.lazy.LazyView}
+     */
+    public @NotNull List<R> fetchLazy() {
+
+        var response = execute(client);
+
+        if (response.isEmpty()) return Collections.emptyList();
+
+        var records = response.into(getLazyParser());
+
+        for (R record : records) {
+            record.$setTable(getTable());
+        }
+
+        return records;
     }
 
     public <T> @NotNull List<T> fetch(@NotNull ObjectParser<T> parser) {
@@ -167,9 +228,13 @@ public class QueryOperation<R extends DynamoRecord<R>, K extends Key> extends Dy
     }
 
     public @Nullable R fetchOne() {
-        return limit(1)
-                .execute(client)
-                .one();
+
+        var response = limit(1)
+                .execute(client);
+
+        if (response.isEmpty()) return null;
+
+        return response.one(getProjectionParser(attributesToGet));
     }
 
     public <A> List<A> map(Function<R, A> function) {
@@ -188,11 +253,44 @@ public class QueryOperation<R extends DynamoRecord<R>, K extends Key> extends Dy
                 .into(type);
     }
 
+    /**
+     * Compiles the operation without executing it, the index is selected as on execution
+     */
+    public @NotNull ExplainPlan explain() {
+        return prepare()
+                .explain();
+    }
+
     public ListResponse<R, K> execute() {
         return execute(client);
     }
 
     public ListResponse<R, K> execute(@NotNull DynamoDbClient client) {
+        return prepare()
+                .execute(Bindings.empty(), client);
+    }
+
+    /**
+     * @return why the table is queried without selecting an index, null to select one
+     */
+    private @Nullable String tableReason(@NotNull QueryRequest request) {
+
+        if (!indexSelection) return "index selection disabled";
+        if (request.hasExclusiveStartKey()) return "start key given";
+        if (request.limit() != null) return "limit given";
+        if (request.scanIndexForward() != null) return "order given";
+
+        return null;
+    }
+
+    /**
+     * Compiles the expressions and renders the request, the values are bound per execution
+     *
+     * @see DynamoSL#prepare(QueryOperation)
+     */
+    PreparedQuery<R, K> prepare() {
+
+        var request = builder.build().toBuilder();
 
         if (expressionList.isEmpty()) {
             if (!attributesToGet.isEmpty()) {
@@ -201,65 +299,76 @@ public class QueryOperation<R extends DynamoRecord<R>, K extends Key> extends Dy
 
                 if (escaped != null) {
 
-                    builder = builder.expressionAttributeNames(escaped.attributeNames());
+                    request.expressionAttributeNames(escaped.attributeNames());
 
                     if (escaped.hasResults()) {
-                        builder = builder.projectionExpression(escaped.join());
+                        request.projectionExpression(escaped.join());
                     }
                 }
             }
-        } else {
 
-            var compiled = ExpressionCompiler.compile(getTable(), expressionList, index);
+            return new PreparedQuery<>(getTable(), client, request.build(), null, Map.of(),
+                    null, ExplainPlan.names(attributesToGet), getProjectionParser(attributesToGet), debug);
+        }
+
+        var index = this.index;
+
+        if ((index == null && indexSelection) || onPlan != null || debug) {
 
-            if (compiled.isSimpleGet()) {
-                SingleResponse<R, K> res = PreGet.get(attributesToGet)
-                        .from(getTable())
-                        .withComplexKey(compiled.getComputedKey())
-                        .execute(getClient());
+            var built = request.build();
 
-                return SingleResponse.asListResponse(res);
+            var plan = QueryPlanner.plan(getTable(), expressionList, index,
+                    Boolean.TRUE.equals(built.consistentRead()), attributesToGet, tableReason(built));
+
+            if (plan.selected()) {
+                index = new AbstractColumn<>(getTable(), plan.indexName());
+            }
+
+            if (debug) {
+                Logger.getLogger(QueryOperation.class.getName())
+                        .log(Level.INFO, plan.toString());
             }
 
+            if (onPlan != null) onPlan.accept(plan);
+        }
+
+        var compiled = ExpressionCompiler.compile(getTable(), expressionList, index);
+        var values = compiled.getExpressionAttributeValues();
 
-            builder = builder
-                    .keyConditionExpression(compiled.keyCondition())
-                    .expressionAttributeValues(AttributeWriter.parseMap(compiled.getExpressionAttributeValues()));
+        if (compiled.isSimpleGet()) {
+            var get = PreGet.get(attributesToGet)
+                    .from(getTable())
+                    .withComplexKey(compiled.getComputedKey())
+                    .build();
 
-            var escaped = ReservedWords.escapeProjection(attributesToGet);
+            return new PreparedQuery<>(getTable(), client, request.build(), get, values,
+                    compiled, ExplainPlan.names(attributesToGet), getProjectionParser(attributesToGet), debug);
+        }
 
-            if (escaped != null) {
+        request.keyConditionExpression(compiled.keyCondition());
 
-                builder.expressionAttributeNames(escaped.merge(compiled.attributeNames()));
+        var escaped = ReservedWords.escapeProjection(attributesToGet);
 
-                if (escaped.hasResults()) {
-                    builder = builder.projectionExpression(escaped.join());
-                }
-            } else {
-                builder.expressionAttributeNames(compiled.attributeNames());
-            }
+        if (escaped != null) {
 
-            if (index != null) {
-                builder = builder.indexName(index.name());
-            }
+            request.expressionAttributeNames(escaped.merge(compiled.attributeNames()));
 
-            if (notEmpty(compiled.getFilterExpression())) {
-                builder = builder.filterExpression(compiled.getFilterExpression());
+            if (escaped.hasResults()) {
+                request.projectionExpression(escaped.join());
             }
+        } else {
+            request.expressionAttributeNames(compiled.attributeNames());
         }
 
-        var operation = builder
-                .build();
-
-        if (debug) {
-            Logger.getLogger(QueryOperation.class.getName())
-                    .log(Level.INFO, operation.toString());
+        if (index != null) {
+            request.indexName(index.name());
         }
 
-        try {
-            return new BufferedQueryResponse<>(client.query(operation), getTable());
-        } catch (Exception ex) {
-            throw new DynamoOperationException(operation, ex);
+        if (notEmpty(compiled.getFilterExpression())) {
+            request.filterExpression(compiled.getFilterExpression());
         }
+
+        return new PreparedQuery<>(getTable(), client, request.build(), null, values,
+                compiled, ExplainPlan.names(attributesToGet), getProjectionParser(attributesToGet), debug);
     }
 }
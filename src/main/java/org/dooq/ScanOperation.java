@@ -3,24 +3,21 @@ package org.dooq;
 import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
 import org.dooq.api.Table;
-import org.dooq.core.AttributeWriter;
 import org.dooq.core.DynamoOperation;
 import org.dooq.core.ListResponse;
-import org.dooq.core.exception.DynamoOperationException;
-import org.dooq.core.response.BufferedScanResponse;
+import org.dooq.document.Document;
+import org.dooq.engine.ExplainPlan;
 import org.dooq.engine.ExpressionCompiler;
 import org.dooq.engine.ExpressionRenderer;
-import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * WARNING
@@ -80,6 +77,32 @@ public class ScanOperation<R extends DynamoRecord<R>, K extends Key> extends Dyn
                 .into(type);
     }
 
+    /**
+     * Fetches the items as schemaless documents, see {@link Document}
+     */
+    public @NotNull List<Document> fetchDocuments() {
+        return execute(client)
+                .documents();
+    }
+
+    /**
+     * Fetches records decoded on first access of each property, see {@link org.dooq.lazy.LazyView}
+     */
+    public @NotNull List<R> fetchLazy() {
+
+        var response = execute(client);
+
+        if (response.isEmpty()) return Collections.emptyList();
+
+        var records = response.into(getLazyParser());
+
+        for (R record : records) {
+            record.$setTable(getTable());
+        }
+
+        return records;
+    }
+
     public ScanOperation<R, K> index(@NotNull Column<R, K> column) {
         this.index = column;
         return this;
@@ -90,42 +113,47 @@ public class ScanOperation<R extends DynamoRecord<R>, K extends Key> extends Dyn
         return this;
     }
 
+    /**
+     * Compiles the operation without executing it
+     */
+    public @NotNull ExplainPlan explain() {
+        return prepare()
+                .explain();
+    }
+
     public ListResponse<R, K> execute() {
         return execute(client);
     }
 
     public ListResponse<R, K> execute(DynamoDbClient client) {
+        return prepare()
+                .execute(Bindings.empty(), client);
+    }
+
+    /**
+     * Compiles the filter and renders the request, the values are bound per execution
+     *
+     * @see DynamoSL#prepare(ScanOperation)
+     */
+    PreparedScan<R, K> prepare() {
+
+        var request = builder.build().toBuilder();
 
         if (index != null) {
-            builder = builder.indexName(index.name());
+            request.indexName(index.name());
         }
 
-        if (expressionList.isEmpty()) return executeInternal(client);
+        if (expressionList.isEmpty()) {
+            return new PreparedScan<>(getTable(), client, request.build(), Map.of(), List.of(), debug);
+        }
 
         var compiled = ExpressionCompiler.compileForScan(getTable(), expressionList, index);
 
-        builder = builder
-                .filterExpression(compiled.expression())
-                .expressionAttributeValues(AttributeWriter.parseMap(compiled.values()))
+        request.filterExpression(compiled.expression())
                 .expressionAttributeNames(compiled.attributeNames());
 
-        return executeInternal(client);
-    }
-
-    @Contract(" _ -> new")
-    private @NotNull ListResponse<R, K> executeInternal(DynamoDbClient client) {
-        var operation = builder.build();
-
-        if (debug) {
-            Logger.getLogger(ScanOperation.class.getName())
-                    .log(Level.INFO, operation.toString());
-        }
-
-        try {
-            return new BufferedScanResponse<>(client.scan(operation), getTable());
-        } catch (Exception ex) {
-            throw new DynamoOperationException(operation, ex);
-        }
+        return new PreparedScan<>(getTable(), client, request.build(), compiled.values(),
+                ExplainPlan.names(compiled.columns()), debug);
     }
 
 }
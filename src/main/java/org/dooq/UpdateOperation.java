@@ -5,8 +5,8 @@ import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
 import org.dooq.api.Table;
 import org.dooq.core.*;
-import org.dooq.core.exception.DynamoOperationException;
 import org.dooq.core.response.BufferedUpdateResponse;
+import org.dooq.engine.ExplainPlan;
 import org.dooq.engine.ExpressionRenderer;
 import org.dooq.expressions.AddExpression;
 import org.dooq.expressions.ListAppendExpression;
@@ -26,8 +26,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends DynamoOperation<R, K> {
@@ -37,6 +35,7 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
     private final List<Expression> setExpressions = new ArrayList<>();
     private final List<Expression> addExpressions = new ArrayList<>();
     private boolean debug;
+    private List<String> conditionColumns = List.of();
 
     public UpdateOperation(@NotNull Table<R, K> table) {
         super(table);
@@ -75,7 +74,7 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
 
         builder = builder.key(key.getValue().entrySet()
                 .stream()
-                .collect(Collectors.toMap(a -> a.getKey().name(), a -> AttributeWriter.parse(a.getValue()))));
+                .collect(Collectors.toMap(a -> a.getKey().name(), a -> a.getKey().encode(a.getValue()))));
 
         return this;
     }
@@ -132,7 +131,7 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
         var param = column.param();
 
         setExpressions.add(new UpdateExpression(column, "=", param));
-        attributeValueMap.put(param, AttributeWriter.parse(optional));
+        attributeValueMap.put(param, column.encode(optional));
     }
 
     public UpdateOperation<R, K> setNull(@NotNull Column<R, K> column) {
@@ -157,7 +156,7 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
     public UpdateOperation<R, K> append(@NotNull Column<R, K> column, @Nullable Object value) {
 
         setExpressions.add(new ListAppendExpression<>(column));
-        attributeValueMap.put(column.param(), AttributeWriter.parse(value));
+        attributeValueMap.put(column.param(), column.encode(value));
 
         return this;
     }
@@ -214,7 +213,7 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
         var param = column.param();
 
         setExpressions.add(new ComplexExpression(column, column.escapedName() + " " + command + " " + param));
-        attributeValueMap.put(param, AttributeWriter.parse(value));
+        attributeValueMap.put(param, column.encode(value));
 
         return this;
     }
@@ -227,7 +226,11 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
     }
 
     public UpdateOperation<R, K> condition(@NotNull Condition condition) {
-        return this.condition(condition.getCommand());
+
+        builder = builder.conditionExpression(condition.getCommand());
+        conditionColumns = condition.getColumns();
+
+        return this;
     }
 
     public UpdateOperation<R, K> when(@NotNull Column<R, K> column, @Nullable Object value) {
@@ -235,7 +238,8 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
         if (value == null) return this;
 
         builder = builder.conditionExpression(column.name() + " = :currval");
-        attributeValueMap.put(":currval", AttributeWriter.parse(value));
+        conditionColumns = List.of(column.name());
+        attributeValueMap.put(":currval", column.encode(value));
 
         return this;
     }
@@ -243,6 +247,7 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
     public UpdateOperation<R, K> condition(String condition) {
 
         builder = builder.conditionExpression(condition);
+        conditionColumns = List.of();
 
         return this;
     }
@@ -259,24 +264,30 @@ public class UpdateOperation<R extends DynamoRecord<R>, K extends Key> extends D
         return new UpdateReturn<>(this);
     }
 
+    /**
+     * Renders the operation without executing it
+     */
+    public @NotNull ExplainPlan explain() {
+        return prepare()
+                .explain();
+    }
+
     public BufferedUpdateResponse<R, K> execute() {
         return execute(client);
     }
 
     public BufferedUpdateResponse<R, K> execute(@NotNull DynamoDbClient client) {
+        return prepare()
+                .execute(null, Bindings.empty(), client);
+    }
 
-        var operation = build();
-
-        if (debug) {
-            Logger.getLogger(UpdateOperation.class.getName())
-                    .log(Level.INFO, operation.toString());
-        }
-
-        try {
-            return new BufferedUpdateResponse<>(client.updateItem(operation), getTable());
-        } catch (Exception ex) {
-            throw new DynamoOperationException(operation, ex);
-        }
+    /**
+     * Renders the request, the key and the values can be bound per execution
+     *
+     * @see DynamoSL#prepare(UpdateOperation)
+     */
+    PreparedUpdate<R, K> prepare() {
+        return new PreparedUpdate<>(getTable(), client, build(), conditionColumns, debug);
     }
 
     private UpdateItemRequest build() {
@@ -0,0 +1,237 @@
+package org.dooq;
+
+import org.dooq.api.Table;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Compiles the record converters, and the converters of their nested types, before the first request.
+ * <p>
+ * Types are compiled in parallel on a bounded executor, then each converter decodes and encodes
+ * a sample holding a value in every property so the generated code is already hot when the instance takes traffic.
+ *
+ * @author alex
+ */
+public final class WarmUp {
+
+    public static final int DEFAULT_ITERATIONS = 1_000;
+
+    private static final AtomicInteger threads = new AtomicInteger();
+
+    private final List<Table<?, ?>> tables;
+    private int parallelism;
+    private int iterations = DEFAULT_ITERATIONS;
+
+    WarmUp(@NotNull Collection<? extends Table<?, ?>> tables) {
+        this.tables = List.copyOf(tables);
+        this.parallelism = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), this.tables.size()));
+    }
+
+    /**
+     * @param tables class holding the tables as static fields, e.g. the generated {@code Tables}
+     */
+    static @NotNull List<Table<?, ?>> getTables(@NotNull Class<?> tables) {
+
+        var result = new ArrayList<Table<?, ?>>();
+
+        for (Field field : tables.getFields()) {
+
+            if (!Modifier.isStatic(field.getModifiers())) continue;
+            if (!Table.class.isAssignableFrom(field.getType())) continue;
+
+            try {
+                var table = (Table<?, ?>) field.get(null);
+
+                if (table != null) result.add(table);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Cannot access table: " + field, e);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @param parallelism max number of types compiled at the same time
+     */
+    public WarmUp parallelism(int parallelism) {
+
+        if (parallelism < 1) throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @param iterations synthetic decode/encode rounds per type, zero only compiles
+     */
+    public WarmUp iterations(int iterations) {
+
+        if (iterations < 0) throw new IllegalArgumentException("Invalid iterations: " + iterations);
+
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * @param type     the compiled type
+     * @param compile  time taken by the converter, including its nested converters not yet compiled
+     * @param exercise time taken by the synthetic decode/encode rounds
+     * @param failure  the error, if the type cannot be converted
+     */
+    public record TypeReport(Class<?> type, Duration compile, Duration exercise, @Nullable Throwable failure) {
+
+        public boolean isFailed() {
+            return failure != null;
+        }
+    }
+
+    /**
+     * @param types   the report per type, records first
+     * @param elapsed the wall time of the warm-up
+     */
+    public record Report(@Unmodifiable List<TypeReport> types, Duration elapsed) {
+
+        public @NotNull List<TypeReport> failures() {
+            return types.stream()
+                    .filter(TypeReport::isFailed)
+                    .toList();
+        }
+
+        public @NotNull Optional<TypeReport> get(@NotNull Class<?> type) {
+            return types.stream()
+                    .filter(report -> report.type() == type)
+                    .findFirst();
+        }
+    }
+
+    /**
+     * Blocks until every type has been compiled, failures are logged and reported, never thrown
+     */
+    public @NotNull Report execute() {
+
+        long start = System.nanoTime();
+
+        var types = new LinkedHashSet<Class<?>>();
+
+        for (Table<?, ?> table : tables) {
+            types.add(table.getRecordType());
+        }
+
+        for (Class<?> type : List.copyOf(types)) {
+            collectNestedTypes(type, types);
+        }
+
+        var executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, types.size())), runnable -> {
+            var thread = new Thread(runnable, "dooq-warm-up-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            var futures = new ArrayList<Future<TypeReport>>(types.size());
+
+            for (Class<?> type : types) {
+                futures.add(executor.submit(() -> warmUp(type)));
+            }
+
+            var reports = new ArrayList<TypeReport>(types.size());
+
+            for (Future<TypeReport> future : futures) {
+                reports.add(future.get());
+            }
+
+            //Assigns the parsers to the tables, already compiled
+            for (Table<?, ?> table : tables) {
+                try {
+                    table.getRecordParser();
+                } catch (RuntimeException ignored) {
+                    //Already reported
+                }
+            }
+
+            return new Report(List.copyOf(reports), Duration.ofNanos(System.nanoTime() - start));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Warm-up interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void collectNestedTypes(@NotNull Class<?> type, @NotNull Set<Class<?>> types) {
+
+        Set<Class<?>> nested;
+
+        try {
+            nested = ParserCompiler.getNestedTypes(type);
+        } catch (RuntimeException e) {
+            //Reported by the compilation
+            return;
+        }
+
+        for (Class<?> nestedType : nested) {
+            if (types.add(nestedType)) collectNestedTypes(nestedType, types);
+        }
+    }
+
+    private @NotNull TypeReport warmUp(@NotNull Class<?> type) {
+
+        long start = System.nanoTime();
+
+        ObjectParser<?> parser;
+
+        try {
+            parser = ParserCompiler.getConverter(type);
+        } catch (RuntimeException | LinkageError e) {
+            Logger.getLogger(WarmUp.class.getName())
+                    .log(Level.WARNING, "Failed to compile converter of " + type, e);
+
+            return new TypeReport(type, Duration.ofNanos(System.nanoTime() - start), Duration.ZERO, e);
+        }
+
+        var compile = Duration.ofNanos(System.nanoTime() - start);
+
+        start = System.nanoTime();
+
+        try {
+            exercise(type, parser, iterations);
+        } catch (RuntimeException e) {
+            Logger.getLogger(WarmUp.class.getName())
+                    .log(Level.WARNING, "Failed to exercise converter of " + type, e);
+
+            return new TypeReport(type, compile, Duration.ofNanos(System.nanoTime() - start), e);
+        }
+
+        return new TypeReport(type, compile, Duration.ofNanos(System.nanoTime() - start), null);
+    }
+
+    private static <T> void exercise(@NotNull Class<?> type, @NotNull ObjectParser<T> parser, int iterations) {
+
+        if (iterations == 0) return;
+
+        //Populated so the read and write paths of every property type are exercised, not only the absent ones
+        @SuppressWarnings("unchecked")
+        T sample = (T) ParserCompiler.newSample(type);
+
+        if (sample == null) sample = parser.read(Map.of());
+
+        for (int i = 0; i < iterations; i++) {
+            sample = parser.read(parser.write(sample));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.dooq.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Encoding of the {@code int[]}, {@code long[]}, {@code float[]} and {@code double[]} properties,
+ * every encoding is accepted when reading
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ArrayFormat {
+
+    Encoding value() default Encoding.PACKED;
+
+    enum Encoding {
+        /**
+         * Little-endian values in a single {@code B} attribute
+         */
+        PACKED,
+        /**
+         * {@code L} of {@code N}, readable by other clients
+         */
+        LIST,
+        /**
+         * {@code NS}, the order and the duplicated values are lost
+         */
+        NUMBER_SET
+    }
+}
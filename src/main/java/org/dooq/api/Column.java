@@ -1,10 +1,13 @@
 package org.dooq.api;
 
 import org.dooq.Key;
+import org.dooq.core.AttributeWriter;
 import org.dooq.core.DynamoSemantics;
+import org.dooq.core.ReservedWords;
 import org.dooq.engine.ExpressionRenderer;
 import org.dooq.expressions.*;
 import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.List;
 
@@ -53,6 +56,20 @@ public interface Column<R extends DynamoRecord<R>, K extends Key> {
         return DynamoSemantics.param(this);
     }
 
+    /**
+     * @return true if the name is a reserved word and must be escaped in expressions
+     */
+    default boolean reserved() {
+        return ReservedWords.isReserved(name());
+    }
+
+    /**
+     * @return the value of a condition on this column
+     */
+    default AttributeValue encode(@Nullable Object value) {
+        return AttributeWriter.parse(value);
+    }
+
 
     default ExpressionRenderer<R, K> attributeExists() {
         return new AttributeExistsExpression<>(this);
@@ -0,0 +1,26 @@
+package org.dooq.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.zip.Deflater;
+
+/**
+ * Stores the string as a gzip {@code B} attribute when its UTF-8 size reaches the threshold,
+ * shorter values stay as {@code S}, both are read back transparently
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Compressed {
+
+    /**
+     * Minimum size in bytes to compress the value
+     */
+    int threshold() default 1024;
+
+    /**
+     * Deflate level from 0 to 9, -1 for the default level
+     */
+    int level() default Deflater.DEFAULT_COMPRESSION;
+}
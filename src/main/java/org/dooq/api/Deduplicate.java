@@ -0,0 +1,25 @@
+package org.dooq.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Decodes the string through a bounded intern pool, so equal values of low-cardinality columns
+ * (categories, currencies, statuses) share one instance across the decoded records
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Deduplicate {
+
+    /**
+     * Pool name, columns with the same values can share a pool
+     */
+    String pool() default "default";
+
+    /**
+     * Number of strings kept by the pool, rounded up to a power of two, used by the first declaration of the pool
+     */
+    int capacity() default 4096;
+}
@@ -2,8 +2,7 @@ package org.dooq.api;
 
 import org.dooq.DynamoSL;
 import org.dooq.Key;
-import org.dooq.core.exception.DeserializationException;
-import org.dooq.util.ReflectionUtils;
+import org.dooq.parser.ParserCompiler;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -11,7 +10,6 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
 
 import java.beans.Transient;
-import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
@@ -80,32 +78,12 @@ public abstract class DynamoRecord<T extends DynamoRecord<T>> {
         return mapper.apply((T) this);
     }
 
+    /**
+     * Copies the properties into a new instance of the type, e.g. a DTO, matched by name
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public final <K> @NotNull K into(Class<K> type) {
-
-        var instance = ReflectionUtils.newInstance(type);
-
-        var targetMap = ReflectionUtils.mapFields(type);
-        var sourceMap = ReflectionUtils.mapFields(getClass());
-
-        for (Map.Entry<String, Field> targetEntry : targetMap.entrySet()) {
-
-            Field source = targetEntry.getValue();
-
-            Field target = sourceMap.get(source.getName());
-
-            if (target == null) {
-                continue;
-            }
-
-            target.setAccessible(true);
-
-            try {
-                target.set(source.get(this), instance);
-            } catch (IllegalAccessException e) {
-                throw new DeserializationException(e);
-            }
-        }
-
-        return instance;
+        return (K) ParserCompiler.getCopier((Class) getClass(), type)
+                .copy(this);
     }
 }
@@ -0,0 +1,27 @@
+package org.dooq.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Encoding of the enum properties, on the field or the enum type, every encoding is accepted when reading
+ */
+@Target({ElementType.FIELD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnumFormat {
+
+    Encoding value() default Encoding.NAME;
+
+    enum Encoding {
+        /**
+         * {@code S} holding the constant name
+         */
+        NAME,
+        /**
+         * {@code N} holding the constant ordinal, new constants must be appended at the end
+         */
+        ORDINAL
+    }
+}
@@ -0,0 +1,24 @@
+package org.dooq.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores the {@code Instant}, {@code OffsetDateTime}, {@code LocalDateTime}, {@code LocalDate} or {@code LocalTime}
+ * as an {@code N} attribute counted from the epoch in UTC, or from midnight for {@code LocalTime},
+ * so it sorts numerically and can be used in range key conditions. ISO strings are still readable.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EpochEncoded {
+
+    Unit value() default Unit.MILLIS;
+
+    enum Unit {
+        DAYS,
+        SECONDS,
+        MILLIS
+    }
+}
@@ -1,6 +1,9 @@
 package org.dooq.api;
 
 import org.dooq.Key;
+import org.dooq.core.DynamoSemantics;
+import org.dooq.core.ReservedWords;
+import org.dooq.core.ValueEncoder;
 import org.dooq.engine.ExpressionRenderer;
 import org.dooq.expressions.Comparator;
 import org.dooq.expressions.ConditionExpression;
@@ -8,6 +11,7 @@ import org.dooq.join.MergeExpression;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.Collection;
 import java.util.List;
@@ -20,13 +24,29 @@ public class Field<T, R extends DynamoRecord<R>, K extends Key> implements Colum
     private final ColumnType columnType;
     private final boolean index;
     private final Table<R, K> table;
+    private final ValueEncoder encoder;
+    private final String escapedName;
+    private final String param;
+    private final boolean reserved;
 
     public Field(Class<T> type, String name, ColumnType columnType, boolean index, Table<R, K> table) {
+        this(type, name, columnType, index, table, ValueEncoder.of(type));
+    }
+
+    /**
+     * @param encoder encodes the condition, key and update values, as stored by the record converter
+     */
+    public Field(Class<T> type, String name, ColumnType columnType, boolean index, Table<R, K> table,
+                 @NotNull ValueEncoder encoder) {
         this.type = type;
         this.name = name;
         this.columnType = columnType;
         this.index = index;
         this.table = table;
+        this.encoder = encoder;
+        this.escapedName = DynamoSemantics.escaped(name);
+        this.param = DynamoSemantics.param(name);
+        this.reserved = ReservedWords.isReserved(name);
     }
 
     public Class<T> type() {
@@ -49,6 +69,26 @@ public class Field<T, R extends DynamoRecord<R>, K extends Key> implements Colum
         return table;
     }
 
+    @Override
+    public String escapedName() {
+        return escapedName;
+    }
+
+    @Override
+    public String param() {
+        return param;
+    }
+
+    @Override
+    public boolean reserved() {
+        return reserved;
+    }
+
+    @Override
+    public AttributeValue encode(@Nullable Object value) {
+        return encoder.encode(value);
+    }
+
     public boolean isAssignableFrom(Class<?> type) {
         return this.type.isAssignableFrom(type);
     }
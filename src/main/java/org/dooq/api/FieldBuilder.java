@@ -1,6 +1,9 @@
 package org.dooq.api;
 
 import org.dooq.Key;
+import org.dooq.core.ValueEncoder;
+import org.dooq.parser.converter.EnumCodec;
+import org.dooq.parser.converter.EpochCodec;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -31,6 +34,22 @@ public class FieldBuilder {
         return new BooleanField<>(name, type, table);
     }
 
+    /**
+     * Temporal values are encoded as epoch numbers in the {@link EpochEncoded} unit of the property
+     */
+    public static <T, R extends DynamoRecord<R>, K extends Key> @NotNull NumberField<T, R, K>
+    ofEpoch(@NotNull String name, @NotNull Class<T> type, @NotNull EpochEncoded.Unit unit, Table<R, K> table) {
+        return new NumberField<>(type, name, ColumnType.NORMAL, false, table, ValueEncoder.of(EpochCodec.of(type, unit)));
+    }
+
+    /**
+     * Values are encoded as the {@link EnumFormat} of the property, e.g. ordinals as numbers
+     */
+    public static <T extends Enum<T>, R extends DynamoRecord<R>, K extends Key> @NotNull Field<T, R, K>
+    ofEnum(@NotNull String name, @NotNull Class<T> type, @NotNull EnumFormat.Encoding encoding, Table<R, K> table) {
+        return new Field<>(type, name, ColumnType.NORMAL, false, table, ValueEncoder.of(EnumCodec.of(type, encoding)));
+    }
+
     @SuppressWarnings("all")
     public static <T, R extends DynamoRecord<R>, K extends Key> @NotNull Field<Set<T>, R, K>
     ofSet(@NotNull String name, @NotNull Class<T> type, Table<R, K> table) {
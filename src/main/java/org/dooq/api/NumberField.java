@@ -1,6 +1,7 @@
 package org.dooq.api;
 
 import org.dooq.Key;
+import org.dooq.core.ValueEncoder;
 
 public class NumberField<T, R extends DynamoRecord<R>, K extends Key> extends Field<T, R, K> {
     public NumberField(String name, Class<T> type, Table<R, K> table) {
@@ -11,4 +12,9 @@ public class NumberField<T, R extends DynamoRecord<R>, K extends Key> extends Fi
         super(type, name, columnType, index, table);
     }
 
+    public NumberField(Class<T> type, String name, ColumnType columnType, boolean index, Table<R, K> table,
+                       ValueEncoder encoder) {
+        super(type, name, columnType, index, table, encoder);
+    }
+
 }
@@ -0,0 +1,28 @@
+package org.dooq.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores the nested object as a single positional binary {@code B} attribute instead of a {@code M} map.
+ * <p>
+ * Properties are written without their names at the index given by {@link PackedField}, or in the order
+ * of the record components, so the schema evolves by appending new properties at the end: older items read
+ * them as default values and newer items are read by older readers ignoring the extra properties.
+ * Properties must not be reordered or change their type. Items stored as maps are still readable.
+ * <p>
+ * Values are rejected when their number of fields does not match their version: the same version has the same
+ * fields, older versions fewer and newer versions more.
+ */
+@Target({ElementType.TYPE, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Packed {
+
+    /**
+     * Schema version of the type written in every value, only read from the annotated type.
+     * Must be incremented whenever properties are appended
+     */
+    int version() default 1;
+}
@@ -0,0 +1,19 @@
+package org.dooq.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Position of the property in the {@link Packed} binary, required on every property of classes as the order
+ * of their fields is not specified, optional on records which default to the order of their components.
+ * <p>
+ * Indices must never be reused, the index of a removed property is left as a gap.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PackedField {
+
+    int value();
+}
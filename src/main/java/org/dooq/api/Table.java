@@ -45,15 +45,14 @@ public abstract class Table<R extends DynamoRecord<R>, K extends Key> {
 
     public ObjectParser<R> getRecordParser() {
 
-        if (recordParser == null) {
-            synchronized (this) {
-                if (recordParser == null) {
-                    recordParser = ParserCompiler.getConverter(getRecordType());
-                }
-            }
+        var parser = recordParser;
+
+        //The compiler caches the first converter defined, racing threads store the same instance
+        if (parser == null) {
+            recordParser = parser = ParserCompiler.getConverter(getRecordType());
         }
 
-        return recordParser;
+        return parser;
     }
 
     private List<Column<R, K>> columns;
@@ -81,4 +80,11 @@ public abstract class Table<R extends DynamoRecord<R>, K extends Key> {
     public boolean isAbstract() {
         return false;
     }
+
+    /**
+     * @return the average size of the items in bytes, used to estimate the consumed capacity of explained operations
+     */
+    public int getAverageItemSize() {
+        return 1024;
+    }
 }
@@ -1,25 +1,31 @@
 package org.dooq.core;
 
 import org.dooq.api.Column;
+import org.dooq.parser.converter.AttributeValues;
+import org.dooq.parser.converter.CompressionCodec;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.beans.Transient;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Deflater;
 
 public class AttributeWriter {
 
@@ -55,6 +61,10 @@ public class AttributeWriter {
             return bool(bool);
         }
 
+        if (value instanceof Enum<?> constant) {
+            return string(constant.name());
+        }
+
         if (value instanceof Set<?> set) {
 
             if (set.isEmpty()) return nil();
@@ -81,7 +91,8 @@ public class AttributeWriter {
             return map((Map) value);
         }
 
-        if (value instanceof LocalDate || value instanceof LocalDateTime) {
+        if (value instanceof LocalDate || value instanceof LocalDateTime || value instanceof LocalTime ||
+                value instanceof Instant || value instanceof OffsetDateTime) {
             return string(value.toString());
         }
 
@@ -144,9 +155,10 @@ public class AttributeWriter {
     }
 
     public static AttributeValue string(String value) {
-        return AttributeValue.builder()
-                .s(value)
-                .build();
+
+        if (value == null) return AttributeValue.builder().build();
+
+        return AttributeValues.string(value);
     }
 
     public static @NotNull @Unmodifiable Map<String, AttributeValue> number(@NotNull Column<?, ?> column, Number number) {
@@ -154,21 +166,27 @@ public class AttributeWriter {
     }
 
     public static AttributeValue number(Number number) {
-        return AttributeValue.builder()
-                .n(number + "")
-                .build();
+
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return AttributeValues.number(number.intValue());
+        }
+
+        if (number instanceof Long) {
+            return AttributeValues.number(number.longValue());
+        }
+
+        return AttributeValue.fromN(String.valueOf(number));
     }
 
     public static AttributeValue bool(Boolean bool) {
-        return AttributeValue.builder()
-                .bool(bool)
-                .build();
+
+        if (bool == null) return AttributeValue.builder().build();
+
+        return AttributeValues.bool(bool);
     }
 
     public static AttributeValue nil() {
-        return AttributeValue.builder()
-                .nul(true)
-                .build();
+        return AttributeValues.nul();
     }
 
     public static AttributeValue stringSet(@NotNull Set<String> set) {
@@ -237,29 +255,42 @@ public class AttributeWriter {
                 .build();
     }
 
-    private static @NotNull SdkBytes compress(@NotNull String value) throws IOException {
-        var baos = new ByteArrayOutputStream();
-        var gos = new GZIPOutputStream(baos);
-
-        gos.write(value.getBytes(StandardCharsets.UTF_8));
-        gos.close();
-
-        var data = baos.toByteArray();
-
-        baos.close();
-
-        return SdkBytes.fromByteArray(data);
+    private static @NotNull SdkBytes compress(@NotNull String value) {
+        return SdkBytes.fromByteArrayUnsafe(CompressionCodec.compress(value.getBytes(StandardCharsets.UTF_8),
+                Deflater.DEFAULT_COMPRESSION));
     }
 
-    public static Object unwrap(@NotNull AttributeValue value) {
-
-
-        if (value.s() != null) return value.s();
-        if (value.n() != null) return value.n();
-        if (value.ns() != null) return value.ns();
-        if (value.bool() != null) return value.bool();
-
-        throw new IllegalStateException("Not implemented!");
+    /**
+     * Converts the attribute into its Java value: String, BigDecimal, Boolean, SdkBytes, null,
+     * or lists and maps of them, sets are returned as lists
+     */
+    public static @Nullable Object unwrap(@NotNull AttributeValue value) {
+
+        return switch (value.type()) {
+            case S -> value.s();
+            case N -> new BigDecimal(value.n());
+            case BOOL -> value.bool();
+            case NUL -> null;
+            case B -> value.b();
+            case SS -> value.ss();
+            case NS -> value.ns().stream()
+                    .map(BigDecimal::new)
+                    .toList();
+            case BS -> value.bs();
+            case L -> value.l().stream()
+                    .map(AttributeWriter::unwrap)
+                    .collect(Collectors.toList());
+            case M -> {
+                var map = new LinkedHashMap<String, Object>();
+
+                for (Map.Entry<String, AttributeValue> entry : value.m().entrySet()) {
+                    map.put(entry.getKey(), unwrap(entry.getValue()));
+                }
+
+                yield map;
+            }
+            default -> throw new IllegalStateException("Not implemented: " + value);
+        };
     }
 
 }
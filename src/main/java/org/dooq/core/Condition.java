@@ -4,12 +4,20 @@ import org.dooq.api.Column;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 public class Condition {
 
     private final String command;
+    private final List<String> columns;
 
     public Condition(String command) {
+        this(command, List.of());
+    }
+
+    private Condition(String command, @NotNull List<String> columns) {
         this.command = command;
+        this.columns = columns;
     }
 
     @Contract("_ -> new")
@@ -23,25 +31,32 @@ public class Condition {
     }
 
     public static @NotNull Condition attribute_exists(@NotNull Object obj) {
-        return new Condition("attribute_exists(" + obj + ")");
+        return new Condition("attribute_exists(" + obj + ")", List.of(String.valueOf(obj)));
     }
 
     @Contract(value = "_ -> new", pure = true)
     public static @NotNull Condition attribute_not_exists(@NotNull Object obj) {
-        return new Condition("attribute_not_exists(" + obj + ")");
+        return new Condition("attribute_not_exists(" + obj + ")", List.of(String.valueOf(obj)));
     }
 
     @Contract("_, _ -> new")
     public static @NotNull Condition begins_with(@NotNull Column<?, ?> column, String content) {
-        return new Condition("begins_with(" + column.name() + "," + content + ")");
+        return new Condition("begins_with(" + column.name() + "," + content + ")", List.of(column.name()));
     }
 
     @Contract("_, _ -> new")
     public static @NotNull Condition contains(@NotNull Column<?, ?> column, String content) {
-        return new Condition("contains(" + column.name() + "," + content + ")");
+        return new Condition("contains(" + column.name() + "," + content + ")", List.of(column.name()));
     }
 
     public String getCommand() {
         return command;
     }
+
+    /**
+     * @return the attributes of the condition, empty when built from a plain command
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
 }
@@ -1,10 +1,16 @@
 package org.dooq.core;
 
 import org.dooq.Key;
+import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
 import org.dooq.api.Table;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+import java.util.List;
+
 public class DynamoOperation<R extends DynamoRecord<R>, K extends Key> {
 
     private final Table<R, K> table;
@@ -23,6 +29,28 @@ public class DynamoOperation<R extends DynamoRecord<R>, K extends Key> {
         return table;
     }
 
+    /**
+     * @return the record parser reading only the projected columns, the table parser if every column is projected
+     */
+    protected @NotNull ObjectParser<R> getProjectionParser(@NotNull List<Column<R, K>> columns) {
+
+        if (columns.isEmpty() || columns.size() == table.getColumns().size()) {
+            return table.getRecordParser();
+        }
+
+        return ParserCompiler.getProjectionParser(table.getRecordType(), columns.stream()
+                .map(Column::name)
+                .toList());
+    }
+
+    /**
+     * @return the parser of lazily decoded records of the table
+     * @see org.dooq.lazy.LazyView
+     */
+    protected @NotNull ObjectParser<R> getLazyParser() {
+        return ParserCompiler.getLazyConverter(table.getRecordType());
+    }
+
     public boolean notEmpty(String value) {
         if (value == null) return false;
 
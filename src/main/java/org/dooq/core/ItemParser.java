@@ -3,63 +3,81 @@ package org.dooq.core;
 import org.dooq.api.Column;
 import org.dooq.api.DynamoConverter;
 import org.dooq.api.DynamoRecord;
+import org.dooq.api.Table;
+import org.dooq.lazy.LazyView;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.dooq.util.ReflectionUtils;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
-import java.beans.Transient;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 public class ItemParser {
 
+    /**
+     * Set once the fields of the record type were checked against the table columns
+     */
+    private static final ClassValue<AtomicBoolean> validatedTypes = new ClassValue<>() {
+        @Override
+        protected AtomicBoolean computeValue(@NotNull Class<?> type) {
+            return new AtomicBoolean();
+        }
+    };
+
     @Contract("_ -> new")
     public static <T extends DynamoRecord<T>> @NotNull ParseResult writeRecord(@NotNull T object) {
         return write(object);
     }
 
+    /**
+     * Writes the record through the compiled {@link ObjectParser} of its type,
+     * null values are not written.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Contract("_ -> new")
     public static @NotNull ParseResult write(@NotNull DynamoRecord<?> object) {
-        var fields = object.getClass().getDeclaredFields();
-
-        if (fields.length == 0) {
-            throw new IllegalStateException("No fields for type: " + object.getClass());
-        }
 
+        Class<?> type = object instanceof LazyView ? object.getClass().getSuperclass() : object.getClass();
         var table = object.getTable();
 
-        var columnMap = table.getColumns()
-                .stream()
-                .collect(Collectors.toMap(Column::name, v -> v));
-
-        var map = new HashMap<String, AttributeValue>();
+        ObjectParser parser;
 
-        for (Field field : fields) {
-            try {
+        if (table != null && table.getRecordType() == type) {
+            parser = table.getRecordParser();
+            var validated = validatedTypes.get(type);
 
-                if (Modifier.isTransient(field.getModifiers()) || field.isAnnotationPresent(Transient.class)) {
-                    continue;
-                }
+            if (!validated.get() && validated.compareAndSet(false, true)) validate(type, table);
+        } else {
+            parser = ParserCompiler.getConverter(type);
+        }
 
-                if (!columnMap.containsKey(field.getName())) {
-                    System.err.println("WARNING field: " + field.getName() + " is not present in table, columns: " + columnMap.size());
-                }
+        Map<String, AttributeValue> map = parser.write(object);
 
-                field.setAccessible(true);
+        return new ParseResult(map, object.getKey());
+    }
 
-                var value = field.get(object);
+    private static void validate(@NotNull Class<?> type, @NotNull Table<?, ?> table) {
 
-                map.put(field.getName(), AttributeWriter.parse(value));
-            } catch (IllegalAccessException e) {
-                e.printStackTrace();
+        Set<String> columns = table.getColumns()
+                .stream()
+                .map(Column::name)
+                .collect(Collectors.toSet());
+
+        for (String field : ReflectionUtils.mapFields(type).keySet()) {
+            if (!columns.contains(field)) {
+                Logger.getLogger(ItemParser.class.getName())
+                        .log(Level.WARNING, "field: {0} of {1} is not present in table {2}, columns: {3}",
+                                new Object[]{field, type.getSimpleName(), table.getTableName(), columns.size()});
             }
         }
-
-        return new ParseResult(map, object.getKey());
     }
 
     public static <T> @Nullable T readRecord(@NotNull Map<String, AttributeValue> map, Class<T> type) {
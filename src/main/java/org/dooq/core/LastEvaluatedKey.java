@@ -15,8 +15,12 @@ public record LastEvaluatedKey(Map<String, AttributeValue> key) {
 
         if (key.isEmpty()) return null;
 
-        return AttributeWriter.unwrap(key.get(column.name()))
-                .toString();
+        var value = key.get(column.name());
+
+        if (value == null) return null;
+
+        //Numbers as written
+        return value.n() != null ? value.n() : String.valueOf(AttributeWriter.unwrap(value));
     }
 
 }
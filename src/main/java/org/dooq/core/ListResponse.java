@@ -5,6 +5,7 @@ import org.dooq.api.Column;
 import org.dooq.api.DynamoConverter;
 import org.dooq.api.DynamoRecord;
 import org.dooq.api.Table;
+import org.dooq.document.Document;
 import org.dooq.parser.ObjectParser;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -36,6 +37,23 @@ public interface ListResponse<R extends DynamoRecord<R>, K extends Key> extends
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /**
+     * @return the items as schemaless documents, nothing is decoded
+     */
+    default @NotNull List<Document> documents() {
+
+        if (isEmpty()) return Collections.emptyList();
+
+        var items = getItems();
+        var documents = new ArrayList<Document>(items.size());
+
+        for (Map<String, AttributeValue> item : items) {
+            documents.add(Document.of(item));
+        }
+
+        return documents;
+    }
+
     default @Nullable R one() {
 
         if (isEmpty()) return null;
@@ -593,17 +593,124 @@ public class ReservedWords {
             "ZONE",
     };
 
+    /**
+     * Perfect hash of the words: the bucket of a word gives the seed of the slot the word is stored in,
+     * the seeds are chosen so no two words share a slot, a lookup is then a single comparison
+     */
+    private final int[] seeds;
+    private final String[] slots;
+    private final int maxLength;
+
     private ReservedWords() {
+
+        int bucketCount = Integer.highestOneBit(words.length / 4) * 2;
+        int slotCount = Integer.highestOneBit(words.length) * 2;
+
+        List<List<String>> buckets = new ArrayList<>(bucketCount);
+
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>(8));
+        }
+
+        int longest = 0;
+
+        for (String word : words) {
+            buckets.get(hash(word, 0) & (bucketCount - 1)).add(word);
+            longest = Math.max(longest, word.length());
+        }
+
+        var order = new ArrayList<Integer>(bucketCount);
+
+        for (int i = 0; i < bucketCount; i++) {
+            order.add(i);
+        }
+
+        //The largest buckets first, while most slots are free
+        order.sort((a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+
+        this.seeds = new int[bucketCount];
+        this.slots = new String[slotCount];
+        this.maxLength = longest;
+
+        var taken = new int[slotCount];
+
+        for (int bucket : order) {
+
+            var bucketWords = buckets.get(bucket);
+
+            if (bucketWords.isEmpty()) continue;
+
+            seeds[bucket] = displace(bucketWords, taken, slotCount);
+
+            for (String word : bucketWords) {
+                slots[hash(word, seeds[bucket]) & (slotCount - 1)] = word;
+            }
+        }
     }
 
-    public static boolean isReserved(String value) {
-        for (String word : INSTANCE.words) {
-            if (word.equalsIgnoreCase(value)) {
-                return true;
+    /**
+     * @return the first seed placing all the words of the bucket in distinct free slots
+     */
+    private static int displace(@NotNull List<String> words, int @NotNull [] taken, int slotCount) {
+
+        for (int seed = 1; seed < 1 << 20; seed++) {
+
+            int placed = 0;
+
+            for (String word : words) {
+
+                int slot = hash(word, seed) & (slotCount - 1);
+
+                //Marked with the seed, slots of a failed attempt are free again on the next one
+                if (taken[slot] != 0) break;
+
+                taken[slot] = -seed;
+                placed++;
             }
+
+            for (int i = 0; i < slotCount; i++) {
+                if (taken[i] == -seed) taken[i] = placed == words.size() ? 1 : 0;
+            }
+
+            if (placed == words.size()) return seed;
+        }
+
+        throw new IllegalStateException("No perfect hash for the words " + words);
+    }
+
+    /**
+     * Case-insensitive hash, the characters are folded to upper case as {@link String#equalsIgnoreCase(String)} does
+     */
+    private static int hash(@NotNull String value, int seed) {
+
+        int hash = seed * 0x9E3779B9 ^ 0x811C9DC5;
+
+        for (int i = 0; i < value.length(); i++) {
+
+            char c = value.charAt(i);
+
+            if (c >= 'a' && c <= 'z') {
+                c -= 32;
+            } else if (c >= 128) {
+                c = Character.toUpperCase(c);
+            }
+
+            hash = (hash ^ c) * 0x01000193;
         }
 
-        return false;
+        return hash ^ hash >>> 16;
+    }
+
+    public static boolean isReserved(String value) {
+
+        var instance = INSTANCE;
+
+        if (value == null || value.isEmpty() || value.length() > instance.maxLength) return false;
+
+        int seed = instance.seeds[hash(value, 0) & (instance.seeds.length - 1)];
+        var word = instance.slots[hash(value, seed) & (instance.slots.length - 1)];
+
+        return word != null && word.equalsIgnoreCase(value);
     }
 
     public static String escape(String value) {
@@ -614,18 +721,33 @@ public class ReservedWords {
         return value;
     }
 
+    /**
+     * Uses the escaped name and reserved flag precomputed by the columns
+     */
     public static <R extends DynamoRecord<R>, K extends Key> @Nullable
             EscapedProjection escapeProjection(@NotNull List<Column<R, K>> columns) {
 
-        return ReservedWords.escape(columns.stream()
-                .map(Column::name)
-                .toList());
+        if (columns.isEmpty()) return null;
+
+        List<String> result = new ArrayList<>(columns.size());
+        Map<String, String> attributeMap = new HashMap<>();
+
+        for (Column<R, K> column : columns) {
+            if (column.reserved()) {
+                result.add(column.escapedName());
+                attributeMap.put(column.escapedName(), column.name());
+            } else {
+                result.add(column.name());
+            }
+        }
+
+        return new EscapedProjection(result, attributeMap);
     }
 
     public static EscapedProjection escape(@NotNull List<String> columns) {
         if (columns.isEmpty()) return null;
 
-        List<String> result = new ArrayList<>();
+        List<String> result = new ArrayList<>(columns.size());
         Map<String, String> attributeMap = new HashMap<>();
 
         for (String column : columns) {
@@ -4,6 +4,7 @@ import org.dooq.Key;
 import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
 import org.dooq.api.Table;
+import org.dooq.document.Document;
 import org.dooq.parser.ObjectParser;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -54,6 +55,16 @@ public interface SingleResponse<R extends DynamoRecord<R>, K extends Key> extend
         return converter.read(getItem());
     }
 
+    /**
+     * @return the item as a schemaless document, null if there is no item
+     */
+    default @Nullable Document document() {
+
+        if (isEmpty()) return null;
+
+        return Document.of(getItem());
+    }
+
     default <T> T get(Column<?, ?> column, Function<AttributeValue, T> function) {
 
         if (isEmpty()) throw new IllegalStateException("No item");
@@ -0,0 +1,88 @@
+package org.dooq.core;
+
+import org.dooq.api.EnumFormat;
+import org.dooq.parser.converter.AttributeValues;
+import org.dooq.parser.converter.EnumCodec;
+import org.dooq.parser.converter.EpochCodec;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.temporal.Temporal;
+
+/**
+ * Encodes the condition, key and update values of a column. It is chosen once from the declared type and the format
+ * of the field, so the values match the ones written by the converters and the common scalar types skip the type tests
+ * of {@link AttributeWriter#parse(Object)}, values of another type still fall back to it.
+ *
+ * @author alex
+ */
+@FunctionalInterface
+public interface ValueEncoder {
+
+    ValueEncoder GENERIC = AttributeWriter::parse;
+
+    @NotNull AttributeValue encode(@Nullable Object value);
+
+    static @NotNull ValueEncoder of(@Nullable Class<?> type) {
+
+        if (type == null) return GENERIC;
+
+        if (type == String.class) {
+            return value -> value instanceof String string ? AttributeValues.string(string) : AttributeWriter.parse(value);
+        }
+
+        if (type == Long.class || type == long.class) {
+            return value -> value instanceof Long number ? AttributeValues.number(number) : AttributeWriter.parse(value);
+        }
+
+        if (type == Integer.class || type == int.class) {
+            return value -> value instanceof Integer number ? AttributeValues.number(number) : AttributeWriter.parse(value);
+        }
+
+        if (type == Boolean.class || type == boolean.class) {
+            return value -> value instanceof Boolean bool ? AttributeValues.bool(bool) : AttributeWriter.parse(value);
+        }
+
+        if (type == BigDecimal.class) {
+            return value -> value instanceof BigDecimal number ? AttributeValue.fromN(number.toString()) : AttributeWriter.parse(value);
+        }
+
+        if (type.isEnum()) {
+
+            var format = type.getAnnotation(EnumFormat.class);
+
+            if (format != null) return of(enumCodec(type, format.value()));
+
+            return value -> value instanceof Enum<?> constant ? AttributeValues.string(constant.name()) : AttributeWriter.parse(value);
+        }
+
+        return GENERIC;
+    }
+
+    /**
+     * Encodes the constants as the converters do, e.g. {@link EnumFormat.Encoding#ORDINAL} numbers
+     */
+    static <E extends Enum<E>> @NotNull ValueEncoder of(@NotNull EnumCodec<E> codec) {
+
+        var type = codec.type();
+
+        return value -> type.isInstance(value) ? codec.encode(type.cast(value)) : AttributeWriter.parse(value);
+    }
+
+    /**
+     * Encodes the temporals of the codec type as epoch numbers, so they compare with the stored {@code N} values
+     */
+    static @NotNull ValueEncoder of(@NotNull EpochCodec codec) {
+
+        var type = codec.type();
+
+        return value -> type.isInstance(value) ? codec.encode((Temporal) value) : AttributeWriter.parse(value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @NotNull EnumCodec<?> enumCodec(@NotNull Class<?> type, @NotNull EnumFormat.Encoding encoding) {
+        return EnumCodec.of((Class) type, encoding);
+    }
+}
@@ -0,0 +1,327 @@
+package org.dooq.document;
+
+import org.dooq.core.AttributeWriter;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Schemaless view of an item, the accessors read the wrapped attributes on demand without copying them
+ * and return null (or the given default) when the attribute is absent, null or of another type.
+ * <p>
+ * Meant for pass-through reads, where decoding the item into a record is not needed.
+ *
+ * @author alex
+ */
+public final class Document {
+
+    private static final Document EMPTY = new Document(Map.of());
+
+    private final Map<String, AttributeValue> item;
+
+    private Document(Map<String, AttributeValue> item) {
+        this.item = item;
+    }
+
+    /**
+     * Wraps the item, changes to the item are visible through the document
+     */
+    @Contract("_ -> new")
+    public static @NotNull Document of(@NotNull Map<String, AttributeValue> item) {
+        return new Document(Objects.requireNonNull(item, "item"));
+    }
+
+    public static @NotNull Document empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the wrapped item
+     */
+    public @NotNull Map<String, AttributeValue> item() {
+        return item;
+    }
+
+    public @Unmodifiable @NotNull Set<String> names() {
+        return Collections.unmodifiableSet(item.keySet());
+    }
+
+    public int size() {
+        return item.size();
+    }
+
+    public boolean isEmpty() {
+        return item.isEmpty();
+    }
+
+    public boolean has(@NotNull String name) {
+        return item.containsKey(name);
+    }
+
+    /**
+     * @return true if the attribute is absent or holds the null value
+     */
+    public boolean isNull(@NotNull String name) {
+
+        var value = item.get(name);
+
+        return value == null || Boolean.TRUE.equals(value.nul());
+    }
+
+    public @Nullable AttributeValue get(@NotNull String name) {
+        return item.get(name);
+    }
+
+    public @Nullable String getString(@NotNull String name) {
+
+        var value = item.get(name);
+
+        return value == null ? null : value.s();
+    }
+
+    public @NotNull String getString(@NotNull String name, @NotNull String defaultValue) {
+        return Objects.requireNonNullElse(getString(name), defaultValue);
+    }
+
+    /**
+     * @return the number as written, without parsing it
+     */
+    public @Nullable String getNumber(@NotNull String name) {
+
+        var value = item.get(name);
+
+        return value == null ? null : value.n();
+    }
+
+    /**
+     * @return the number, null when it is not integral or out of range
+     */
+    public @Nullable Long getLong(@NotNull String name) {
+
+        var number = getNumber(name);
+
+        if (number == null) return null;
+
+        try {
+            return Long.valueOf(number);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public long getLong(@NotNull String name, long defaultValue) {
+
+        var number = getLong(name);
+
+        return number == null ? defaultValue : number;
+    }
+
+    /**
+     * @return the number, null when it is not integral or out of range
+     */
+    public @Nullable Integer getInt(@NotNull String name) {
+
+        var number = getNumber(name);
+
+        if (number == null) return null;
+
+        try {
+            return Integer.valueOf(number);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public int getInt(@NotNull String name, int defaultValue) {
+
+        var number = getInt(name);
+
+        return number == null ? defaultValue : number;
+    }
+
+    public @Nullable Double getDouble(@NotNull String name) {
+
+        var number = getNumber(name);
+
+        return number == null ? null : Double.valueOf(number);
+    }
+
+    public double getDouble(@NotNull String name, double defaultValue) {
+
+        var number = getNumber(name);
+
+        return number == null ? defaultValue : Double.parseDouble(number);
+    }
+
+    public @Nullable BigDecimal getBigDecimal(@NotNull String name) {
+
+        var number = getNumber(name);
+
+        return number == null ? null : new BigDecimal(number);
+    }
+
+    public @Nullable Boolean getBoolean(@NotNull String name) {
+
+        var value = item.get(name);
+
+        return value == null ? null : value.bool();
+    }
+
+    public boolean getBoolean(@NotNull String name, boolean defaultValue) {
+        return Objects.requireNonNullElse(getBoolean(name), defaultValue);
+    }
+
+    public @Nullable SdkBytes getBytes(@NotNull String name) {
+
+        var value = item.get(name);
+
+        return value == null ? null : value.b();
+    }
+
+    public @Nullable List<String> getStringSet(@NotNull String name) {
+
+        var value = item.get(name);
+
+        return value == null || !value.hasSs() ? null : value.ss();
+    }
+
+    public @Nullable List<String> getNumberSet(@NotNull String name) {
+
+        var value = item.get(name);
+
+        return value == null || !value.hasNs() ? null : value.ns();
+    }
+
+    /**
+     * @return the nested map as a document
+     */
+    public @Nullable Document getDocument(@NotNull String name) {
+
+        var value = item.get(name);
+
+        return value == null || !value.hasM() ? null : new Document(value.m());
+    }
+
+    /**
+     * @return the list elements, unwrapped on access by {@link AttributeWriter#unwrap(AttributeValue)}
+     */
+    public @Nullable List<Object> getList(@NotNull String name) {
+
+        var value = item.get(name);
+
+        if (value == null || !value.hasL()) return null;
+
+        var list = value.l();
+
+        return new AbstractList<>() {
+            @Override
+            public Object get(int index) {
+                return AttributeWriter.unwrap(list.get(index));
+            }
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+        };
+    }
+
+    /**
+     * @return the list elements holding maps, as documents created on access
+     */
+    public @Nullable List<Document> getDocuments(@NotNull String name) {
+
+        var value = item.get(name);
+
+        if (value == null || !value.hasL()) return null;
+
+        var list = value.l();
+
+        return new AbstractList<>() {
+            @Override
+            public Document get(int index) {
+
+                var element = list.get(index);
+
+                return element.hasM() ? new Document(element.m()) : null;
+            }
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+        };
+    }
+
+    /**
+     * @return a document holding only the given attributes, the values are shared
+     */
+    public @NotNull Document project(@NotNull String... names) {
+        return project(Arrays.asList(names));
+    }
+
+    public @NotNull Document project(@NotNull Collection<String> names) {
+
+        var projected = new HashMap<String, AttributeValue>((int) (names.size() / 0.75f) + 1);
+
+        for (String name : names) {
+
+            var value = item.get(name);
+
+            if (value != null) projected.put(name, value);
+        }
+
+        return new Document(projected);
+    }
+
+    /**
+     * @return a document holding the attributes of both, the ones of the given document win, the values are shared
+     */
+    public @NotNull Document merge(@NotNull Document other) {
+
+        if (other.isEmpty()) return this;
+        if (isEmpty()) return other;
+
+        var merged = new HashMap<String, AttributeValue>((int) ((item.size() + other.size()) / 0.75f) + 1);
+
+        merged.putAll(item);
+        merged.putAll(other.item);
+
+        return new Document(merged);
+    }
+
+    /**
+     * Decodes the document with the compiled converter of the type
+     */
+    public <T> @NotNull T into(@NotNull Class<T> type) {
+        return ParserCompiler.getConverter(type)
+                .read(item);
+    }
+
+    public <T> @NotNull T into(@NotNull ObjectParser<T> parser) {
+        return parser.read(item);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Document document && item.equals(document.item);
+    }
+
+    @Override
+    public int hashCode() {
+        return item.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Document" + item;
+    }
+}
@@ -3,7 +3,6 @@ package org.dooq.engine;
 import org.dooq.Key;
 import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
-import org.dooq.core.AttributeWriter;
 import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
@@ -26,7 +25,7 @@ public abstract class AbstractExpressionRenderer<R extends DynamoRecord<R>, K ex
         var map = new HashMap<String, AttributeValue>();
 
         for (Map.Entry<Column<R, K>, Object> entry : getValue().entrySet()) {
-            map.put(entry.getKey().param(), AttributeWriter.parse(entry.getValue()));
+            map.put(entry.getKey().param(), entry.getKey().encode(entry.getValue()));
         }
 
         return map;
@@ -0,0 +1,170 @@
+package org.dooq.engine;
+
+import org.dooq.api.Column;
+import org.dooq.api.Table;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * What an operation would send without executing it: the API called, the index, the key conditions and
+ * filters, and estimates of the round trips and consumed capacity.
+ * <p>
+ * Estimates use {@link Table#getAverageItemSize()}. Queries and scans without a limit are estimated as reading
+ * a full page of 1 MB, filters do not reduce the capacity as items are read before being filtered.
+ *
+ * @param keyColumns     the attributes of the key condition, or of the key for single item operations
+ * @param filterColumns  the attributes of the filter, or of the condition for updates
+ * @param projection     the attributes to get, empty for all
+ * @param estimatedItems the items read, or written
+ * @author alex
+ */
+public record ExplainPlan(@NotNull Api api, @NotNull String table, @Nullable String index,
+                          @Nullable String keyCondition, @Nullable String filter,
+                          @Unmodifiable @NotNull List<String> keyColumns,
+                          @Unmodifiable @NotNull List<String> filterColumns,
+                          @Unmodifiable @NotNull List<String> projection, boolean consistentRead,
+                          int roundTrips, int estimatedItems, double readCapacity, double writeCapacity) {
+
+    private static final int PAGE_SIZE = 1024 * 1024;
+    private static final int READ_UNIT_SIZE = 4096;
+    private static final int WRITE_UNIT_SIZE = 1024;
+    private static final int BATCH_GET_SIZE = 100;
+
+    public enum Api {
+        GET_ITEM,
+        QUERY,
+        SCAN,
+        BATCH_GET_ITEM,
+        UPDATE_ITEM
+    }
+
+    public boolean isScan() {
+        return api == Api.SCAN;
+    }
+
+    public boolean hasFilter() {
+        return filter != null;
+    }
+
+    /**
+     * @param projection the attributes to get, empty for all
+     */
+    public static @NotNull ExplainPlan getItem(@NotNull Table<?, ?> table, @NotNull GetItemRequest request,
+                                               @NotNull List<String> projection) {
+
+        boolean consistent = Boolean.TRUE.equals(request.consistentRead());
+
+        return new ExplainPlan(Api.GET_ITEM, request.tableName(), null, null, null,
+                keys(table), List.of(), List.copyOf(projection), consistent,
+                1, 1, readUnits(table.getAverageItemSize(), consistent), 0);
+    }
+
+    /**
+     * @param keyColumns    the attributes rendered into the key condition
+     * @param filterColumns the attributes rendered into the filter
+     * @param projection    the attributes to get, empty for all
+     */
+    public static @NotNull ExplainPlan query(@NotNull Table<?, ?> table, @NotNull QueryRequest request,
+                                             @NotNull List<String> keyColumns, @NotNull List<String> filterColumns,
+                                             @NotNull List<String> projection) {
+
+        boolean consistent = Boolean.TRUE.equals(request.consistentRead());
+        int items = pageItems(table, request.limit());
+
+        return new ExplainPlan(Api.QUERY, request.tableName(), request.indexName(),
+                request.keyConditionExpression(), request.filterExpression(),
+                List.copyOf(keyColumns), List.copyOf(filterColumns), List.copyOf(projection), consistent,
+                1, items, readUnits((long) items * table.getAverageItemSize(), consistent), 0);
+    }
+
+    /**
+     * @param filterColumns the attributes of the filter
+     */
+    public static @NotNull ExplainPlan scan(@NotNull Table<?, ?> table, @NotNull ScanRequest request,
+                                            @NotNull List<String> filterColumns) {
+
+        boolean consistent = Boolean.TRUE.equals(request.consistentRead());
+        int items = pageItems(table, request.limit());
+
+        return new ExplainPlan(Api.SCAN, request.tableName(), request.indexName(), null, request.filterExpression(),
+                List.of(), List.copyOf(filterColumns), List.of(), consistent,
+                1, items, readUnits((long) items * table.getAverageItemSize(), consistent), 0);
+    }
+
+    /**
+     * Each item is rounded up to a read unit on its own, requests hold up to 100 keys
+     */
+    public static @NotNull ExplainPlan batchGet(@NotNull Table<?, ?> table, int keys, @NotNull List<String> projection,
+                                                boolean consistent) {
+        return new ExplainPlan(Api.BATCH_GET_ITEM, table.getTableName(), null, null, null,
+                keys(table), List.of(), List.copyOf(projection), consistent,
+                (keys + BATCH_GET_SIZE - 1) / BATCH_GET_SIZE, keys,
+                keys * readUnits(table.getAverageItemSize(), consistent), 0);
+    }
+
+    /**
+     * @param conditionColumns the attributes of the condition, empty when given as a plain expression
+     */
+    public static @NotNull ExplainPlan update(@NotNull Table<?, ?> table, @NotNull UpdateItemRequest request,
+                                              @NotNull List<String> conditionColumns) {
+        return new ExplainPlan(Api.UPDATE_ITEM, request.tableName(), null, null, request.conditionExpression(),
+                keys(table), List.copyOf(conditionColumns),
+                List.of(), false, 1, 1, 0, Math.ceil((double) table.getAverageItemSize() / WRITE_UNIT_SIZE));
+    }
+
+    private static int pageItems(@NotNull Table<?, ?> table, @Nullable Integer limit) {
+
+        int page = Math.max(1, PAGE_SIZE / Math.max(1, table.getAverageItemSize()));
+
+        return limit == null ? page : Math.min(limit, page);
+    }
+
+    /**
+     * Eventually consistent reads cost half a unit
+     */
+    private static double readUnits(long bytes, boolean consistent) {
+
+        double units = Math.ceil((double) bytes / READ_UNIT_SIZE);
+
+        return consistent ? units : units / 2;
+    }
+
+    /**
+     * The key is bound per execution on prepared operations, the table key is listed instead
+     */
+    private static @NotNull List<String> keys(@NotNull Table<?, ?> table) {
+
+        var sort = table.getSortColumn();
+
+        var partition = table.getPartitionColumn().name();
+
+        return sort == null ? List.of(partition) : List.of(partition, sort.name());
+    }
+
+    /**
+     * @return the distinct names of the columns, in order
+     */
+    public static @NotNull List<String> names(@NotNull Collection<? extends Column<?, ?>> columns) {
+        return columns.stream()
+                .map(Column::name)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return "ExplainPlan[" + api + " on '" + table + "'" + (index == null ? "" : " index '" + index + "'")
+                + ", keys=" + keyColumns + ", filters=" + filterColumns
+                + ", projection=" + (projection.isEmpty() ? "all" : projection)
+                + ", roundTrips=" + roundTrips + ", items~" + estimatedItems
+                + ", RCU~" + readCapacity + ", WCU~" + writeCapacity + "]";
+    }
+}
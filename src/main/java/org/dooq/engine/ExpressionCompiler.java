@@ -5,17 +5,18 @@ import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
 import org.dooq.api.Table;
 import org.dooq.expressions.CompoundExpression;
+import org.dooq.expressions.Operator;
 import org.dooq.util.AbstractKey;
 import org.dooq.util.ExpressionResult;
 import org.dooq.util.ScanExpressionResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class ExpressionCompiler {
 
@@ -23,7 +24,11 @@ public class ExpressionCompiler {
     compileForScan(@NotNull Table<R, K> table, @NotNull List<ExpressionRenderer<R, K>> list, Column<R, K> index) {
         var compiled = compile(table, list, index);
 
-        List<String> expressions = List.of(compiled.getFilterExpression(), compiled.keyCondition());
+        //Either may be absent, a scan on the partition only has no filter
+        var expressions = new ArrayList<String>(2);
+
+        if (compiled.getFilterExpression() != null) expressions.add(compiled.getFilterExpression());
+        if (compiled.keyCondition() != null) expressions.add(compiled.keyCondition());
 
         return new ScanExpressionResult<>(String.join(" AND ", expressions),
                 compiled.getExpressionAttributeValues(), compiled.attributeNames(), compiled.columns());
@@ -45,28 +50,30 @@ public class ExpressionCompiler {
     public static <R extends DynamoRecord<R>, K extends Key> @NotNull ExpressionResult<R, K>
     compile(Table<R, K> table, @NotNull List<ExpressionRenderer<R, K>> expressionList, @Nullable Column<R, K> index) {
 
-        final var columns = expressionList
-                .stream()
-                .flatMap(a -> a.columns().stream())
-                .collect(Collectors.toList());
+        final var columns = new ArrayList<Column<R, K>>();
 
         RendererContext<R, K> context = new RendererContext<>(table, index);
 
-        final Map<String, String> attributeNames = new HashMap<>();
-
         for (ExpressionRenderer<R, K> expression : expressionList) {
-            attributeNames.putAll(expression.getAttributeNames());
-            expression.render(context);
-        }
 
-        var resultMap = map(expressionList);
+            columns.addAll(expression.columns());
+
+            //Several where clauses are joined with AND, their compound filters grouped
+            if (expressionList.size() == 1) {
+                expression.render(context);
+            } else {
+                context.append(expression, Operator.AND);
+            }
+        }
 
         return new ExpressionResult<>(table)
                 .setExpressions(expressionList)
                 .setKeyCondition(context.getKeyExpression())
                 .setFilterExpression(context.getFilterExpression())
-                .setAttributeNames(attributeNames)
-                .setExpressionAttributeValues(resultMap)
+                .setKeyColumns(context.getKeyColumns())
+                .setFilterColumns(context.getFilterColumns())
+                .setAttributeNames(context.getAttributeNames())
+                .setExpressionAttributeValues(context.getAttributeValues())
                 .setIndex(index)
                 .setColumns(columns);
 
@@ -0,0 +1,31 @@
+package org.dooq.engine;
+
+import org.dooq.core.schema.Index;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * Where a query runs and which predicates become key conditions
+ *
+ * @param index      the index queried, null for the table
+ * @param selected   true if the index was selected by the {@link QueryPlanner}, false if given or not needed
+ * @param keyColumns the columns of the key condition
+ * @param reason     why the index, or the table, was chosen
+ * @author alex
+ */
+public record QueryPlan(@Nullable Index index, boolean selected, @Unmodifiable @NotNull List<String> keyColumns,
+                        @NotNull String reason) {
+
+    public @Nullable String indexName() {
+        return index == null ? null : index.name();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryPlan[" + (index == null ? "table" : index.type() + " index '" + index.name() + "'")
+                + ", keys=" + keyColumns + ", " + reason + "]";
+    }
+}
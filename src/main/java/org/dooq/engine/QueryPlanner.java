@@ -0,0 +1,204 @@
+package org.dooq.engine;
+
+import org.dooq.Key;
+import org.dooq.api.Column;
+import org.dooq.api.DynamoRecord;
+import org.dooq.api.IndexMode;
+import org.dooq.api.IndexType;
+import org.dooq.api.Table;
+import org.dooq.core.schema.Index;
+import org.dooq.expressions.BeginsWithExpression;
+import org.dooq.expressions.BetweenExpression;
+import org.dooq.expressions.Comparator;
+import org.dooq.expressions.CompoundExpression;
+import org.dooq.expressions.ConditionExpression;
+import org.dooq.expressions.InExpression;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Selects the index of a query: the one turning the most predicates of the where clause into key conditions.
+ * <p>
+ * Only predicates joined with AND are considered, an index needs an equality on its partition key and
+ * may take one more predicate on its sort key. The table wins ties, then indices projecting every
+ * attribute used, then local indices. Global indices are skipped for consistent reads, and when they do not
+ * project the attributes used, as they cannot fetch them from the table.
+ *
+ * @author alex
+ */
+public final class QueryPlanner {
+
+    private QueryPlanner() {
+    }
+
+    /**
+     * @param index          the index given by the caller, kept as is
+     * @param consistentRead true if consistent reads are requested
+     * @param projection     the attributes to get, empty for all
+     */
+    public static <R extends DynamoRecord<R>, K extends Key> @NotNull QueryPlan
+    plan(@NotNull Table<R, K> table, @NotNull List<ExpressionRenderer<R, K>> expressions,
+         @Nullable Column<R, K> index, boolean consistentRead, @NotNull List<Column<R, K>> projection) {
+        return plan(table, expressions, index, consistentRead, projection, null);
+    }
+
+    /**
+     * @param tableReason why the table is queried without selecting an index, null to select one
+     */
+    public static <R extends DynamoRecord<R>, K extends Key> @NotNull QueryPlan
+    plan(@NotNull Table<R, K> table, @NotNull List<ExpressionRenderer<R, K>> expressions,
+         @Nullable Column<R, K> index, boolean consistentRead, @NotNull List<Column<R, K>> projection,
+         @Nullable String tableReason) {
+
+        //Column name, true if compared for equality
+        var predicates = new HashMap<String, Boolean>();
+        var referenced = new HashSet<String>();
+
+        for (ExpressionRenderer<R, K> expression : expressions) {
+            collect(expression, predicates, referenced);
+        }
+
+        if (index != null) {
+
+            var given = table.getIndex(index.name());
+
+            var keys = given == null
+                    ? keyColumns(predicates, table.getPartitionColumn().name(), index.name())
+                    : keyColumns(predicates, given.partitionKey(), given.sortKey());
+
+            return new QueryPlan(given, false, keys, "index given");
+        }
+
+        var sort = table.getSortColumn();
+        var tableKeys = keyColumns(predicates, table.getPartitionColumn().name(), sort == null ? null : sort.name());
+
+        if (tableReason != null) return new QueryPlan(null, false, tableKeys, tableReason);
+
+        Index best = null;
+        List<String> bestKeys = tableKeys;
+        boolean bestCovers = false;
+
+        var indices = new ArrayList<>(table.getIndices().values());
+        indices.sort((a, b) -> a.name().compareTo(b.name()));
+
+        for (Index candidate : indices) {
+
+            var covers = covers(table, candidate, referenced, projection);
+
+            if (candidate.type() == IndexType.GLOBAL && (consistentRead || !covers)) continue;
+
+            var keys = keyColumns(predicates, candidate.partitionKey(), candidate.sortKey());
+
+            if (keys.size() <= tableKeys.size() || keys.size() < bestKeys.size()) continue;
+
+            if (best != null && keys.size() == bestKeys.size() && !isPreferred(candidate, covers, best, bestCovers)) {
+                continue;
+            }
+
+            best = candidate;
+            bestKeys = keys;
+            bestCovers = covers;
+        }
+
+        if (best == null) {
+            return new QueryPlan(null, false, tableKeys, tableKeys.isEmpty()
+                    ? "no index with an equality on its partition key" : "table key");
+        }
+
+        return new QueryPlan(best, true, bestKeys, "%d key conditions instead of %d%s".formatted(bestKeys.size(),
+                tableKeys.size(), best.type() == IndexType.LOCAL && !bestCovers ? ", fetches from the table" : ""));
+    }
+
+    private static boolean isPreferred(@NotNull Index candidate, boolean covers, @NotNull Index best, boolean bestCovers) {
+
+        if (covers != bestCovers) return covers;
+
+        return candidate.type() == IndexType.LOCAL && best.type() == IndexType.GLOBAL;
+    }
+
+    private static <R extends DynamoRecord<R>, K extends Key> void
+    collect(@NotNull ExpressionRenderer<R, K> expression, @NotNull Map<String, Boolean> predicates,
+            @NotNull Set<String> referenced) {
+
+        if (expression instanceof CompoundExpression<R, K> compound) {
+
+            if (compound.isConjunction()) {
+                for (ExpressionRenderer<R, K> inner : compound.getExpressions()) {
+                    collect(inner, predicates, referenced);
+                }
+            } else {
+                for (Column<R, K> column : compound.columns()) {
+                    referenced.add(column.name());
+                }
+            }
+
+            return;
+        }
+
+        var columns = expression.columns();
+
+        for (Column<R, K> column : columns) {
+            referenced.add(column.name());
+        }
+
+        if (columns.size() != 1) return;
+
+        Boolean equality = null;
+
+        if (expression instanceof ConditionExpression<R, K> condition) {
+            if (condition.getComparator() != Comparator.NEITHER) {
+                equality = condition.getComparator() == Comparator.EQUALS;
+            }
+        } else if (expression instanceof InExpression<?, R, K> in) {
+            if (in.getValues().size() == 1) equality = true;
+        } else if (expression instanceof BetweenExpression<R, K> || expression instanceof BeginsWithExpression<R, K>) {
+            equality = false;
+        }
+
+        if (equality != null) predicates.merge(columns.get(0).name(), equality, Boolean::logicalOr);
+    }
+
+    private static @NotNull List<String> keyColumns(@NotNull Map<String, Boolean> predicates,
+                                                    @NotNull String partition, @Nullable String sort) {
+
+        if (!Boolean.TRUE.equals(predicates.get(partition))) return List.of();
+
+        if (sort != null && predicates.containsKey(sort)) return List.of(partition, sort);
+
+        return List.of(partition);
+    }
+
+    /**
+     * @return true if the index projects every attribute used by the query
+     */
+    private static boolean covers(@NotNull Table<?, ?> table, @NotNull Index index, @NotNull Set<String> referenced,
+                                  @NotNull List<? extends Column<?, ?>> projection) {
+
+        if (index.mode() == IndexMode.ALL) return true;
+
+        if (projection.isEmpty()) return false;
+
+        for (String name : referenced) {
+            if (!isProjected(table, index, name)) return false;
+        }
+
+        for (Column<?, ?> column : projection) {
+            if (!isProjected(table, index, column.name())) return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isProjected(@NotNull Table<?, ?> table, @NotNull Index index, @NotNull String name) {
+
+        if (index.isKey(name) || table.getPartitionColumn().name().equals(name)) return true;
+
+        var sort = table.getSortColumn();
+
+        if (sort != null && sort.name().equals(name)) return true;
+
+        return index.mode() == IndexMode.INCLUDE && index.projections() != null && index.projections().contains(name);
+    }
+}
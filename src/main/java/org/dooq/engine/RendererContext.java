@@ -3,25 +3,61 @@ package org.dooq.engine;
 import org.dooq.Key;
 import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
+import org.dooq.api.IndexType;
 import org.dooq.api.Table;
 import org.dooq.expressions.CompoundExpression;
 import org.dooq.expressions.Operator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders the key condition and the filter expression in a single pass, together with the attribute names
+ * and values the expressions register while rendering.
+ * <p>
+ * Operators are written lazily, before the next term of the same expression, so a key term between two
+ * filter terms does not take their operator with it and no leading or trailing operator is ever written.
+ * <p>
+ * A key condition only holds conjunctions, so every term under an OR is kept in the filter and compound
+ * expressions rendered into the filter are grouped, DynamoDB binding AND tighter than OR.
+ */
 public class RendererContext<R extends DynamoRecord<R>, K extends Key> {
 
     private final Table<R, K> table;
     private final @Nullable Column<R, K> index;
-    private final List<String> keyExpression = new ArrayList<>();
-    private final List<String> filterExpression = new ArrayList<>();
+    /**
+     * True on a global index, which does not share the table key
+     */
+    private final boolean global;
+    private final StringBuilder keyExpression = new StringBuilder(64);
+    private final StringBuilder filterExpression = new StringBuilder(128);
+    private final Set<String> keyColumns = new LinkedHashSet<>(4);
+    private final Set<String> filterColumns = new LinkedHashSet<>(8);
+    private final Map<String, String> attributeNames = new HashMap<>();
+    private final Map<String, AttributeValue> attributeValues = new HashMap<>();
+    /**
+     * Slots taken by column param
+     */
+    private final Map<String, Integer> slots = new HashMap<>(4);
+    private @Nullable Operator operator;
+    /**
+     * Depth of the disjunctions being rendered
+     */
+    private int disjunctions;
 
     public RendererContext(Table<R, K> table, @Nullable Column<R, K> index) {
         this.table = table;
         this.index = index;
+
+        var specification = index == null ? null : table.getIndex(index.name());
+
+        this.global = specification != null && specification.type() == IndexType.GLOBAL;
     }
 
     public Table<R, K> getTable() {
@@ -32,76 +68,163 @@ public class RendererContext<R extends DynamoRecord<R>, K extends Key> {
         return index;
     }
 
+    /**
+     * Appends a pre-rendered term, the names and values of the expression are taken
+     * from {@link ExpressionRenderer#getAttributeNames()} and {@link ExpressionRenderer#getAttributeValues()}
+     */
     public void append(String rendered, ExpressionRenderer<R, K> expression) {
-        if (isKey(expression)) {
-            keyExpression.add(rendered);
-        } else {
-            filterExpression.add(rendered);
-        }
+
+        open(expression).append(rendered);
+
+        attributeNames.putAll(expression.getAttributeNames());
+        attributeValues.putAll(expression.getAttributeValues());
     }
 
     public void append(@NotNull ExpressionRenderer<R, K> expression, @Nullable Operator operator) {
 
         if (expression instanceof CompoundExpression<R, K> compound) {
 
-            var noKeys = !expression.containsKey(index);
+            var grouped = disjunctions > 0 || !compound.isConjunction() || !expression.containsKey(index);
 
-            if (noKeys) filterExpression.add("(");
+            if (grouped) separate(filterExpression).append('(');
 
             compound.render(this);
 
-            if (noKeys) filterExpression.add(")");
+            if (grouped) filterExpression.append(')');
+        } else {
+            expression.render(this);
+        }
+
+        this.operator = operator;
+    }
 
-            return;
+    /**
+     * Renders the terms of a compound expression, the terms of a disjunction all go to the filter
+     */
+    public void render(@NotNull CompoundExpression<R, K> compound, @NotNull Runnable terms) {
+
+        var disjunction = !compound.isConjunction();
+
+        if (disjunction) disjunctions++;
+
+        try {
+            terms.run();
+        } finally {
+            if (disjunction) disjunctions--;
         }
-        expression.render(this);
-
-        if (operator != null) {
-            if (isKey(expression)) {
-                keyExpression.add(operator.getValue());
-            } else {
-                filterExpression.add(operator.getValue());
-            }
+    }
+
+    /**
+     * Starts a term of the expression, preceded by the pending operator when needed
+     *
+     * @return the builder the term is written to
+     */
+    public @NotNull StringBuilder open(@NotNull ExpressionRenderer<R, K> expression) {
+
+        var key = isKey(expression);
+        var columns = key ? keyColumns : filterColumns;
+
+        for (Column<R, K> column : expression.columns()) {
+            columns.add(column.name());
         }
 
+        return separate(key ? keyExpression : filterExpression);
+    }
+
+    /**
+     * Registers the attribute name of the column
+     *
+     * @return the escaped name to render
+     */
+    public @NotNull String name(@NotNull Column<R, K> column) {
+
+        var escaped = column.escapedName();
 
+        attributeNames.put(escaped, column.name());
+
+        return escaped;
     }
 
-    public String getKeyExpression() {
-        return cleanUp(keyExpression);
+    /**
+     * Registers the value encoded by the column, each occurrence of the column gets its own slot
+     * in rendering order, e.g. {@code :price} then {@code :price_1}, so the layout of a prepared operation
+     * does not depend on the values it was prepared with
+     *
+     * @return the value slot to render
+     */
+    public @NotNull String value(@NotNull Column<R, K> column, @Nullable Object value) {
+
+        var param = column.param();
+        int slot = slots.merge(param, 1, Integer::sum) - 1;
+        var numbered = slot == 0 ? param : param + "_" + slot;
+
+        attributeValues.put(numbered, column.encode(value));
+
+        return numbered;
     }
 
-    public String getFilterExpression() {
-        return cleanUp(filterExpression);
+    /**
+     * Registers a value not encoded by a column, e.g. the type of {@code attribute_type}
+     *
+     * @return the value slot to render
+     */
+    public @NotNull String value(@NotNull String param, @NotNull AttributeValue value) {
+
+        attributeValues.put(param, value);
+
+        return param;
     }
 
-    @Nullable
-    private String cleanUp(@NotNull List<String> expressionList) {
-        if (expressionList.isEmpty()) return null;
+    private @NotNull StringBuilder separate(@NotNull StringBuilder builder) {
 
-        if (Operator.isOperator(expressionList.get(0))) {
-            expressionList.remove(0);
+        int length = builder.length();
 
-        }
+        if (length == 0 || builder.charAt(length - 1) == '(') return builder;
 
-        if (expressionList.isEmpty()) return null;
+        var value = operator == null || operator == Operator.NONE ? Operator.AND.getValue() : operator.getValue();
 
-        if (Operator.isOperator(expressionList.get(expressionList.size() - 1))) {
-            expressionList.remove(expressionList.size() - 1);
-        }
+        return builder.append(' ').append(value).append(' ');
+    }
+
+    public @Nullable String getKeyExpression() {
+        return keyExpression.isEmpty() ? null : keyExpression.toString();
+    }
+
+    public @Nullable String getFilterExpression() {
+        return filterExpression.isEmpty() ? null : filterExpression.toString();
+    }
+
+    /**
+     * @return the attributes rendered into the key condition, in order
+     */
+    public @NotNull List<String> getKeyColumns() {
+        return List.copyOf(keyColumns);
+    }
 
-        if (expressionList.isEmpty()) return null;
+    /**
+     * @return the attributes rendered into the filter, in order
+     */
+    public @NotNull List<String> getFilterColumns() {
+        return List.copyOf(filterColumns);
+    }
+
+    public @NotNull Map<String, String> getAttributeNames() {
+        return attributeNames;
+    }
 
-        return String.join(" ", expressionList)
-                .trim();
+    public @NotNull Map<String, AttributeValue> getAttributeValues() {
+        return attributeValues;
     }
 
     public boolean isKey(@NotNull ExpressionRenderer<R, K> expression) {
+
+        if (disjunctions > 0) return false;
+
         if (expression.columns().size() == 1) {
 
             Column<R, K> column = expression.columns().get(0);
 
-            return column.isKey(index) || column.columnType().isKey();
+            return column.isKey(index) || (!global && column.columnType().isKey());
         }
 
         throw new IllegalStateException("Must not compare a multi column expression: " + expression.getClass());
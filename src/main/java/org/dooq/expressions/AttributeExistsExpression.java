@@ -26,7 +26,8 @@ public class AttributeExistsExpression<R extends DynamoRecord<R>, K extends Key>
 
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
-        context.append("attribute_exists (" + getColumn().escapedName() + ")", this);
+        context.open(this)
+                .append("attribute_exists (").append(context.name(getColumn())).append(')');
     }
 
     @Override
@@ -26,7 +26,8 @@ public class AttributeNotExistsExpression<R extends DynamoRecord<R>, K extends K
 
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
-        context.append("attribute_not_exists (" + getColumn().escapedName() + ")", this);
+        context.open(this)
+                .append("attribute_not_exists (").append(context.name(getColumn())).append(')');
     }
 
     @Override
@@ -20,7 +20,9 @@ public class AttributeTypeExpression<R extends DynamoRecord<R>, K extends Key> e
 
     @Override
     public void render(RendererContext<R, K> context) {
-        context.append("attribute_type (" + getColumn().escapedName() + ", " + type.name() + ")", this);
+        context.open(this)
+                .append("attribute_type (").append(context.name(getColumn()))
+                .append(", ").append(context.value(getColumn(), type.name())).append(')');
     }
 
     @Override
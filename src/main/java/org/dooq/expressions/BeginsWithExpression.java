@@ -29,7 +29,9 @@ public class BeginsWithExpression<R extends DynamoRecord<R>, K extends Key> exte
 
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
-        context.append("begins_with(" + getColumn().escapedName() + ", " + getColumn().param() + ")", this);
+        context.open(this)
+                .append("begins_with(").append(context.name(getColumn()))
+                .append(", ").append(context.value(getColumn(), prefix)).append(')');
     }
 
     @Override
@@ -3,7 +3,6 @@ package org.dooq.expressions;
 import org.dooq.Key;
 import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
-import org.dooq.core.AttributeWriter;
 import org.dooq.engine.RendererContext;
 import org.dooq.engine.SingleExpressionRenderer;
 import org.jetbrains.annotations.Contract;
@@ -28,12 +27,10 @@ public class BetweenExpression<R extends DynamoRecord<R>, K extends Key> extends
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
 
-        String suffix = getColumn().name()
-                .substring(0, Math.min(getColumn().name().length(), 3));
-
-        String result = getColumn().escapedName() + " BETWEEN :a" + suffix + " AND :b" + suffix;
-
-        context.append(result, this);
+        context.open(this)
+                .append(context.name(getColumn()))
+                .append(" BETWEEN ").append(context.value(getColumn(), a))
+                .append(" AND ").append(context.value(getColumn(), b));
     }
 
     @Contract(pure = true)
@@ -44,9 +41,9 @@ public class BetweenExpression<R extends DynamoRecord<R>, K extends Key> extends
 
     @Override
     public @NotNull @Unmodifiable Map<String, AttributeValue> getAttributeValues() {
-        String prefix = getColumn().name().substring(0, Math.min(getColumn().name().length(), 3));
 
-        return Map.of(":a" + prefix, AttributeWriter.parse(a), ":b" + prefix, AttributeWriter.parse(b));
+        //Same slots as rendered by the context
+        return Map.of(getColumn().param(), getColumn().encode(a), getColumn().param() + "_1", getColumn().encode(b));
     }
 
     public static class PreBetweenExpression<R extends DynamoRecord<R>, K extends Key> {
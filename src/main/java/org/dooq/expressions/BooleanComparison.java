@@ -27,9 +27,9 @@ public class BooleanComparison<R extends DynamoRecord<R>, K extends Key> extends
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
 
-        String result = getColumn().name() + " = " + Boolean.toString(value).toUpperCase();
-
-        context.append(result, this);
+        context.open(this)
+                .append(context.name(getColumn()))
+                .append(" = ").append(context.value(getColumn(), value));
     }
 
     @Override
@@ -3,7 +3,7 @@ package org.dooq.expressions;
 public enum Comparator {
 
     GREATER(">"),
-    GREATER_OR_EQUAL("=>"),
+    GREATER_OR_EQUAL(">="),
     LESS("<"),
     LESS_OR_EQUAL("<="),
     NEITHER("<>"),
@@ -59,6 +59,18 @@ public final class CompoundExpression<R extends DynamoRecord<R>, K extends Key>
         return this;
     }
 
+    /**
+     * @return true if the expressions are only joined with AND
+     */
+    public boolean isConjunction() {
+
+        for (InternalExpression<R, K> expression : expressions) {
+            if (expression.getOperator() != Operator.AND && expression.getOperator() != Operator.NONE) return false;
+        }
+
+        return true;
+    }
+
     private void setLast(Operator operator) {
         if (expressions.isEmpty()) return;
 
@@ -75,9 +87,11 @@ public final class CompoundExpression<R extends DynamoRecord<R>, K extends Key>
 
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
-        for (InternalExpression<R, K> expression : expressions) {
-            expression.render(context);
-        }
+        context.render(this, () -> {
+            for (InternalExpression<R, K> expression : expressions) {
+                expression.render(context);
+            }
+        });
     }
 
     @Override
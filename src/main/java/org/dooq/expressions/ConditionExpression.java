@@ -24,9 +24,16 @@ public class ConditionExpression<R extends DynamoRecord<R>, K extends Key> exten
         this.value = value;
     }
 
+    public Comparator getComparator() {
+        return comparator;
+    }
+
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
-        context.append(getColumn().escapedName() + " " + comparator.getOperator() + " " + getColumn().param(), this);
+        context.open(this)
+                .append(context.name(getColumn()))
+                .append(' ').append(comparator.getOperator()).append(' ')
+                .append(context.value(getColumn(), value));
     }
 
     @Override
@@ -40,7 +40,9 @@ public class ContainsExpression<R extends DynamoRecord<R>, K extends Key> extend
 
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
-        context.append("contains(" + getColumn().escapedName() + ", " + getColumn().param() + ")", this);
+        context.open(this)
+                .append("contains(").append(context.name(getColumn()))
+                .append(", ").append(context.value(getColumn(), value)).append(')');
     }
 
     @Override
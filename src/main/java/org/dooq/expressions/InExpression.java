@@ -35,12 +35,25 @@ public class InExpression<T, R extends DynamoRecord<R>, K extends Key> extends S
     @Override
     public void render(@NotNull RendererContext<R, K> context) {
 
+        var builder = context.open(this)
+                .append(context.name(getColumn()));
+
         if (values.size() == 1) {
-            context.append(getColumn().escapedName() + " = " + getColumn().param(), this);
+            builder.append(" = ").append(context.value(getColumn(), values.get(0)));
             return;
         }
 
-        context.append(getColumn().escapedName() + " IN (" + getColumn().param() + ")", this);
+        //One slot per value, IN does not accept a list operand
+        builder.append(" IN (");
+
+        for (int i = 0; i < values.size(); i++) {
+
+            if (i > 0) builder.append(", ");
+
+            builder.append(context.value(getColumn(), values.get(i)));
+        }
+
+        builder.append(')');
     }
 
     @Override
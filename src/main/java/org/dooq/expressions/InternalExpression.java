@@ -26,6 +26,10 @@ class InternalExpression<R extends DynamoRecord<R>, K extends Key> {
         this.operator = operator;
     }
 
+    public Operator getOperator() {
+        return operator;
+    }
+
     public ExpressionRenderer<R, K> getExpression() {
         return expression;
     }
@@ -11,6 +11,8 @@ import java.util.Map;
 
 public class NullComparisonExpression<R extends DynamoRecord<R>, K extends Key> extends SingleExpressionRenderer<R, K> {
 
+    private static final AttributeValue NULL_TYPE = AttributeValue.fromS(AttributeType.NULL.name());
+
     private boolean negated;
 
     public NullComparisonExpression(Column<R, K> column) {
@@ -25,12 +27,18 @@ public class NullComparisonExpression<R extends DynamoRecord<R>, K extends Key>
     @Override
     public void render(RendererContext<R, K> context) {
 
+        var builder = context.open(this);
+
         if (negated) {
-            context.append("attribute_exists (" + getColumn().escapedName() + ")", this);
+            builder.append("attribute_exists (").append(context.name(getColumn())).append(')');
             return;
         }
 
-        context.append("attribute_type (" + getColumn().escapedName() + ", " + "NULL" + ")", this);
+        //Null properties are not written, items written before keep a NULL attribute
+        var name = context.name(getColumn());
+
+        builder.append("(attribute_not_exists (").append(name).append(") OR attribute_type (").append(name)
+                .append(", ").append(context.value(":null", NULL_TYPE)).append("))");
     }
 
     @Override
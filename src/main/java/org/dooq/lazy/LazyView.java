@@ -0,0 +1,36 @@
+package org.dooq.lazy;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Implemented by the lazily decoded records, each property is decoded from the raw item on first access
+ * and memoized, methods other than the property accessors decode every property first.
+ * <p>
+ * Lazy records are not thread safe.
+ *
+ * @author alex
+ */
+public interface LazyView {
+
+    /**
+     * @return the number of properties decoded or assigned so far
+     */
+    int decodedFields();
+
+    /**
+     * @return the number of lazily decoded properties
+     */
+    int fieldCount();
+
+    @ApiStatus.Internal
+    static int countDecoded(long[] decoded) {
+
+        int count = 0;
+
+        for (long word : decoded) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+}
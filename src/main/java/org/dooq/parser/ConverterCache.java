@@ -0,0 +1,295 @@
+package org.dooq.parser;
+
+import org.dooq.parser.converter.CompressionCodec;
+import org.dooq.parser.converter.EnumCodec;
+import org.dooq.parser.converter.EpochCodec;
+import org.dooq.parser.packed.PackedCodec;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent cache of the generated converters bytecode, enabled with {@code -Ddooq.converter.cache=<directory>}.
+ * <p>
+ * Entries are keyed by the shape of the target type, the parser class and the compiler itself, so any change
+ * of them produces a new entry. Only converters defined as hidden classes are cached, their constants
+ * (nested converters) are resolved again when the entry is loaded.
+ *
+ * @author alex
+ */
+public final class ConverterCache {
+
+    private static final int MAGIC = 0xD00CCA5E;
+    private static final int VERSION = 1;
+
+    static final @Nullable ConverterCache INSTANCE = create(System.getProperty("dooq.converter.cache"));
+
+    private final Path directory;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    /**
+     * Fingerprints of the parser classes by name
+     */
+    private static final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    ConverterCache(Path directory) {
+        this.directory = directory;
+    }
+
+    private static @Nullable ConverterCache create(@Nullable String directory) {
+
+        if (directory == null || directory.isBlank()) return null;
+
+        try {
+            return new ConverterCache(Files.createDirectories(Path.of(directory)));
+        } catch (IOException | InvalidPathException ex) {
+            Logger.getLogger(ConverterCache.class.getName())
+                    .log(Level.WARNING, "Converter cache disabled, invalid directory: " + directory, ex);
+
+            return null;
+        }
+    }
+
+    /**
+     * @param hits   converters defined from the cache
+     * @param misses converters generated and stored
+     * @param saved  generation time of the hits minus their load time
+     */
+    public record Stats(long hits, long misses, Duration saved) {
+    }
+
+    public static boolean isEnabled() {
+        return INSTANCE != null;
+    }
+
+    public static @NotNull Stats stats() {
+
+        if (INSTANCE == null) return new Stats(0, 0, Duration.ZERO);
+
+        return new Stats(INSTANCE.hits.sum(), INSTANCE.misses.sum(), Duration.ofNanos(INSTANCE.savedNanos.sum()));
+    }
+
+    /**
+     * @param bytecode        the class bytes
+     * @param recipes         the constants recipes, in order
+     * @param generationNanos the time the generation took
+     */
+    record Entry(byte[] bytecode, List<String> recipes, long generationNanos) {
+    }
+
+    void hit(long saved) {
+        hits.increment();
+        savedNanos.add(Math.max(0, saved));
+    }
+
+    /**
+     * Memory maps the entry
+     *
+     * @return null if absent or unreadable
+     */
+    @Nullable Entry load(@NotNull String key) {
+
+        var file = directory.resolve(key + ".bin");
+
+        if (!Files.isRegularFile(file)) return null;
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) return null;
+
+            long generationNanos = buffer.getLong();
+
+            int count = buffer.getShort();
+            var recipes = new ArrayList<String>(count);
+
+            for (int i = 0; i < count; i++) {
+                recipes.add(readString(buffer));
+            }
+
+            byte[] bytecode = new byte[buffer.getInt()];
+            buffer.get(bytecode);
+
+            return new Entry(bytecode, recipes, generationNanos);
+        } catch (IOException | RuntimeException ex) {
+            Logger.getLogger(ConverterCache.class.getName())
+                    .log(Level.FINE, "Unreadable converter cache entry: " + file, ex);
+
+            return null;
+        }
+    }
+
+    void store(@NotNull String key, byte[] bytecode, @NotNull List<String> recipes, long generationNanos) {
+
+        misses.increment();
+
+        var output = new ByteArrayOutputStream(bytecode.length + 64);
+
+        try (var data = new DataOutputStream(output)) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeLong(generationNanos);
+            data.writeShort(recipes.size());
+
+            for (String recipe : recipes) {
+                data.writeUTF(recipe);
+            }
+
+            data.writeInt(bytecode.length);
+            data.write(bytecode);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+
+        var file = directory.resolve(key + ".bin");
+
+        try {
+            //Concurrent writers, e.g. pods sharing the directory, never expose a partial entry
+            var temporary = Files.createTempFile(directory, key, ".tmp");
+
+            Files.write(temporary, output.toByteArray());
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UnsupportedOperationException ex) {
+            Logger.getLogger(ConverterCache.class.getName())
+                    .log(Level.WARNING, "Failed to store converter cache entry: " + file, ex);
+        }
+    }
+
+    void evict(@NotNull String key) {
+        try {
+            Files.deleteIfExists(directory.resolve(key + ".bin"));
+        } catch (IOException ex) {
+            Logger.getLogger(ConverterCache.class.getName())
+                    .log(Level.FINE, "Failed to evict converter cache entry: " + key, ex);
+        }
+    }
+
+    private static @NotNull String readString(@NotNull ByteBuffer buffer) {
+
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param nested the types being generated, their nested references are resolved at runtime
+     */
+    static @NotNull String key(@NotNull ParserCompiler.Generation generation, @NotNull Collection<Class<?>> nested) {
+
+        var shape = new StringBuilder(512)
+                .append(fingerprint(ParserCompiler.class)).append('\n')
+                .append(fingerprint(PackedCompiler.class)).append('\n')
+                .append(fingerprint(PackedCodec.class)).append('\n')
+                .append(fingerprint(EnumCodec.class)).append('\n')
+                .append(fingerprint(EpochCodec.class)).append('\n')
+                .append(fingerprint(CompressionCodec.class)).append('\n')
+                .append(fingerprint(generation.parserClass())).append('\n')
+                .append(generation.type().getName()).append('\n')
+                .append(generation.mode()).append('\n')
+                .append(generation.projection()).append('\n');
+
+        for (ParserCompiler.Property property : generation.properties()) {
+            shape.append(property.column()).append(' ')
+                    .append(property.genericType().getTypeName()).append(' ')
+                    .append(property.getter()).append(' ')
+                    .append(property.setter()).append(' ')
+                    .append(property.field() == null ? "" : Arrays.toString(property.field().getAnnotations()))
+                    .append(' ');
+
+            //Type annotations such as @EnumFormat or @Packed change the generated code
+            appendTypes(shape, property.genericType());
+
+            shape.append('\n');
+        }
+
+        nested.stream()
+                .map(Class::getName)
+                .sorted()
+                .forEach(name -> shape.append(name).append('\n'));
+
+        try {
+            var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(shape.toString().getBytes(StandardCharsets.UTF_8));
+
+            return generation.type().getSimpleName() + "-" + HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Appends the annotations and checksum of the application types referenced by the generic type
+     */
+    private static void appendTypes(@NotNull StringBuilder shape, @NotNull Type type) {
+
+        if (type instanceof ParameterizedType parameterized) {
+
+            appendTypes(shape, parameterized.getRawType());
+
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                appendTypes(shape, argument);
+            }
+        } else if (type instanceof GenericArrayType array) {
+            appendTypes(shape, array.getGenericComponentType());
+        } else if (type instanceof Class<?> raw) {
+
+            while (raw.isArray()) raw = raw.getComponentType();
+
+            //Platform types do not change between runs of the same cache version
+            if (raw.isPrimitive() || raw.getClassLoader() == null) return;
+
+            shape.append(Arrays.toString(raw.getAnnotations())).append(' ')
+                    .append(fingerprint(raw)).append(' ');
+        }
+    }
+
+    /**
+     * @return the checksum of the class bytes and its super classes, empty if not readable
+     */
+    private static @NotNull String fingerprint(@NotNull Class<?> type) {
+        return fingerprints.computeIfAbsent(type.getName(), ignored -> {
+
+            var crc = new CRC32();
+
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+
+                var name = current.getName();
+
+                try (InputStream stream = current.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+
+                    if (stream == null) return "";
+
+                    crc.update(stream.readAllBytes());
+                } catch (IOException e) {
+                    return "";
+                }
+            }
+
+            return Long.toHexString(crc.getValue());
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package org.dooq.parser;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Converters generated at build time by the annotation processor.
+ * <p>
+ * Registries are discovered with {@link java.util.ServiceLoader}, {@link ParserCompiler} uses them
+ * before generating a converter at runtime.
+ *
+ * @author alex
+ */
+public interface ConverterRegistry {
+
+    @NotNull Map<Class<?>, ObjectParser<?>> converters();
+}
@@ -22,7 +22,16 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 class ConverterStruct {
 
-    private final Map<Class<?>, ObjectParser<?>> cache = new ConcurrentHashMap<>();
+    /**
+     * Parsers by target type and variant, the entries are held by the target type so
+     * unloaded types release their parsers
+     */
+    private final ClassValue<Map<String, ObjectParser<?>>> cache = new ClassValue<>() {
+        @Override
+        protected Map<String, ObjectParser<?>> computeValue(@NotNull Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
     private final Map<Class<?>, Method> writerMap = new HashMap<>();
     private final Map<Class<?>, Method> readerMap = new HashMap<>();
     private final Map<String, Method> methodMap = new HashMap<>();
@@ -88,13 +97,33 @@ class ConverterStruct {
     }
 
     public @Nullable ObjectParser<?> getCachedParser(Class<?> target) {
-        return cache.get(target);
+        return getCachedParser(target, "");
     }
 
-    public <T> void putCachedParser(Class<T> type, ObjectParser<T> parserInstance) {
-        cache.put(type, parserInstance);
+    /**
+     * @param variant the kind of parser, a type may have one parser per read mode or projection
+     */
+    public @Nullable ObjectParser<?> getCachedParser(Class<?> target, String variant) {
+
+        return cache.get(target)
+                .get(variant);
     }
-}
 
+    public <T> @NotNull ObjectParser<T> putCachedParser(Class<T> type, ObjectParser<T> parserInstance) {
+        return putCachedParser(type, "", parserInstance);
+    }
 
+    /**
+     * Keeps the first parser stored, threads compiling the same type concurrently all end up sharing it
+     *
+     * @return the cached parser
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull ObjectParser<T> putCachedParser(Class<T> type, String variant, ObjectParser<T> parserInstance) {
 
+        var previous = cache.get(type)
+                .putIfAbsent(variant, parserInstance);
+
+        return previous == null ? parserInstance : (ObjectParser<T>) previous;
+    }
+}
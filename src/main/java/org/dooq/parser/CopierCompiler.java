@@ -0,0 +1,354 @@
+package org.dooq.parser;
+
+import org.dooq.lazy.LazyView;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates the {@link ObjectCopier} of a source and target type pair, the copier calls the source getters
+ * and passes their values to the target setters, or to the canonical constructor of records.
+ * <p>
+ * The copier is defined in the package of the target type, or of the source type if the members
+ * are not accessible from there.
+ *
+ * @author alex
+ */
+final class CopierCompiler {
+
+    private static final String COPIER = Type.getInternalName(ObjectCopier.class);
+
+    /**
+     * Copiers by source type then target type. The copier is held by the target type, so the targets,
+     * e.g. DTOs of a plugin, do not stay reachable from the record types they are copied from
+     */
+    private static final ClassValue<ClassValue<ObjectCopier<?, ?>>> copiers = new ClassValue<>() {
+        @Override
+        protected ClassValue<ObjectCopier<?, ?>> computeValue(@NotNull Class<?> source) {
+            return new ClassValue<>() {
+                @Override
+                protected ObjectCopier<?, ?> computeValue(@NotNull Class<?> target) {
+
+                    var declared = LazyView.class.isAssignableFrom(source) ? source.getSuperclass() : source;
+
+                    return compile(declared, target);
+                }
+            };
+        }
+    };
+
+    private CopierCompiler() {
+    }
+
+    /**
+     * @param source the source type, lazy records are copied through the accessors of the record type
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> @NotNull ObjectCopier<S, T> getCopier(@NotNull Class<S> source, @NotNull Class<T> target) {
+        return (ObjectCopier<S, T>) copiers.get(source).get(target);
+    }
+
+    /**
+     * A target property and the source getter it is copied from
+     */
+    private record Mapping(ParserCompiler.Property target, Method getter) {
+    }
+
+    private static @NotNull ObjectCopier<?, ?> compile(@NotNull Class<?> source, @NotNull Class<?> target) {
+
+        var getters = new HashMap<String, Method>();
+
+        for (ParserCompiler.Property property : ParserCompiler.getProperties(source)) {
+            if (property.getter() != null && property.field() != null) {
+                getters.put(property.field().getName(), property.getter());
+            }
+        }
+
+        var properties = ParserCompiler.getProperties(target);
+        var mappings = new ArrayList<Mapping>();
+        var members = new ArrayList<Member>();
+
+        members.add(getConstructor(target));
+
+        for (ParserCompiler.Property property : properties) {
+
+            if (!target.isRecord() && property.setter() == null) continue;
+
+            var getter = property.field() == null ? null : getters.get(property.field().getName());
+
+            if (getter == null || !isCompatible(getter.getReturnType(), property.type())) continue;
+
+            mappings.add(new Mapping(property, getter));
+            members.add(getter);
+
+            if (property.setter() != null) members.add(property.setter());
+        }
+
+        var definition = ParserCompiler.Definition.of(target, true);
+
+        if (!isAccessible(members, definition)) {
+            definition = ParserCompiler.Definition.of(source, true);
+        }
+
+        if (!isAccessible(members, definition)) {
+            throw new IllegalArgumentException("Cannot copy '%s' into '%s', inaccessible constructor or accessors"
+                    .formatted(source, target));
+        }
+
+        var generation = new ParserCompiler.Generation(target, ObjectParser.class, ReadMode.LOOKUP,
+                source.getSimpleName() + "To" + target.getSimpleName() + "Copier", properties, null,
+                new ArrayList<>(), definition, new AtomicLong());
+
+        ClassWriter writer = new ParserCompiler.ParserClassWriter(target);
+
+        writer.visit(V17, ACC_PUBLIC | ACC_FINAL, generation.internalName(), null, COPIER, null);
+
+        defineConstructor(writer);
+        defineConstant(writer, "sourceType", source);
+        defineConstant(writer, "targetType", target);
+        defineCopyMethod(writer, source, target, mappings);
+
+        writer.visitEnd();
+
+        var clazz = ParserCompiler.defineClass(generation, writer.toByteArray());
+
+        if (clazz == null) {
+            throw new RuntimeException("Failed to compile copier of class '%s' into '%s'".formatted(source, target));
+        }
+
+        try {
+            return (ObjectCopier<?, ?>) clazz.getConstructor().newInstance();
+        } catch (VerifyError | Exception ex) {
+            throw new RuntimeException("Failed to compile copier of class '%s' into '%s'".formatted(source, target), ex);
+        }
+    }
+
+    private static @NotNull Constructor<?> getConstructor(@NotNull Class<?> target) {
+
+        try {
+            if (target.isRecord()) {
+                return target.getDeclaredConstructor(getComponentTypes(target));
+            }
+
+            return target.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("No default constructor found for " + target);
+        }
+    }
+
+    private static Class<?> @NotNull [] getComponentTypes(@NotNull Class<?> record) {
+
+        var components = record.getRecordComponents();
+        var types = new Class<?>[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+        }
+
+        return types;
+    }
+
+    /**
+     * Same type, assignable reference types, or a primitive and its wrapper
+     */
+    private static boolean isCompatible(@NotNull Class<?> source, @NotNull Class<?> target) {
+
+        if (source == target) return true;
+
+        if (source.isPrimitive() || target.isPrimitive()) {
+            return wrap(source) == wrap(target);
+        }
+
+        return target.isAssignableFrom(source);
+    }
+
+    private static @NotNull Class<?> wrap(@NotNull Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static boolean isAccessible(@NotNull List<Member> members, @NotNull ParserCompiler.Definition definition) {
+
+        var packageName = definition.packageName();
+
+        for (Member member : members) {
+
+            var owner = member.getDeclaringClass();
+            int modifiers = member.getModifiers();
+
+            if (Modifier.isPublic(owner.getModifiers()) && Modifier.isPublic(modifiers)) continue;
+
+            var ownerPackage = owner.getPackageName().isEmpty() ? "" : owner.getPackageName().replace('.', '/') + "/";
+
+            if (Modifier.isPrivate(modifiers) || !packageName.equals(ownerPackage)) return false;
+        }
+
+        return true;
+    }
+
+    private static void defineConstructor(@NotNull ClassWriter writer) {
+
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+
+        visitor.visitCode();
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitMethodInsn(INVOKESPECIAL, COPIER, "<init>", "()V", false);
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void defineConstant(@NotNull ClassWriter writer, String name, @NotNull Class<?> type) {
+
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, name, "()Ljava/lang/Class;", null, null);
+
+        visitor.visitCode();
+        visitor.visitLdcInsn(Type.getType(type));
+        visitor.visitInsn(ARETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    /**
+     * The source is held in the local 2, the target instance in the local 3 and wrapper values
+     * unboxed into primitives in the local 4
+     */
+    private static void defineCopyMethod(@NotNull ClassWriter writer, @NotNull Class<?> source, @NotNull Class<?> target,
+                                         @NotNull List<Mapping> mappings) {
+
+        var targetName = Type.getInternalName(target);
+
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, "copy", "(Ljava/lang/Object;)Ljava/lang/Object;",
+                null, null);
+
+        visitor.visitCode();
+
+        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(source));
+        visitor.visitVarInsn(ASTORE, 2);
+
+        visitor.visitTypeInsn(NEW, targetName);
+        visitor.visitInsn(DUP);
+
+        if (target.isRecord()) {
+
+            var byComponent = new HashMap<String, Mapping>();
+
+            for (Mapping mapping : mappings) {
+                byComponent.put(mapping.target().field().getName(), mapping);
+            }
+
+            for (var component : target.getRecordComponents()) {
+
+                var mapping = byComponent.get(component.getName());
+
+                if (mapping == null) {
+                    ParserCompiler.pushDefault(visitor, component.getType());
+                    continue;
+                }
+
+                pushValue(visitor, mapping.getter(), component.getType(), null);
+            }
+
+            visitor.visitMethodInsn(INVOKESPECIAL, targetName, "<init>", ParserCompiler.getRecordConstructor(target), false);
+            visitor.visitInsn(ARETURN);
+        } else {
+
+            visitor.visitMethodInsn(INVOKESPECIAL, targetName, "<init>", "()V", false);
+            visitor.visitVarInsn(ASTORE, 3);
+
+            for (Mapping mapping : mappings) {
+
+                var setter = mapping.target().setter();
+                var skip = new Label();
+
+                //The target instance goes first, the value may still be skipped when null
+                var valueType = setter.getParameterTypes()[0];
+
+                if (valueType.isPrimitive() && !mapping.getter().getReturnType().isPrimitive()) {
+                    pushValue(visitor, mapping.getter(), valueType, skip);
+                    visitor.visitVarInsn(ALOAD, 3);
+                    visitor.visitVarInsn(ALOAD, 4);
+                    unbox(visitor, valueType);
+                } else {
+                    visitor.visitVarInsn(ALOAD, 3);
+                    pushValue(visitor, mapping.getter(), valueType, null);
+                }
+
+                ParserCompiler.invokeSetter(visitor, setter);
+                visitor.visitLabel(skip);
+            }
+
+            visitor.visitVarInsn(ALOAD, 3);
+            visitor.visitInsn(ARETURN);
+        }
+
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    /**
+     * Pushes the value of the getter converted to the type. Null wrappers become the primitive default,
+     * or with a skip label, are stored in the local 4 and jump to it when null
+     */
+    private static void pushValue(@NotNull MethodVisitor visitor, @NotNull Method getter, @NotNull Class<?> type,
+                                  @Nullable Label skip) {
+
+        var valueType = getter.getReturnType();
+
+        visitor.visitVarInsn(ALOAD, 2);
+        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(getter.getDeclaringClass()), getter.getName(),
+                Type.getMethodDescriptor(getter), false);
+
+        if (valueType == type || !(valueType.isPrimitive() || type.isPrimitive())) return;
+
+        if (valueType.isPrimitive()) { //box
+            visitor.visitMethodInsn(INVOKESTATIC, Type.getInternalName(type), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(type), Type.getType(valueType)), false);
+            return;
+        }
+
+        visitor.visitVarInsn(ASTORE, 4);
+        visitor.visitVarInsn(ALOAD, 4);
+
+        if (skip != null) {
+            visitor.visitJumpInsn(IFNULL, skip);
+            return;
+        }
+
+        var isNull = new Label();
+        var end = new Label();
+
+        visitor.visitJumpInsn(IFNULL, isNull);
+        visitor.visitVarInsn(ALOAD, 4);
+        unbox(visitor, type);
+        visitor.visitJumpInsn(GOTO, end);
+        visitor.visitLabel(isNull);
+        ParserCompiler.pushDefault(visitor, type);
+        visitor.visitLabel(end);
+    }
+
+    private static void unbox(@NotNull MethodVisitor visitor, @NotNull Class<?> primitive) {
+
+        var wrapper = wrap(primitive);
+
+        visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(wrapper));
+        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(wrapper), primitive.getName() + "Value",
+                Type.getMethodDescriptor(Type.getType(primitive)), false);
+    }
+}
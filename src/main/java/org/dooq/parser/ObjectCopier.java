@@ -0,0 +1,20 @@
+package org.dooq.parser;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Copies the properties of a source type into a new instance of a target type, implemented by the
+ * generated classes. Properties are matched by name, the ones missing in the source or with an
+ * incompatible type are left to their default values.
+ *
+ * @author alex
+ * @see ParserCompiler#getCopier(Class, Class)
+ */
+public abstract class ObjectCopier<S, T> {
+
+    public abstract @NotNull Class<S> sourceType();
+
+    public abstract @NotNull Class<T> targetType();
+
+    public abstract @NotNull T copy(@NotNull S source);
+}
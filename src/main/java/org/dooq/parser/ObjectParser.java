@@ -2,14 +2,23 @@ package org.dooq.parser;
 
 
 import org.dooq.api.Converter;
+import org.dooq.api.EnumFormat;
 import org.dooq.parser.converter.CollectionConverter;
+import org.dooq.parser.converter.EnumCodec;
+import org.dooq.parser.packed.PackedCodec;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.*;
 import java.util.function.Function;
 import java.util.logging.Logger;
 
@@ -36,11 +45,19 @@ public abstract class ObjectParser<T> extends CollectionConverter implements Con
         }
 
         if (type == Long.class) {
-            return this::parseLong;
+            return this::parseLonger;
         }
 
         if (type == Float.class) {
-            return this::parseFloat;
+            return this::parseFloater;
+        }
+
+        if (type == Double.class) {
+            return this::parseDoubler;
+        }
+
+        if (type == Short.class) {
+            return this::parseShorter;
         }
 
         if (type == LocalDate.class) {
@@ -51,10 +68,26 @@ public abstract class ObjectParser<T> extends CollectionConverter implements Con
             return this::parseLocalDateTime;
         }
 
+        if (type == Instant.class) {
+            return this::parseInstant;
+        }
+
+        if (type == OffsetDateTime.class) {
+            return this::parseOffsetDateTime;
+        }
+
+        if (type == LocalTime.class) {
+            return this::parseLocalTime;
+        }
+
         if (type == UUID.class) {
             return this::parseUUID;
         }
 
+        if (type.isEnum()) {
+            return enumCodec(type)::decode;
+        }
+
         Logger.getLogger("ObjectParser").warning("Not found parser for value: " + type.getName());
 
         return null;
@@ -74,7 +107,7 @@ public abstract class ObjectParser<T> extends CollectionConverter implements Con
         }
 
         if (value instanceof Long l) {
-            return writeLong(l);
+            return writeLonger(l);
         }
 
         if (value instanceof Boolean bool) {
@@ -86,13 +119,45 @@ public abstract class ObjectParser<T> extends CollectionConverter implements Con
         }
 
         if (value instanceof Float f) {
-            return writeFloat(f);
+            return writeFloater(f);
+        }
+
+        if (value instanceof Double d) {
+            return writeDoubler(d);
+        }
+
+        if (value instanceof Short s) {
+            return writeShorter(s);
         }
 
         if (value instanceof BigDecimal bd) {
             return writeBigDecimal(bd);
         }
 
+        if (value instanceof LocalDate date) {
+            return writeLocalDate(date);
+        }
+
+        if (value instanceof LocalDateTime dateTime) {
+            return writeLocalDateTime(dateTime);
+        }
+
+        if (value instanceof Instant instant) {
+            return writeInstant(instant);
+        }
+
+        if (value instanceof OffsetDateTime dateTime) {
+            return writeOffsetDateTime(dateTime);
+        }
+
+        if (value instanceof LocalTime time) {
+            return writeLocalTime(time);
+        }
+
+        if (value instanceof Enum<?> e) {
+            return writeEnum(e);
+        }
+
 
         System.err.println("Not found: " + value.getClass());
 
@@ -128,6 +193,179 @@ public abstract class ObjectParser<T> extends CollectionConverter implements Con
         return null;
     }
 
+    /**
+     * Decodes the property at the given index into the target, implemented by the lazy parsers
+     *
+     * @see ParserCompiler#getLazyConverter(Class)
+     */
+    @ApiStatus.Internal
+    public void readField(Map<String, AttributeValue> item, int index, T target) {
+        throw new UnsupportedOperationException("Not a lazy parser: " + getClass().getName());
+    }
+
+    /*
+     * Nested converters resolved at generation time, the generated parsers hold them in static final fields
+     */
+
+    protected <V> V readNested(@Nullable AttributeValue value, ObjectParser<V> parser) {
+
+        if (value == null || value.m() == null) return null;
+
+        return parser.read(value.m());
+    }
+
+    protected <V> AttributeValue writeNested(@Nullable V value, ObjectParser<V> parser) {
+
+        if (value == null) return null;
+
+        return AttributeValue.fromM(parser.write(value));
+    }
+
+    protected <V> List<V> readNestedList(@Nullable AttributeValue value, ObjectParser<V> parser) {
+
+        if (value == null || !value.hasL()) return null;
+
+        var items = value.l();
+        var result = new ArrayList<V>(items.size());
+
+        for (AttributeValue item : items) {
+            if (item.m() != null) {
+                result.add(parser.read(item.m()));
+            }
+        }
+
+        return result;
+    }
+
+    protected <V> AttributeValue writeNestedList(@Nullable List<V> value, ObjectParser<V> parser) {
+
+        if (value == null || value.isEmpty()) return null;
+
+        var items = new ArrayList<AttributeValue>(value.size());
+
+        for (V item : value) {
+            if (item != null) {
+                items.add(AttributeValue.fromM(parser.write(item)));
+            }
+        }
+
+        return AttributeValue.fromL(items);
+    }
+
+    protected <V> Set<V> readNestedSet(@Nullable AttributeValue value, ObjectParser<V> parser) {
+
+        if (value == null || !value.hasL()) return null;
+
+        var items = value.l();
+        var result = new HashSet<V>(capacity(items.size()));
+
+        for (AttributeValue item : items) {
+            if (item.m() != null) {
+                result.add(parser.read(item.m()));
+            }
+        }
+
+        return result;
+    }
+
+    protected <V> AttributeValue writeNestedSet(@Nullable Set<V> value, ObjectParser<V> parser) {
+
+        if (value == null || value.isEmpty()) return null;
+
+        var items = new ArrayList<AttributeValue>(value.size());
+
+        for (V item : value) {
+            if (item != null) {
+                items.add(AttributeValue.fromM(parser.write(item)));
+            }
+        }
+
+        return AttributeValue.fromL(items);
+    }
+
+    protected <V> Map<String, V> readNestedMap(@Nullable AttributeValue value, ObjectParser<V> parser) {
+
+        if (value == null || value.m() == null) return null;
+
+        var items = value.m();
+        var result = new HashMap<String, V>(capacity(items.size()));
+
+        for (Map.Entry<String, AttributeValue> entry : items.entrySet()) {
+            var item = entry.getValue();
+            result.put(entry.getKey(), item.m() == null ? null : parser.read(item.m()));
+        }
+
+        return result;
+    }
+
+    protected <V> AttributeValue writeNestedMap(@Nullable Map<String, V> value, ObjectParser<V> parser) {
+
+        if (value == null) return null;
+
+        var items = new HashMap<String, AttributeValue>(capacity(value.size()));
+
+        for (Map.Entry<String, V> entry : value.entrySet()) {
+            if (entry.getValue() != null) {
+                items.put(entry.getKey(), AttributeValue.fromM(parser.write(entry.getValue())));
+            }
+        }
+
+        return AttributeValue.fromM(items);
+    }
+
+    protected <V> AttributeValue writePacked(@Nullable V value, PackedCodec<V> codec) {
+
+        if (value == null) return null;
+
+        return AttributeValue.fromB(SdkBytes.fromByteArrayUnsafe(codec.encode(value)));
+    }
+
+    /**
+     * Values stored as maps before the type was packed are still readable
+     */
+    protected <V> V readPacked(@Nullable AttributeValue value, PackedCodec<V> codec) {
+
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.b() != null) return codec.decode(value.b().asByteArrayUnsafe());
+
+        if (value.m() != null) return ParserCompiler.getConverter(codec.type()).read(value.m());
+
+        return null;
+    }
+
+    protected <E extends Enum<E>> AttributeValue writeEnum(@Nullable E value, EnumCodec<E> codec) {
+        return codec.encode(value);
+    }
+
+    protected <E extends Enum<E>> E parseEnum(@Nullable AttributeValue value, EnumCodec<E> codec) {
+        return codec.decode(value);
+    }
+
+    /**
+     * Enums within collections are encoded by name
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> AttributeValue writeEnum(@NotNull Enum<?> value) {
+        return EnumCodec.of((Class<E>) value.getDeclaringClass(), EnumFormat.Encoding.NAME)
+                .encode((E) value);
+    }
+
+    /**
+     * Enums within collections are encoded by name
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumCodec enumCodec(Class<?> type) {
+        return EnumCodec.of((Class) type, EnumFormat.Encoding.NAME);
+    }
+
+    /**
+     * Hash based collection capacity that avoids rehashing
+     */
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
     @SuppressWarnings("unchecked")
     protected <V> V lookUp(AttributeValue value, Class<V> type) {
         if (type == String.class) {
@@ -138,6 +376,22 @@ public abstract class ObjectParser<T> extends CollectionConverter implements Con
             return (V) parseInteger(value);
         }
 
+        if (type == Long.class) {
+            return (V) parseLonger(value);
+        }
+
+        if (type == Double.class) {
+            return (V) parseDoubler(value);
+        }
+
+        if (type == Float.class) {
+            return (V) parseFloater(value);
+        }
+
+        if (type == Short.class) {
+            return (V) parseShorter(value);
+        }
+
         if (type == BigDecimal.class) {
             return (V) parseBigDecimal(value);
         }
@@ -158,6 +412,18 @@ public abstract class ObjectParser<T> extends CollectionConverter implements Con
             return (V) parseLocalDateTime(value);
         }
 
+        if (type == Instant.class) {
+            return (V) parseInstant(value);
+        }
+
+        if (type == OffsetDateTime.class) {
+            return (V) parseOffsetDateTime(value);
+        }
+
+        if (type == LocalTime.class) {
+            return (V) parseLocalTime(value);
+        }
+
         throw new IllegalStateException("Value not implemented: " + type);
     }
 
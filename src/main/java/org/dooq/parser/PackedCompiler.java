@@ -0,0 +1,444 @@
+package org.dooq.parser;
+
+import org.dooq.api.Packed;
+import org.dooq.api.PackedField;
+import org.dooq.parser.packed.PackedCodec;
+import org.dooq.parser.packed.PackedInput;
+import org.dooq.parser.packed.PackedOutput;
+import org.jetbrains.annotations.NotNull;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates the {@link PackedCodec} of the {@link Packed} types, the properties are written
+ * by {@link PackedField} index, or in record component order, by the {@link PackedOutput} overload of their type
+ *
+ * @author alex
+ */
+final class PackedCompiler {
+
+    private static final String CODEC = Type.getInternalName(PackedCodec.class);
+    private static final String OUTPUT = Type.getInternalName(PackedOutput.class);
+    private static final String INPUT = Type.getInternalName(PackedInput.class);
+    private static final String CODEC_DESCRIPTOR = Type.getDescriptor(PackedCodec.class);
+
+    /**
+     * Readers of the input by returned type
+     */
+    private static final Map<Class<?>, Method> readers = new HashMap<>();
+
+    private static final ClassValue<PackedCodec<?>> codecs = new ClassValue<>() {
+        @Override
+        protected PackedCodec<?> computeValue(@NotNull Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * Types being generated by the current thread
+     */
+    private static final ThreadLocal<Set<Class<?>>> inProgress = ThreadLocal.withInitial(HashSet::new);
+
+    static {
+        for (Method method : PackedInput.class.getDeclaredMethods()) {
+            if (Modifier.isPublic(method.getModifiers()) && method.getParameterCount() == 0 &&
+                    method.getName().startsWith("read")) {
+                readers.put(method.getReturnType(), method);
+            }
+        }
+    }
+
+    private PackedCompiler() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull PackedCodec<T> getCodec(@NotNull Class<T> type) {
+
+        if (inProgress.get().contains(type)) {
+            throw new IllegalStateException("Cyclic @Packed types are not supported: " + type);
+        }
+
+        return (PackedCodec<T>) codecs.get(type);
+    }
+
+    private static @NotNull PackedCodec<?> compile(@NotNull Class<?> type) {
+
+        var packed = type.getAnnotation(Packed.class);
+
+        var generation = new ParserCompiler.Generation(type, ObjectParser.class, ReadMode.LOOKUP,
+                type.getSimpleName() + "PackedCodec", ParserCompiler.getProperties(type), null);
+
+        var layout = layout(type, generation.properties());
+
+        ClassWriter writer = new ParserCompiler.ParserClassWriter(type);
+
+        writer.visit(V17, ACC_PUBLIC | ACC_FINAL, generation.internalName(), null, CODEC, null);
+
+        inProgress.get().add(type);
+
+        try {
+            defineConstructor(writer);
+            defineConstant(writer, "type", "()Ljava/lang/Class;", Type.getType(type), ARETURN);
+            defineConstant(writer, "version", "()I", packed == null ? 1 : packed.version(), IRETURN);
+            defineConstant(writer, "fieldCount", "()I", layout.size(), IRETURN);
+            definePackMethod(writer, generation, layout);
+            defineUnpackMethod(writer, generation, layout);
+        } finally {
+            inProgress.get().remove(type);
+        }
+
+        ParserCompiler.defineConstants(writer, generation);
+
+        writer.visitEnd();
+
+        var clazz = ParserCompiler.defineClass(generation, writer.toByteArray());
+
+        if (clazz == null) {
+            throw new RuntimeException("Failed to compile packed codec for class '%s'".formatted(type));
+        }
+
+        try {
+            return (PackedCodec<?>) clazz.getConstructor().newInstance();
+        } catch (VerifyError | Exception ex) {
+            throw new RuntimeException("Failed to compile packed codec for class '%s'".formatted(type), ex);
+        }
+    }
+
+    /**
+     * @return the properties by index, null at the index of removed properties
+     */
+    private static @NotNull List<ParserCompiler.Property> layout(@NotNull Class<?> type,
+                                                                 @NotNull List<ParserCompiler.Property> properties) {
+
+        for (Class<?> parent = type.getSuperclass(); parent != null && parent != Object.class && parent != Record.class;
+             parent = parent.getSuperclass()) {
+
+            for (Field field : parent.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                    throw new IllegalStateException("Inherited fields are not supported by @Packed: %s of %s"
+                            .formatted(field, type));
+                }
+            }
+        }
+
+        var indexed = properties.stream()
+                .filter(property -> property.annotation(PackedField.class) != null)
+                .toList();
+
+        if (indexed.isEmpty()) {
+
+            if (type.isRecord()) return properties;
+
+            throw new IllegalStateException("@PackedField indices required on the properties of %s, the order of class fields is not specified"
+                    .formatted(type));
+        }
+
+        var layout = new ArrayList<ParserCompiler.Property>();
+
+        for (ParserCompiler.Property property : properties) {
+
+            var field = property.annotation(PackedField.class);
+
+            if (field == null) {
+                throw new IllegalStateException("Missing @PackedField index on property %s of %s"
+                        .formatted(property.column(), type));
+            }
+
+            int index = field.value();
+
+            if (index < 0) {
+                throw new IllegalStateException("Invalid @PackedField index %d on property %s of %s"
+                        .formatted(index, property.column(), type));
+            }
+
+            while (layout.size() <= index) layout.add(null);
+
+            if (layout.get(index) != null) {
+                throw new IllegalStateException("Duplicate @PackedField index %d on property %s of %s"
+                        .formatted(index, property.column(), type));
+            }
+
+            layout.set(index, property);
+        }
+
+        return layout;
+    }
+
+    private static void defineConstructor(@NotNull ClassWriter writer) {
+
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+
+        visitor.visitCode();
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitMethodInsn(INVOKESPECIAL, CODEC, "<init>", "()V", false);
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void defineConstant(@NotNull ClassWriter writer, String name, String descriptor, Object value,
+                                       int returnOpcode) {
+
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, name, descriptor, null, null);
+
+        visitor.visitCode();
+        visitor.visitLdcInsn(value);
+        visitor.visitInsn(returnOpcode);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    /**
+     * Writes every property, removed properties and properties without getter are written as null to keep the positions
+     */
+    private static void definePackMethod(@NotNull ClassWriter writer, @NotNull ParserCompiler.Generation generation,
+                                         @NotNull List<ParserCompiler.Property> layout) {
+
+        var type = generation.type();
+
+        MethodVisitor visitor = writer.visitMethod(ACC_PROTECTED, "pack",
+                "(Ljava/lang/Object;L" + OUTPUT + ";)V", null, null);
+
+        visitor.visitCode();
+
+        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+        visitor.visitVarInsn(ASTORE, 3);
+
+        for (ParserCompiler.Property property : layout) {
+
+            visitor.visitVarInsn(ALOAD, 2);
+
+            var getter = property == null ? null : property.getter();
+
+            if (getter == null) {
+                visitor.visitInsn(ACONST_NULL);
+                visitor.visitMethodInsn(INVOKEVIRTUAL, OUTPUT, "write", "(Ljava/lang/String;)V", false);
+                continue;
+            }
+
+            visitor.visitVarInsn(ALOAD, 3);
+            visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(getter.getDeclaringClass()), getter.getName(),
+                    Type.getMethodDescriptor(getter), false);
+
+            if (getter.getReturnType() != property.type()) { //erased accessor
+                visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(property.type()));
+            }
+
+            writeValue(visitor, generation, property);
+        }
+
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void writeValue(@NotNull MethodVisitor visitor, @NotNull ParserCompiler.Generation generation,
+                                   @NotNull ParserCompiler.Property property) {
+
+        var valueType = property.type();
+
+        if (valueType == List.class) {
+
+            var element = ParserCompiler.getGenericType(property.genericType()).param1();
+
+            if (element == String.class) {
+                visitor.visitMethodInsn(INVOKEVIRTUAL, OUTPUT, "writeStringList", "(Ljava/util/List;)V", false);
+                return;
+            }
+
+            if (isNested(element)) {
+                codec(generation, element).accept(visitor);
+                visitor.visitMethodInsn(INVOKEVIRTUAL, OUTPUT, "writeNestedList",
+                        "(Ljava/util/List;" + CODEC_DESCRIPTOR + ")V", false);
+                return;
+            }
+
+            throw unsupported(generation, property);
+        }
+
+        if (valueType.isEnum()) {
+            visitor.visitMethodInsn(INVOKEVIRTUAL, OUTPUT, "write", "(Ljava/lang/Enum;)V", false);
+            return;
+        }
+
+        if (isNested(valueType)) {
+            codec(generation, valueType).accept(visitor);
+            visitor.visitMethodInsn(INVOKEVIRTUAL, OUTPUT, "writeNested",
+                    "(Ljava/lang/Object;" + CODEC_DESCRIPTOR + ")V", false);
+            return;
+        }
+
+        try {
+            var method = PackedOutput.class.getMethod("write", valueType);
+
+            visitor.visitMethodInsn(INVOKEVIRTUAL, OUTPUT, "write", Type.getMethodDescriptor(method), false);
+        } catch (NoSuchMethodException e) {
+            throw unsupported(generation, property);
+        }
+    }
+
+    /**
+     * Reads every property by index, the values of the properties without setter are discarded.
+     * Record components are read into locals from the slot 2, then passed to the canonical constructor
+     */
+    private static void defineUnpackMethod(@NotNull ClassWriter writer, @NotNull ParserCompiler.Generation generation,
+                                           @NotNull List<ParserCompiler.Property> layout) {
+
+        var type = generation.type();
+        var internalName = Type.getInternalName(type);
+
+        MethodVisitor visitor = writer.visitMethod(ACC_PROTECTED, "unpack",
+                "(L" + INPUT + ";)Ljava/lang/Object;", null, null);
+
+        visitor.visitCode();
+
+        if (type.isRecord()) {
+
+            var locals = new HashMap<ParserCompiler.Property, Integer>();
+            int slot = 2;
+
+            for (ParserCompiler.Property property : layout) {
+
+                if (property == null) {
+                    skipField(visitor);
+                    continue;
+                }
+
+                var valueType = Type.getType(property.type());
+
+                readValue(visitor, generation, property);
+                visitor.visitVarInsn(valueType.getOpcode(ISTORE), slot);
+
+                locals.put(property, slot);
+                slot += valueType.getSize();
+            }
+
+            visitor.visitTypeInsn(NEW, internalName);
+            visitor.visitInsn(DUP);
+
+            for (ParserCompiler.Property property : generation.properties()) {
+                visitor.visitVarInsn(Type.getType(property.type()).getOpcode(ILOAD), locals.get(property));
+            }
+
+            visitor.visitMethodInsn(INVOKESPECIAL, internalName, "<init>", ParserCompiler.getRecordConstructor(type), false);
+            visitor.visitInsn(ARETURN);
+        } else {
+
+            visitor.visitTypeInsn(NEW, internalName);
+            visitor.visitInsn(DUP);
+            visitor.visitMethodInsn(INVOKESPECIAL, internalName, "<init>", "()V", false);
+            visitor.visitVarInsn(ASTORE, 2);
+
+            for (ParserCompiler.Property property : layout) {
+
+                if (property == null) {
+                    skipField(visitor);
+                    continue;
+                }
+
+                var setter = property.setter();
+
+                if (setter == null) {
+                    readValue(visitor, generation, property);
+                    visitor.visitInsn(property.type() == long.class || property.type() == double.class ? POP2 : POP);
+                    continue;
+                }
+
+                visitor.visitVarInsn(ALOAD, 2);
+                readValue(visitor, generation, property);
+                ParserCompiler.invokeSetter(visitor, setter);
+            }
+
+            visitor.visitVarInsn(ALOAD, 2);
+            visitor.visitInsn(ARETURN);
+        }
+
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void skipField(@NotNull MethodVisitor visitor) {
+        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitMethodInsn(INVOKEVIRTUAL, INPUT, "skipField", "()V", false);
+    }
+
+    private static void readValue(@NotNull MethodVisitor visitor, @NotNull ParserCompiler.Generation generation,
+                                  @NotNull ParserCompiler.Property property) {
+
+        var valueType = property.type();
+
+        visitor.visitVarInsn(ALOAD, 1);
+
+        if (valueType == List.class) {
+
+            var element = ParserCompiler.getGenericType(property.genericType()).param1();
+
+            if (element == String.class) {
+                visitor.visitMethodInsn(INVOKEVIRTUAL, INPUT, "readStringList", "()Ljava/util/List;", false);
+                return;
+            }
+
+            if (isNested(element)) {
+                codec(generation, element).accept(visitor);
+                visitor.visitMethodInsn(INVOKEVIRTUAL, INPUT, "readNestedList",
+                        "(" + CODEC_DESCRIPTOR + ")Ljava/util/List;", false);
+                return;
+            }
+
+            throw unsupported(generation, property);
+        }
+
+        if (valueType.isEnum()) {
+            visitor.visitLdcInsn(Type.getType(valueType));
+            visitor.visitMethodInsn(INVOKEVIRTUAL, INPUT, "readEnum", "(Ljava/lang/Class;)Ljava/lang/Enum;", false);
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(valueType));
+            return;
+        }
+
+        if (isNested(valueType)) {
+            codec(generation, valueType).accept(visitor);
+            visitor.visitMethodInsn(INVOKEVIRTUAL, INPUT, "readNested",
+                    "(" + CODEC_DESCRIPTOR + ")Ljava/lang/Object;", false);
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(valueType));
+            return;
+        }
+
+        var method = readers.get(valueType);
+
+        if (method == null) throw unsupported(generation, property);
+
+        visitor.visitMethodInsn(INVOKEVIRTUAL, INPUT, method.getName(), Type.getMethodDescriptor(method), false);
+    }
+
+    private static boolean isNested(@NotNull Class<?> type) {
+        return ParserCompiler.isCustomClass(type) && !type.isEnum();
+    }
+
+    /**
+     * Pushes the codec of the nested type, the generated codec itself for self references
+     */
+    private static @NotNull Consumer<MethodVisitor> codec(@NotNull ParserCompiler.Generation generation,
+                                                          @NotNull Class<?> type) {
+
+        if (type == generation.type()) return visitor -> visitor.visitVarInsn(ALOAD, 0);
+
+        return generation.loadConstant(generation.constant(getCodec(type), PackedCodec.class,
+                ParserCompiler.PACKED_RECIPE + type.getName()));
+    }
+
+    private static @NotNull IllegalStateException unsupported(@NotNull ParserCompiler.Generation generation,
+                                                              @NotNull ParserCompiler.Property property) {
+        return new IllegalStateException("Type not supported by @Packed: %s of property %s in class %s"
+                .formatted(property.genericType().getTypeName(), property.column(), generation.type()));
+    }
+}
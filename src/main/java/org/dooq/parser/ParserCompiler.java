@@ -1,11 +1,27 @@
 package org.dooq.parser;
 
+import org.dooq.api.ArrayFormat;
 import org.dooq.api.ColumnAlias;
+import org.dooq.api.Compressed;
+import org.dooq.api.Deduplicate;
 import org.dooq.api.DynamoIgnore;
+import org.dooq.api.EnumFormat;
+import org.dooq.api.EpochEncoded;
+import org.dooq.api.FieldType;
+import org.dooq.api.Packed;
 import org.dooq.api.PartitionKey;
 import org.dooq.api.SortKey;
+import org.dooq.lazy.LazyView;
+import org.dooq.parser.converter.CompressionCodec;
+import org.dooq.parser.converter.EnumCodec;
+import org.dooq.parser.converter.EpochCodec;
+import org.dooq.parser.converter.StringPool;
+import org.dooq.parser.packed.PackedCodec;
+import org.dooq.util.IntArrayList;
+import org.dooq.util.LongArrayList;
 import org.jetbrains.annotations.*;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -14,9 +30,16 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import java.beans.Transient;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.lang.constant.ConstantDescs;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -33,105 +56,1267 @@ public class ParserCompiler extends ClassLoader {
 
     public static boolean DEBUG = System.getProperty("dooq.converter.debug", "false")
             .equalsIgnoreCase("true");
+
+    /**
+     * Read mode of the converters, {@code -Ddooq.converter.reader=single-pass} enables the single-pass reader
+     */
+    public static final ReadMode DEFAULT_READ_MODE = ReadMode.of(System.getProperty("dooq.converter.reader"));
+
     private static final ParserCompiler INSTANCE = new ParserCompiler();
-    private final Map<Class<?>, ConverterStruct> converterMap = new ConcurrentHashMap<>();
 
-    private ParserCompiler() {
-        super("ParserCompiler", Thread.currentThread().getContextClassLoader());
+    /**
+     * Introspected parser classes, held by the parser class so custom parsers can be unloaded
+     */
+    private final ClassValue<ConverterStruct> converterMap = new ClassValue<>() {
+        @Override
+        protected ConverterStruct computeValue(@NotNull Class<?> type) {
+            return new ConverterStruct(type);
+        }
+    };
+
+    /**
+     * Constants of the classes being defined, taken by their static initializer
+     */
+    private final Map<String, Object[]> pendingConstants = new ConcurrentHashMap<>();
+
+    /**
+     * Types being generated by the current thread, nested references to them are resolved at runtime
+     */
+    private static final ThreadLocal<Set<Class<?>>> inProgress = ThreadLocal.withInitial(HashSet::new);
+
+    /**
+     * Suffix of the projection parsers and the named classes
+     */
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    private static final String LAZY = "LAZY";
+
+    /**
+     * Recipe of the nested converter constants, followed by the nested type name
+     */
+    private static final String CONVERTER_RECIPE = "converter:";
+
+    /**
+     * Recipe of the compression codec constants, followed by the threshold and the level
+     */
+    private static final String COMPRESSION_RECIPE = "compression:";
+
+    /**
+     * Recipe of the packed codec constants, followed by the packed type name
+     */
+    static final String PACKED_RECIPE = "packed:";
+
+    /**
+     * Recipe of the string pool constants, followed by the capacity and the pool name
+     */
+    private static final String POOL_RECIPE = "pool:";
+
+    /**
+     * Recipe of the epoch codec constants, followed by the unit and the temporal type name
+     */
+    private static final String EPOCH_RECIPE = "epoch:";
+
+    /**
+     * Recipe of the enum codec constants, followed by the encoding and the enum type name
+     */
+    private static final String ENUM_RECIPE = "enum:";
+
+    private ParserCompiler() {
+        super("ParserCompiler", Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Defines the generated class in the package of the target type.
+     * <p>
+     * Hidden classes are used when the package grants full privilege access, they are unloaded with the
+     * target type and receive their constants as class data. Otherwise, the class is defined by the lookup
+     * or, as the last resort, by this class loader.
+     */
+    static @Nullable Class<?> defineClass(@NotNull Generation generation, byte[] bytecode) {
+
+        if (DEBUG) {
+            try {
+
+                var file = new File("compiled");
+                var ignored = file.mkdir();
+
+                FileOutputStream outputStream = new FileOutputStream(new File(file, generation.name() + ".class"));
+                outputStream.write(bytecode);
+                outputStream.close();
+            } catch (Exception ex) {
+                Logger.getLogger(ParserCompiler.class.getName())
+                        .log(Level.SEVERE, null, ex);
+            }
+        }
+
+        var definition = generation.definition();
+        var constants = generation.constants().stream()
+                .map(Constant::value)
+                .toArray();
+
+        try {
+
+            if (definition.hidden()) {
+                return Objects.requireNonNull(definition.lookup())
+                        .defineHiddenClassWithClassData(bytecode, constants, true)
+                        .lookupClass();
+            }
+
+            if (constants.length > 0) {
+                INSTANCE.pendingConstants.put(generation.internalName(), constants);
+            }
+
+            if (definition.lookup() != null) {
+                return definition.lookup().defineClass(bytecode);
+            }
+
+            return INSTANCE.defineClass(generation.internalName().replace('/', '.'), bytecode, 0, bytecode.length);
+        } catch (LinkageError | IllegalAccessException error) {
+
+            Logger.getLogger(ParserCompiler.class.getName())
+                    .log(Level.SEVERE, "Failed to load class: " + generation.name(), error);
+
+            return null;
+        }
+
+    }
+
+    public static <T> @NotNull ObjectParser<T> getConverter(@NotNull Class<T> type) {
+        return getConverter(type, ObjectParser.class);
+    }
+
+    @SuppressWarnings("rawtypes")
+    public static <T> @NotNull ObjectParser<T> getConverter(@NotNull Class<T> type, Class<? extends ObjectParser> parserClass) {
+        return getConverter(type, parserClass, DEFAULT_READ_MODE);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> @NotNull ObjectParser<T> getConverter(@NotNull Class<T> type, Class<? extends ObjectParser> parserClass,
+                                                            @NotNull ReadMode mode) {
+
+        var converter = getStruct(parserClass);
+
+        var parser = converter
+                .getCachedParser(type, mode.name());
+
+        if (parser != null) {
+            return (ObjectParser<T>) parser;
+        }
+
+        if (parserClass == ObjectParser.class && mode == DEFAULT_READ_MODE) {
+            parser = GeneratedConverters.CONVERTERS.get(type);
+
+            if (parser != null) {
+                return converter.putCachedParser(type, mode.name(), (ObjectParser<T>) parser);
+            }
+        }
+
+        if (DEBUG) {
+            Logger.getLogger(ParserCompiler.class.getName())
+                    .log(Level.INFO, "Creating converter for class: " + type);
+        }
+
+        if (!type.isRecord()) {
+            boolean invalidConstructor = true;
+
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                if (constructor.getParameterCount() == 0) {
+                    invalidConstructor = false;
+                    break;
+                }
+            }
+
+            if (invalidConstructor) {
+                throw new IllegalArgumentException("No args constructor is required for type '%s'".formatted(type));
+            }
+        }
+
+        var generation = new Generation(type, parserClass, mode,
+                type.getSimpleName() + parserClass.getSimpleName() + mode.suffix(),
+                getProperties(type), null);
+
+        ObjectParser<T> parserInstance = compile(generation);
+
+        return converter.putCachedParser(type, mode.name(), parserInstance);
+    }
+
+    /**
+     * Returns a parser that only reads the given attributes, the remaining properties are left untouched
+     * (default values for records), writing is not affected by the projection.
+     *
+     * @param type    the record type
+     * @param columns the projected attribute names
+     */
+    public static <T> @NotNull ObjectParser<T> getProjectionParser(@NotNull Class<T> type, @NotNull Collection<String> columns) {
+        return getProjectionParser(type, ObjectParser.class, DEFAULT_READ_MODE, columns);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> @NotNull ObjectParser<T> getProjectionParser(@NotNull Class<T> type, Class<? extends ObjectParser> parserClass,
+                                                                   @NotNull ReadMode mode, @NotNull Collection<String> columns) {
+
+        var projection = new TreeSet<>(columns);
+        var variant = mode.name() + ":" + String.join(",", projection);
+
+        var converter = getStruct(parserClass);
+
+        var parser = converter.getCachedParser(type, variant);
+
+        if (parser != null) {
+            return (ObjectParser<T>) parser;
+        }
+
+        var properties = getProperties(type);
+
+        if (properties.stream().allMatch(a -> projection.contains(a.column()))) {
+            parser = getConverter(type, parserClass, mode);
+        } else {
+            var generation = new Generation(type, parserClass, mode,
+                    type.getSimpleName() + parserClass.getSimpleName() + mode.suffix() + "Projection" + sequence.incrementAndGet(),
+                    properties, projection);
+
+            parser = compile(generation);
+        }
+
+        return converter.putCachedParser(type, variant, (ObjectParser<T>) parser);
+    }
+
+    /**
+     * Returns a parser of {@link org.dooq.projection.Projection} tuples, the {@code valueN} component
+     * is read from and written to the attribute of the {@code N}th field.
+     *
+     * @param tupleType  the {@code ProjectionResultN} type, {@code N} must match the number of fields
+     * @param recordType the record type of the fields, provides the generic type of collections
+     * @param fields     the projected fields
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> @NotNull ObjectParser<T> getTupleParser(@NotNull Class<T> tupleType, @NotNull Class<?> recordType,
+                                                              @NotNull List<? extends FieldType> fields) {
+
+        var components = tupleType.getRecordComponents();
+
+        if (components == null || components.length != fields.size()) {
+            throw new IllegalArgumentException("Type '%s' cannot hold %d values".formatted(tupleType, fields.size()));
+        }
+
+        var variant = fields.stream()
+                .map(FieldType::name)
+                .collect(Collectors.joining(",", recordType.getName() + ":", ""));
+
+        var converter = getStruct(ObjectParser.class);
+
+        var parser = converter.getCachedParser(tupleType, variant);
+
+        if (parser != null) {
+            return (ObjectParser<T>) parser;
+        }
+
+        Map<String, Property> recordProperties = new HashMap<>();
+
+        for (Property property : getProperties(recordType)) {
+            recordProperties.put(property.column(), property);
+        }
+
+        var properties = new ArrayList<Property>();
+
+        for (int i = 0; i < components.length; i++) {
+
+            var field = fields.get(i);
+            var valueType = MethodType.methodType(field.type()).wrap().returnType();
+            var recordProperty = recordProperties.get(field.name());
+
+            java.lang.reflect.Type genericType = recordProperty != null && recordProperty.type() == valueType ?
+                    recordProperty.genericType() : valueType;
+
+            properties.add(new Property(field.name(), valueType, genericType, null, components[i].getAccessor(), null));
+        }
+
+        var generation = new Generation(tupleType, ObjectParser.class, ReadMode.LOOKUP,
+                tupleType.getSimpleName() + recordType.getSimpleName() + sequence.incrementAndGet(),
+                properties, null);
+
+        parser = compile(generation);
+
+        return converter.putCachedParser(tupleType, variant, (ObjectParser<T>) parser);
+    }
+
+    /**
+     * Returns a parser of lazily decoded records, the returned records are subclasses of the type implementing
+     * {@link LazyView}, backed by the raw item. Each property is decoded on first access of its getter.
+     * <p>
+     * Records, final classes and classes with accessors that cannot be overridden are decoded eagerly.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull ObjectParser<T> getLazyConverter(@NotNull Class<T> type) {
+
+        var converter = getStruct(ObjectParser.class);
+
+        var parser = converter.getCachedParser(type, LAZY);
+
+        if (parser != null) {
+            return (ObjectParser<T>) parser;
+        }
+
+        var properties = isLazyCapable(type) ? getProperties(type) : null;
+
+        if (properties == null || properties.stream().anyMatch(a -> a.setter() != null && !isOverridable(a.getter()))) {
+            parser = getConverter(type);
+        } else {
+            parser = compileLazy(type, properties);
+        }
+
+        return converter.putCachedParser(type, LAZY, (ObjectParser<T>) parser);
+    }
+
+    private static boolean isLazyCapable(@NotNull Class<?> type) {
+
+        if (type.isRecord() || Modifier.isFinal(type.getModifiers()) || !Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+
+        try {
+            var constructor = type.getDeclaredConstructor();
+
+            return Modifier.isPublic(constructor.getModifiers()) || Modifier.isProtected(constructor.getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isOverridable(@Nullable Method method) {
+
+        if (method == null) return true;
+
+        int modifiers = method.getModifiers();
+
+        return (Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)) &&
+                !Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers);
+    }
+
+    /**
+     * Defines the lazy subclass of the type and its parser, the subclass holds the parser in a constant
+     * and calls {@link ObjectParser#readField(Map, int, Object)} to decode a single property.
+     */
+    private static <T> @NotNull ObjectParser<T> compileLazy(@NotNull Class<T> type, @NotNull List<Property> properties) {
+
+        var readable = properties.stream()
+                .filter(a -> a.setter() != null)
+                .toList();
+
+        //The lazy parser instantiates the lazy class by name
+        var lazy = new Generation(type, ObjectParser.class, ReadMode.LOOKUP, type.getSimpleName() + "Lazy",
+                properties, null, new ArrayList<>(), Definition.of(type, false), new AtomicLong());
+
+        var generation = new Generation(type, ObjectParser.class, ReadMode.LOOKUP, type.getSimpleName() + "LazyParser",
+                properties, null);
+
+        //Assigned once the parser is created
+        lazy.constants().add(new Constant(null, ObjectParser.class));
+
+        var lazyClass = defineClass(lazy, defineLazyClass(lazy, readable));
+
+        if (lazyClass == null) {
+            throw new RuntimeException("Failed to compile lazy record for class '%s'".formatted(type));
+        }
+
+        ClassWriter writer = new ParserClassWriter(type);
+
+        writer.visit(V17, ACC_PUBLIC, generation.internalName(), null, generation.parserName(), null);
+
+        inProgress.get().add(type);
+
+        try {
+            defineConstructor(writer, ObjectParser.class);
+            defineLazyReadMethods(writer, generation, lazy, readable);
+            defineWriteMethod(writer, generation);
+        } finally {
+            inProgress.get().remove(type);
+        }
+
+        defineConstants(writer, generation);
+
+        writer.visitEnd();
+
+        var parser = createObject(writer.toByteArray(), type, generation);
+
+        INSTANCE.pendingConstants.put(lazy.internalName(), new Object[]{parser});
+
+        try {
+            Class.forName(lazyClass.getName(), true, lazyClass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return parser;
+    }
+
+    private static byte @NotNull [] defineLazyClass(@NotNull Generation lazy, @NotNull List<Property> readable) {
+
+        var type = lazy.type();
+        var superName = Type.getInternalName(type);
+        var name = lazy.internalName();
+
+        ClassWriter writer = new ParserClassWriter(type);
+
+        writer.visit(V17, ACC_PUBLIC | ACC_SUPER, name, null, superName,
+                new String[]{Type.getInternalName(LazyView.class)});
+
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "$item", "Ljava/util/Map;", null, null).visitEnd();
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "$decoded", "[J", null, null).visitEnd();
+
+        // Constructor, the fields are assigned before the super constructor may call the overridden setters
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/util/Map;)V", null, null);
+        visitor.visitCode();
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitFieldInsn(PUTFIELD, name, "$item", "Ljava/util/Map;");
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitLdcInsn((readable.size() + 63) >>> 6);
+        visitor.visitIntInsn(NEWARRAY, T_LONG);
+        visitor.visitFieldInsn(PUTFIELD, name, "$decoded", "[J");
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitMethodInsn(INVOKESPECIAL, superName, "<init>", "()V", false);
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        // $decode(int), decodes the property once
+        visitor = writer.visitMethod(ACC_PRIVATE, "$decode", "(I)V", null, null);
+        visitor.visitCode();
+
+        var decode = new Label();
+        var end = new Label();
+
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitFieldInsn(GETFIELD, name, "$decoded", "[J");
+        visitor.visitVarInsn(ILOAD, 1);
+        visitor.visitIntInsn(BIPUSH, 6);
+        visitor.visitInsn(IUSHR);
+        visitor.visitInsn(DUP2);
+        visitor.visitInsn(LALOAD);
+        visitor.visitInsn(LCONST_1);
+        visitor.visitVarInsn(ILOAD, 1);
+        visitor.visitInsn(LSHL);
+        visitor.visitInsn(DUP2_X2);
+        visitor.visitInsn(LAND);
+        visitor.visitInsn(LCONST_0);
+        visitor.visitInsn(LCMP);
+        visitor.visitJumpInsn(IFEQ, decode);
+        visitor.visitInsn(POP2);
+        visitor.visitInsn(POP2);
+        visitor.visitInsn(RETURN);
+
+        visitor.visitLabel(decode);
+        // stack: decoded, word, bit
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitFieldInsn(GETFIELD, name, "$decoded", "[J");
+        visitor.visitVarInsn(ILOAD, 1);
+        visitor.visitIntInsn(BIPUSH, 6);
+        visitor.visitInsn(IUSHR);
+        visitor.visitInsn(LALOAD);
+        visitor.visitInsn(LOR);
+        visitor.visitInsn(LASTORE);
+
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitFieldInsn(GETFIELD, name, "$item", "Ljava/util/Map;");
+        visitor.visitJumpInsn(IFNULL, end);
+
+        lazy.loadConstant(0).accept(visitor);
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitFieldInsn(GETFIELD, name, "$item", "Ljava/util/Map;");
+        visitor.visitVarInsn(ILOAD, 1);
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(ObjectParser.class), "readField",
+                "(Ljava/util/Map;ILjava/lang/Object;)V", false);
+
+        visitor.visitLabel(end);
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        // $mark(int), the property was assigned
+        visitor = writer.visitMethod(ACC_PRIVATE, "$mark", "(I)V", null, null);
+        visitor.visitCode();
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitFieldInsn(GETFIELD, name, "$decoded", "[J");
+        visitor.visitVarInsn(ILOAD, 1);
+        visitor.visitIntInsn(BIPUSH, 6);
+        visitor.visitInsn(IUSHR);
+        visitor.visitInsn(DUP2);
+        visitor.visitInsn(LALOAD);
+        visitor.visitInsn(LCONST_1);
+        visitor.visitVarInsn(ILOAD, 1);
+        visitor.visitInsn(LSHL);
+        visitor.visitInsn(LOR);
+        visitor.visitInsn(LASTORE);
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        // $decodeAll()
+        visitor = writer.visitMethod(ACC_PRIVATE, "$decodeAll", "()V", null, null);
+        visitor.visitCode();
+
+        for (int i = 0; i < readable.size(); i++) {
+            visitor.visitVarInsn(ALOAD, 0);
+            visitor.visitLdcInsn(i);
+            visitor.visitMethodInsn(INVOKESPECIAL, name, "$decode", "(I)V", false);
+        }
+
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        // LazyView
+        visitor = writer.visitMethod(ACC_PUBLIC, "decodedFields", "()I", null, null);
+        visitor.visitCode();
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitFieldInsn(GETFIELD, name, "$decoded", "[J");
+        visitor.visitMethodInsn(INVOKESTATIC, Type.getInternalName(LazyView.class), "countDecoded", "([J)I", true);
+        visitor.visitInsn(IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        visitor = writer.visitMethod(ACC_PUBLIC, "fieldCount", "()I", null, null);
+        visitor.visitCode();
+        visitor.visitLdcInsn(readable.size());
+        visitor.visitInsn(IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        Set<Method> overridden = new HashSet<>();
+
+        for (int i = 0; i < readable.size(); i++) {
+
+            var property = readable.get(i);
+
+            if (property.getter() != null) {
+                overrideMethod(writer, lazy, property.getter(), "$decode", i);
+                overridden.add(property.getter());
+            }
+
+            overrideMethod(writer, lazy, Objects.requireNonNull(property.setter()), "$mark", i);
+            overridden.add(property.setter());
+        }
+
+        for (Method method : type.getDeclaredMethods()) {
+
+            if (overridden.contains(method) || method.isSynthetic() || method.isBridge()) continue;
+            if (Modifier.isAbstract(method.getModifiers()) || !isOverridable(method)) continue;
+
+            overrideMethod(writer, lazy, method, "$decodeAll", -1);
+        }
+
+        defineConstants(writer, lazy);
+
+        writer.visitEnd();
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Overrides the method, invoking the hook before the super method
+     *
+     * @param index the argument of the hook, -1 if the hook takes no arguments
+     */
+    private static void overrideMethod(@NotNull ClassWriter writer, @NotNull Generation lazy, @NotNull Method method,
+                                       @NotNull String hook, int index) {
+
+        var descriptor = Type.getMethodDescriptor(method);
+        var access = method.getModifiers() & (ACC_PUBLIC | ACC_PROTECTED);
+
+        MethodVisitor visitor = writer.visitMethod(access, method.getName(), descriptor, null, null);
+        visitor.visitCode();
+
+        visitor.visitVarInsn(ALOAD, 0);
+
+        if (index < 0) {
+            visitor.visitMethodInsn(INVOKESPECIAL, lazy.internalName(), hook, "()V", false);
+        } else {
+            visitor.visitLdcInsn(index);
+            visitor.visitMethodInsn(INVOKESPECIAL, lazy.internalName(), hook, "(I)V", false);
+        }
+
+        visitor.visitVarInsn(ALOAD, 0);
+
+        int slot = 1;
+
+        for (Type argument : Type.getArgumentTypes(descriptor)) {
+            visitor.visitVarInsn(argument.getOpcode(ILOAD), slot);
+            slot += argument.getSize();
+        }
+
+        visitor.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(lazy.type()), method.getName(), descriptor, false);
+        visitor.visitInsn(Type.getReturnType(descriptor).getOpcode(IRETURN));
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    /**
+     * Defines newInstance, read and readField of the lazy parser
+     */
+    private static void defineLazyReadMethods(@NotNull ClassWriter writer, @NotNull Generation generation,
+                                              @NotNull Generation lazy, @NotNull List<Property> readable) {
+
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, "newInstance", "()Ljava/lang/Object;", null, null);
+        visitor.visitCode();
+        visitor.visitTypeInsn(NEW, lazy.internalName());
+        visitor.visitInsn(DUP);
+        visitor.visitInsn(ACONST_NULL);
+        visitor.visitMethodInsn(INVOKESPECIAL, lazy.internalName(), "<init>", "(Ljava/util/Map;)V", false);
+        visitor.visitInsn(ARETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        visitor = writer.visitMethod(ACC_PUBLIC, "read", "(Ljava/util/Map;)Ljava/lang/Object;", null, null);
+        visitor.visitCode();
+        visitor.visitTypeInsn(NEW, lazy.internalName());
+        visitor.visitInsn(DUP);
+        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitMethodInsn(INVOKESPECIAL, lazy.internalName(), "<init>", "(Ljava/util/Map;)V", false);
+        visitor.visitInsn(ARETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+
+        visitor = writer.visitMethod(ACC_PUBLIC, "readField", "(Ljava/util/Map;ILjava/lang/Object;)V", null, null);
+        visitor.visitCode();
+
+        var labels = new Label[readable.size()];
+
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = new Label();
+        }
+
+        var end = new Label();
+
+        if (labels.length > 0) {
+            visitor.visitVarInsn(ILOAD, 2);
+            visitor.visitTableSwitchInsn(0, labels.length - 1, end, labels);
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+
+            var property = readable.get(i);
+
+            visitor.visitLabel(labels[i]);
+            visitor.visitVarInsn(ALOAD, 3);
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(generation.type()));
+            computeReader(visitor, generation, property, mapLookUp(property));
+            invokeSetter(visitor, Objects.requireNonNull(property.setter()));
+            visitor.visitInsn(RETURN);
+        }
+
+        visitor.visitLabel(end);
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static <T> @NotNull ObjectParser<T> compile(@NotNull Generation generation) {
+
+        @SuppressWarnings("unchecked")
+        var type = (Class<T>) generation.type();
+        var parserClass = generation.parserClass();
+
+        var cache = ConverterCache.INSTANCE;
+        String key = null;
+
+        if (cache != null && generation.definition().hidden()) {
+
+            key = ConverterCache.key(generation, inProgress.get());
+
+            ObjectParser<T> parser = loadCached(cache, key, generation);
+
+            if (parser != null) return parser;
+        }
+
+        long start = System.nanoTime();
+
+        ClassWriter writer = new ParserClassWriter(type);
+
+        writer.visit(V17, ACC_PUBLIC, generation.internalName(),
+                null, Type.getInternalName(parserClass), null);
+
+        inProgress.get().add(type);
+
+        try {
+            defineNewInstance(writer, type);
+            defineConstructor(writer, parserClass);
+
+            if (generation.mode() == ReadMode.SINGLE_PASS) {
+                defineSinglePassReadMethod(writer, generation);
+            } else {
+                defineReadMethod(writer, generation);
+            }
+
+            defineWriteMethod(writer, generation);
+        } finally {
+            inProgress.get().remove(type);
+        }
+
+        defineConstants(writer, generation);
+
+        writer.visitEnd();
+
+        byte[] bytecode = writer.toByteArray();
+
+        var parser = createObject(bytecode, type, generation);
+
+        if (key != null && generation.constants().stream().allMatch(a -> a.recipe() != null)) {
+            cache.store(key, bytecode, generation.constants().stream()
+                    .map(Constant::recipe)
+                    .toList(), System.nanoTime() - start - generation.nestedNanos().get());
+        }
+
+        return parser;
+    }
+
+    /**
+     * Defines the cached bytecode, the constants are resolved again from their recipes
+     *
+     * @return null if the entry is missing or unusable
+     */
+    private static <T> @Nullable ObjectParser<T> loadCached(@NotNull ConverterCache cache, @NotNull String key,
+                                                           @NotNull Generation generation) {
+
+        long start = System.nanoTime();
+
+        var entry = cache.load(key);
+
+        if (entry == null) return null;
+
+        @SuppressWarnings("unchecked")
+        var type = (Class<T>) generation.type();
+
+        try {
+            //Same context as the generation, so the nested converters resolve to the same entries
+            inProgress.get().add(type);
+
+            try {
+                for (String recipe : entry.recipes()) {
+                    generation.constants().add(resolveRecipe(generation, recipe));
+                }
+            } finally {
+                inProgress.get().remove(type);
+            }
+
+            var parser = createObject(entry.bytecode(), type, generation);
+
+            cache.hit(entry.generationNanos() - (System.nanoTime() - start - generation.nestedNanos().get()));
+
+            return parser;
+        } catch (RuntimeException | ClassNotFoundException ex) {
+            Logger.getLogger(ParserCompiler.class.getName())
+                    .log(Level.WARNING, "Discarding cached converter of " + type, ex);
+
+            generation.constants().clear();
+            generation.nestedNanos().set(0);
+            cache.evict(key);
+
+            return null;
+        }
+    }
+
+    private static @NotNull Constant resolveRecipe(@NotNull Generation generation, @NotNull String recipe)
+            throws ClassNotFoundException {
+
+        if (recipe.startsWith(CONVERTER_RECIPE)) {
+
+            var nested = Class.forName(recipe.substring(CONVERTER_RECIPE.length()), false,
+                    generation.type().getClassLoader());
+
+            long start = System.nanoTime();
+            var parser = getConverter(nested, generation.parserClass(), generation.mode());
+            generation.nestedNanos().addAndGet(System.nanoTime() - start);
+
+            return new Constant(parser, ObjectParser.class, recipe);
+        }
+
+        if (recipe.startsWith(COMPRESSION_RECIPE)) {
+
+            var arguments = recipe.substring(COMPRESSION_RECIPE.length()).split(":");
+
+            return new Constant(CompressionCodec.of(Integer.parseInt(arguments[0]), Integer.parseInt(arguments[1])),
+                    CompressionCodec.class, recipe);
+        }
+
+        if (recipe.startsWith(POOL_RECIPE)) {
+
+            var arguments = recipe.substring(POOL_RECIPE.length()).split(":", 2);
+
+            return new Constant(StringPool.of(arguments[1], Integer.parseInt(arguments[0])), StringPool.class, recipe);
+        }
+
+        if (recipe.startsWith(EPOCH_RECIPE)) {
+
+            var arguments = recipe.substring(EPOCH_RECIPE.length()).split(":", 2);
+
+            return new Constant(EpochCodec.of(Class.forName(arguments[1]), EpochEncoded.Unit.valueOf(arguments[0])),
+                    EpochCodec.class, recipe);
+        }
+
+        if (recipe.startsWith(ENUM_RECIPE)) {
+
+            var arguments = recipe.substring(ENUM_RECIPE.length()).split(":", 2);
+            var type = Class.forName(arguments[1], false, generation.type().getClassLoader());
+
+            return new Constant(enumCodec(type, EnumFormat.Encoding.valueOf(arguments[0])), EnumCodec.class, recipe);
+        }
+
+        if (recipe.startsWith(PACKED_RECIPE)) {
+
+            var packed = Class.forName(recipe.substring(PACKED_RECIPE.length()), false,
+                    generation.type().getClassLoader());
+
+            return new Constant(getPackedCodec(packed), PackedCodec.class, recipe);
+        }
+
+        throw new IllegalStateException("Unknown constant recipe: " + recipe);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static @NotNull ConverterStruct getStruct(Class<? extends ObjectParser> parserClass) {
+        return INSTANCE.converterMap.get(parserClass);
+    }
+
+    /**
+     * The state of the converter being generated
+     *
+     * @param type        the target type
+     * @param parserClass the parser super class
+     * @param mode        the read mode, also used by nested converters
+     * @param name        the simple name of the generated class
+     * @param properties  the properties of the type
+     * @param projection  the attributes read by the parser, null to read every property
+     * @param constants   values held in static final fields of the generated class
+     * @param definition  how the class is defined
+     * @param nestedNanos time spent resolving the nested converters, excluded from the generation time
+     */
+    @SuppressWarnings("rawtypes")
+    record Generation(Class<?> type, Class<? extends ObjectParser> parserClass, ReadMode mode, String name,
+                      List<Property> properties, @Nullable Set<String> projection, List<Constant> constants,
+                      Definition definition, AtomicLong nestedNanos) {
+
+        Generation(Class<?> type, Class<? extends ObjectParser> parserClass, ReadMode mode, String name,
+                   List<Property> properties, @Nullable Set<String> projection) {
+            this(type, parserClass, mode, name, properties, projection, new ArrayList<>(), Definition.of(type, true),
+                    new AtomicLong());
+        }
+
+        boolean isRead(@NotNull Property property) {
+            return projection == null || projection.contains(property.column());
+        }
+
+        String internalName() {
+            return definition.packageName() + name + definition.suffix();
+        }
+
+        String parserName() {
+            return Type.getInternalName(parserClass);
+        }
+
+        /**
+         * @return the index of the static field holding the value
+         */
+        int constant(@NotNull Object value, @NotNull Class<?> fieldType) {
+            return constant(value, fieldType, null);
+        }
+
+        /**
+         * @param recipe describes how to resolve the value again when the class is loaded from the cache
+         */
+        int constant(@NotNull Object value, @NotNull Class<?> fieldType, @Nullable String recipe) {
+
+            for (int i = 0; i < constants.size(); i++) {
+                if (constants.get(i).value() == value) return i;
+            }
+
+            constants.add(new Constant(value, fieldType, recipe));
+
+            return constants.size() - 1;
+        }
 
-        converterMap.put(ObjectParser.class, new ConverterStruct(ObjectParser.class));
+        /**
+         * Pushes the constant value onto the stack
+         */
+        Consumer<MethodVisitor> loadConstant(int index) {
+            return visitor -> visitor.visitFieldInsn(GETSTATIC, internalName(), "C" + index,
+                    Type.getDescriptor(constants.get(index).type()));
+        }
     }
 
-    private @Nullable Class<?> defineNewClass(byte[] bytecode, String name) {
+    record Constant(Object value, Class<?> type, @Nullable String recipe) {
+
+        Constant(Object value, Class<?> type) {
+            this(value, type, null);
+        }
+    }
+
+    /**
+     * @param lookup the lookup of the target type package, null to define the class by the compiler class loader
+     * @param hidden whether the class is defined as a hidden class
+     * @param suffix makes the name of the named classes unique
+     */
+    record Definition(@Nullable MethodHandles.Lookup lookup, boolean hidden, String suffix) {
+
+        /**
+         * @param hidden false if the class must be resolvable by name
+         */
+        static @NotNull Definition of(@NotNull Class<?> type, boolean hidden) {
+
+            var suffix = "$" + sequence.incrementAndGet();
 
-        if (DEBUG) {
             try {
+                var lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
 
-                var file = new File("compiled");
-                var ignored = file.mkdir();
+                if (hidden && lookup.hasFullPrivilegeAccess()) {
+                    return new Definition(lookup, true, "");
+                }
 
-                FileOutputStream outputStream = new FileOutputStream(new File(file, name + ".class"));
-                outputStream.write(bytecode);
-                outputStream.close();
-            } catch (Exception ex) {
+                if ((lookup.lookupModes() & MethodHandles.Lookup.PACKAGE) != 0) {
+                    return new Definition(lookup, false, suffix);
+                }
+            } catch (IllegalAccessException | SecurityException ex) {
                 Logger.getLogger(ParserCompiler.class.getName())
-                        .log(Level.SEVERE, null, ex);
+                        .log(Level.FINE, "No access to the package of " + type, ex);
             }
+
+            return new Definition(null, false, suffix);
         }
 
-        try {
-            return super.defineClass("org.dooq.converter." + name, bytecode, 0, bytecode.length);
-        } catch (LinkageError error) {
+        String packageName() {
 
-            Logger.getLogger(ParserCompiler.class.getName())
-                    .log(Level.SEVERE, "Failed to load class: " + name, error);
+            if (lookup == null) return "org/dooq/converter/";
 
-            return null;
+            var packageName = lookup.lookupClass().getPackageName();
+
+            return packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/";
+        }
+    }
+
+    /**
+     * Defines a static final field per constant, assigned from the class initializer
+     */
+    static void defineConstants(@NotNull ClassWriter writer, @NotNull Generation generation) {
+
+        var constants = generation.constants();
+
+        if (constants.isEmpty()) return;
+
+        for (int i = 0; i < constants.size(); i++) {
+            writer.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "C" + i,
+                    Type.getDescriptor(constants.get(i).type()), null, null).visitEnd();
+        }
+
+        MethodVisitor visitor = writer.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+
+        visitor.visitCode();
+
+        if (generation.definition().hidden()) {
+            visitor.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup",
+                    "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+            visitor.visitLdcInsn(ConstantDescs.DEFAULT_NAME);
+            visitor.visitLdcInsn(Type.getType(Object[].class));
+            visitor.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "classData",
+                    "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;", false);
+            visitor.visitTypeInsn(CHECKCAST, "[Ljava/lang/Object;");
+        } else {
+            visitor.visitLdcInsn(generation.internalName());
+            visitor.visitMethodInsn(INVOKESTATIC, Type.getInternalName(ParserCompiler.class), "takeConstants",
+                    "(Ljava/lang/String;)[Ljava/lang/Object;", false);
+        }
+
+        visitor.visitVarInsn(ASTORE, 0);
+
+        for (int i = 0; i < constants.size(); i++) {
+            visitor.visitVarInsn(ALOAD, 0);
+            visitor.visitLdcInsn(i);
+            visitor.visitInsn(AALOAD);
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(constants.get(i).type()));
+            visitor.visitFieldInsn(PUTSTATIC, generation.internalName(), "C" + i,
+                    Type.getDescriptor(constants.get(i).type()));
         }
 
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
     }
 
-    public static <T> @NotNull ObjectParser<T> getConverter(@NotNull Class<T> type) {
-        return getConverter(type, ObjectParser.class);
+    /**
+     * Called once by the static initializer of the generated classes not defined as hidden classes
+     */
+    @ApiStatus.Internal
+    public static Object[] takeConstants(String className) {
+        return Objects.requireNonNull(INSTANCE.pendingConstants.remove(className),
+                "No constants found for " + className);
+    }
+
+    /**
+     * @return the constant index of the codec of the {@link Compressed} property
+     */
+    private static int compressionCodec(@NotNull Generation generation, @NotNull Property property,
+                                        @NotNull Compressed compressed) {
+
+        if (property.type() != String.class) {
+            throw new IllegalStateException("@Compressed requires a String property: " + property.column() +
+                    " in class " + generation.type());
+        }
+
+        var codec = CompressionCodec.of(compressed);
+
+        return generation.constant(codec, CompressionCodec.class,
+                COMPRESSION_RECIPE + codec.threshold() + ":" + codec.level());
+    }
+
+    /**
+     * @return the constant index of the pool of the {@link Deduplicate} property
+     */
+    private static int stringPool(@NotNull Generation generation, @NotNull Property property,
+                                  @NotNull Deduplicate deduplicate) {
+
+        if (property.type() != String.class) {
+            throw new IllegalStateException("@Deduplicate requires a String property: " + property.column() +
+                    " in class " + generation.type());
+        }
+
+        var pool = StringPool.of(deduplicate);
+
+        return generation.constant(pool, StringPool.class, POOL_RECIPE + pool.capacity() + ":" + pool.name());
+    }
+
+    /**
+     * @return the constant index of the codec of the {@link EpochEncoded} property
+     */
+    private static int epochCodec(@NotNull Generation generation, @NotNull Property property,
+                                  @NotNull EpochEncoded epoch) {
+
+        EpochCodec codec;
+
+        try {
+            codec = EpochCodec.of(property.type(), epoch.value());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("@EpochEncoded not supported by the property: " + property.column() +
+                    " in class " + generation.type(), e);
+        }
+
+        return generation.constant(codec, EpochCodec.class, EPOCH_RECIPE + codec.unit() + ":" + codec.type().getName());
+    }
+
+    /**
+     * @return the constant index of the codec of the enum property, see {@link EnumFormat}
+     */
+    private static int enumCodec(@NotNull Generation generation, @NotNull Property property) {
+
+        var format = property.annotation(EnumFormat.class);
+
+        if (format == null) format = property.type().getAnnotation(EnumFormat.class);
+
+        var encoding = format == null ? EnumFormat.Encoding.NAME : format.value();
+
+        return generation.constant(enumCodec(property.type(), encoding), EnumCodec.class,
+                ENUM_RECIPE + encoding + ":" + property.type().getName());
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    public static <T> @NotNull ObjectParser<T> getConverter(@NotNull Class<T> type, Class<? extends ObjectParser> parserClass) {
+    private static @NotNull EnumCodec<?> enumCodec(@NotNull Class<?> type, @NotNull EnumFormat.Encoding encoding) {
+        return EnumCodec.of((Class) type, encoding);
+    }
+
+    /**
+     * Returns the positional binary codec of the type, used by the {@link Packed} properties
+     */
+    public static <T> @NotNull PackedCodec<T> getPackedCodec(@NotNull Class<T> type) {
+        return PackedCompiler.getCodec(type);
+    }
+
+    /**
+     * Returns an instance of the type holding a value in every property, null if it can not be instantiated
+     */
+    @ApiStatus.Internal
+    public static <T> @Nullable T newSample(@NotNull Class<T> type) {
+        return Samples.of(type);
+    }
+
+    /**
+     * Returns the copier of the source type properties into new instances of the target type,
+     * compiled once per type pair
+     */
+    public static <S, T> @NotNull ObjectCopier<S, T> getCopier(@NotNull Class<S> source, @NotNull Class<T> target) {
+        return CopierCompiler.getCopier(source, target);
+    }
+
+    /**
+     * @return the name of the writer of the primitive array or list type, taking the {@link ArrayFormat.Encoding}
+     */
+    @SuppressWarnings("rawtypes")
+    private static @Nullable String getArrayWriter(@NotNull Class<?> type, Class<? extends ObjectParser> parserClass) {
+
+        if (type == IntArrayList.class) return "writeIntList";
+        if (type == LongArrayList.class) return "writeLongList";
+
+        if (!type.isArray() || !type.getComponentType().isPrimitive()) return null;
+
+        var component = type.getComponentType().getName();
+        var name = "write" + Character.toUpperCase(component.charAt(0)) + component.substring(1) + "Array";
 
-        @Nullable var converter = INSTANCE.converterMap.get(parserClass);
+        return getStruct(parserClass).getMethod(name) == null ? null : name;
+    }
+
+    private static boolean isPacked(@NotNull Property property) {
 
-        if (converter == null) {
-            converter = new ConverterStruct(parserClass);
-            INSTANCE.converterMap.put(parserClass, converter);
+        if (property.annotation(Packed.class) == null && !property.type().isAnnotationPresent(Packed.class)) {
+            return false;
         }
 
-        var parser = converter
-                .getCachedParser(type);
+        if (!isCustomClass(property.type()) || property.type().isEnum()) {
+            throw new IllegalStateException("@Packed requires an object property: " + property.column());
+        }
 
-        if (parser != null) {
-            return (ObjectParser<T>) parser;
+        return true;
+    }
+
+    /**
+     * @return the constant index of the codec of the {@link Packed} property
+     */
+    private static int packedCodec(@NotNull Generation generation, @NotNull Class<?> type) {
+        return generation.constant(getPackedCodec(type), PackedCodec.class, PACKED_RECIPE + type.getName());
+    }
+
+    /**
+     * Resolves the converter of a nested type at generation time
+     *
+     * @return the constant index, or -1 when the type is being generated (cyclic reference)
+     */
+    private static int nestedConverter(@NotNull Generation generation, @NotNull Class<?> type) {
+
+        if (inProgress.get().contains(type)) return -1;
+
+        long start = System.nanoTime();
+        var parser = getConverter(type, generation.parserClass(), generation.mode());
+        generation.nestedNanos().addAndGet(System.nanoTime() - start);
+
+        return generation.constant(parser, ObjectParser.class, CONVERTER_RECIPE + type.getName());
+    }
+
+    @Contract(pure = true)
+    private static @NotNull Consumer<MethodVisitor> classArgument(@NotNull Class<?> type) {
+        return visitor -> visitor.visitLdcInsn(Type.getType(type));
+    }
+
+    /**
+     * Computes the stack map frames, resolving the common super classes with the target type class loader
+     */
+    static final class ParserClassWriter extends ClassWriter {
+
+        private final ClassLoader classLoader;
+
+        ParserClassWriter(@NotNull Class<?> type) {
+            super(COMPUTE_FRAMES);
+            this.classLoader = type.getClassLoader() == null ?
+                    ParserCompiler.class.getClassLoader() : type.getClassLoader();
         }
 
-        if (DEBUG) {
-            Logger.getLogger(ParserCompiler.class.getName())
-                    .log(Level.INFO, "Creating converter for class: " + type);
+        @Override
+        protected ClassLoader getClassLoader() {
+            return classLoader;
         }
 
-        if (!type.isRecord()) {
-            boolean invalidConstructor = true;
+        @Override
+        protected String getCommonSuperClass(String type1, String type2) {
+            try {
+                return super.getCommonSuperClass(type1, type2);
+            } catch (TypeNotPresentException ex) {
+                return "java/lang/Object";
+            }
+        }
+    }
 
-            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
-                if (constructor.getParameterCount() == 0) {
-                    invalidConstructor = false;
-                    break;
-                }
+    /**
+     * A readable and/or writable property of the target type
+     *
+     * @param column      the attribute name
+     * @param type        the property type
+     * @param genericType the property generic type
+     * @param field       the backing field
+     * @param getter      the accessor, null if not writable
+     * @param setter      the mutator, null if not readable or if the type is a record
+     */
+    record Property(String column, Class<?> type, java.lang.reflect.Type genericType, @Nullable Field field,
+                    @Nullable Method getter, @Nullable Method setter) {
+
+        <A extends Annotation> @Nullable A annotation(@NotNull Class<A> annotation) {
+            return field == null ? null : field.getAnnotation(annotation);
+        }
+    }
+
+    static @NotNull List<Property> getProperties(@NotNull Class<?> type) {
+
+        Map<String, Method> accessors = new HashMap<>();
+
+        for (Method method : type.getDeclaredMethods()) {
+
+            if (method.isAnnotationPresent(Transient.class)) continue;
+            if (method.getParameterCount() > 0) continue;
+
+            if (accessors.put(method.getName().toLowerCase(), method) != null) {
+                throw new IllegalStateException("Duplicate method found: " + method.getName());
             }
+        }
 
-            if (invalidConstructor) {
-                throw new IllegalArgumentException("No args constructor is required for type '%s'".formatted(type));
+        if (accessors.isEmpty()) throw new IllegalStateException("No accessors found for class " + type);
+
+        var properties = new ArrayList<Property>();
+
+        if (type.isRecord()) {
+
+            for (RecordComponent component : type.getRecordComponents()) {
+
+                Field field;
+
+                try {
+                    field = type.getDeclaredField(component.getName());
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalStateException(e);
+                }
+
+                properties.add(new Property(getColumnName(field), component.getType(), component.getGenericType(),
+                        field, component.getAccessor(), null));
             }
+
+            return properties;
         }
 
-        ClassWriter writer = new ClassWriter(0);
+        var modifiers = Arrays.stream(type.getDeclaredMethods())
+                .filter(a -> a.getParameterCount() == 1)
+                .collect(Collectors.toMap(method -> method.getName().toLowerCase(), ignored -> ignored));
 
-        writer.visit(V17, ACC_PUBLIC, getParentName(type, parserClass),
-                null, Type.getInternalName(parserClass), null);
+        if (modifiers.isEmpty()) throw new IllegalStateException("No modifiers found for class " + type);
 
-        defineNewInstance(writer, type);
-        defineConstructor(writer, parserClass);
-        defineReadMethod(writer, type, parserClass);
-        defineWriteMethod(writer, type, parserClass);
+        for (Field field : getFields(type)) {
 
-        writer.visitEnd();
+            var methodName = field.getName().toLowerCase();
 
-        byte[] bytecode = writer.toByteArray();
+            var getMethod = accessors.get("get" + methodName);
+
+            if (getMethod == null && field.getType() == boolean.class) {
+                getMethod = accessors.get("is" + methodName);
+            }
+
+            var setMethod = modifiers.get("set" + methodName);
+
+            //Should manage autoboxing...
+            if (setMethod != null && setMethod.getParameterTypes()[0] != field.getType()) {
+                throw new IllegalStateException("Incorrect mutator parameter type: '%s' expected '%s' from field"
+                        .formatted(setMethod.getParameterTypes()[0], field.getType()));
+            }
 
-        var parserInstance = createObject(bytecode, type, parserClass);
+            if (getMethod == null && setMethod == null) continue;
 
-        INSTANCE.converterMap.get(parserClass)
-                .putCachedParser(type, parserInstance);
+            properties.add(new Property(getColumnName(field), field.getType(), field.getGenericType(),
+                    field, getMethod, setMethod));
+        }
 
-        return parserInstance;
+        return properties;
     }
 
     private static void defineNewInstance(@NotNull ClassWriter writer, @NotNull Class<?> type) {
@@ -163,8 +1348,9 @@ public class ParserCompiler extends ClassLoader {
 
     }
 
-    @SuppressWarnings("rawtypes")
-    private static void defineWriteMethod(@NotNull ClassWriter writer, @NotNull Class<?> type, Class<? extends ObjectParser> parserClass) {
+    private static void defineWriteMethod(@NotNull ClassWriter writer, @NotNull Generation generation) {
+
+        var type = generation.type();
 
         var signature = "(L" + Type.getInternalName(type) + ";)Ljava/util/Map<Ljava/lang/String;L" + Type.getInternalName(AttributeValue.class) + ";>;";
 
@@ -182,13 +1368,23 @@ public class ParserCompiler extends ClassLoader {
                 "<init>", Type.getMethodDescriptor(Type.VOID_TYPE), false);
         visitor.visitVarInsn(ASTORE, 2);
 
-        var stacks = generateWriteMethods(visitor, type, parserClass);
+        for (Property property : generation.properties()) {
+
+            if (property.getter() == null) continue;
 
-        visitor.visitMaxs(stacks + 1, 3);
+            visitor.visitVarInsn(ALOAD, 2);
+            visitor.visitLdcInsn(property.column());
+
+            computeWriter(visitor, generation, property, v -> v.visitVarInsn(ALOAD, 1));
+
+            visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+            visitor.visitInsn(POP);
+        }
 
         visitor.visitVarInsn(ALOAD, 2);
         visitor.visitInsn(Opcodes.ARETURN);
 
+        visitor.visitMaxs(0, 0);
         visitor.visitEnd();
 
 
@@ -200,71 +1396,41 @@ public class ParserCompiler extends ClassLoader {
         visitor.visitVarInsn(ALOAD, 0);
         visitor.visitVarInsn(ALOAD, 1);
         visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
-        visitor.visitMethodInsn(INVOKEVIRTUAL, getParentName(type, parserClass), "write", descriptor, false);
+        visitor.visitMethodInsn(INVOKEVIRTUAL, generation.internalName(), "write", descriptor, false);
 
         visitor.visitInsn(ARETURN);
-        visitor.visitMaxs(2, 2);
+        visitor.visitMaxs(0, 0);
         visitor.visitEnd();
     }
 
-    @Contract(pure = true)
-    private static <T> @NotNull String getParentName(@NotNull Class<T> type, Class<?> parserClass) {
-        return "org/dooq/converter/" + type.getSimpleName() + parserClass.getSimpleName();
-    }
-
-
-    @SuppressWarnings("rawtypes")
-    private static int generateWriteMethods(MethodVisitor visitor, @NotNull Class<?> type, Class<? extends ObjectParser> parserClass) {
-
-        Map<String, Method> methodMap = new HashMap<>();
-
-        for (Method method : type.getDeclaredMethods()) {
-
-            if (method.isAnnotationPresent(Transient.class)) continue;
-            if (method.getParameterCount() > 0) continue;
-
-            if (methodMap.put(method.getName().toLowerCase(), method) != null) {
-                throw new IllegalStateException("Duplicate method found: " + method.getName());
-            }
-        }
-
-        if (methodMap.isEmpty()) throw new IllegalStateException("No accessors found for class " + type);
-
-        int stacks = 0;
-
-        String methodName;
-
-        for (Field field : getFields(type)) {
+    /**
+     * Converters generated at build time, loaded on first use
+     */
+    private static final class GeneratedConverters {
 
-            Method getMethod;
+        private static final Map<Class<?>, ObjectParser<?>> CONVERTERS = load();
 
-            methodName = field.getName().toLowerCase();
+        private static @NotNull Map<Class<?>, ObjectParser<?>> load() {
 
-            if (type.isRecord()) {
-                getMethod = methodMap.get(methodName);
-            } else {
-                getMethod = methodMap.get("get" + methodName);
+            Map<Class<?>, ObjectParser<?>> converters = new HashMap<>();
 
-                if (getMethod == null && field.getType() == boolean.class) {
-                    getMethod = methodMap.get("is" + methodName);
+            try {
+                for (ConverterRegistry registry : ServiceLoader.load(ConverterRegistry.class,
+                        Thread.currentThread().getContextClassLoader())) {
+                    converters.putAll(registry.converters());
                 }
+            } catch (ServiceConfigurationError error) {
+                Logger.getLogger(ParserCompiler.class.getName())
+                        .log(Level.SEVERE, "Failed to load generated converters", error);
             }
 
-            if (getMethod == null) {
-                continue;
+            if (DEBUG) {
+                Logger.getLogger(ParserCompiler.class.getName())
+                        .log(Level.INFO, "Generated converters found: " + converters.size());
             }
 
-            stacks += 2;
-
-            computeWriter(visitor, getColumnName(field), field.getType(), getMethod, type, getGenericType(field), parserClass);
+            return converters;
         }
-
-        return stacks;
-    }
-
-    @Contract("_ -> new")
-    private static @NotNull Parameters getGenericType(@NotNull Field field) {
-        return getGenericType(field.getGenericType());
     }
 
     @Contract("_ -> new")
@@ -327,360 +1493,592 @@ public class ParserCompiler extends ClassLoader {
     }
 
     /**
-     * Finds the required writer method for the given field
+     * Pushes the attribute value of the given property onto the stack
      *
-     * @param visitor    The method visitor
-     * @param name       The field name
-     * @param valueType  The field type
-     * @param setMethod  The setter method
-     * @param parentType The parent type
-     * @param parameters The generic parameters
+     * @param visitor      The method visitor
+     * @param generation   The converter being generated
+     * @param property     The property to write
+     * @param loadInstance Pushes the instance to read the property from
      */
-    @SuppressWarnings("rawtypes")
-    private static void computeWriter(MethodVisitor visitor, String name,
-                                      @NotNull Class<?> valueType, @Nullable Method setMethod,
-                                      Class<?> parentType, Parameters parameters,
-                                      Class<? extends ObjectParser> parserClass) {
+    private static void computeWriter(MethodVisitor visitor, @NotNull Generation generation, @NotNull Property property,
+                                      @NotNull Consumer<MethodVisitor> loadInstance) {
+
+        var valueType = property.type();
+        var parameters = getGenericType(property.genericType());
+
+        var compressed = property.annotation(Compressed.class);
+
+        if (compressed != null) {
+            handleWriterMethod(visitor, generation, property, "writeCompressed",
+                    generation.loadConstant(compressionCodec(generation, property, compressed)), loadInstance);
+            return;
+        }
+
+        if (isPacked(property)) {
+            handleWriterMethod(visitor, generation, property, "writePacked",
+                    generation.loadConstant(packedCodec(generation, valueType)), loadInstance);
+            return;
+        }
+
+        var epoch = property.annotation(EpochEncoded.class);
+
+        if (epoch != null) {
+            handleWriterMethod(visitor, generation, property, "writeEpoch",
+                    generation.loadConstant(epochCodec(generation, property, epoch)), loadInstance);
+            return;
+        }
+
+        if (valueType.isEnum()) {
+            handleWriterMethod(visitor, generation, property, "writeEnum",
+                    generation.loadConstant(enumCodec(generation, property)), loadInstance);
+            return;
+        }
 
+        var arrayWriter = getArrayWriter(valueType, generation.parserClass());
 
-        @Nullable var method = getWriterMethod(valueType, parserClass);
+        if (arrayWriter != null) {
+            var format = property.annotation(ArrayFormat.class);
+            var encoding = format == null ? ArrayFormat.Encoding.PACKED : format.value();
 
-        if (method != null) {
-            handleWriterMethod(visitor, name, setMethod, method, parserClass);
+            handleWriterMethod(visitor, generation, property, arrayWriter, v -> v.visitFieldInsn(GETSTATIC,
+                    Type.getInternalName(ArrayFormat.Encoding.class), encoding.name(),
+                    Type.getDescriptor(ArrayFormat.Encoding.class)), loadInstance);
             return;
         }
 
+        @Nullable var method = getWriterMethod(valueType, generation.parserClass());
+
+        if (method != null) {
+            handleWriterMethod(visitor, generation, property, method.getName(), null, loadInstance);
+            return;
+        }
 
         if (valueType == List.class) {
 
             if (parameters.param1 == String.class) {
-                handleWriterMethod(visitor, name, setMethod, getMethodByName("writeStringList", parserClass), parserClass);
+                handleWriterMethod(visitor, generation, property, "writeStringList", null, loadInstance);
                 return;
             }
 
-            handleGenericWriteMethod(visitor, name, setMethod, "writeList", parameters.param1, parserClass);
+            if (isNestedType(parameters.param1)) {
+                var nested = nestedConverter(generation, parameters.param1);
+
+                if (nested >= 0) {
+                    handleWriterMethod(visitor, generation, property, "writeNestedList", generation.loadConstant(nested), loadInstance);
+                    return;
+                }
+            }
+
+            handleWriterMethod(visitor, generation, property, "writeList", classArgument(parameters.param1), loadInstance);
             return;
 
         }
         if (valueType == Set.class) {
 
             if (parameters.param1 == String.class) {
-                handleWriterMethod(visitor, name, setMethod, getMethodByName("writeStringSet", parserClass), parserClass);
+                handleWriterMethod(visitor, generation, property, "writeStringSet", null, loadInstance);
                 return;
             }
 
-            handleGenericWriteMethod(visitor, name, setMethod, "writeSet", parameters.param1, parserClass);
+            if (isNestedType(parameters.param1)) {
+                var nested = nestedConverter(generation, parameters.param1);
+
+                if (nested >= 0) {
+                    handleWriterMethod(visitor, generation, property, "writeNestedSet", generation.loadConstant(nested), loadInstance);
+                    return;
+                }
+            }
+
+            handleWriterMethod(visitor, generation, property, "writeSet", classArgument(parameters.param1), loadInstance);
             return;
         }
 
 
         if (valueType == Map.class) {
-            handleGenericWriteMethod(visitor, name, setMethod, "writeMap", parameters.param2, parserClass);
+
+            if (isNestedType(parameters.param2)) {
+                var nested = nestedConverter(generation, parameters.param2);
+
+                if (nested >= 0) {
+                    handleWriterMethod(visitor, generation, property, "writeNestedMap", generation.loadConstant(nested), loadInstance);
+                    return;
+                }
+            }
+
+            handleWriterMethod(visitor, generation, property, "writeMap", classArgument(parameters.param2), loadInstance);
             return;
         }
 
         if (isCustomClass(valueType)) {
-            handleGenericWriteMethod(visitor, name, setMethod, "writeComplex", valueType, parserClass);
+
+            var nested = nestedConverter(generation, valueType);
+
+            if (nested >= 0) {
+                handleWriterMethod(visitor, generation, property, "writeNested", generation.loadConstant(nested), loadInstance);
+                return;
+            }
+
+            handleWriterMethod(visitor, generation, property, "writeComplex", classArgument(valueType), loadInstance);
+            return;
+        }
+
+        throw new RuntimeException("Not implemented: " + valueType + " in class " + generation.type());
+    }
+
+    /**
+     * Pushes the parsed value of the given property onto the stack
+     *
+     * @param visitor    The method visitor
+     * @param generation The converter being generated
+     * @param property   The property to read
+     * @param loadValue  Pushes the {@link AttributeValue} to parse
+     */
+    private static void computeReader(MethodVisitor visitor, @NotNull Generation generation, @NotNull Property property,
+                                      @NotNull Consumer<MethodVisitor> loadValue) {
+
+        var valueType = property.type();
+        var parameters = getGenericType(property.genericType());
+
+        var compressed = property.annotation(Compressed.class);
+
+        if (compressed != null) {
+            handleMethod(visitor, generation, "parseCompressed",
+                    generation.loadConstant(compressionCodec(generation, property, compressed)), loadValue);
             return;
         }
 
-        if (isJVMClass(valueType)) {
-            throw new RuntimeException("Not implemented: " + valueType + " in class " + parentType);
+        var deduplicate = property.annotation(Deduplicate.class);
+
+        if (deduplicate != null) {
+            handleMethod(visitor, generation, "parseDeduplicated",
+                    generation.loadConstant(stringPool(generation, property, deduplicate)), loadValue);
+            return;
         }
 
-        Logger.getLogger(ParserCompiler.class.getName())
-                .log(Level.WARNING, "Not implemented: " + valueType + " in class " + parentType);
+        if (isPacked(property)) {
+            handleMethod(visitor, generation, "readPacked",
+                    generation.loadConstant(packedCodec(generation, valueType)), loadValue);
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(valueType));
+            return;
+        }
 
-    }
+        var epoch = property.annotation(EpochEncoded.class);
 
-    @SuppressWarnings("rawtypes")
-    private static void computeReader(MethodVisitor visitor, String name,
-                                      @NotNull Class<?> valueType, @Nullable Method setMethod,
-                                      Class<?> parentType, Parameters parameters,
-                                      Class<? extends ObjectParser> parserClass) {
+        if (epoch != null) {
+            handleMethod(visitor, generation, "parseEpoch",
+                    generation.loadConstant(epochCodec(generation, property, epoch)), loadValue);
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(valueType));
+            return;
+        }
 
+        if (valueType.isEnum()) {
+            handleMethod(visitor, generation, "parseEnum",
+                    generation.loadConstant(enumCodec(generation, property)), loadValue);
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(valueType));
+            return;
+        }
 
-        @Nullable var method = getReaderMethod(valueType, parserClass);
+        @Nullable var method = getReaderMethod(valueType, generation.parserClass());
 
         if (method != null) {
-            handleMethod(visitor, name, setMethod, method, parentType, parserClass);
+            handleMethod(visitor, generation, method.getName(), null, loadValue);
             return;
         }
 
         if (valueType == List.class) {
 
             if (parameters.param1 == String.class) {
-                handleMethod(visitor, name, setMethod, getMethodByName("parseStringList", parserClass), parentType, parserClass);
+                handleMethod(visitor, generation, "parseStringList", null, loadValue);
                 return;
             }
 
-            handleGenericSetMethod(visitor, name, setMethod, "parseList", parameters.param1, parentType, parserClass);
+            if (isNestedType(parameters.param1)) {
+                var nested = nestedConverter(generation, parameters.param1);
+
+                if (nested >= 0) {
+                    handleMethod(visitor, generation, "readNestedList", generation.loadConstant(nested), loadValue);
+                    return;
+                }
+            }
+
+            handleMethod(visitor, generation, "parseList", classArgument(parameters.param1), loadValue);
             return;
 
         }
         if (valueType == Set.class) {
 
             if (parameters.param1 == String.class) {
-                handleMethod(visitor, name, setMethod, getMethodByName("parseStringSet", parserClass), parentType, parserClass);
+                handleMethod(visitor, generation, "parseStringSet", null, loadValue);
                 return;
             }
 
-            handleGenericSetMethod(visitor, name, setMethod, "parseSet", parameters.param1, parentType, parserClass);
+            if (isNestedType(parameters.param1)) {
+                var nested = nestedConverter(generation, parameters.param1);
+
+                if (nested >= 0) {
+                    handleMethod(visitor, generation, "readNestedSet", generation.loadConstant(nested), loadValue);
+                    return;
+                }
+            }
+
+            handleMethod(visitor, generation, "parseSet", classArgument(parameters.param1), loadValue);
             return;
         }
 
 
         if (valueType == Map.class) {
-            handleGenericSetMethod(visitor, name, setMethod, "parseMap", parameters.param2, parentType, parserClass);
+
+            if (isNestedType(parameters.param2)) {
+                var nested = nestedConverter(generation, parameters.param2);
+
+                if (nested >= 0) {
+                    handleMethod(visitor, generation, "readNestedMap", generation.loadConstant(nested), loadValue);
+                    return;
+                }
+            }
+
+            handleMethod(visitor, generation, "parseMap", classArgument(parameters.param2), loadValue);
             return;
         }
 
 
         if (isCustomClass(valueType)) {
-            handleComplex(visitor, name, setMethod, valueType, parentType, parserClass);
-            return;
-        }
 
-        if (isJVMClass(valueType)) {
-            throw new RuntimeException("Not implemented: " + valueType + " in class " + parentType);
+            var nested = nestedConverter(generation, valueType);
+
+            if (nested >= 0) {
+                handleMethod(visitor, generation, "readNested", generation.loadConstant(nested), loadValue);
+            } else {
+                handleMethod(visitor, generation, "parseComplex", classArgument(valueType), loadValue);
+            }
+
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(valueType));
+            return;
         }
 
-        Logger.getLogger(ParserCompiler.class.getName())
-                .log(Level.WARNING, "Not implemented: " + valueType + " in class " + parentType);
+        throw new RuntimeException("Not implemented: " + valueType + " in class " + generation.type());
     }
 
-    private static @NotNull Method getMethodByName(String name, Class<?> parserClass) {
-        return INSTANCE.converterMap.get(parserClass).getMethod(name);
-    }
+    /**
+     * The custom types referenced by the properties of the type, directly or as list, set or map values,
+     * their converters are resolved when the type is compiled
+     */
+    public static @NotNull Set<Class<?>> getNestedTypes(@NotNull Class<?> type) {
 
-    @SuppressWarnings("rawtypes")
-    private static void handleWriterMethod(@NotNull MethodVisitor visitor, String name,
-                                           @Nullable Method setMethod, @NotNull Method parser, @NotNull Class<? extends ObjectParser> parserClass) {
+        var nested = new LinkedHashSet<Class<?>>();
 
-        Objects.requireNonNull(setMethod, "No setter found for field: " + name);
+        for (Property property : getProperties(type)) {
 
-        visitor.visitVarInsn(ALOAD, 2);
-        visitor.visitLdcInsn(name);
-        visitor.visitVarInsn(ALOAD, 0);
-        visitor.visitVarInsn(ALOAD, 1);
+            if (property.genericType() instanceof ParameterizedType) {
+                var parameters = getGenericType(property.genericType());
+
+                var valueType = property.type() == Map.class ? parameters.param2 : parameters.param1;
 
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(setMethod.getDeclaringClass()), setMethod.getName(), Type.getMethodDescriptor(setMethod), false);
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(parserClass), parser.getName(), Type.getMethodDescriptor(parser), false);
+                if (isNestedType(valueType)) nested.add(valueType);
+            } else if (isNestedType(property.type()) && property.type() != type) {
+                nested.add(property.type());
+            }
+        }
 
-        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+        return nested;
+    }
 
-        visitor.visitInsn(POP);
+    private static boolean isNestedType(@Nullable Class<?> type) {
+        return type != null && isCustomClass(type) && !type.isEnum();
+    }
 
+    private static @NotNull Method getMethodByName(String name, Class<?> parserClass) {
+        return Objects.requireNonNull(INSTANCE.converterMap.get(parserClass).getMethod(name),
+                "No method found with name: " + name);
     }
 
-    @SuppressWarnings("rawtypes")
-    private static void handleGenericWriteMethod(@NotNull MethodVisitor visitor, String name, @Nullable Method setMethod,
-                                                 String parser, Class<?> type, Class<? extends ObjectParser> parserClass) {
+    /**
+     * Invokes the writer method with the getter value and the optional argument
+     */
+    private static void handleWriterMethod(@NotNull MethodVisitor visitor, @NotNull Generation generation,
+                                           @NotNull Property property, String writer, @Nullable Consumer<MethodVisitor> argument,
+                                           @NotNull Consumer<MethodVisitor> loadInstance) {
 
-        Objects.requireNonNull(setMethod, "No setter found for field: " + name);
+        var getMethod = Objects.requireNonNull(property.getter(), "No getter found for field: " + property.column());
 
-        visitor.visitVarInsn(ALOAD, 2);
-        visitor.visitLdcInsn(name);
         visitor.visitVarInsn(ALOAD, 0);
-        visitor.visitVarInsn(ALOAD, 1);
+        loadInstance.accept(visitor);
 
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(setMethod.getDeclaringClass()), setMethod.getName(), Type.getMethodDescriptor(setMethod), false);
+        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(getMethod.getDeclaringClass()), getMethod.getName(),
+                Type.getMethodDescriptor(getMethod), false);
 
-        visitor.visitLdcInsn(Type.getType(type));
+        if (getMethod.getReturnType() != property.type()) { //erased accessor
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(property.type()));
+        }
 
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(ObjectParser.class), parser, Type.getMethodDescriptor(getMethodByName(parser, parserClass)), false);
-        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+        if (argument != null) {
+            argument.accept(visitor);
+        }
 
-        visitor.visitInsn(POP);
+        visitor.visitMethodInsn(INVOKEVIRTUAL, generation.parserName(), writer,
+                Type.getMethodDescriptor(getMethodByName(writer, generation.parserClass())), false);
     }
 
-    @SuppressWarnings("rawtypes")
-    private static void handleMethod(@NotNull MethodVisitor visitor, String name, @Nullable Method setMethod,
-                                     Method parser, @NotNull Class<?> parent, Class<? extends ObjectParser> parserClass) {
-
-        if (parent.isRecord()) {
-
-            visitor.visitVarInsn(ALOAD, 0);
-            visitor.visitVarInsn(ALOAD, 1);
-            visitor.visitLdcInsn(name);
+    /**
+     * Invokes the reader method with the attribute value and the optional argument
+     */
+    private static void handleMethod(@NotNull MethodVisitor visitor, @NotNull Generation generation, String reader,
+                                     @Nullable Consumer<MethodVisitor> argument, @NotNull Consumer<MethodVisitor> loadValue) {
 
-            visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
-            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(AttributeValue.class));
-            visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(parserClass), parser.getName(),
-                    Type.getMethodDescriptor(parser), false);
+        visitor.visitVarInsn(ALOAD, 0);
+        loadValue.accept(visitor);
 
-            return;
+        if (argument != null) {
+            argument.accept(visitor);
         }
 
-        Objects.requireNonNull(setMethod);
+        visitor.visitMethodInsn(INVOKEVIRTUAL, generation.parserName(), reader,
+                Type.getMethodDescriptor(getMethodByName(reader, generation.parserClass())), false);
+    }
 
-        visitor.visitVarInsn(ALOAD, 2);
-        visitor.visitVarInsn(ALOAD, 0);
-        visitor.visitVarInsn(ALOAD, 1);
+    /**
+     * Loads the attribute from the item map in the local variable 1
+     */
+    private static @NotNull Consumer<MethodVisitor> mapLookUp(@NotNull Property property) {
+        return visitor -> {
+            visitor.visitVarInsn(ALOAD, 1);
+            visitor.visitLdcInsn(property.column()); //Load the key onto the stack
 
-        visitor.visitLdcInsn(name); //Load the key onto the stack
+            visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(AttributeValue.class));
+        };
+    }
 
-        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
-        visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(AttributeValue.class));
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(parserClass), parser.getName(),
-                Type.getMethodDescriptor(parser), false);
+    /**
+     * Invokes the setter with the value at the top of the stack
+     */
+    static void invokeSetter(@NotNull MethodVisitor visitor, @NotNull Method setMethod) {
 
         visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(setMethod.getDeclaringClass()),
                 setMethod.getName(), Type.getMethodDescriptor(setMethod), false);
 
+        //Builder-Pattern setters requires a pop after the method invocation
         if (setMethod.getReturnType() != void.class) {
             visitor.visitInsn(POP);
         }
-
     }
 
-    @SuppressWarnings("rawtypes")
-    private static void handleGenericSetMethod(@NotNull MethodVisitor visitor, String name,
-                                               @Nullable Method setMethod, String parser,
-                                               Class<?> type, @NotNull Class<?> parent,
-                                               Class<? extends ObjectParser> parserClass) {
-
-        @Nullable var readerMethod = getMethodByName(parser, parserClass);
+    private static void defineReadMethod(@NotNull ClassWriter writer, @NotNull Generation generation) {
 
-        Objects.requireNonNull(readerMethod, "No method found with name: " + parser);
+        var type = generation.type();
 
-        if (parent.isRecord()) {
+        // Define the parse method
+        MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "read", "(Ljava/util/Map;)Ljava/lang/Object;",
+                "(Ljava/util/Map<Ljava/lang/String;LAttributeValue;>;)L" + Type.getInternalName(type) + ";", null);
 
-            visitor.visitVarInsn(ALOAD, 0);
-            visitor.visitVarInsn(ALOAD, 1);
-            visitor.visitLdcInsn(name);
+        visitor.visitCode();
+        visitor.visitTypeInsn(NEW, Type.getInternalName(type));
+        visitor.visitInsn(DUP);
 
-            visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
-            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(AttributeValue.class));
+        if (type.isRecord()) {
 
-            visitor.visitLdcInsn(Type.getType(type));
+            for (Property property : generation.properties()) {
+                if (generation.isRead(property)) {
+                    computeReader(visitor, generation, property, mapLookUp(property));
+                } else {
+                    pushDefault(visitor, property.type());
+                }
+            }
 
-            visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(parserClass), parser,
-                    Type.getMethodDescriptor(readerMethod), false);
+            visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(type), "<init>", getRecordConstructor(type), false);
+            visitor.visitInsn(Opcodes.ARETURN);
 
+            visitor.visitMaxs(0, 0);
+            visitor.visitEnd();
             return;
         }
 
-        Objects.requireNonNull(setMethod, "No setter found for field: " + name);
+        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(type),
+                "<init>", Type.getMethodDescriptor(Type.VOID_TYPE), false);
+        visitor.visitVarInsn(ASTORE, 2);
+
+        for (Property property : generation.properties()) {
+
+            if (property.setter() == null || !generation.isRead(property)) continue;
+
+            visitor.visitVarInsn(ALOAD, 2);
+            computeReader(visitor, generation, property, mapLookUp(property));
+            invokeSetter(visitor, property.setter());
+        }
 
         visitor.visitVarInsn(ALOAD, 2);
-        visitor.visitVarInsn(ALOAD, 0);
-        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitInsn(Opcodes.ARETURN);
 
-        visitor.visitLdcInsn(name);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
 
-        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
-        visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(AttributeValue.class));
+    }
 
-        visitor.visitLdcInsn(Type.getType(type));
+    /**
+     * Defines a reader that iterates the item entries once, dispatching on the attribute name hash code.
+     * <p>
+     * The hash code of the item keys is cached by {@link String}, so the dispatch costs a {@code lookupswitch}
+     * and one {@code equals} per present attribute, absent attributes are never looked up.
+     * Record components are collected into locals and parsed once the iteration ends.
+     */
+    private static void defineSinglePassReadMethod(@NotNull ClassWriter writer, @NotNull Generation generation) {
 
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(parserClass), parser,
-                Type.getMethodDescriptor(readerMethod), false);
+        var type = generation.type();
 
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(setMethod.getDeclaringClass()),
-                setMethod.getName(), Type.getMethodDescriptor(setMethod), false);
+        MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "read", "(Ljava/util/Map;)Ljava/lang/Object;",
+                "(Ljava/util/Map<Ljava/lang/String;LAttributeValue;>;)L" + Type.getInternalName(type) + ";", null);
 
-        if (setMethod.getReturnType() != void.class) {
-            visitor.visitInsn(POP);
+        final int instance = 2, iterator = 3, entry = 4, key = 5, firstValue = 6;
+
+        var properties = generation.properties().stream()
+                .filter(a -> type.isRecord() || a.setter() != null && generation.isRead(a))
+                .toList();
+
+        visitor.visitCode();
+
+        if (type.isRecord()) {
+            for (int i = 0; i < properties.size(); i++) {
+                visitor.visitInsn(ACONST_NULL);
+                visitor.visitVarInsn(ASTORE, firstValue + i);
+            }
+        } else {
+            visitor.visitTypeInsn(NEW, Type.getInternalName(type));
+            visitor.visitInsn(DUP);
+            visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(type),
+                    "<init>", Type.getMethodDescriptor(Type.VOID_TYPE), false);
+            visitor.visitVarInsn(ASTORE, instance);
         }
-    }
 
-    @SuppressWarnings("rawtypes")
-    private static void handleComplex(@NotNull MethodVisitor visitor, String name, @Nullable Method setMethod,
-                                      Class<?> type, @NotNull Class<?> parent, Class<? extends ObjectParser> parserClass) {
+        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "entrySet", "()Ljava/util/Set;", true);
+        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Set", "iterator", "()Ljava/util/Iterator;", true);
+        visitor.visitVarInsn(ASTORE, iterator);
 
-        @Nullable var readerMethod = getMethodByName("parseComplex", parserClass);
+        var loop = new Label();
+        var end = new Label();
 
-        Objects.requireNonNull(readerMethod, "No method found with name: parseComplex");
+        visitor.visitLabel(loop);
+        visitor.visitVarInsn(ALOAD, iterator);
+        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+        visitor.visitJumpInsn(IFEQ, end);
 
-        if (parent.isRecord()) {
+        visitor.visitVarInsn(ALOAD, iterator);
+        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+        visitor.visitTypeInsn(CHECKCAST, "java/util/Map$Entry");
+        visitor.visitVarInsn(ASTORE, entry);
 
-            visitor.visitVarInsn(ALOAD, 0);
-            visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitVarInsn(ALOAD, entry);
+        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map$Entry", "getKey", "()Ljava/lang/Object;", true);
+        visitor.visitTypeInsn(CHECKCAST, "java/lang/String");
+        visitor.visitVarInsn(ASTORE, key);
 
-            visitor.visitLdcInsn(name);
+        Map<Integer, List<Integer>> buckets = new TreeMap<>();
 
-            visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
-            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(AttributeValue.class));
+        for (int i = 0; i < properties.size(); i++) {
+
+            if (!generation.isRead(properties.get(i))) continue;
 
-            visitor.visitLdcInsn(Type.getType(type));
+            buckets.computeIfAbsent(properties.get(i).column().hashCode(), ignored -> new ArrayList<>())
+                    .add(i);
+        }
 
-            visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(parserClass), "parseComplex",
-                    Type.getMethodDescriptor(readerMethod), false);
+        var hashes = buckets.keySet().stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
 
-            visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+        var labels = new Label[hashes.length];
 
-            return;
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = new Label();
         }
 
-        Objects.requireNonNull(setMethod);
+        visitor.visitVarInsn(ALOAD, key);
+        visitor.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "hashCode", "()I", false);
+        visitor.visitLookupSwitchInsn(loop, hashes, labels);
 
-        visitor.visitVarInsn(ALOAD, 2);
-        visitor.visitVarInsn(ALOAD, 0);
-        visitor.visitVarInsn(ALOAD, 1);
+        for (int i = 0; i < hashes.length; i++) {
 
-        visitor.visitLdcInsn(name);
+            visitor.visitLabel(labels[i]);
 
-        visitor.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
-        visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(AttributeValue.class));
+            for (int index : buckets.get(hashes[i])) {
 
-        visitor.visitLdcInsn(Type.getType(type));
+                var property = properties.get(index);
+                var next = new Label();
 
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(parserClass), "parseComplex",
-                Type.getMethodDescriptor(readerMethod), false);
+                visitor.visitVarInsn(ALOAD, key);
+                visitor.visitLdcInsn(property.column());
+                visitor.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "equals", "(Ljava/lang/Object;)Z", false);
+                visitor.visitJumpInsn(IFEQ, next);
 
-        visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
-        visitor.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(setMethod.getDeclaringClass()),
-                setMethod.getName(), Type.getMethodDescriptor(setMethod), false);
+                Consumer<MethodVisitor> entryValue = v -> {
+                    v.visitVarInsn(ALOAD, entry);
+                    v.visitMethodInsn(INVOKEINTERFACE, "java/util/Map$Entry", "getValue", "()Ljava/lang/Object;", true);
+                    v.visitTypeInsn(CHECKCAST, Type.getInternalName(AttributeValue.class));
+                };
 
-        //Builder-Pattern setters requires a pop after the method invocation
-        if (setMethod.getReturnType() != void.class) {
-            visitor.visitInsn(POP);
-        }
+                if (type.isRecord()) {
+                    entryValue.accept(visitor);
+                    visitor.visitVarInsn(ASTORE, firstValue + index);
+                } else {
+                    visitor.visitVarInsn(ALOAD, instance);
+                    computeReader(visitor, generation, property, entryValue);
+                    invokeSetter(visitor, Objects.requireNonNull(property.setter()));
+                }
 
-    }
+                visitor.visitJumpInsn(GOTO, loop);
+                visitor.visitLabel(next);
+            }
 
-    @SuppressWarnings("rawtypes")
-    private static void defineReadMethod(@NotNull ClassWriter writer, @NotNull Class<?> type,
-                                         Class<? extends ObjectParser> parserClass) {
+            visitor.visitJumpInsn(GOTO, loop);
+        }
+
+        visitor.visitLabel(end);
 
         if (type.isRecord()) {
-            defineRecordParser(writer, type, parserClass);
-            return;
-        }
+            visitor.visitTypeInsn(NEW, Type.getInternalName(type));
+            visitor.visitInsn(DUP);
 
-        // Define the parse method
-        MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "read", "(Ljava/util/Map;)Ljava/lang/Object;",
-                "(Ljava/util/Map<Ljava/lang/String;LAttributeValue;>;)L" + Type.getInternalName(type) + ";", null);
+            for (int i = 0; i < properties.size(); i++) {
 
-        visitor.visitCode();
-        visitor.visitTypeInsn(NEW, Type.getInternalName(type));
-        visitor.visitInsn(DUP);
-        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(type),
-                "<init>", Type.getMethodDescriptor(Type.VOID_TYPE), false);
-        visitor.visitVarInsn(ASTORE, 2);
+                if (!generation.isRead(properties.get(i))) {
+                    pushDefault(visitor, properties.get(i).type());
+                    continue;
+                }
 
-        var stacks = generateMethods(visitor, type, parserClass);
+                final int local = firstValue + i;
+                computeReader(visitor, generation, properties.get(i), v -> v.visitVarInsn(ALOAD, local));
+            }
 
-        visitor.visitMaxs(stacks + 1, 3);
+            visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(type), "<init>", getRecordConstructor(type), false);
+        } else {
+            visitor.visitVarInsn(ALOAD, instance);
+        }
 
-        visitor.visitVarInsn(ALOAD, 2);
         visitor.visitInsn(Opcodes.ARETURN);
-        visitor.visitEnd();
 
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
     }
 
-    @SuppressWarnings("rawtypes")
-    private static void defineRecordParser(@NotNull ClassWriter writer, Class<?> type, Class<? extends ObjectParser> parserClass) {
-        // Define the parse method
-        MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "read", "(Ljava/util/Map;)Ljava/lang/Object;",
-                "(Ljava/util/Map<Ljava/lang/String;LAttributeValue;>;)L" + Type.getInternalName(type) + ";", null);
-
-        visitor.visitCode();
-        visitor.visitTypeInsn(NEW, Type.getInternalName(type));
-        visitor.visitInsn(DUP);
+    /**
+     * Pushes the default value of the type, used for the record components out of the projection
+     */
+    static void pushDefault(@NotNull MethodVisitor visitor, @NotNull Class<?> type) {
+
+        if (!type.isPrimitive()) {
+            visitor.visitInsn(ACONST_NULL);
+        } else if (type == long.class) {
+            visitor.visitInsn(LCONST_0);
+        } else if (type == double.class) {
+            visitor.visitInsn(DCONST_0);
+        } else if (type == float.class) {
+            visitor.visitInsn(FCONST_0);
+        } else {
+            visitor.visitInsn(ICONST_0);
+        }
+    }
 
-        var stacks = generateMethods(visitor, type, parserClass);
+    static @NotNull String getRecordConstructor(@NotNull Class<?> type) {
 
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append('(');
@@ -691,11 +2089,7 @@ public class ParserCompiler extends ClassLoader {
 
         stringBuilder.append(")V");
 
-        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(type), "<init>", stringBuilder.toString(), false);
-        visitor.visitInsn(Opcodes.ARETURN);
-
-        visitor.visitMaxs(stacks + 1, 3);
-        visitor.visitEnd();
+        return stringBuilder.toString();
     }
 
     @SuppressWarnings("rawtypes")
@@ -721,60 +2115,12 @@ public class ParserCompiler extends ClassLoader {
     }
 
     private static boolean isWritable(@NotNull Field field) {
-        return !Modifier.isTransient(field.getModifiers()) ||
-                !Modifier.isFinal(field.getModifiers()) ||
-                !Modifier.isStatic(field.getModifiers()) ||
+        return !Modifier.isTransient(field.getModifiers()) &&
+                !Modifier.isFinal(field.getModifiers()) &&
+                !Modifier.isStatic(field.getModifiers()) &&
                 !field.isAnnotationPresent(DynamoIgnore.class);
     }
 
-    @SuppressWarnings("rawtypes")
-    private static int generateMethods(MethodVisitor visitor, @NotNull Class<?> type, Class<? extends ObjectParser> parserClass) {
-
-        var methodMap = Arrays.stream(type.getDeclaredMethods())
-                .filter(a -> a.getParameterCount() == 1)
-                .collect(Collectors.toMap(method -> method.getName().toLowerCase(), ignored -> ignored));
-
-        if (methodMap.isEmpty()) throw new IllegalStateException("No modifiers found for class " + type);
-
-        int stacks = 0;
-
-
-        if (type.isRecord()) {
-
-            for (RecordComponent component : type.getRecordComponents()) {
-                computeReader(visitor, component.getName(), component.getType(), null,
-                        type, getGenericType(component.getGenericType()), parserClass);
-
-
-                stacks += 2;
-            }
-
-        } else {
-
-            for (Field field : getFields(type)) {
-
-                var setMethod = methodMap.get("set" + field.getName().toLowerCase());
-
-                if (setMethod == null) {
-                    continue;
-                }
-
-                //Should manage autoboxing...
-                if (setMethod.getParameterTypes()[0] != field.getType()) {
-                    throw new IllegalStateException("Incorrect mutator parameter type: '%s' expected '%s' from field"
-                            .formatted(setMethod.getParameterTypes()[0], field.getType()));
-                }
-
-                stacks += 2;
-
-                computeReader(visitor, getColumnName(field), field.getType(), setMethod, type, getGenericType(field), parserClass);
-            }
-        }
-
-        return stacks;
-    }
-
-
     static boolean isCustomClass(@NotNull Class<?> type) {
         return !isJVMClass(type);
     }
@@ -784,6 +2130,7 @@ public class ParserCompiler extends ClassLoader {
         if (type.isArray()) return true;
         if (type.isPrimitive()) return true;
         if (type == String.class) return true;
+        if (type == IntArrayList.class || type == LongArrayList.class) return true;
 
         return type.getName().startsWith("java") ||
                 type.getName().startsWith("sun");
@@ -796,31 +2143,19 @@ public class ParserCompiler extends ClassLoader {
         if (type == Map.class) return null;
         if (type == Set.class) return null;
 
-        var converter = INSTANCE.converterMap.get(parserClass);
-
-        if (converter == null) {
-            converter = new ConverterStruct(parserClass);
-            INSTANCE.converterMap.put(parserClass, converter);
-        }
-
-        return converter.getReader(type);
+        return INSTANCE.converterMap.get(parserClass)
+                .getReader(type);
     }
 
     public static @Nullable Method getWriterMethod(Class<?> type, Class<?> parserClass) {
-
-        var converter = INSTANCE.converterMap.get(parserClass);
-
-        if (converter == null) {
-            converter = new ConverterStruct(parserClass);
-            INSTANCE.converterMap.put(parserClass, converter);
-        }
-
-        return converter.getWriter(type);
+        return INSTANCE.converterMap.get(parserClass)
+                .getWriter(type);
     }
 
     @SuppressWarnings("unchecked")
-    private static <T> @NotNull ObjectParser<T> createObject(byte[] bytecode, @NotNull Class<T> type, @NotNull Class<?> parserClass) {
-        var clazz = INSTANCE.defineNewClass(bytecode, type.getSimpleName() + parserClass.getSimpleName());
+    private static <T> @NotNull ObjectParser<T> createObject(byte[] bytecode, @NotNull Class<T> type, @NotNull Generation generation) {
+
+        var clazz = defineClass(generation, bytecode);
 
         if (clazz == null) {
             throw new RuntimeException("Failed to compile converter for class '%s'".formatted(type));
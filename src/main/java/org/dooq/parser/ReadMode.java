@@ -0,0 +1,50 @@
+package org.dooq.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Strategy used by the generated {@code read} method
+ *
+ * @author alex
+ */
+public enum ReadMode {
+
+    /**
+     * One {@code Map.get} per declared field
+     */
+    LOOKUP(""),
+    /**
+     * Iterates the item once, dispatching on the attribute name hash,
+     * absent attributes cost nothing, best suited for wide and sparse records
+     */
+    SINGLE_PASS("SinglePass");
+
+    private final String suffix;
+
+    ReadMode(String suffix) {
+        this.suffix = suffix;
+    }
+
+    String suffix() {
+        return suffix;
+    }
+
+    static @NotNull ReadMode of(@Nullable String value) {
+
+        if (value == null || value.isBlank()) return LOOKUP;
+
+        try {
+            return valueOf(value.trim()
+                    .replace('-', '_')
+                    .toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Logger.getLogger(ReadMode.class.getName())
+                    .log(Level.WARNING, "Unknown read mode: {0}, using {1}", new Object[]{value, LOOKUP});
+            return LOOKUP;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.dooq.parser;
+
+import org.dooq.util.IntArrayList;
+import org.dooq.util.LongArrayList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Builds instances holding a value in every property, records through their canonical constructor
+ * and other types through their default constructor and setters. Properties of unknown types are left empty.
+ *
+ * @author alex
+ */
+final class Samples {
+
+    /**
+     * Nested types deeper than this are left empty, e.g. on recursive types
+     */
+    private static final int MAX_DEPTH = 3;
+
+    private Samples() {
+    }
+
+    static <T> @Nullable T of(@NotNull Class<T> type) {
+        return type.cast(custom(type, 0));
+    }
+
+    private static @Nullable Object custom(@NotNull Class<?> type, int depth) {
+
+        if (depth > MAX_DEPTH) return null;
+
+        List<ParserCompiler.Property> properties;
+
+        try {
+            properties = ParserCompiler.getProperties(type);
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        try {
+            if (type.isRecord()) {
+
+                var components = type.getRecordComponents();
+                var types = new Class<?>[components.length];
+                var values = new Object[components.length];
+
+                for (int i = 0; i < components.length; i++) {
+                    types[i] = components[i].getType();
+                    values[i] = value(types[i], components[i].getGenericType(), depth);
+                }
+
+                var constructor = type.getDeclaredConstructor(types);
+
+                if (!constructor.trySetAccessible()) return null;
+
+                return constructor.newInstance(values);
+            }
+
+            var constructor = type.getDeclaredConstructor();
+
+            if (!constructor.trySetAccessible()) return null;
+
+            var instance = constructor.newInstance();
+
+            for (ParserCompiler.Property property : properties) {
+
+                var setter = property.setter();
+
+                if (setter == null || !setter.trySetAccessible()) continue;
+
+                var value = value(property.type(), property.genericType(), depth);
+
+                if (value != null) setter.invoke(instance, value);
+            }
+
+            return instance;
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Object value(@NotNull Class<?> type, @NotNull Type genericType, int depth) {
+
+        if (type == String.class) return "sample";
+        if (type == int.class || type == Integer.class) return 1;
+        if (type == long.class || type == Long.class) return 1L;
+        if (type == short.class || type == Short.class) return (short) 1;
+        if (type == byte.class || type == Byte.class) return (byte) 1;
+        if (type == double.class || type == Double.class) return 1.5d;
+        if (type == float.class || type == Float.class) return 1.5f;
+        if (type == boolean.class || type == Boolean.class) return true;
+        if (type == char.class || type == Character.class) return 'a';
+        if (type == BigDecimal.class) return new BigDecimal("1.5");
+        if (type == BigInteger.class) return BigInteger.ONE;
+        if (type == byte[].class) return new byte[]{1};
+        if (type == UUID.class) return new UUID(1, 1);
+        if (type == Instant.class) return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        if (type == LocalDate.class) return LocalDate.now();
+        if (type == LocalTime.class) return LocalTime.now();
+        if (type == LocalDateTime.class) return LocalDateTime.now();
+        if (type == OffsetDateTime.class) return OffsetDateTime.now();
+        if (type == IntArrayList.class) return IntArrayList.of(1);
+        if (type == LongArrayList.class) return LongArrayList.of(1);
+
+        if (type.isEnum()) {
+
+            var constants = type.getEnumConstants();
+
+            return constants.length == 0 ? null : constants[0];
+        }
+
+        if (type == List.class || type == Set.class || type == Map.class) {
+
+            if (!(genericType instanceof ParameterizedType parameterized)) return null;
+
+            var arguments = parameterized.getActualTypeArguments();
+            var element = arguments[arguments.length - 1];
+
+            if (!(element instanceof Class<?> elementType)) return null;
+
+            var value = value(elementType, elementType, depth);
+
+            if (value == null) return null;
+
+            if (type == List.class) return List.of(value);
+            if (type == Set.class) return Set.of(value);
+
+            return arguments[0] == String.class ? Map.of("sample", value) : null;
+        }
+
+        if (ParserCompiler.isCustomClass(type)) return custom(type, depth + 1);
+
+        return null;
+    }
+}
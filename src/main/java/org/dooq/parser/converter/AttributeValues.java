@@ -0,0 +1,89 @@
+package org.dooq.parser.converter;
+
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared instances of the hot scalar values: booleans, null, small numbers and short strings,
+ * {@link AttributeValue} is immutable so a single instance can be used by any item or request.
+ * <p>
+ * The cached ranges are set with {@code -Ddooq.attribute.cache.min-number}, {@code max-number},
+ * {@code max-string-length} and {@code max-strings}, zero strings disables the strings cache.
+ *
+ * @author alex
+ */
+public final class AttributeValues {
+
+    public static final AttributeValue TRUE = AttributeValue.fromBool(true);
+    public static final AttributeValue FALSE = AttributeValue.fromBool(false);
+    public static final AttributeValue NULL = AttributeValue.fromNul(true);
+
+    private static final int MIN_NUMBER = Integer.getInteger("dooq.attribute.cache.min-number", -128);
+    private static final int MAX_NUMBER = Integer.getInteger("dooq.attribute.cache.max-number", 1023);
+    private static final int MAX_STRING_LENGTH = Integer.getInteger("dooq.attribute.cache.max-string-length", 16);
+    private static final int MAX_STRINGS = Integer.getInteger("dooq.attribute.cache.max-strings", 1024);
+
+    /**
+     * Filled on first use, racing threads create equal values
+     */
+    private static final AttributeValue[] numbers = new AttributeValue[Math.max(0, MAX_NUMBER - MIN_NUMBER + 1)];
+
+    /**
+     * First come short strings, e.g. statuses, codes and flags, never evicted
+     */
+    private static final Map<String, AttributeValue> strings = new ConcurrentHashMap<>();
+
+    private AttributeValues() {
+    }
+
+    public static @NotNull AttributeValue bool(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    public static @NotNull AttributeValue nul() {
+        return NULL;
+    }
+
+    public static @NotNull AttributeValue number(int value) {
+
+        if (value < MIN_NUMBER || value > MAX_NUMBER) return AttributeValue.fromN(Digits.toString(value));
+
+        var cached = numbers[value - MIN_NUMBER];
+
+        if (cached == null) {
+            cached = AttributeValue.fromN(Digits.toString(value));
+            numbers[value - MIN_NUMBER] = cached;
+        }
+
+        return cached;
+    }
+
+    public static @NotNull AttributeValue number(long value) {
+
+        if (value < MIN_NUMBER || value > MAX_NUMBER) return AttributeValue.fromN(Digits.toString(value));
+
+        return number((int) value);
+    }
+
+    public static @NotNull AttributeValue string(@NotNull String value) {
+
+        if (value.length() > MAX_STRING_LENGTH || MAX_STRINGS == 0) return AttributeValue.fromS(value);
+
+        var cached = strings.get(value);
+
+        if (cached != null) return cached;
+
+        cached = AttributeValue.fromS(value);
+
+        if (strings.size() < MAX_STRINGS) {
+            var previous = strings.putIfAbsent(value, cached);
+
+            if (previous != null) return previous;
+        }
+
+        return cached;
+    }
+}
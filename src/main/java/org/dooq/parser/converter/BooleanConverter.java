@@ -20,10 +20,10 @@ public class BooleanConverter extends DateConverter {
     protected AttributeValue writeBoolean(@Nullable Boolean value) {
         if (value == null) return null;
 
-        return AttributeValue.fromBool(value);
+        return AttributeValues.bool(value);
     }
 
     protected AttributeValue writeBool(boolean value) {
-        return AttributeValue.fromBool(value);
+        return AttributeValues.bool(value);
     }
 }
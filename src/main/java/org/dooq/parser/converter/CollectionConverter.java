@@ -2,10 +2,13 @@ package org.dooq.parser.converter;
 
 import org.dooq.api.Converter;
 import org.dooq.api.DynamoConverter;
+import org.dooq.api.EnumFormat;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -55,42 +58,107 @@ public abstract class CollectionConverter extends NumberConverter {
                     .toList());
         }
 
-        return AttributeValue.fromL(value.stream()
-                .map(this::lookUp)
-                .filter(Objects::nonNull)
-                .toList());
+        var items = new ArrayList<AttributeValue>(value.size());
+
+        if (Number.class.isAssignableFrom(type)) {
+
+            for (K item : value) {
+                if (item != null) items.add(number((Number) item));
+            }
+
+            return AttributeValue.fromL(items);
+        }
+
+        for (K item : value) {
+            var attribute = lookUp(item);
+
+            if (attribute != null) items.add(attribute);
+        }
+
+        return AttributeValue.fromL(items);
     }
 
+    /**
+     * Reads NS attributes, and the SS attributes written by former versions
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     protected Set<?> parseSet(AttributeValue value, Class<?> type) {
 
         if (value == null || Boolean.TRUE.equals(value.nul())) return null;
 
-        if (value.ss() == null) return null;
-
         if (type == String.class) {
             return parseStringSet(value);
         }
 
-        if (type == BigDecimal.class) {
-            return value.ss().stream()
-                    .map(BigDecimal::new)
-                    .collect(Collectors.toSet());
+        if (type.isEnum()) {
+
+            if (!value.hasSs()) return null;
+
+            EnumCodec<?> codec = EnumCodec.of((Class) type, EnumFormat.Encoding.NAME);
+            var result = new HashSet<Object>(capacity(value.ss().size()));
+
+            for (String name : value.ss()) {
+                result.add(codec.valueOf(name));
+            }
+
+            return result;
+        }
+
+        List<String> numbers;
+
+        if (value.hasNs()) {
+            numbers = value.ns();
+        } else if (value.hasSs()) {
+            numbers = value.ss();
+        } else {
+            return null;
         }
 
-        return null;
+        Function<String, ?> parser = getNumberParser(type);
+
+        if (parser == null) return null;
+
+        var result = new HashSet<Object>(capacity(numbers.size()));
+
+        for (String number : numbers) {
+            result.add(parser.apply(number));
+        }
+
+        return result;
     }
 
     protected List<?> parseList(AttributeValue value, Class<?> type) {
 
         if (value == null || Boolean.TRUE.equals(value.nul())) return null;
 
+        //Number sets can be read as lists
+        if (value.hasNs()) {
+            var parser = getNumberParser(type);
+
+            if (parser == null) return null;
+
+            var result = new ArrayList<>(value.ns().size());
+
+            for (String number : value.ns()) {
+                result.add(parser.apply(number));
+            }
+
+            return Collections.unmodifiableList(result);
+        }
+
         @Nullable var converter = lookUpParser(type);
 
         if (converter != null) {
-            return value.l().stream()
-                    .map(converter)
-                    .filter(Objects::nonNull)
-                    .toList();
+            var items = value.l();
+            var result = new ArrayList<>(items.size());
+
+            for (AttributeValue item : items) {
+                var parsed = converter.apply(item);
+
+                if (parsed != null) result.add(parsed);
+            }
+
+            return Collections.unmodifiableList(result);
         }
 
         if (isComplex(type)) {
@@ -153,13 +221,67 @@ public abstract class CollectionConverter extends NumberConverter {
         return new HashSet<>(value.ss());
     }
 
+    /**
+     * Numbers are written as NS, anything else as SS, enums by name
+     */
     protected AttributeValue writeSet(@Nullable Set<?> value, Class<?> type) {
 
         if (value == null) return null;
 
-        return AttributeValue.fromSs(value.stream()
-                .map(Object::toString)
-                .toList());
+        var items = new ArrayList<String>(value.size());
+
+        if (Number.class.isAssignableFrom(type)) {
+
+            for (Object item : value) {
+                if (item != null) items.add(toNumber((Number) item));
+            }
+
+            //Empty sets are not allowed
+            return items.isEmpty() ? null : AttributeValue.fromNs(items);
+        }
+
+        for (Object item : value) {
+            items.add(item instanceof Enum<?> constant ? constant.name() : item.toString());
+        }
+
+        return AttributeValue.fromSs(items);
+    }
+
+    private static @Nullable Function<String, ?> getNumberParser(Class<?> type) {
+
+        if (type == Integer.class) return Integer::valueOf;
+        if (type == Long.class) return Long::valueOf;
+        if (type == Short.class) return Short::valueOf;
+        if (type == Double.class) return Double::valueOf;
+        if (type == Float.class) return Float::valueOf;
+        if (type == BigDecimal.class) return BigDecimal::new;
+        if (type == BigInteger.class) return BigInteger::new;
+
+        return null;
+    }
+
+    private static @NotNull AttributeValue number(@NotNull Number number) {
+
+        if (number instanceof Integer || number instanceof Short) return AttributeValues.number(number.intValue());
+        if (number instanceof Long) return AttributeValues.number(number.longValue());
+
+        return AttributeValue.fromN(toNumber(number));
+    }
+
+    private static @NotNull String toNumber(@NotNull Number number) {
+
+        if (number instanceof Integer || number instanceof Short) return Digits.toString(number.intValue());
+        if (number instanceof Long) return Digits.toString(number.longValue());
+        if (number instanceof BigDecimal decimal) return decimal.toPlainString();
+
+        return number.toString();
+    }
+
+    /**
+     * @return the initial capacity of a hash set holding the given number of values without rehashing
+     */
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
     }
 
     protected AttributeValue writeStringSet(@Nullable Set<String> value) {
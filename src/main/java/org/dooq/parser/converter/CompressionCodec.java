@@ -0,0 +1,281 @@
+package org.dooq.parser.converter;
+
+import org.dooq.api.Compressed;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Gzip codec of the {@link Compressed} strings, the deflaters and inflaters are pooled per thread
+ * so no native zlib stream is allocated per value
+ *
+ * @author alex
+ */
+public final class CompressionCodec {
+
+    private static final int HEADER = 10;
+    private static final int TRAILER = 8;
+    /**
+     * Largest original size read from the trailer that is allocated upfront, the DynamoDB item limit
+     * or a small multiple of the compressed size, larger or negative sizes are not trusted
+     */
+    private static final int TRUSTED_SIZE = 400 * 1024;
+    private static final int TRUSTED_RATIO = 16;
+
+    private static final Map<Long, CompressionCodec> codecs = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Pool> pool = ThreadLocal.withInitial(Pool::new);
+
+    private final int threshold;
+    private final int level;
+
+    private CompressionCodec(int threshold, int level) {
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    public static @NotNull CompressionCodec of(@NotNull Compressed compressed) {
+        return of(compressed.threshold(), compressed.level());
+    }
+
+    public static @NotNull CompressionCodec of(int threshold, int level) {
+
+        if (threshold < 0) throw new IllegalArgumentException("Invalid threshold: " + threshold);
+
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+
+        return codecs.computeIfAbsent(((long) threshold << 32) | (level & 0xFFFFFFFFL),
+                ignored -> new CompressionCodec(threshold, level));
+    }
+
+    public int threshold() {
+        return threshold;
+    }
+
+    public int level() {
+        return level;
+    }
+
+    /**
+     * @return {@code B} when compressing is worth it, {@code S} otherwise
+     */
+    public @Nullable AttributeValue write(@Nullable String value) {
+
+        if (value == null) return null;
+
+        //At most 3 bytes per char, no need to encode it
+        if ((long) value.length() * 3 < threshold) return AttributeValue.fromS(value);
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length < threshold) return AttributeValue.fromS(value);
+
+        byte[] compressed = compress(bytes, level);
+
+        if (compressed.length >= bytes.length) return AttributeValue.fromS(value);
+
+        return AttributeValue.fromB(SdkBytes.fromByteArrayUnsafe(compressed));
+    }
+
+    /**
+     * Accepts both, the compressed {@code B} and the plain {@code S} values
+     */
+    public @Nullable String read(@Nullable AttributeValue value) {
+
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.s() != null) return value.s();
+
+        if (value.b() != null) {
+            return new String(decompress(value.b().asByteArrayUnsafe()), StandardCharsets.UTF_8);
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the gzip member of the data
+     */
+    public static byte @NotNull [] compress(byte @NotNull [] data, int level) {
+
+        var state = pool.get();
+        var deflater = state.deflater(level);
+
+        deflater.setInput(data);
+        deflater.finish();
+
+        byte[] buffer = state.buffer(HEADER + data.length / 2 + TRAILER + 64);
+
+        //Magic, deflate method, no flags, no modification time, same header as GZIPOutputStream
+        buffer[0] = (byte) 0x1f;
+        buffer[1] = (byte) 0x8b;
+        buffer[2] = Deflater.DEFLATED;
+        Arrays.fill(buffer, 3, HEADER, (byte) 0);
+
+        int length = HEADER;
+
+        while (!deflater.finished()) {
+
+            if (length == buffer.length) {
+                buffer = state.grow(buffer, length * 2);
+            }
+
+            length += deflater.deflate(buffer, length, buffer.length - length);
+        }
+
+        if (length + TRAILER > buffer.length) {
+            buffer = state.grow(buffer, length + TRAILER);
+        }
+
+        var crc = state.crc;
+        crc.reset();
+        crc.update(data);
+
+        writeInt(buffer, length, (int) crc.getValue());
+        writeInt(buffer, length + 4, data.length);
+
+        return Arrays.copyOf(buffer, length + TRAILER);
+    }
+
+    /**
+     * @param data a gzip member
+     */
+    public static byte @NotNull [] decompress(byte @NotNull [] data) {
+
+        if (data.length < HEADER + TRAILER || (data[0] & 0xFF) != 0x1f || (data[1] & 0xFF) != 0x8b) {
+            throw new IllegalArgumentException("Not a gzip value");
+        }
+
+        //Optional header fields, not written by this codec
+        if (data[3] != 0) return decompressStream(data);
+
+        int size = readInt(data, data.length - 4);
+
+        if (size < 0 || size > Math.max(TRUSTED_SIZE, data.length * TRUSTED_RATIO)) return decompressStream(data);
+
+        var state = pool.get();
+        var inflater = state.inflater;
+
+        inflater.reset();
+        inflater.setInput(data, HEADER, data.length - HEADER - TRAILER);
+
+        byte[] result = new byte[size];
+
+        try {
+            int length = 0;
+
+            while (length < result.length && !inflater.finished()) {
+
+                int read = inflater.inflate(result, length, result.length - length);
+
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+
+                length += read;
+            }
+
+            if (length != result.length) return decompressStream(data);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted gzip value", e);
+        }
+
+        var crc = state.crc;
+        crc.reset();
+        crc.update(result);
+
+        if ((int) crc.getValue() != readInt(data, data.length - TRAILER)) {
+            throw new IllegalArgumentException("Corrupted gzip value, checksum mismatch");
+        }
+
+        return result;
+    }
+
+    private static byte @NotNull [] decompressStream(byte @NotNull [] data) {
+        try (var stream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeInt(byte @NotNull [] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+    }
+
+    @Contract(pure = true)
+    private static int readInt(byte @NotNull [] buffer, int offset) {
+        return (buffer[offset] & 0xFF) |
+                (buffer[offset + 1] & 0xFF) << 8 |
+                (buffer[offset + 2] & 0xFF) << 16 |
+                (buffer[offset + 3] & 0xFF) << 24;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionCodec{threshold=" + threshold + ", level=" + level + '}';
+    }
+
+    /**
+     * The zlib streams of a thread, one deflater per level since changing it flushes the pending input
+     */
+    private static final class Pool {
+
+        private static final int MAX_RETAINED = 1 << 20;
+
+        private final Deflater[] deflaters = new Deflater[Deflater.BEST_COMPRESSION + 2];
+        private final Inflater inflater = new Inflater(true);
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[4096];
+
+        @NotNull Deflater deflater(int level) {
+
+            var deflater = deflaters[level + 1];
+
+            if (deflater == null) {
+                deflater = deflaters[level + 1] = new Deflater(level, true);
+            } else {
+                deflater.reset();
+            }
+
+            return deflater;
+        }
+
+        byte @NotNull [] buffer(int size) {
+
+            if (buffer.length < size) return grow(buffer, size);
+
+            return buffer;
+        }
+
+        /**
+         * Keeps the content, big buffers are not retained after the current call
+         */
+        byte @NotNull [] grow(byte @NotNull [] current, int size) {
+
+            var grown = Arrays.copyOf(current, size);
+
+            if (size <= MAX_RETAINED) buffer = grown;
+
+            return grown;
+        }
+    }
+}
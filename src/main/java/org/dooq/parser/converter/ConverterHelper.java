@@ -5,7 +5,7 @@ import org.jetbrains.annotations.NotNull;
 public class ConverterHelper {
 
     protected boolean isComplex(@NotNull Class<?> type) {
-        return !type.getName().startsWith("java");
+        return !type.isEnum() && !type.getName().startsWith("java");
     }
 
     protected boolean isJVMClass(@NotNull Class<?> type) {
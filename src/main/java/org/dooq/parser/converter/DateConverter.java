@@ -1,15 +1,17 @@
 package org.dooq.parser.converter;
 
+import org.dooq.api.EpochEncoded;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneOffset;
+import java.time.*;
+import java.time.temporal.Temporal;
 
 public class DateConverter extends AdditionalConverter {
 
+    private static final int[] FRACTION_SCALE = {100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
     protected AttributeValue writeLocalDate(@Nullable LocalDate value) {
         if (value == null) return null;
 
@@ -28,16 +30,35 @@ public class DateConverter extends AdditionalConverter {
         return AttributeValue.fromS(value.toString());
     }
 
+    protected AttributeValue writeInstant(@Nullable Instant value) {
+        if (value == null) return null;
+
+        return AttributeValue.fromS(value.toString());
+    }
+
+    protected AttributeValue writeOffsetDateTime(@Nullable OffsetDateTime value) {
+        if (value == null) return null;
+
+        return AttributeValue.fromS(value.toString());
+    }
+
+    protected AttributeValue writeEpoch(@Nullable Temporal value, EpochCodec codec) {
+        return codec.encode(value);
+    }
+
+    protected Temporal parseEpoch(@Nullable AttributeValue value, EpochCodec codec) {
+        return codec.decode(value);
+    }
 
     protected LocalDate parseLocalDate(@Nullable AttributeValue value) {
         if (value == null || Boolean.TRUE.equals(value.nul())) return null;
 
         if (value.s() != null) {
-            return LocalDate.parse(value.s());
+            return parseIsoDate(value.s());
         }
 
         if (value.n() != null) {
-            return LocalDate.ofEpochDay(Long.parseLong(value.n()));
+            return LocalDate.ofEpochDay(EpochCodec.parseEpoch(value.n()));
         }
 
         return null;
@@ -47,13 +68,156 @@ public class DateConverter extends AdditionalConverter {
         if (value == null || Boolean.TRUE.equals(value.nul())) return null;
 
         if (value.s() != null) {
-            return LocalDateTime.parse(value.s());
+            return parseIsoDateTime(value.s());
+        }
+
+        if (value.n() != null) {
+            return LocalDateTime.ofEpochSecond(EpochCodec.parseEpoch(value.n()), 0, ZoneOffset.UTC);
+        }
+
+        return null;
+    }
+
+    protected LocalTime parseLocalTime(@Nullable AttributeValue value) {
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.s() != null) {
+            return LocalTime.parse(value.s());
+        }
+
+        if (value.n() != null) {
+            return (LocalTime) EpochCodec.of(LocalTime.class, EpochEncoded.Unit.MILLIS).decode(value);
+        }
+
+        return null;
+    }
+
+    protected Instant parseInstant(@Nullable AttributeValue value) {
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.s() != null) {
+            return parseIsoInstant(value.s());
+        }
+
+        if (value.n() != null) {
+            return Instant.ofEpochMilli(EpochCodec.parseEpoch(value.n()));
+        }
+
+        return null;
+    }
+
+    protected OffsetDateTime parseOffsetDateTime(@Nullable AttributeValue value) {
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.s() != null) {
+            return OffsetDateTime.parse(value.s());
         }
 
         if (value.n() != null) {
-            return LocalDateTime.ofEpochSecond(Long.parseLong(value.n()), 0, ZoneOffset.UTC);
+            return (OffsetDateTime) EpochCodec.of(OffsetDateTime.class, EpochEncoded.Unit.MILLIS).decode(value);
         }
 
         return null;
     }
+
+    /**
+     * Parses {@code yyyy-MM-dd} by hand, any other form goes through the formatter
+     */
+    static @NotNull LocalDate parseIsoDate(@NotNull String text) {
+
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 7);
+            int day = digits(text, 8, 10);
+
+            if ((year | month | day) >= 0) return LocalDate.of(year, month, day);
+        }
+
+        return LocalDate.parse(text);
+    }
+
+    /**
+     * Parses the {@link LocalDateTime#toString()} forms by hand, any other form goes through the formatter
+     */
+    static @NotNull LocalDateTime parseIsoDateTime(@NotNull String text) {
+
+        var result = parseIsoDateTime(text, text.length());
+
+        return result == null ? LocalDateTime.parse(text) : result;
+    }
+
+    /**
+     * Parses the {@link Instant#toString()} forms by hand, any other form goes through the formatter
+     */
+    static @NotNull Instant parseIsoInstant(@NotNull String text) {
+
+        int length = text.length();
+
+        if (length > 0 && text.charAt(length - 1) == 'Z') {
+
+            var result = parseIsoDateTime(text, length - 1);
+
+            if (result != null) return result.toInstant(ZoneOffset.UTC);
+        }
+
+        return Instant.parse(text);
+    }
+
+    /**
+     * @return null if the first characters are not {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]}
+     */
+    private static @Nullable LocalDateTime parseIsoDateTime(@NotNull String text, int length) {
+
+        if (length < 16 || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T' || text.charAt(13) != ':') {
+            return null;
+        }
+
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        int hour = digits(text, 11, 13);
+        int minute = digits(text, 14, 16);
+        int second = 0;
+        int nano = 0;
+
+        if (length > 16) {
+
+            if (length < 19 || text.charAt(16) != ':') return null;
+
+            second = digits(text, 17, 19);
+
+            if (length > 19) {
+
+                if (length == 20 || length > 29 || text.charAt(19) != '.') return null;
+
+                int fraction = digits(text, 20, length);
+
+                nano = fraction < 0 ? -1 : fraction * FRACTION_SCALE[length - 21];
+            }
+        }
+
+        if ((year | month | day | hour | minute | second | nano) < 0) return null;
+
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * @return the value of the decimal digits, -1 if any other character is found
+     */
+    private static int digits(@NotNull String text, int from, int to) {
+
+        int result = 0;
+
+        for (int i = from; i < to; i++) {
+
+            int digit = text.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) return -1;
+
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
 }
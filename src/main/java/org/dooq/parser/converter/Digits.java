@@ -0,0 +1,40 @@
+package org.dooq.parser.converter;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decimal text of the integral values, the small values (counters, quantities, flags) are
+ * formatted once and shared so writing them allocates nothing
+ *
+ * @author alex
+ */
+final class Digits {
+
+    private static final int LOW = -128;
+    private static final int HIGH = 1023;
+
+    private static final String[] CACHE = new String[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = Integer.toString(i + LOW);
+        }
+    }
+
+    private Digits() {
+    }
+
+    static @NotNull String toString(int value) {
+
+        if (value >= LOW && value <= HIGH) return CACHE[value - LOW];
+
+        return Integer.toString(value);
+    }
+
+    static @NotNull String toString(long value) {
+
+        if (value >= LOW && value <= HIGH) return CACHE[(int) value - LOW];
+
+        return Long.toString(value);
+    }
+}
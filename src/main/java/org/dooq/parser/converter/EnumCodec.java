@@ -0,0 +1,187 @@
+package org.dooq.parser.converter;
+
+import org.dooq.api.EnumFormat;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Codec of the enum properties, one per enum type and {@link EnumFormat.Encoding}.
+ * <p>
+ * Names are decoded through a perfect hash table built for the enum constants, so a lookup
+ * is one multiplication and one {@code equals}, and every constant is encoded as a shared {@link AttributeValue}.
+ *
+ * @author alex
+ */
+public final class EnumCodec<E extends Enum<E>> {
+
+    private static final int MAX_SEEDS = 1_024;
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final ClassValue<EnumCodec[]> codecs = new ClassValue<>() {
+        @Override
+        protected EnumCodec[] computeValue(Class<?> type) {
+
+            var encodings = EnumFormat.Encoding.values();
+            var result = new EnumCodec[encodings.length];
+
+            for (EnumFormat.Encoding encoding : encodings) {
+                result[encoding.ordinal()] = new EnumCodec(type, encoding);
+            }
+
+            return result;
+        }
+    };
+
+    private final Class<E> type;
+    private final EnumFormat.Encoding encoding;
+    private final E[] constants;
+    private final AttributeValue[] values;
+
+    /**
+     * Constants by {@code (hash * seed) >>> shift}, null if the names hashes collide
+     */
+    private final E @Nullable [] table;
+    private final int seed;
+    private final int shift;
+    private final @Nullable Map<String, E> names;
+
+    private EnumCodec(@NotNull Class<E> type, @NotNull EnumFormat.Encoding encoding) {
+
+        if (!type.isEnum()) throw new IllegalArgumentException("Not an enum: " + type);
+
+        this.type = type;
+        this.encoding = encoding;
+        this.constants = type.getEnumConstants();
+        this.values = new AttributeValue[constants.length];
+
+        for (E constant : constants) {
+            values[constant.ordinal()] = encoding == EnumFormat.Encoding.ORDINAL ?
+                    AttributeValue.fromN(Digits.toString(constant.ordinal())) :
+                    AttributeValue.fromS(constant.name());
+        }
+
+        E[] perfect = null;
+        int perfectSeed = 0;
+        int perfectShift = 0;
+
+        search:
+        for (int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(constants.length)); bits <= 16; bits++) {
+            for (int attempt = 0; attempt < MAX_SEEDS; attempt++) {
+
+                int candidate = 0x9E3779B9 + attempt * 2;
+
+                var slots = perfect(candidate, 32 - bits);
+
+                if (slots != null) {
+                    perfect = slots;
+                    perfectSeed = candidate;
+                    perfectShift = 32 - bits;
+                    break search;
+                }
+            }
+        }
+
+        this.table = perfect;
+        this.seed = perfectSeed;
+        this.shift = perfectShift;
+
+        if (perfect == null) {
+            var map = new HashMap<String, E>(constants.length * 2);
+
+            for (E constant : constants) {
+                map.put(constant.name(), constant);
+            }
+
+            this.names = map;
+        } else {
+            this.names = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E @Nullable [] perfect(int seed, int shift) {
+
+        var slots = (E[]) Array.newInstance(type, 1 << (32 - shift));
+
+        for (E constant : constants) {
+
+            int slot = (constant.name().hashCode() * seed) >>> shift;
+
+            if (slots[slot] != null) return null;
+
+            slots[slot] = constant;
+        }
+
+        return slots;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> @NotNull EnumCodec<E> of(@NotNull Class<E> type, @NotNull EnumFormat.Encoding encoding) {
+        return codecs.get(type)[encoding.ordinal()];
+    }
+
+    public @NotNull Class<E> type() {
+        return type;
+    }
+
+    public @NotNull EnumFormat.Encoding encoding() {
+        return encoding;
+    }
+
+    public @Nullable AttributeValue encode(@Nullable E value) {
+
+        if (value == null) return null;
+
+        return values[value.ordinal()];
+    }
+
+    /**
+     * Reads both encodings, {@code S} by name and {@code N} by ordinal
+     *
+     * @throws IllegalArgumentException if the value is not a constant of the enum
+     */
+    public @Nullable E decode(@Nullable AttributeValue value) {
+
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.s() != null) return valueOf(value.s());
+
+        if (value.n() != null) {
+
+            int ordinal;
+
+            try {
+                ordinal = Integer.parseInt(value.n());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("No enum ordinal " + type.getName() + "." + value.n(), e);
+            }
+
+            if (ordinal < 0 || ordinal >= constants.length) {
+                throw new IllegalArgumentException("No enum ordinal " + type.getName() + "." + ordinal);
+            }
+
+            return constants[ordinal];
+        }
+
+        return null;
+    }
+
+    /**
+     * Same as {@link Enum#valueOf(Class, String)}, without scanning the constants
+     */
+    public @NotNull E valueOf(@NotNull String name) {
+
+        E constant = table == null ? names.get(name) : table[(name.hashCode() * seed) >>> shift];
+
+        if (constant == null || !constant.name().equals(name)) {
+            throw new IllegalArgumentException("No enum constant " + type.getName() + "." + name);
+        }
+
+        return constant;
+    }
+}
@@ -0,0 +1,217 @@
+package org.dooq.parser.converter;
+
+import org.dooq.api.EpochEncoded;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.*;
+import java.time.temporal.Temporal;
+import java.util.Map;
+
+/**
+ * Codec of the {@link EpochEncoded} properties, one per temporal type and unit.
+ * <p>
+ * Values are converted with plain arithmetic on the epoch fields, and the numbers are parsed by hand,
+ * so decoding allocates only the resulting temporal. OffsetDateTime values are decoded at UTC.
+ *
+ * @author alex
+ */
+public final class EpochCodec {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1_000;
+
+    private enum Kind {
+        INSTANT,
+        OFFSET_DATE_TIME,
+        LOCAL_DATE_TIME,
+        LOCAL_DATE,
+        LOCAL_TIME
+    }
+
+    private static final Map<Class<?>, Kind> kinds = Map.of(
+            Instant.class, Kind.INSTANT,
+            OffsetDateTime.class, Kind.OFFSET_DATE_TIME,
+            LocalDateTime.class, Kind.LOCAL_DATE_TIME,
+            LocalDate.class, Kind.LOCAL_DATE,
+            LocalTime.class, Kind.LOCAL_TIME);
+
+    private static final EpochCodec[][] codecs = new EpochCodec[Kind.values().length][EpochEncoded.Unit.values().length];
+
+    static {
+        for (Map.Entry<Class<?>, Kind> entry : kinds.entrySet()) {
+            for (EpochEncoded.Unit unit : EpochEncoded.Unit.values()) {
+
+                //Days of a time are always zero
+                if (entry.getValue() == Kind.LOCAL_TIME && unit == EpochEncoded.Unit.DAYS) continue;
+
+                codecs[entry.getValue().ordinal()][unit.ordinal()] = new EpochCodec(entry.getKey(), entry.getValue(), unit);
+            }
+        }
+    }
+
+    private final Class<?> type;
+    private final Kind kind;
+    private final EpochEncoded.Unit unit;
+
+    private EpochCodec(@NotNull Class<?> type, @NotNull Kind kind, @NotNull EpochEncoded.Unit unit) {
+        this.type = type;
+        this.kind = kind;
+        this.unit = unit;
+    }
+
+    public static boolean isSupported(@NotNull Class<?> type) {
+        return kinds.containsKey(type);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the type is not supported with the unit
+     */
+    public static @NotNull EpochCodec of(@NotNull Class<?> type, @NotNull EpochEncoded.Unit unit) {
+
+        var kind = kinds.get(type);
+
+        if (kind == null) throw new IllegalArgumentException("Not an epoch encoded type: " + type);
+
+        var codec = codecs[kind.ordinal()][unit.ordinal()];
+
+        if (codec == null) throw new IllegalArgumentException("Invalid unit " + unit + " for type: " + type);
+
+        return codec;
+    }
+
+    public @NotNull Class<?> type() {
+        return type;
+    }
+
+    public @NotNull EpochEncoded.Unit unit() {
+        return unit;
+    }
+
+    public @Nullable AttributeValue encode(@Nullable Temporal value) {
+
+        if (value == null) return null;
+
+        return AttributeValue.fromN(Digits.toString(toEpoch(value)));
+    }
+
+    /**
+     * Reads the {@code N} epoch values, and the ISO strings written without the annotation
+     */
+    public @Nullable Temporal decode(@Nullable AttributeValue value) {
+
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.n() != null) return fromEpoch(parseEpoch(value.n()));
+
+        if (value.s() != null) {
+            return switch (kind) {
+                case INSTANT -> DateConverter.parseIsoInstant(value.s());
+                case OFFSET_DATE_TIME -> OffsetDateTime.parse(value.s());
+                case LOCAL_DATE_TIME -> DateConverter.parseIsoDateTime(value.s());
+                case LOCAL_DATE -> DateConverter.parseIsoDate(value.s());
+                case LOCAL_TIME -> LocalTime.parse(value.s());
+            };
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the value to compare the attribute with, e.g. in range key conditions
+     */
+    public long toEpoch(@NotNull Temporal value) {
+        return switch (kind) {
+            case INSTANT -> toEpoch((Instant) value);
+            case OFFSET_DATE_TIME -> toEpoch(((OffsetDateTime) value).toEpochSecond(), ((OffsetDateTime) value).getNano());
+            case LOCAL_DATE_TIME -> toEpoch(((LocalDateTime) value).toEpochSecond(ZoneOffset.UTC), ((LocalDateTime) value).getNano());
+            case LOCAL_DATE -> switch (unit) {
+                case DAYS -> ((LocalDate) value).toEpochDay();
+                case SECONDS -> ((LocalDate) value).toEpochDay() * SECONDS_PER_DAY;
+                case MILLIS -> ((LocalDate) value).toEpochDay() * MILLIS_PER_DAY;
+            };
+            case LOCAL_TIME -> unit == EpochEncoded.Unit.SECONDS ?
+                    ((LocalTime) value).toSecondOfDay() :
+                    ((LocalTime) value).toNanoOfDay() / 1_000_000;
+        };
+    }
+
+    public @NotNull Temporal fromEpoch(long epoch) {
+        return switch (kind) {
+            case INSTANT -> toInstant(epoch);
+            case OFFSET_DATE_TIME -> OffsetDateTime.ofInstant(toInstant(epoch), ZoneOffset.UTC);
+            case LOCAL_DATE_TIME -> switch (unit) {
+                case DAYS -> LocalDateTime.ofEpochSecond(epoch * SECONDS_PER_DAY, 0, ZoneOffset.UTC);
+                case SECONDS -> LocalDateTime.ofEpochSecond(epoch, 0, ZoneOffset.UTC);
+                case MILLIS -> LocalDateTime.ofEpochSecond(Math.floorDiv(epoch, 1_000),
+                        (int) Math.floorMod(epoch, 1_000) * 1_000_000, ZoneOffset.UTC);
+            };
+            case LOCAL_DATE -> switch (unit) {
+                case DAYS -> LocalDate.ofEpochDay(epoch);
+                case SECONDS -> LocalDate.ofEpochDay(Math.floorDiv(epoch, SECONDS_PER_DAY));
+                case MILLIS -> LocalDate.ofEpochDay(Math.floorDiv(epoch, MILLIS_PER_DAY));
+            };
+            case LOCAL_TIME -> unit == EpochEncoded.Unit.SECONDS ?
+                    LocalTime.ofSecondOfDay(epoch) :
+                    LocalTime.ofNanoOfDay(epoch * 1_000_000);
+        };
+    }
+
+    private long toEpoch(@NotNull Instant instant) {
+        return toEpoch(instant.getEpochSecond(), instant.getNano());
+    }
+
+    private long toEpoch(long seconds, int nanos) {
+        return switch (unit) {
+            case DAYS -> Math.floorDiv(seconds, SECONDS_PER_DAY);
+            case SECONDS -> seconds;
+            case MILLIS -> seconds * 1_000 + nanos / 1_000_000;
+        };
+    }
+
+    private @NotNull Instant toInstant(long epoch) {
+        return switch (unit) {
+            case DAYS -> Instant.ofEpochSecond(epoch * SECONDS_PER_DAY);
+            case SECONDS -> Instant.ofEpochSecond(epoch);
+            case MILLIS -> Instant.ofEpochMilli(epoch);
+        };
+    }
+
+    /**
+     * Parses the integral numbers without allocating, numbers written with a fraction
+     * or an exponent by other clients are truncated
+     */
+    static long parseEpoch(@NotNull String number) {
+
+        int length = number.length();
+
+        boolean negative = length > 0 && number.charAt(0) == '-';
+        int start = negative ? 1 : 0;
+
+        //At most 18 digits never overflow
+        if (length == start || length - start > 18) return slowParseEpoch(number);
+
+        long result = 0;
+
+        for (int i = start; i < length; i++) {
+
+            int digit = number.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) return slowParseEpoch(number);
+
+            result = result * 10 + digit;
+        }
+
+        return negative ? -result : result;
+    }
+
+    private static long slowParseEpoch(@NotNull String number) {
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            return new BigDecimal(number).longValue();
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package org.dooq.parser.converter;
 
+import org.dooq.api.ArrayFormat;
+import org.dooq.util.IntArrayList;
+import org.dooq.util.LongArrayList;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
 
 public class NumberConverter extends StringConverter {
 
@@ -23,37 +32,47 @@ public class NumberConverter extends StringConverter {
     }
 
     protected AttributeValue writeInt(int value) {
-        return AttributeValue.fromN(String.valueOf(value));
+        return AttributeValues.number(value);
     }
 
     protected AttributeValue writeShort(short value) {
-        return AttributeValue.fromN(String.valueOf(value));
+        return AttributeValues.number(value);
     }
 
     protected AttributeValue writeFloat(float value) {
         return AttributeValue.fromN(String.valueOf(value));
     }
 
-    protected AttributeValue writeLong(long value) {
+    protected AttributeValue writeDouble(double value) {
         return AttributeValue.fromN(String.valueOf(value));
     }
 
+    protected AttributeValue writeLong(long value) {
+        return AttributeValues.number(value);
+    }
+
     protected AttributeValue writeInteger(@Nullable Integer value) {
         if (value == null) return null;
 
-        return AttributeValue.fromN(String.valueOf(value));
+        return AttributeValues.number(value.intValue());
     }
 
     protected AttributeValue writeShorter(@Nullable Short value) {
         if (value == null) return null;
 
-        return AttributeValue.fromN(String.valueOf(value));
+        return AttributeValues.number(value.intValue());
     }
 
     protected AttributeValue writeLonger(@Nullable Long value) {
         if (value == null) return null;
 
-        return AttributeValue.fromN(String.valueOf(value));
+        return AttributeValues.number(value.longValue());
+    }
+
+    protected AttributeValue writeDoubler(@Nullable Double value) {
+        if (value == null) return null;
+
+        return AttributeValue.fromN(String.valueOf(value.doubleValue()));
     }
 
     protected AttributeValue writeFloater(@Nullable Float value) {
@@ -70,11 +89,15 @@ public class NumberConverter extends StringConverter {
 
     protected int parseInt(@Nullable AttributeValue value) {
         if (value == null) return 0;
+        if (value.n() == null) return 0;
+
         return Integer.parseInt(value.n());
     }
 
-    protected int parseShort(@Nullable AttributeValue value) {
+    protected short parseShort(@Nullable AttributeValue value) {
         if (value == null) return 0;
+        if (value.n() == null) return 0;
+
         return Short.parseShort(value.n());
     }
 
@@ -115,6 +138,21 @@ public class NumberConverter extends StringConverter {
         return Float.parseFloat(value.n());
     }
 
+    protected Double parseDoubler(@Nullable AttributeValue value) {
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.n() == null) return null;
+
+        return Double.valueOf(value.n());
+    }
+
+    protected double parseDouble(@Nullable AttributeValue value) {
+        if (value == null) return 0.0d;
+        if (value.n() == null) return 0.0d;
+
+        return Double.parseDouble(value.n());
+    }
+
     protected long parseLong(@Nullable AttributeValue value) {
         if (value == null) return 0;
         if (value.n() == null) return 0;
@@ -135,4 +173,272 @@ public class NumberConverter extends StringConverter {
 
         return null;
     }
+
+    /*
+     * Primitive arrays and lists, packed as little-endian B attributes unless another ArrayFormat is given
+     */
+
+    protected AttributeValue writeIntArray(int @Nullable [] value, ArrayFormat.Encoding encoding) {
+        if (value == null) return null;
+
+        return writeInts(value, value.length, encoding);
+    }
+
+    protected AttributeValue writeLongArray(long @Nullable [] value, ArrayFormat.Encoding encoding) {
+        if (value == null) return null;
+
+        return writeLongs(value, value.length, encoding);
+    }
+
+    protected AttributeValue writeIntList(@Nullable IntArrayList value, ArrayFormat.Encoding encoding) {
+        if (value == null) return null;
+
+        return writeInts(value.elements(), value.size(), encoding);
+    }
+
+    protected AttributeValue writeLongList(@Nullable LongArrayList value, ArrayFormat.Encoding encoding) {
+        if (value == null) return null;
+
+        return writeLongs(value.elements(), value.size(), encoding);
+    }
+
+    private static AttributeValue writeInts(int @NotNull [] value, int length, ArrayFormat.Encoding encoding) {
+
+        if (encoding == ArrayFormat.Encoding.PACKED) {
+            var buffer = packed(length * Integer.BYTES);
+            buffer.asIntBuffer().put(value, 0, length);
+
+            return AttributeValue.fromB(SdkBytes.fromByteArrayUnsafe(buffer.array()));
+        }
+
+        var numbers = new ArrayList<String>(length);
+
+        for (int i = 0; i < length; i++) {
+            numbers.add(Digits.toString(value[i]));
+        }
+
+        return numbers(numbers, encoding);
+    }
+
+    private static AttributeValue writeLongs(long @NotNull [] value, int length, ArrayFormat.Encoding encoding) {
+
+        if (encoding == ArrayFormat.Encoding.PACKED) {
+            var buffer = packed(length * Long.BYTES);
+            buffer.asLongBuffer().put(value, 0, length);
+
+            return AttributeValue.fromB(SdkBytes.fromByteArrayUnsafe(buffer.array()));
+        }
+
+        var numbers = new ArrayList<String>(length);
+
+        for (int i = 0; i < length; i++) {
+            numbers.add(Digits.toString(value[i]));
+        }
+
+        return numbers(numbers, encoding);
+    }
+
+    protected AttributeValue writeFloatArray(float @Nullable [] value, ArrayFormat.Encoding encoding) {
+        if (value == null) return null;
+
+        if (encoding == ArrayFormat.Encoding.PACKED) {
+            var buffer = packed(value.length * Float.BYTES);
+            buffer.asFloatBuffer().put(value);
+
+            return AttributeValue.fromB(SdkBytes.fromByteArrayUnsafe(buffer.array()));
+        }
+
+        var numbers = new ArrayList<String>(value.length);
+
+        for (float item : value) {
+            numbers.add(String.valueOf(item));
+        }
+
+        return numbers(numbers, encoding);
+    }
+
+    protected AttributeValue writeDoubleArray(double @Nullable [] value, ArrayFormat.Encoding encoding) {
+        if (value == null) return null;
+
+        if (encoding == ArrayFormat.Encoding.PACKED) {
+            var buffer = packed(value.length * Double.BYTES);
+            buffer.asDoubleBuffer().put(value);
+
+            return AttributeValue.fromB(SdkBytes.fromByteArrayUnsafe(buffer.array()));
+        }
+
+        var numbers = new ArrayList<String>(value.length);
+
+        for (double item : value) {
+            numbers.add(String.valueOf(item));
+        }
+
+        return numbers(numbers, encoding);
+    }
+
+    protected int[] parseIntArray(@Nullable AttributeValue value) {
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.b() != null) {
+            var buffer = unpacked(value).asIntBuffer();
+            var result = new int[buffer.remaining()];
+            buffer.get(result);
+
+            return result;
+        }
+
+        var numbers = numbers(value);
+
+        if (numbers == null) return null;
+
+        var result = new int[numbers.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Integer.parseInt(numbers.get(i));
+        }
+
+        return result;
+    }
+
+    protected long[] parseLongArray(@Nullable AttributeValue value) {
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.b() != null) {
+            var buffer = unpacked(value).asLongBuffer();
+            var result = new long[buffer.remaining()];
+            buffer.get(result);
+
+            return result;
+        }
+
+        var numbers = numbers(value);
+
+        if (numbers == null) return null;
+
+        var result = new long[numbers.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Long.parseLong(numbers.get(i));
+        }
+
+        return result;
+    }
+
+    protected IntArrayList parseIntList(@Nullable AttributeValue value) {
+
+        var result = parseIntArray(value);
+
+        return result == null ? null : IntArrayList.wrap(result);
+    }
+
+    protected LongArrayList parseLongList(@Nullable AttributeValue value) {
+
+        var result = parseLongArray(value);
+
+        return result == null ? null : LongArrayList.wrap(result);
+    }
+
+    protected float[] parseFloatArray(@Nullable AttributeValue value) {
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.b() != null) {
+            var buffer = unpacked(value).asFloatBuffer();
+            var result = new float[buffer.remaining()];
+            buffer.get(result);
+
+            return result;
+        }
+
+        var numbers = numbers(value);
+
+        if (numbers == null) return null;
+
+        var result = new float[numbers.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Float.parseFloat(numbers.get(i));
+        }
+
+        return result;
+    }
+
+    protected double[] parseDoubleArray(@Nullable AttributeValue value) {
+        if (value == null || Boolean.TRUE.equals(value.nul())) return null;
+
+        if (value.b() != null) {
+            var buffer = unpacked(value).asDoubleBuffer();
+            var result = new double[buffer.remaining()];
+            buffer.get(result);
+
+            return result;
+        }
+
+        var numbers = numbers(value);
+
+        if (numbers == null) return null;
+
+        var result = new double[numbers.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Double.parseDouble(numbers.get(i));
+        }
+
+        return result;
+    }
+
+    private static @NotNull ByteBuffer packed(int size) {
+        return ByteBuffer.allocate(size)
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Views the binary value without copying it
+     */
+    private static @NotNull ByteBuffer unpacked(@NotNull AttributeValue value) {
+        return value.b()
+                .asByteBuffer()
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static @Nullable AttributeValue numbers(@NotNull List<String> numbers, ArrayFormat.Encoding encoding) {
+
+        if (encoding == ArrayFormat.Encoding.NUMBER_SET) {
+            //Empty sets are not allowed
+            if (numbers.isEmpty()) return null;
+
+            return AttributeValue.fromNs(numbers.stream()
+                    .distinct()
+                    .toList());
+        }
+
+        var items = new ArrayList<AttributeValue>(numbers.size());
+
+        for (String number : numbers) {
+            items.add(AttributeValue.fromN(number));
+        }
+
+        return AttributeValue.fromL(items);
+    }
+
+    /**
+     * @return the numbers of the NS or L attribute
+     */
+    private static @Nullable List<String> numbers(@NotNull AttributeValue value) {
+
+        if (value.hasNs()) return value.ns();
+
+        if (value.hasL()) {
+
+            var items = value.l();
+            var numbers = new ArrayList<String>(items.size());
+
+            for (AttributeValue item : items) {
+                numbers.add(item.n());
+            }
+
+            return numbers;
+        }
+
+        return null;
+    }
 }
@@ -17,4 +17,16 @@ public class StringConverter extends BooleanConverter {
 
         return value.s();
     }
+
+    protected String parseDeduplicated(@Nullable AttributeValue value, StringPool pool) {
+        return pool.intern(parseString(value));
+    }
+
+    protected AttributeValue writeCompressed(@Nullable String value, CompressionCodec codec) {
+        return codec.write(value);
+    }
+
+    protected String parseCompressed(@Nullable AttributeValue value, CompressionCodec codec) {
+        return codec.read(value);
+    }
 }
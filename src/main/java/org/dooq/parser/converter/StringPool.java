@@ -0,0 +1,136 @@
+package org.dooq.parser.converter;
+
+import org.dooq.api.Deduplicate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded intern table of the {@link Deduplicate} strings.
+ * <p>
+ * The table is two-way set associative with LRU eviction: a string lives in one of the two slots of its hash,
+ * a hit on the second slot promotes it to the first one, a miss is inserted first and evicts the second one.
+ * Slots are read and written without locking, a racing thread may lose an insertion but never reads
+ * a wrong value since strings are immutable.
+ *
+ * @author alex
+ */
+public final class StringPool {
+
+    private static final Map<String, StringPool> pools = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final String[] slots;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private StringPool(@NotNull String name, int capacity) {
+        this.name = name;
+        this.slots = new String[Math.max(2, Integer.highestOneBit(capacity - 1) << 1)];
+        this.mask = slots.length - 2;
+    }
+
+    public static @NotNull StringPool of(@NotNull Deduplicate deduplicate) {
+        return of(deduplicate.pool(), deduplicate.capacity());
+    }
+
+    public static @NotNull StringPool of(@NotNull String name, int capacity) {
+
+        if (name.isBlank()) throw new IllegalArgumentException("Invalid pool name: " + name);
+        if (capacity < 2 || capacity > 1 << 24) throw new IllegalArgumentException("Invalid capacity: " + capacity);
+
+        return pools.computeIfAbsent(name, ignored -> new StringPool(name, capacity));
+    }
+
+    /**
+     * @param capacity  the number of slots
+     * @param size      the slots in use
+     * @param hits      values found in the pool
+     * @param misses    values added to the pool
+     * @param evictions values replaced by a miss
+     */
+    public record Stats(String name, int capacity, int size, long hits, long misses, long evictions) {
+
+        public double hitRate() {
+
+            long total = hits + misses;
+
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    public static @NotNull @Unmodifiable List<Stats> stats() {
+        return pools.values()
+                .stream()
+                .map(StringPool::getStats)
+                .toList();
+    }
+
+    public @NotNull String name() {
+        return name;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public @NotNull Stats getStats() {
+
+        int size = 0;
+
+        for (String slot : slots) {
+            if (slot != null) size++;
+        }
+
+        return new Stats(name, slots.length, size, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * @return the pooled instance equal to the value
+     */
+    public @Nullable String intern(@Nullable String value) {
+
+        if (value == null) return null;
+
+        var slots = this.slots;
+
+        int hash = value.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+
+        var first = slots[index];
+
+        if (value.equals(first)) {
+            hits.increment();
+            return first;
+        }
+
+        var second = slots[index + 1];
+
+        if (value.equals(second)) {
+            hits.increment();
+
+            //Promotes the frequent value
+            slots[index] = second;
+            slots[index + 1] = first;
+
+            return second;
+        }
+
+        misses.increment();
+
+        if (second != null) evictions.increment();
+
+        slots[index + 1] = first;
+        slots[index] = value;
+
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+package org.dooq.parser.packed;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Positional binary codec of a {@link org.dooq.api.Packed} type, implemented by the generated classes.
+ * <p>
+ * A value is a format byte followed by a message: the schema version, the number of fields and the
+ * fields by index, each one prefixed by its wire type.
+ *
+ * @author alex
+ * @see org.dooq.parser.ParserCompiler#getPackedCodec(Class)
+ */
+public abstract class PackedCodec<T> {
+
+    static final int FORMAT = 1;
+
+    private static final ThreadLocal<PackedOutput> output = ThreadLocal.withInitial(PackedOutput::new);
+
+    public abstract @NotNull Class<T> type();
+
+    public abstract int version();
+
+    /**
+     * The number of fields written by this codec
+     */
+    protected abstract int fieldCount();
+
+    protected abstract void pack(@NotNull T value, @NotNull PackedOutput out);
+
+    /**
+     * Reads the fields of the current message, missing trailing fields are read as default values
+     */
+    protected abstract @NotNull T unpack(@NotNull PackedInput in);
+
+    public byte @NotNull [] encode(@NotNull T value) {
+
+        var out = output.get();
+
+        //Reentrant calls, e.g. from a custom accessor, use their own buffer
+        if (out.isInUse()) out = new PackedOutput();
+
+        out.begin();
+
+        try {
+            out.writeFormat(FORMAT);
+            packMessage(value, out);
+
+            return out.toByteArray();
+        } finally {
+            out.end();
+        }
+    }
+
+    public @NotNull T decode(byte @NotNull [] bytes) {
+
+        var in = new PackedInput(bytes);
+
+        int format = in.readFormat();
+
+        if (format != FORMAT) {
+            throw new IllegalArgumentException("Unsupported packed format %d of %s".formatted(format, type().getName()));
+        }
+
+        return unpackMessage(in);
+    }
+
+    void packMessage(@NotNull T value, @NotNull PackedOutput out) {
+        out.writeHeader(version(), fieldCount());
+        pack(value, out);
+    }
+
+    @NotNull T unpackMessage(@NotNull PackedInput in) {
+
+        in.readHeader();
+
+        checkLayout(in.version(), in.remaining());
+
+        var value = unpack(in);
+
+        in.skipRemaining();
+
+        return value;
+    }
+
+    /**
+     * Messages of the same version have the same fields, older ones a prefix of them and newer ones more
+     */
+    private void checkLayout(int messageVersion, int fields) {
+
+        int expected = fieldCount();
+
+        boolean matches = messageVersion == version() ? fields == expected :
+                messageVersion < version() ? fields <= expected : fields >= expected;
+
+        if (!matches) {
+            throw new IllegalArgumentException("Packed %s of version %d with %d fields, version %d has %d fields"
+                    .formatted(type().getName(), messageVersion, fields, version(), expected));
+        }
+    }
+}
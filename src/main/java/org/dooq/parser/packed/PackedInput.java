@@ -0,0 +1,377 @@
+package org.dooq.parser.packed;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.dooq.parser.packed.PackedOutput.*;
+
+/**
+ * Reads the fields of the packed messages in order, the fields missing from older messages are read
+ * as default values, one {@code read} method per supported type identified by its return type
+ *
+ * @author alex
+ */
+public final class PackedInput {
+
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Fields of the current message not read yet
+     */
+    private int remaining;
+    private int version;
+
+    PackedInput(byte @NotNull [] buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * The schema version of the message being read
+     */
+    public int version() {
+        return version;
+    }
+
+    int readFormat() {
+        return buffer[position++] & 0xFF;
+    }
+
+    void readHeader() {
+        version = (int) readVarint();
+        remaining = (int) readVarint();
+    }
+
+    /**
+     * Fields of the current message not read yet
+     */
+    int remaining() {
+        return remaining;
+    }
+
+    /**
+     * Skips the next field, e.g. at the index of a removed property
+     */
+    public void skipField() {
+
+        if (remaining == 0) return;
+
+        remaining--;
+        skip(buffer[position++]);
+    }
+
+    /**
+     * Skips the fields written by a newer schema
+     */
+    void skipRemaining() {
+        while (remaining > 0) {
+            remaining--;
+            skip(buffer[position++]);
+        }
+    }
+
+    public int readInt() {
+        return next(VARINT) ? (int) unZigZag(readVarint()) : 0;
+    }
+
+    public long readLong() {
+        return next(VARINT) ? unZigZag(readVarint()) : 0;
+    }
+
+    public short readShort() {
+        return (short) readInt();
+    }
+
+    public byte readByte() {
+        return (byte) readInt();
+    }
+
+    public char readChar() {
+        return (char) readInt();
+    }
+
+    public boolean readBool() {
+        return next(VARINT) && readVarint() != 0;
+    }
+
+    public float readFloat() {
+        return next(FIXED32) ? Float.intBitsToFloat(readFixed32()) : 0;
+    }
+
+    public double readDouble() {
+        return next(FIXED64) ? Double.longBitsToDouble(readFixed64()) : 0;
+    }
+
+    public @Nullable Integer readInteger() {
+        return next(VARINT) ? (int) unZigZag(readVarint()) : null;
+    }
+
+    public @Nullable Long readLonger() {
+        return next(VARINT) ? unZigZag(readVarint()) : null;
+    }
+
+    public @Nullable Short readShorter() {
+        return next(VARINT) ? (short) unZigZag(readVarint()) : null;
+    }
+
+    public @Nullable Byte readByter() {
+        return next(VARINT) ? (byte) unZigZag(readVarint()) : null;
+    }
+
+    public @Nullable Character readCharacter() {
+        return next(VARINT) ? (char) unZigZag(readVarint()) : null;
+    }
+
+    public @Nullable Boolean readBoolean() {
+        return next(VARINT) ? readVarint() != 0 : null;
+    }
+
+    public @Nullable Float readFloater() {
+        return next(FIXED32) ? Float.intBitsToFloat(readFixed32()) : null;
+    }
+
+    public @Nullable Double readDoubler() {
+        return next(FIXED64) ? Double.longBitsToDouble(readFixed64()) : null;
+    }
+
+    public @Nullable String readString() {
+
+        if (!next(BYTES)) return null;
+
+        return readText();
+    }
+
+    private @NotNull String readText() {
+
+        int length = (int) readVarint();
+        var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+
+        return value;
+    }
+
+    public @Nullable BigInteger readBigInteger() {
+
+        if (!next(BYTES)) return null;
+
+        int length = (int) readVarint();
+        var value = new BigInteger(buffer, position, length);
+        position += length;
+
+        return value;
+    }
+
+    public @Nullable BigDecimal readBigDecimal() {
+
+        if (!next(BYTES)) return null;
+
+        int end = (int) readVarint() + position;
+        int scale = (int) unZigZag(readVarint());
+        var value = new BigDecimal(new BigInteger(buffer, position, end - position), scale);
+        position = end;
+
+        return value;
+    }
+
+    public @Nullable UUID readUUID() {
+
+        if (!next(BYTES)) return null;
+
+        readVarint();
+
+        return new UUID(readFixed64(), readFixed64());
+    }
+
+    public @Nullable LocalDate readLocalDate() {
+        return next(VARINT) ? LocalDate.ofEpochDay(unZigZag(readVarint())) : null;
+    }
+
+    public @Nullable LocalDateTime readLocalDateTime() {
+
+        var instant = readInstant();
+
+        return instant == null ? null : LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), ZoneOffset.UTC);
+    }
+
+    public @Nullable Instant readInstant() {
+
+        if (!next(BYTES)) return null;
+
+        readVarint();
+
+        return Instant.ofEpochSecond(unZigZag(readVarint()), readVarint());
+    }
+
+    public <E extends Enum<E>> @Nullable E readEnum(@NotNull Class<E> type) {
+
+        var name = readString();
+
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    public @Nullable List<String> readStringList() {
+
+        if (!next(LIST)) return null;
+
+        readFixed32();
+
+        int size = (int) readVarint();
+        var result = new ArrayList<String>(size);
+
+        for (int i = 0; i < size; i++) {
+
+            int tag = buffer[position++];
+
+            if (tag == NULL) {
+                result.add(null);
+                continue;
+            }
+
+            expect(tag, BYTES);
+            result.add(readText());
+        }
+
+        return result;
+    }
+
+    public @Nullable Object readNested(@NotNull PackedCodec<?> codec) {
+
+        if (!next(MESSAGE)) return null;
+
+        return readMessage(codec);
+    }
+
+    public @Nullable List<Object> readNestedList(@NotNull PackedCodec<?> codec) {
+
+        if (!next(LIST)) return null;
+
+        readFixed32();
+
+        int size = (int) readVarint();
+        var result = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+
+            int tag = buffer[position++];
+
+            if (tag == NULL) {
+                result.add(null);
+                continue;
+            }
+
+            expect(tag, MESSAGE);
+            result.add(readMessage(codec));
+        }
+
+        return result;
+    }
+
+    private @NotNull Object readMessage(@NotNull PackedCodec<?> codec) {
+
+        int length = readFixed32();
+        int end = position + length;
+
+        int fields = remaining;
+        int parentVersion = version;
+
+        var value = codec.unpackMessage(this);
+
+        remaining = fields;
+        version = parentVersion;
+        position = end;
+
+        return value;
+    }
+
+    /**
+     * Consumes the tag of the next field
+     *
+     * @return false if the field is missing or null
+     */
+    private boolean next(int expected) {
+
+        if (remaining == 0) return false;
+
+        remaining--;
+
+        int tag = buffer[position++];
+
+        if (tag == NULL) return false;
+
+        expect(tag, expected);
+
+        return true;
+    }
+
+    private void expect(int tag, int expected) {
+        if (tag != expected) {
+            throw new IllegalStateException("Incompatible packed field at %d, wire type %d expected %d"
+                    .formatted(position - 1, tag, expected));
+        }
+    }
+
+    private void skip(int tag) {
+        switch (tag) {
+            case NULL -> {
+            }
+            case VARINT -> readVarint();
+            case FIXED32 -> position += 4;
+            case FIXED64 -> position += 8;
+            case BYTES -> {
+                int length = (int) readVarint();
+                position += length;
+            }
+            case MESSAGE, LIST -> {
+                int length = readFixed32();
+                position += length;
+            }
+            default -> throw new IllegalStateException("Unknown packed wire type %d at %d"
+                    .formatted(tag, position - 1));
+        }
+    }
+
+    private long readVarint() {
+
+        long result = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+
+            byte b = buffer[position++];
+            result |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) return result;
+        }
+
+        throw new IllegalStateException("Malformed packed varint at " + position);
+    }
+
+    private int readFixed32() {
+        int value = (buffer[position] & 0xFF) |
+                (buffer[position + 1] & 0xFF) << 8 |
+                (buffer[position + 2] & 0xFF) << 16 |
+                (buffer[position + 3] & 0xFF) << 24;
+
+        position += 4;
+
+        return value;
+    }
+
+    private long readFixed64() {
+        return (readFixed32() & 0xFFFFFFFFL) | ((long) readFixed32() << 32);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
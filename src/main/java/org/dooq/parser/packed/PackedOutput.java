@@ -0,0 +1,401 @@
+package org.dooq.parser.packed;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes the fields of the packed messages, one {@code write} overload per supported type
+ * so the generated codecs resolve them by the property type
+ *
+ * @author alex
+ */
+public final class PackedOutput {
+
+    static final int NULL = 0;
+    static final int VARINT = 1;
+    static final int FIXED32 = 2;
+    static final int FIXED64 = 3;
+    /**
+     * Varint length followed by the bytes
+     */
+    static final int BYTES = 4;
+    /**
+     * Fixed length followed by a message
+     */
+    static final int MESSAGE = 5;
+    /**
+     * Fixed length followed by the element count and the elements
+     */
+    static final int LIST = 6;
+
+    private static final int MAX_RETAINED = 1 << 16;
+
+    private byte[] buffer = new byte[256];
+    private int position;
+    private boolean inUse;
+
+    PackedOutput() {
+    }
+
+    boolean isInUse() {
+        return inUse;
+    }
+
+    void begin() {
+        inUse = true;
+        position = 0;
+    }
+
+    void end() {
+        inUse = false;
+
+        if (buffer.length > MAX_RETAINED) buffer = new byte[256];
+    }
+
+    byte @NotNull [] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    void writeFormat(int format) {
+        ensure(1);
+        buffer[position++] = (byte) format;
+    }
+
+    void writeHeader(int version, int fields) {
+        writeVarint(version);
+        writeVarint(fields);
+    }
+
+    public void write(int value) {
+        writeTag(VARINT);
+        writeVarint(zigZag(value));
+    }
+
+    public void write(long value) {
+        writeTag(VARINT);
+        writeVarint(zigZag(value));
+    }
+
+    public void write(short value) {
+        write((int) value);
+    }
+
+    public void write(byte value) {
+        write((int) value);
+    }
+
+    public void write(char value) {
+        write((int) value);
+    }
+
+    public void write(boolean value) {
+        writeTag(VARINT);
+        writeVarint(value ? 1 : 0);
+    }
+
+    public void write(float value) {
+        writeTag(FIXED32);
+        writeFixed32(Float.floatToRawIntBits(value));
+    }
+
+    public void write(double value) {
+        writeTag(FIXED64);
+
+        long bits = Double.doubleToRawLongBits(value);
+
+        writeFixed32((int) bits);
+        writeFixed32((int) (bits >>> 32));
+    }
+
+    public void write(@Nullable Integer value) {
+        if (value == null) writeTag(NULL);
+        else write(value.intValue());
+    }
+
+    public void write(@Nullable Long value) {
+        if (value == null) writeTag(NULL);
+        else write(value.longValue());
+    }
+
+    public void write(@Nullable Short value) {
+        if (value == null) writeTag(NULL);
+        else write(value.intValue());
+    }
+
+    public void write(@Nullable Byte value) {
+        if (value == null) writeTag(NULL);
+        else write(value.intValue());
+    }
+
+    public void write(@Nullable Character value) {
+        if (value == null) writeTag(NULL);
+        else write(value.charValue());
+    }
+
+    public void write(@Nullable Boolean value) {
+        if (value == null) writeTag(NULL);
+        else write(value.booleanValue());
+    }
+
+    public void write(@Nullable Float value) {
+        if (value == null) writeTag(NULL);
+        else write(value.floatValue());
+    }
+
+    public void write(@Nullable Double value) {
+        if (value == null) writeTag(NULL);
+        else write(value.doubleValue());
+    }
+
+    public void write(@Nullable String value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void write(@Nullable BigInteger value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        writeBytes(value.toByteArray());
+    }
+
+    /**
+     * The scale followed by the unscaled value bytes
+     */
+    public void write(@Nullable BigDecimal value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        byte[] unscaled = value.unscaledValue().toByteArray();
+
+        writeTag(BYTES);
+        writeVarint(unscaled.length + varintSize(zigZag(value.scale())));
+        writeVarint(zigZag(value.scale()));
+        writeRaw(unscaled);
+    }
+
+    public void write(@Nullable UUID value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        writeTag(BYTES);
+        writeVarint(16);
+        writeFixed64(value.getMostSignificantBits());
+        writeFixed64(value.getLeastSignificantBits());
+    }
+
+    public void write(@Nullable LocalDate value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        write(value.toEpochDay());
+    }
+
+    public void write(@Nullable LocalDateTime value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        write(value.toInstant(ZoneOffset.UTC));
+    }
+
+    /**
+     * The epoch seconds followed by the nanoseconds
+     */
+    public void write(@Nullable Instant value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        long seconds = zigZag(value.getEpochSecond());
+
+        writeTag(BYTES);
+        writeVarint(varintSize(seconds) + varintSize(value.getNano()));
+        writeVarint(seconds);
+        writeVarint(value.getNano());
+    }
+
+    public void write(@Nullable Enum<?> value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        write(value.name());
+    }
+
+    public void writeStringList(@Nullable List<String> value) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        int start = beginLength(LIST);
+
+        writeVarint(value.size());
+
+        for (String item : value) {
+            write(item);
+        }
+
+        endLength(start);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void writeNested(@Nullable Object value, @NotNull PackedCodec codec) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        int start = beginLength(MESSAGE);
+
+        codec.packMessage(value, this);
+
+        endLength(start);
+    }
+
+    @SuppressWarnings("rawtypes")
+    public void writeNestedList(@Nullable List<?> value, @NotNull PackedCodec codec) {
+
+        if (value == null) {
+            writeTag(NULL);
+            return;
+        }
+
+        int start = beginLength(LIST);
+
+        writeVarint(value.size());
+
+        for (Object item : value) {
+            writeNested(item, codec);
+        }
+
+        endLength(start);
+    }
+
+    /**
+     * Reserves the length, patched by {@link #endLength(int)}
+     *
+     * @return the position of the length
+     */
+    private int beginLength(int tag) {
+
+        writeTag(tag);
+        ensure(4);
+
+        int start = position;
+        position += 4;
+
+        return start;
+    }
+
+    private void endLength(int start) {
+
+        int length = position - start - 4;
+
+        buffer[start] = (byte) length;
+        buffer[start + 1] = (byte) (length >>> 8);
+        buffer[start + 2] = (byte) (length >>> 16);
+        buffer[start + 3] = (byte) (length >>> 24);
+    }
+
+    private void writeTag(int tag) {
+        ensure(1);
+        buffer[position++] = (byte) tag;
+    }
+
+    private void writeBytes(byte @NotNull [] bytes) {
+        writeTag(BYTES);
+        writeVarint(bytes.length);
+        writeRaw(bytes);
+    }
+
+    private void writeRaw(byte @NotNull [] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeVarint(long value) {
+
+        ensure(10);
+
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeFixed32(int value) {
+        ensure(4);
+        buffer[position++] = (byte) value;
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 24);
+    }
+
+    private void writeFixed64(long value) {
+        writeFixed32((int) value);
+        writeFixed32((int) (value >>> 32));
+    }
+
+    private void ensure(int size) {
+        if (position + size > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int varintSize(long value) {
+
+        int size = 1;
+
+        while ((value & ~0x7FL) != 0) {
+            size++;
+            value >>>= 7;
+        }
+
+        return size;
+    }
+}
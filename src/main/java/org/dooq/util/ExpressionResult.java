@@ -10,6 +10,7 @@ import org.dooq.expressions.ConditionExpression;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.List;
 import java.util.Map;
@@ -20,9 +21,11 @@ public final class ExpressionResult<R extends DynamoRecord<R>, K extends Key> {
     private final Table<R, K> table;
     private String keyCondition;
     private String filterExpression;
-    private Map<String, Object> expressionAttributeValues;
+    private Map<String, AttributeValue> expressionAttributeValues;
     private Map<String, String> attributeNames;
     private List<Column<R, K>> columns;
+    private List<String> keyColumns = List.of();
+    private List<String> filterColumns = List.of();
     private @Nullable Column<R, K> index;
     private List<ExpressionRenderer<R, K>> expressions;
 
@@ -45,7 +48,7 @@ public final class ExpressionResult<R extends DynamoRecord<R>, K extends Key> {
         return this;
     }
 
-    public ExpressionResult<R, K> setExpressionAttributeValues(Map<String, Object> expressionAttributeValues) {
+    public ExpressionResult<R, K> setExpressionAttributeValues(Map<String, AttributeValue> expressionAttributeValues) {
         this.expressionAttributeValues = expressionAttributeValues;
         return this;
     }
@@ -60,6 +63,16 @@ public final class ExpressionResult<R extends DynamoRecord<R>, K extends Key> {
         return this;
     }
 
+    public ExpressionResult<R, K> setKeyColumns(List<String> keyColumns) {
+        this.keyColumns = keyColumns;
+        return this;
+    }
+
+    public ExpressionResult<R, K> setFilterColumns(List<String> filterColumns) {
+        this.filterColumns = filterColumns;
+        return this;
+    }
+
     public ExpressionResult<R, K> setIndex(Column<R, K> index) {
         this.index = index;
         return this;
@@ -127,7 +140,7 @@ public final class ExpressionResult<R extends DynamoRecord<R>, K extends Key> {
         return filterExpression;
     }
 
-    public Map<String, Object> getExpressionAttributeValues() {
+    public Map<String, AttributeValue> getExpressionAttributeValues() {
         return expressionAttributeValues;
     }
 
@@ -139,6 +152,20 @@ public final class ExpressionResult<R extends DynamoRecord<R>, K extends Key> {
         return columns;
     }
 
+    /**
+     * @return the attributes rendered into the key condition
+     */
+    public List<String> keyColumns() {
+        return keyColumns;
+    }
+
+    /**
+     * @return the attributes rendered into the filter
+     */
+    public List<String> filterColumns() {
+        return filterColumns;
+    }
+
     public @Nullable Column<R, K> index() {
         return index;
     }
@@ -0,0 +1,155 @@
+package org.dooq.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Growable list of {@code int} values, stored and converted without boxing, e.g. large lists of ids.
+ * <p>
+ * The {@link java.util.List} methods box, use the {@code int} variants on hot paths.
+ *
+ * @author alex
+ */
+public final class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this.elements = EMPTY;
+    }
+
+    public IntArrayList(int capacity) {
+
+        if (capacity < 0) throw new IllegalArgumentException("Invalid capacity: " + capacity);
+
+        this.elements = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    private IntArrayList(int[] elements) {
+        this.elements = elements;
+        this.size = elements.length;
+    }
+
+    public static @NotNull IntArrayList of(int... values) {
+        return new IntArrayList(values.clone());
+    }
+
+    /**
+     * Uses the given array as storage, without copying it
+     */
+    public static @NotNull IntArrayList wrap(int @NotNull [] values) {
+        return new IntArrayList(values);
+    }
+
+    public int getInt(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public int setInt(int index, int value) {
+        Objects.checkIndex(index, size);
+
+        var previous = elements[index];
+        elements[index] = value;
+
+        return previous;
+    }
+
+    public void addInt(int value) {
+
+        if (size == elements.length) grow(size + 1);
+
+        elements[size++] = value;
+        modCount++;
+    }
+
+    public boolean containsInt(int value) {
+        return indexOfInt(value) >= 0;
+    }
+
+    public int indexOfInt(int value) {
+
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) return i;
+        }
+
+        return -1;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > elements.length) grow(capacity);
+    }
+
+    /**
+     * The backing array, only the first {@link #size()} values are part of the list
+     */
+    public int @NotNull [] elements() {
+        return elements;
+    }
+
+    public int @NotNull [] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public @NotNull IntStream intStream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        return setInt(index, value);
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+        Objects.checkIndex(index, size + 1);
+
+        if (size == elements.length) grow(size + 1);
+
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        Objects.checkIndex(index, size);
+
+        var previous = elements[index];
+
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void grow(int capacity) {
+        elements = Arrays.copyOf(elements, Math.max(capacity, Math.max(10, elements.length + (elements.length >> 1))));
+    }
+}
@@ -0,0 +1,155 @@
+package org.dooq.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.LongStream;
+
+/**
+ * Growable list of {@code long} values, stored and converted without boxing, e.g. large lists of ids.
+ * <p>
+ * The {@link java.util.List} methods box, use the {@code long} variants on hot paths.
+ *
+ * @author alex
+ */
+public final class LongArrayList extends AbstractList<Long> implements RandomAccess {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] elements;
+    private int size;
+
+    public LongArrayList() {
+        this.elements = EMPTY;
+    }
+
+    public LongArrayList(int capacity) {
+
+        if (capacity < 0) throw new IllegalArgumentException("Invalid capacity: " + capacity);
+
+        this.elements = capacity == 0 ? EMPTY : new long[capacity];
+    }
+
+    private LongArrayList(long[] elements) {
+        this.elements = elements;
+        this.size = elements.length;
+    }
+
+    public static @NotNull LongArrayList of(long... values) {
+        return new LongArrayList(values.clone());
+    }
+
+    /**
+     * Uses the given array as storage, without copying it
+     */
+    public static @NotNull LongArrayList wrap(long @NotNull [] values) {
+        return new LongArrayList(values);
+    }
+
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public long setLong(int index, long value) {
+        Objects.checkIndex(index, size);
+
+        var previous = elements[index];
+        elements[index] = value;
+
+        return previous;
+    }
+
+    public void addLong(long value) {
+
+        if (size == elements.length) grow(size + 1);
+
+        elements[size++] = value;
+        modCount++;
+    }
+
+    public boolean containsLong(long value) {
+        return indexOfLong(value) >= 0;
+    }
+
+    public int indexOfLong(long value) {
+
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) return i;
+        }
+
+        return -1;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > elements.length) grow(capacity);
+    }
+
+    /**
+     * The backing array, only the first {@link #size()} values are part of the list
+     */
+    public long @NotNull [] elements() {
+        return elements;
+    }
+
+    public long @NotNull [] toLongArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public @NotNull LongStream longStream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public Long set(int index, Long value) {
+        return setLong(index, value);
+    }
+
+    @Override
+    public void add(int index, Long value) {
+        Objects.checkIndex(index, size + 1);
+
+        if (size == elements.length) grow(size + 1);
+
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Long remove(int index) {
+        Objects.checkIndex(index, size);
+
+        var previous = elements[index];
+
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void grow(int capacity) {
+        elements = Arrays.copyOf(elements, Math.max(capacity, Math.max(10, elements.length + (elements.length >> 1))));
+    }
+}
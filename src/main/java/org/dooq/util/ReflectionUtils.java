@@ -49,19 +49,21 @@ public class ReflectionUtils {
 
     public static String getColumnName(@NotNull Field field) {
 
+        String alias = "";
+
         if (field.isAnnotationPresent(ColumnAlias.class)) {
-            return field.getAnnotation(ColumnAlias.class).value();
+            alias = field.getAnnotation(ColumnAlias.class).value();
         }
 
         if (field.isAnnotationPresent(PartitionKey.class)) {
-            return field.getAnnotation(PartitionKey.class).alias();
+            alias = field.getAnnotation(PartitionKey.class).alias();
         }
 
         if (field.isAnnotationPresent(SortKey.class)) {
-            return field.getAnnotation(SortKey.class).alias();
+            alias = field.getAnnotation(SortKey.class).alias();
         }
 
-        return field.getName();
+        return alias.isEmpty() ? field.getName() : alias;
     }
 
     public static boolean hasDiamondInterface(@NotNull Field field) {
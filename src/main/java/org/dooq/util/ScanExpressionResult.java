@@ -3,6 +3,7 @@ package org.dooq.util;
 import org.dooq.Key;
 import org.dooq.api.Column;
 import org.dooq.api.DynamoRecord;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.List;
 import java.util.Map;
@@ -10,12 +11,12 @@ import java.util.Objects;
 
 public final class ScanExpressionResult<R extends DynamoRecord<R>, K extends Key> {
     private final String expression;
-    private final Map<String, Object> values;
+    private final Map<String, AttributeValue> values;
     private final Map<String, String> attributeNames;
     private final List<Column<R, K>> columns;
 
     public ScanExpressionResult(String expression,
-                                Map<String, Object> values,
+                                Map<String, AttributeValue> values,
                                 Map<String, String> attributeNames,
                                 List<Column<R, K>> columns) {
         this.expression = expression;
@@ -28,7 +29,7 @@ public final class ScanExpressionResult<R extends DynamoRecord<R>, K extends Key
         return expression;
     }
 
-    public Map<String, Object> values() {
+    public Map<String, AttributeValue> values() {
         return values;
     }
 
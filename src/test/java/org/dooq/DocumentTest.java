@@ -0,0 +1,120 @@
+package org.dooq;
+
+import org.dooq.core.AttributeWriter;
+import org.dooq.document.Document;
+import org.dooq.scheme.ProductRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.dooq.scheme.Tables.PRODUCT;
+
+public class DocumentTest {
+
+    final FakeDynamoDBClient client = new FakeDynamoDBClient();
+    final DynamoSL dsl = new DynamoSL(client);
+
+    final Map<String, AttributeValue> item = Map.of(
+            "uuid", AttributeValue.fromS("uuid"),
+            "companyId", AttributeValue.fromN("7"),
+            "price", AttributeValue.fromN("12.50"),
+            "bulk", AttributeValue.fromBool(true),
+            "deleted", AttributeValue.fromNul(true),
+            "skus", AttributeValue.fromSs(List.of("a", "b")),
+            "data", AttributeValue.fromB(SdkBytes.fromUtf8String("data")),
+            "dimensions", AttributeValue.fromM(Map.of("width", AttributeValue.fromN("3"))),
+            "tags", AttributeValue.fromL(List.of(AttributeValue.fromS("tag"), AttributeValue.fromN("1"),
+                    AttributeValue.fromM(Map.of("name", AttributeValue.fromS("nested"))))));
+
+    @Test
+    void testAccessors() {
+
+        var document = Document.of(item);
+
+        Assertions.assertSame(item, document.item());
+        Assertions.assertEquals("uuid", document.getString("uuid"));
+        Assertions.assertEquals(7L, document.getLong("companyId"));
+        Assertions.assertEquals(7, document.getInt("companyId", 0));
+        Assertions.assertEquals(new BigDecimal("12.50"), document.getBigDecimal("price"));
+        Assertions.assertEquals(12.5, document.getDouble("price", 0));
+        Assertions.assertEquals(true, document.getBoolean("bulk"));
+        Assertions.assertEquals(List.of("a", "b"), document.getStringSet("skus"));
+        Assertions.assertEquals("data", document.getBytes("data").asUtf8String());
+
+        //Absent, null and mismatched attributes
+        Assertions.assertNull(document.getString("missing"));
+        Assertions.assertNull(document.getLong("uuid"));
+        Assertions.assertEquals(-1L, document.getLong("deleted", -1L));
+        Assertions.assertNull(document.getLong("price"));
+        Assertions.assertEquals(-1, document.getInt("price", -1));
+        Assertions.assertTrue(document.isNull("deleted"));
+        Assertions.assertTrue(document.isNull("missing"));
+        Assertions.assertFalse(document.isNull("uuid"));
+        Assertions.assertNull(document.getStringSet("uuid"));
+
+        Assertions.assertEquals(3, document.getDocument("dimensions").getInt("width", 0));
+        Assertions.assertNull(document.getDocument("uuid"));
+
+        Assertions.assertEquals(List.of("tag", BigDecimal.ONE, Map.of("name", "nested")), document.getList("tags"));
+        Assertions.assertEquals("nested", document.getDocuments("tags").get(2).getString("name"));
+        Assertions.assertNull(document.getDocuments("tags").get(0));
+    }
+
+    @Test
+    void testProjectionAndMerge() {
+
+        var document = Document.of(item);
+
+        var projected = document.project("uuid", "companyId", "missing");
+
+        Assertions.assertEquals(2, projected.size());
+        Assertions.assertSame(item.get("uuid"), projected.get("uuid"));
+
+        var merged = projected.merge(Document.of(Map.of("uuid", AttributeValue.fromS("other"),
+                "sku", AttributeValue.fromS("sku"))));
+
+        Assertions.assertEquals("other", merged.getString("uuid"));
+        Assertions.assertEquals("sku", merged.getString("sku"));
+        Assertions.assertEquals(7L, merged.getLong("companyId"));
+        Assertions.assertEquals("uuid", projected.getString("uuid"));
+
+        Assertions.assertSame(projected, projected.merge(Document.empty()));
+
+        var record = merged.into(ProductRecord.class);
+
+        Assertions.assertEquals("other", record.getUuid());
+        Assertions.assertEquals(7L, record.getCompanyId());
+    }
+
+    @Test
+    void testUnwrap() {
+
+        Assertions.assertEquals(new BigDecimal("12.50"), AttributeWriter.unwrap(item.get("price")));
+        Assertions.assertEquals(true, AttributeWriter.unwrap(item.get("bulk")));
+        Assertions.assertNull(AttributeWriter.unwrap(item.get("deleted")));
+        Assertions.assertEquals(List.of("a", "b"), AttributeWriter.unwrap(item.get("skus")));
+        Assertions.assertEquals(Map.of("width", new BigDecimal("3")), AttributeWriter.unwrap(item.get("dimensions")));
+        Assertions.assertEquals(List.of(BigDecimal.ONE, BigDecimal.TEN),
+                AttributeWriter.unwrap(AttributeValue.fromNs(List.of("1", "10"))));
+    }
+
+    @Test
+    void testFetchDocuments() {
+
+        Assertions.assertTrue(dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L))
+                .fetchDocuments()
+                .isEmpty());
+
+        client.assertLastQueryRequest();
+
+        Assertions.assertNull(dsl.selectFrom(PRODUCT)
+                .withKey(key -> key.partition(1L).sort("uuid"))
+                .fetchDocument());
+    }
+}
@@ -1,5 +1,6 @@
 package org.dooq;
 
+import org.dooq.core.ReservedWords;
 import org.dooq.parser.ParserCompiler;
 import org.dooq.scheme.*;
 import org.junit.jupiter.api.Assertions;
@@ -282,6 +283,96 @@ public class DynamoSLTest {
                 .fetch();
     }
 
+    @Test
+    void operatorAfterGroup() {
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L))
+                .where(PRODUCT.CATEGORYID.eq("category")
+                        .and(PRODUCT.COMPANYID.eq(2L))
+                        .or(PRODUCT.DEPARTMENTID.eq("department")))
+                .where(PRODUCT.SKU.eq("a")
+                        .or(PRODUCT.SKU.eq("b")))
+                .execute();
+
+        var request = client.getQueryRequest();
+
+        Assertions.assertEquals("#companyId = :companyId", request.keyConditionExpression());
+        Assertions.assertEquals("(#categoryId = :categoryId AND #companyId = :companyId_1 OR #departmentId = :departmentId) AND (#sku = :sku OR #sku = :sku_1)",
+                request.filterExpression());
+        Assertions.assertEquals(AttributeValue.fromN("2"), request.expressionAttributeValues().get(":companyId_1"));
+        Assertions.assertEquals(AttributeValue.fromS("b"), request.expressionAttributeValues().get(":sku_1"));
+    }
+
+    @Test
+    void keyUnderDisjunction() {
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.SKU.eq("a"))
+                        .or(PRODUCT.CATEGORYID.eq("category")))
+                .execute();
+
+        var request = client.getQueryRequest();
+
+        Assertions.assertNull(request.keyConditionExpression());
+        Assertions.assertEquals("#companyId = :companyId AND #sku = :sku OR #categoryId = :categoryId",
+                request.filterExpression());
+    }
+
+    @Test
+    void nullComparison() {
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.CATEGORYID.isNull()))
+                .execute();
+
+        var request = client.getQueryRequest();
+
+        Assertions.assertEquals("(attribute_not_exists (#categoryId) OR attribute_type (#categoryId, :null))",
+                request.filterExpression());
+        Assertions.assertEquals(AttributeValue.fromS("NULL"), request.expressionAttributeValues().get(":null"));
+    }
+
+    @Test
+    void valueSlots() {
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.PURCHASEUNITID.in(List.of("a", "b", "c")))
+                        .and(PRODUCT.FACTOR.between(1).and(2)))
+                .execute();
+
+        var request = client.getQueryRequest();
+
+        Assertions.assertEquals("#purchaseUnitId IN (:purchaseUnitId, :purchaseUnitId_1, :purchaseUnitId_2) AND #factor BETWEEN :factor AND :factor_1",
+                request.filterExpression());
+        Assertions.assertEquals(AttributeValue.fromS("c"), request.expressionAttributeValues().get(":purchaseUnitId_2"));
+        Assertions.assertEquals(AttributeValue.fromN("2"), request.expressionAttributeValues().get(":factor_1"));
+        Assertions.assertEquals(3, request.expressionAttributeNames().size());
+    }
+
+    @Test
+    void reservedWords() throws ReflectiveOperationException {
+
+        var field = ReservedWords.class.getDeclaredField("words");
+        field.setAccessible(true);
+
+        for (String word : (String[]) field.get(ReservedWords.INSTANCE)) {
+            Assertions.assertTrue(ReservedWords.isReserved(word), word);
+            Assertions.assertTrue(ReservedWords.isReserved(word.toLowerCase()), word);
+        }
+
+        Assertions.assertTrue(ReservedWords.isReserved("Size"));
+        Assertions.assertFalse(ReservedWords.isReserved("companyId"));
+        Assertions.assertFalse(ReservedWords.isReserved("sku"));
+        Assertions.assertFalse(ReservedWords.isReserved("aborted"));
+        Assertions.assertFalse(ReservedWords.isReserved(""));
+
+        var projection = ReservedWords.escapeProjection(List.of(PRODUCT.UUID, PRODUCT.SKU));
+
+        Assertions.assertNotNull(projection);
+        Assertions.assertEquals("#uuid,sku", projection.join());
+        Assertions.assertEquals(Map.of("#uuid", "uuid"), projection.attributeNames());
+    }
+
     @Test
     void indexTest() {
         dsl.fetchExists(dsl.selectFrom(MIXER)
@@ -317,4 +408,43 @@ public class DynamoSLTest {
                 .fetch(parser);
 
     }
+
+    @Test
+    void warmUp() {
+
+        var report = dsl.warmUp(Tables.class);
+
+        Assertions.assertTrue(report.failures().isEmpty(), () -> report.failures().toString());
+        Assertions.assertTrue(report.get(ProductRecord.class).isPresent());
+        Assertions.assertTrue(report.get(MixerRecord.class).isPresent());
+
+        Assertions.assertSame(ParserCompiler.getConverter(ProductRecord.class), PRODUCT.getRecordParser());
+
+        var compileOnly = dsl.prepareWarmUp(List.of(MIXER))
+                .parallelism(1)
+                .iterations(0)
+                .execute();
+
+        Assertions.assertEquals(MixerRecord.class, compileOnly.types().get(0).type());
+    }
+
+    @Test
+    void warmUpSample() {
+
+        var sample = ParserCompiler.newSample(ProductRecord.class);
+
+        Assertions.assertNotNull(sample);
+
+        var item = PRODUCT.getRecordParser().write(sample);
+
+        Assertions.assertEquals("sample", item.get("sku").s());
+        Assertions.assertEquals(List.of("sample"), item.get("skus").ss());
+        Assertions.assertEquals("1.5", item.get("factor").n());
+        Assertions.assertTrue(item.get("bulk").bool());
+        Assertions.assertNotNull(item.get("created").s());
+        Assertions.assertTrue(item.get("prices").hasM());
+        Assertions.assertTrue(item.get("mixers").hasM());
+
+        Assertions.assertEquals(item, PRODUCT.getRecordParser().write(PRODUCT.getRecordParser().read(item)));
+    }
 }
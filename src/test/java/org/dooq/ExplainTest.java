@@ -0,0 +1,137 @@
+package org.dooq;
+
+import org.dooq.core.Condition;
+import org.dooq.engine.ExplainPlan;
+import org.dooq.scheme.ProductKey;
+import org.dooq.util.AbstractColumn;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.dooq.scheme.Tables.PRODUCT;
+
+public class ExplainTest {
+
+    final FakeDynamoDBClient client = new FakeDynamoDBClient();
+    final DynamoSL dsl = new DynamoSL(client);
+
+    @Test
+    void getItem() {
+
+        var plan = dsl.selectFrom(PRODUCT)
+                .withKey(ProductKey.of(1, "1"))
+                .consistentRead()
+                .explain();
+
+        Assertions.assertEquals(ExplainPlan.Api.GET_ITEM, plan.api());
+        Assertions.assertEquals(List.of("companyId", "uuid"), plan.keyColumns());
+        Assertions.assertEquals(1, plan.roundTrips());
+        Assertions.assertEquals(1, plan.readCapacity());
+        Assertions.assertNull(client.getLastRequest());
+
+        //A query on the whole key is sent as a get item
+        plan = dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.UUID.eq("1")))
+                .explain();
+
+        Assertions.assertEquals(ExplainPlan.Api.GET_ITEM, plan.api());
+        Assertions.assertEquals(0.5, plan.readCapacity());
+        Assertions.assertNull(client.getLastRequest());
+    }
+
+    @Test
+    void query() {
+
+        var plan = dsl.select(PRODUCT.SKU, PRODUCT.BULK)
+                .from(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.DEPARTMENTID.eq("department"))
+                        .and(PRODUCT.BULK.eq(true)))
+                .onIndex(PRODUCT.DEPARTMENTID)
+                .limit(10)
+                .explain();
+
+        Assertions.assertEquals(ExplainPlan.Api.QUERY, plan.api());
+        Assertions.assertEquals("departmentId", plan.index());
+        Assertions.assertEquals(List.of("companyId", "departmentId"), plan.keyColumns());
+        Assertions.assertEquals(List.of("bulk"), plan.filterColumns());
+        Assertions.assertEquals(List.of("sku", "bulk"), plan.projection());
+        Assertions.assertEquals(10, plan.estimatedItems());
+        //10 KB read eventually consistent
+        Assertions.assertEquals(1.5, plan.readCapacity());
+        Assertions.assertNull(client.getLastRequest());
+    }
+
+    @Test
+    void upperCaseNames() {
+
+        var id = new AbstractColumn<>(PRODUCT, "ID");
+        var sku = new AbstractColumn<>(PRODUCT, "SKU");
+
+        var plan = dsl.select(sku)
+                .from(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(id.attributeExists()))
+                .explain();
+
+        Assertions.assertEquals(List.of("companyId"), plan.keyColumns());
+        Assertions.assertEquals(List.of("ID"), plan.filterColumns());
+        Assertions.assertEquals(List.of("SKU"), plan.projection());
+    }
+
+    @Test
+    void scan() {
+
+        var plan = dsl.scan(PRODUCT)
+                .where(PRODUCT.CATEGORYID.eq("category"))
+                .explain();
+
+        Assertions.assertTrue(plan.isScan());
+        Assertions.assertTrue(plan.hasFilter());
+        Assertions.assertEquals(List.of("categoryId"), plan.filterColumns());
+        Assertions.assertTrue(plan.projection().isEmpty());
+        Assertions.assertEquals(1024, plan.estimatedItems());
+        Assertions.assertEquals(128, plan.readCapacity());
+        Assertions.assertNull(client.getLastRequest());
+    }
+
+    @Test
+    void update() {
+
+        var plan = dsl.update(PRODUCT)
+                .set(PRODUCT.SKU, "sku")
+                .key(ProductKey.of(1, "1"))
+                .condition(Condition.exists(PRODUCT.SKU))
+                .explain();
+
+        Assertions.assertEquals(ExplainPlan.Api.UPDATE_ITEM, plan.api());
+        Assertions.assertEquals(List.of("companyId", "uuid"), plan.keyColumns());
+        Assertions.assertEquals(List.of("sku"), plan.filterColumns());
+        Assertions.assertEquals(1, plan.writeCapacity());
+        Assertions.assertEquals(0, plan.readCapacity());
+        Assertions.assertNull(client.getLastRequest());
+    }
+
+    @Test
+    void batchGet() {
+
+        var keys = new ArrayList<ProductKey>();
+
+        for (int i = 0; i < 150; i++) {
+            keys.add(ProductKey.of(1, String.valueOf(i)));
+        }
+
+        var plan = dsl.batchGet(PRODUCT)
+                .get(keys)
+                .explain();
+
+        Assertions.assertEquals(ExplainPlan.Api.BATCH_GET_ITEM, plan.api());
+        Assertions.assertEquals(2, plan.roundTrips());
+        Assertions.assertEquals(150, plan.estimatedItems());
+        Assertions.assertEquals(75, plan.readCapacity());
+        Assertions.assertNull(client.getLastRequest());
+    }
+}
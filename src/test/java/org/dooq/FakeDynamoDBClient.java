@@ -98,6 +98,24 @@ public class FakeDynamoDBClient implements DynamoDbClient {
         return GetItemResponse.builder().build();
     }
 
+    @Override
+    public ScanResponse scan(ScanRequest request) throws AwsServiceException, SdkClientException {
+        this.lastRequest = request;
+
+        printRequest(request);
+
+        return ScanResponse.builder().build();
+    }
+
+    @Override
+    public UpdateItemResponse updateItem(UpdateItemRequest request) throws AwsServiceException, SdkClientException {
+        this.lastRequest = request;
+
+        printRequest(request);
+
+        return UpdateItemResponse.builder().build();
+    }
+
     @Override
     public DeleteItemResponse deleteItem(DeleteItemRequest request) throws AwsServiceException, SdkClientException {
         this.lastRequest = request;
@@ -3,8 +3,16 @@ package org.dooq;
 import org.dooq.api.AbstractKey;
 import org.dooq.api.AbstractRecord;
 import org.dooq.api.AbstractTable;
+import org.dooq.core.ItemParser;
+import org.dooq.lazy.LazyView;
+import org.dooq.parser.ParserCompiler;
+import org.dooq.scheme.ProductRecord;
+import org.dooq.scheme.Tables;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+
 public class LazyTest {
 
     final FakeDynamoDBClient client = new FakeDynamoDBClient();
@@ -17,4 +25,46 @@ public class LazyTest {
                 .fetch();
 
     }
+
+    @Test
+    void testLazyRecord() {
+
+        var record = new ProductRecord()
+                .setCompanyId(1L)
+                .setUuid("uuid")
+                .setDescription("Description")
+                .setAvgPurchasePrice(new BigDecimal("12"));
+
+        var item = ParserCompiler.getConverter(ProductRecord.class).write(record);
+
+        var parser = ParserCompiler.getLazyConverter(ProductRecord.class);
+
+        var lazy = parser.read(item);
+        var view = (LazyView) lazy;
+
+        Assertions.assertEquals(0, view.decodedFields());
+
+        Assertions.assertEquals("uuid", lazy.getUuid());
+        Assertions.assertEquals("uuid", lazy.getUuid());
+        Assertions.assertEquals(1, view.decodedFields());
+
+        lazy.setDescription("Other");
+
+        Assertions.assertEquals("Other", lazy.getDescription());
+        Assertions.assertEquals(2, view.decodedFields());
+
+        Assertions.assertEquals(new BigDecimal("12"), lazy.getAvgPurchasePrice());
+        Assertions.assertEquals(1L, lazy.getCompanyId());
+
+        lazy.getKey();
+
+        Assertions.assertEquals(view.fieldCount(), view.decodedFields());
+
+        lazy.setTable(Tables.PRODUCT);
+
+        var written = ItemParser.writeRecord(lazy).map();
+
+        Assertions.assertEquals(item.get("uuid"), written.get("uuid"));
+        Assertions.assertEquals("Other", written.get("description").s());
+    }
 }
@@ -0,0 +1,186 @@
+package org.dooq;
+
+import org.dooq.engine.QueryPlan;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.dooq.scheme.Tables.MIXER;
+import static org.dooq.scheme.Tables.PRODUCT;
+
+public class PlannerTest {
+
+    final FakeDynamoDBClient client = new FakeDynamoDBClient();
+    final DynamoSL dsl = new DynamoSL(client);
+
+    @Test
+    void selectsLocalIndex() {
+
+        var plan = new AtomicReference<QueryPlan>();
+
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.DEPARTMENTID.eq("department"))
+                        .and(PRODUCT.BULK.eq(true)))
+                .selectIndex()
+                .onPlan(plan::set)
+                .execute();
+
+        var request = client.getQueryRequest();
+
+        Assertions.assertTrue(plan.get().selected());
+        Assertions.assertEquals(List.of("companyId", "departmentId"), plan.get().keyColumns());
+        Assertions.assertEquals("departmentId", request.indexName());
+        Assertions.assertEquals("#companyId = :companyId AND #departmentId = :departmentId", request.keyConditionExpression());
+        Assertions.assertEquals("#bulk = :bulk", request.filterExpression());
+    }
+
+    @Test
+    void keepsTable() {
+
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.UUID.eq("uuid"))
+                        .and(PRODUCT.DEPARTMENTID.eq("department")))
+                .selectIndex()
+                .execute();
+
+        Assertions.assertNull(client.getQueryRequest().indexName());
+
+        //Selection is opt-in
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.DEPARTMENTID.eq("department")))
+                .execute();
+
+        Assertions.assertNull(client.getQueryRequest().indexName());
+        Assertions.assertEquals("#departmentId = :departmentId", client.getQueryRequest().filterExpression());
+
+        //Not a conjunction
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .or(PRODUCT.DEPARTMENTID.eq("department")))
+                .selectIndex()
+                .execute();
+
+        Assertions.assertNull(client.getQueryRequest().indexName());
+    }
+
+    @Test
+    void globalIndex() {
+
+        var plan = new AtomicReference<QueryPlan>();
+
+        dsl.selectFrom(MIXER)
+                .where(MIXER.COMPANYID.eq("1")
+                        .and(MIXER.GROUPUUID.eq("group")))
+                .select(List.of(MIXER.COMPANYID, MIXER.GROUPUUID, MIXER.UUID))
+                .selectIndex()
+                .onPlan(plan::set)
+                .execute();
+
+        Assertions.assertEquals("group", client.getQueryRequest().indexName());
+        Assertions.assertTrue(plan.get().selected());
+
+        //Not projected by the index
+        dsl.selectFrom(MIXER)
+                .where(MIXER.COMPANYID.eq("1")
+                        .and(MIXER.GROUPUUID.eq("group")))
+                .select(List.of(MIXER.COMPANYID, MIXER.QUANTITY))
+                .selectIndex()
+                .execute();
+
+        Assertions.assertNull(client.getQueryRequest().indexName());
+
+        //Global indices are eventually consistent
+        dsl.selectFrom(MIXER)
+                .where(MIXER.COMPANYID.eq("1")
+                        .and(MIXER.GROUPUUID.eq("group")))
+                .select(List.of(MIXER.COMPANYID, MIXER.GROUPUUID))
+                .consistentRead()
+                .selectIndex()
+                .onPlan(plan::set)
+                .execute();
+
+        Assertions.assertNull(client.getQueryRequest().indexName());
+        Assertions.assertFalse(plan.get().selected());
+        Assertions.assertTrue(plan.get().keyColumns().isEmpty());
+    }
+
+    @Test
+    void tableKeyOnGlobalIndex() {
+
+        dsl.selectFrom(MIXER)
+                .where(MIXER.PARENTUUID.eq("parent")
+                        .and(MIXER.COMPANYID.eq("1"))
+                        .and(MIXER.GROUPUUID.eq("group")))
+                .select(List.of(MIXER.COMPANYID, MIXER.GROUPUUID, MIXER.UUID))
+                .selectIndex()
+                .execute();
+
+        var request = client.getQueryRequest();
+
+        Assertions.assertEquals("group", request.indexName());
+        Assertions.assertEquals("#companyId = :companyId AND #groupUuid = :groupUuid", request.keyConditionExpression());
+        Assertions.assertEquals("#parentUuid = :parentUuid", request.filterExpression());
+    }
+
+    @Test
+    void keepsTableWhenPaging() {
+
+        var plan = new AtomicReference<QueryPlan>();
+
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.DEPARTMENTID.eq("department")))
+                .startingFrom(key -> key.partition(1L).sort("uuid"))
+                .selectIndex()
+                .onPlan(plan::set)
+                .execute();
+
+        Assertions.assertNull(client.getQueryRequest().indexName());
+        Assertions.assertEquals("start key given", plan.get().reason());
+
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.DEPARTMENTID.eq("department")))
+                .limit(10)
+                .selectIndex()
+                .onPlan(plan::set)
+                .execute();
+
+        Assertions.assertNull(client.getQueryRequest().indexName());
+        Assertions.assertEquals("limit given", plan.get().reason());
+
+        dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.DEPARTMENTID.eq("department")))
+                .reversed(true)
+                .selectIndex()
+                .onPlan(plan::set)
+                .execute();
+
+        Assertions.assertNull(client.getQueryRequest().indexName());
+        Assertions.assertEquals("order given", plan.get().reason());
+        Assertions.assertEquals("#departmentId = :departmentId", client.getQueryRequest().filterExpression());
+    }
+
+    @Test
+    void givenIndex() {
+
+        var plan = new AtomicReference<QueryPlan>();
+
+        dsl.selectFrom(PRODUCT)
+                .onIndex(PRODUCT.CATEGORYID)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.CATEGORYID.eq("category")))
+                .onPlan(plan::set)
+                .execute();
+
+        Assertions.assertEquals("categoryId", client.getQueryRequest().indexName());
+        Assertions.assertFalse(plan.get().selected());
+        Assertions.assertEquals("index given", plan.get().reason());
+    }
+}
@@ -0,0 +1,120 @@
+package org.dooq;
+
+import org.dooq.scheme.ProductKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.List;
+
+import static org.dooq.scheme.Tables.PRODUCT;
+
+public class PreparedTest {
+
+    final FakeDynamoDBClient client = new FakeDynamoDBClient();
+    final DynamoSL dsl = new DynamoSL(client);
+
+    @Test
+    void preparedQuery() {
+
+        var query = dsl.prepare(dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.CATEGORYID.eq("category"))));
+
+        query.execute(Bindings.of(PRODUCT.COMPANYID, 2L)
+                .and(PRODUCT.CATEGORYID, "other"));
+
+        client.assertLastQueryRequest();
+
+        var values = client.getQueryRequest().expressionAttributeValues();
+
+        Assertions.assertEquals(AttributeValue.fromN("2"), values.get(PRODUCT.COMPANYID.param()));
+        Assertions.assertEquals(AttributeValue.fromS("other"), values.get(PRODUCT.CATEGORYID.param()));
+        Assertions.assertEquals(query.keyConditionExpression(), client.getQueryRequest().keyConditionExpression());
+        Assertions.assertEquals(query.filterExpression(), client.getQueryRequest().filterExpression());
+
+        //The plan is untouched by the bindings
+        Assertions.assertEquals(AttributeValue.fromN("1"), query.values().get(PRODUCT.COMPANYID.param()));
+
+        query.execute();
+
+        Assertions.assertEquals(AttributeValue.fromN("1"),
+                client.getQueryRequest().expressionAttributeValues().get(PRODUCT.COMPANYID.param()));
+    }
+
+    @Test
+    void preparedEqualValues() {
+
+        var query = dsl.prepare(dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.FACTOR.between(0).and(0))
+                        .and(PRODUCT.SKU.in(List.of("", "")))));
+
+        Assertions.assertEquals("#factor BETWEEN :factor AND :factor_1 AND #sku IN (:sku, :sku_1)", query.filterExpression());
+
+        query.execute(Bindings.of(PRODUCT.FACTOR, 1)
+                .and(PRODUCT.FACTOR, 1, 5)
+                .and(PRODUCT.SKU, "a")
+                .and(PRODUCT.SKU, 1, "b"));
+
+        var values = client.getQueryRequest().expressionAttributeValues();
+
+        Assertions.assertEquals(AttributeValue.fromN("5"), values.get(":factor_1"));
+        Assertions.assertEquals(AttributeValue.fromS("b"), values.get(":sku_1"));
+    }
+
+    @Test
+    void preparedGetItem() {
+
+        var query = dsl.prepare(dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.UUID.eq("abcdef"))));
+
+        query.execute(Bindings.of(PRODUCT.UUID, "123456"));
+
+        client.assertLastGetItemRequest();
+
+        var key = client.getGetItemRequest().key();
+
+        Assertions.assertEquals(AttributeValue.fromN("1"), key.get(PRODUCT.COMPANYID.name()));
+        Assertions.assertEquals(AttributeValue.fromS("123456"), key.get(PRODUCT.UUID.name()));
+    }
+
+    @Test
+    void preparedScanAndUpdate() {
+
+        var scan = dsl.prepare(dsl.scan(PRODUCT)
+                .where(PRODUCT.CATEGORYID.eq("category")));
+
+        scan.execute(Bindings.of(PRODUCT.CATEGORYID, "other"));
+
+        ScanRequest scanRequest = client.getLastRequest();
+
+        Assertions.assertEquals(AttributeValue.fromS("other"),
+                scanRequest.expressionAttributeValues().get(PRODUCT.CATEGORYID.param()));
+
+        var update = dsl.prepare(dsl.update(PRODUCT)
+                .set(PRODUCT.SKU, "sku")
+                .key(ProductKey.of(1, "123")));
+
+        update.execute(ProductKey.of(2, "456"), Bindings.of(PRODUCT.SKU, "other"));
+
+        UpdateItemRequest updateRequest = client.getLastRequest();
+
+        Assertions.assertEquals(update.updateExpression(), updateRequest.updateExpression());
+        Assertions.assertEquals(AttributeValue.fromS("other"), updateRequest.expressionAttributeValues().get(PRODUCT.SKU.param()));
+        Assertions.assertEquals(AttributeValue.fromS("456"), updateRequest.key().get(PRODUCT.UUID.name()));
+    }
+
+    @Test
+    void unknownParameter() {
+
+        var query = dsl.prepare(dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> query.execute(Bindings.of(PRODUCT.SKU, "sku")));
+    }
+}
@@ -0,0 +1,98 @@
+package org.dooq.mapper;
+
+import org.dooq.api.ArrayFormat;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.dooq.util.LongArrayList;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Compares a 768 dimensions embedding stored as {@code List<Double>} against a packed {@code double[]},
+ * and 2000 ids stored as NS decoded into a {@code Set<Long>} against a {@link LongArrayList}
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class ArrayBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    public record ListEmbedding(List<Double> values) {
+    }
+
+    public record PackedEmbedding(double[] values) {
+    }
+
+    public record SkuSet(Set<Long> skus) {
+    }
+
+    public record SkuList(@ArrayFormat(ArrayFormat.Encoding.NUMBER_SET) LongArrayList skus) {
+    }
+
+    private ObjectParser<SkuSet> skuSetParser;
+    private ObjectParser<SkuList> skuListParser;
+    private Map<String, AttributeValue> skuItem;
+    private ObjectParser<ListEmbedding> listParser;
+    private ObjectParser<PackedEmbedding> packedParser;
+    private ListEmbedding listEmbedding;
+    private PackedEmbedding packedEmbedding;
+    private Map<String, AttributeValue> listItem;
+    private Map<String, AttributeValue> packedItem;
+
+    @Setup
+    public void setup() {
+        listParser = ParserCompiler.getConverter(ListEmbedding.class);
+        packedParser = ParserCompiler.getConverter(PackedEmbedding.class);
+
+        var values = new Random(7).doubles(768).toArray();
+
+        packedEmbedding = new PackedEmbedding(values);
+        listEmbedding = new ListEmbedding(java.util.Arrays.stream(values).boxed().toList());
+
+        skuSetParser = ParserCompiler.getConverter(SkuSet.class);
+        skuListParser = ParserCompiler.getConverter(SkuList.class);
+        skuItem = skuListParser.write(new SkuList(LongArrayList.wrap(new Random(7).longs(2_000).toArray())));
+
+        listItem = listParser.write(listEmbedding);
+        packedItem = packedParser.write(packedEmbedding);
+    }
+
+    @Benchmark
+    public ListEmbedding decodeList() {
+        return listParser.read(listItem);
+    }
+
+    @Benchmark
+    public PackedEmbedding decodePacked() {
+        return packedParser.read(packedItem);
+    }
+
+    @Benchmark
+    public SkuSet decodeSkuSet() {
+        return skuSetParser.read(skuItem);
+    }
+
+    @Benchmark
+    public SkuList decodeSkuList() {
+        return skuListParser.read(skuItem);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> encodeList() {
+        return listParser.write(listEmbedding);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> encodePacked() {
+        return packedParser.write(packedEmbedding);
+    }
+}
@@ -0,0 +1,117 @@
+package org.dooq.mapper;
+
+import org.dooq.parser.ParserCompiler;
+import org.dooq.scheme.ProductRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+public class ConverterUnloadingTest {
+
+    @Test
+    void testHiddenConverter() {
+
+        var parser = ParserCompiler.getConverter(ProductRecord.class);
+
+        Assertions.assertTrue(parser.getClass().isHidden());
+        Assertions.assertEquals(ProductRecord.class.getPackageName(), parser.getClass().getPackageName());
+    }
+
+    @Test
+    void testConverterUnloading() throws Exception {
+
+        var reference = loadPluginConverter();
+
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        Assertions.assertNull(reference.get(), "The plugin class loader was not collected");
+    }
+
+    @Test
+    void testCopierTargetUnloading() throws Exception {
+
+        var reference = copyIntoPlugin();
+
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        Assertions.assertNull(reference.get(), "The copy target class loader was not collected");
+    }
+
+    public record PluginSource(String name, Integer size) {
+    }
+
+    private static WeakReference<ClassLoader> copyIntoPlugin() throws Exception {
+
+        var loader = new PluginLoader();
+        var type = loader.loadClass(PluginRecord.class.getName());
+
+        var copier = ParserCompiler.getCopier(PluginSource.class, type);
+
+        var copy = copier.copy(new PluginSource("plugin", 3));
+
+        Assertions.assertSame(type, copy.getClass());
+        Assertions.assertSame(copier, ParserCompiler.getCopier(PluginSource.class, type));
+
+        return new WeakReference<>(loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WeakReference<ClassLoader> loadPluginConverter() throws Exception {
+
+        var loader = new PluginLoader();
+        var type = (Class<Object>) loader.loadClass(PluginRecord.class.getName());
+
+        var parser = ParserCompiler.getConverter(type);
+
+        var item = Map.of("name", AttributeValue.fromS("plugin"), "size", AttributeValue.fromN("3"));
+
+        Assertions.assertEquals(item, parser.write(parser.read(item)));
+        Assertions.assertSame(parser, ParserCompiler.getConverter(type));
+
+        return new WeakReference<>(loader);
+    }
+
+    /**
+     * Defines its own copy of the plugin record
+     */
+    private static final class PluginLoader extends ClassLoader {
+
+        PluginLoader() {
+            super(PluginLoader.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+
+            if (!name.equals(PluginRecord.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+
+                var loaded = findLoadedClass(name);
+
+                if (loaded != null) return loaded;
+
+                try (var stream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    var bytes = stream.readAllBytes();
+
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
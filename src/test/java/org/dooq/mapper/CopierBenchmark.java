@@ -0,0 +1,158 @@
+package org.dooq.mapper;
+
+import org.dooq.scheme.ProductRecord;
+import org.dooq.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares {@link org.dooq.api.DynamoRecord#into(Class)} against the previous reflective copy
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class CopierBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    public static class ProductView {
+
+        private String uuid;
+        private Long companyId;
+        private String sku;
+        private Set<String> skus;
+        private String description;
+        private BigDecimal factor;
+        private Boolean bulk;
+        private BigDecimal avgPurchasePrice;
+        private LocalDateTime created;
+
+        public String getUuid() {
+            return uuid;
+        }
+
+        public void setUuid(String uuid) {
+            this.uuid = uuid;
+        }
+
+        public Long getCompanyId() {
+            return companyId;
+        }
+
+        public void setCompanyId(Long companyId) {
+            this.companyId = companyId;
+        }
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public Set<String> getSkus() {
+            return skus;
+        }
+
+        public void setSkus(Set<String> skus) {
+            this.skus = skus;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public BigDecimal getFactor() {
+            return factor;
+        }
+
+        public void setFactor(BigDecimal factor) {
+            this.factor = factor;
+        }
+
+        public Boolean getBulk() {
+            return bulk;
+        }
+
+        public void setBulk(Boolean bulk) {
+            this.bulk = bulk;
+        }
+
+        public BigDecimal getAvgPurchasePrice() {
+            return avgPurchasePrice;
+        }
+
+        public void setAvgPurchasePrice(BigDecimal avgPurchasePrice) {
+            this.avgPurchasePrice = avgPurchasePrice;
+        }
+
+        public LocalDateTime getCreated() {
+            return created;
+        }
+
+        public void setCreated(LocalDateTime created) {
+            this.created = created;
+        }
+    }
+
+    private ProductRecord record;
+
+    @Setup
+    public void setup() {
+        record = new ProductRecord()
+                .setUuid("8f14e45f-ceea-467f-a0e6-7d2f4b4f1c11")
+                .setCompanyId(42L)
+                .setSku("SKU-1")
+                .setSkus(Set.of("SKU-1", "SKU-2"))
+                .setDescription("Description")
+                .setFactor(BigDecimal.ONE)
+                .setBulk(true)
+                .setAvgPurchasePrice(new BigDecimal("12.5"))
+                .setCreated(LocalDateTime.parse("2024-03-10T12:30:45"));
+    }
+
+    @Benchmark
+    public ProductView compiled() {
+        return record.into(ProductView.class);
+    }
+
+    /**
+     * The previous implementation, with the field arguments in the right order
+     */
+    @Benchmark
+    public ProductView reflective() throws IllegalAccessException {
+
+        var instance = ReflectionUtils.newInstance(ProductView.class);
+
+        var targetMap = ReflectionUtils.mapFields(ProductView.class);
+        var sourceMap = ReflectionUtils.mapFields(ProductRecord.class);
+
+        for (Map.Entry<String, Field> targetEntry : targetMap.entrySet()) {
+
+            Field target = targetEntry.getValue();
+            Field source = sourceMap.get(target.getName());
+
+            if (source == null) continue;
+
+            source.setAccessible(true);
+            target.setAccessible(true);
+
+            target.set(instance, source.get(record));
+        }
+
+        return instance;
+    }
+}
@@ -0,0 +1,80 @@
+package org.dooq.mapper;
+
+import org.dooq.api.EnumFormat;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.dooq.parser.converter.EnumCodec;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Compares the compiled enum properties against String properties converted by hand
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class EnumBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    public enum State {
+        CREATED, VALIDATED, RESERVED, PAID, PICKED, PACKED, SHIPPED, DELIVERED, RETURNED, REFUNDED, CANCELLED
+    }
+
+    public record Shipment(State order, State payment, State delivery, @EnumFormat(EnumFormat.Encoding.ORDINAL) State invoice) {
+    }
+
+    public record RawShipment(String order, String payment, String delivery, String invoice) {
+    }
+
+    private ObjectParser<Shipment> parser;
+    private ObjectParser<RawShipment> rawParser;
+    private Map<String, AttributeValue> item;
+    private Map<String, AttributeValue> rawItem;
+    private Shipment shipment;
+    private final EnumCodec<State> codec = EnumCodec.of(State.class, EnumFormat.Encoding.NAME);
+
+    @Setup
+    public void setup() {
+        parser = ParserCompiler.getConverter(Shipment.class);
+        rawParser = ParserCompiler.getConverter(RawShipment.class);
+
+        shipment = new Shipment(State.SHIPPED, State.PAID, State.DELIVERED, State.CANCELLED);
+
+        item = parser.write(shipment);
+        rawItem = rawParser.write(new RawShipment("SHIPPED", "PAID", "DELIVERED", "CANCELLED"));
+    }
+
+    @Benchmark
+    public Shipment decodeEnums() {
+        return parser.read(item);
+    }
+
+    @Benchmark
+    public Shipment decodeStrings() {
+        var raw = rawParser.read(rawItem);
+
+        return new Shipment(State.valueOf(raw.order()), State.valueOf(raw.payment()),
+                State.valueOf(raw.delivery()), State.valueOf(raw.invoice()));
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> encodeEnums() {
+        return parser.write(shipment);
+    }
+
+    @Benchmark
+    public State valueOf() {
+        return State.valueOf("DELIVERED");
+    }
+
+    @Benchmark
+    public State codecValueOf() {
+        return codec.valueOf("DELIVERED");
+    }
+}
@@ -0,0 +1,75 @@
+package org.dooq.mapper;
+
+import org.dooq.api.Column;
+import org.dooq.core.ReservedWords;
+import org.dooq.scheme.ProductKey;
+import org.dooq.scheme.ProductRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.dooq.scheme.Tables.PRODUCT;
+
+/**
+ * Escaping of the projection of every product column, against the previous linear scan of the reserved words
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class EscapeBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    private List<Column<ProductRecord, ProductKey>> columns;
+    private String[] words;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+
+        columns = PRODUCT.getColumns();
+
+        var field = ReservedWords.class.getDeclaredField("words");
+        field.setAccessible(true);
+
+        words = (String[]) field.get(ReservedWords.INSTANCE);
+    }
+
+    @Benchmark
+    public Object precomputed() {
+        return ReservedWords.escapeProjection(columns);
+    }
+
+    @Benchmark
+    public Object linear() {
+
+        var result = new ArrayList<String>();
+        var attributeNames = new HashMap<String, String>();
+
+        for (Column<ProductRecord, ProductKey> column : columns) {
+
+            var name = column.name();
+            var reserved = false;
+
+            for (String word : words) {
+                if (word.equalsIgnoreCase(name)) {
+                    reserved = true;
+                    break;
+                }
+            }
+
+            if (reserved) {
+                result.add("#" + name);
+                attributeNames.put("#" + name, name);
+            } else {
+                result.add(name);
+            }
+        }
+
+        return attributeNames.isEmpty() ? result : attributeNames;
+    }
+}
@@ -0,0 +1,58 @@
+package org.dooq.mapper;
+
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares the eager reader against the lazy reader on a dense wide item when only two properties are read
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class LazyBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    private ObjectParser<WideItem> eager;
+    private ObjectParser<WideItem> lazy;
+    private Map<String, AttributeValue> item;
+
+    @Setup
+    public void setup() {
+        eager = ParserCompiler.getConverter(WideItem.class);
+        lazy = ParserCompiler.getLazyConverter(WideItem.class);
+
+        item = new HashMap<>();
+
+        for (int i = 1; i <= 40; i++) {
+            var name = "field%02d".formatted(i);
+
+            item.put(name, i % 4 == 0 ? AttributeValue.fromN(String.valueOf(i)) : AttributeValue.fromS(name));
+        }
+    }
+
+    @Benchmark
+    public void eagerReader(Blackhole blackhole) {
+        var record = eager.read(item);
+
+        blackhole.consume(record.getField02());
+        blackhole.consume(record.getField12());
+    }
+
+    @Benchmark
+    public void lazyReader(Blackhole blackhole) {
+        var record = lazy.read(item);
+
+        blackhole.consume(record.getField02());
+        blackhole.consume(record.getField12());
+    }
+}
@@ -1,27 +1,34 @@
 package org.dooq.mapper;
 
+import org.dooq.core.AttributeWriter;
 import org.dooq.core.ItemParser;
 import org.dooq.scheme.ProductRecord;
 import org.dooq.scheme.Tables;
-import org.openjdk.jmh.annotations.Benchmark;
-import org.openjdk.jmh.annotations.Fork;
-import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import java.beans.Transient;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
 public class ObjectMapperPerformance {
 
     public static void main(String[] args) throws IOException {
         org.openjdk.jmh.Main.main(args);
     }
 
-    @Fork(1)
-    @Warmup(iterations = 1)
-    @Benchmark
-    public void name() {
+    private ProductRecord object;
 
-        var object = new ProductRecord()
+    @Setup
+    public void setup() {
+        object = new ProductRecord()
                 .setCompanyId(1L)
                 .setUuid("uuid")
                 .setDescription("Description")
@@ -34,8 +41,35 @@ public class ObjectMapperPerformance {
                 .setAvgPurchasePrice(new BigDecimal("12"));
 
         object.setTable(Tables.PRODUCT);
+    }
+
+    /**
+     * Compiled write path
+     */
+    @Benchmark
+    public Map<String, AttributeValue> name() {
+        return ItemParser.writeRecord(object).map();
+    }
+
+    /**
+     * Reflective write path used by ItemParser before the compiled one
+     */
+    @Benchmark
+    public Map<String, AttributeValue> reflective() throws IllegalAccessException {
+
+        var map = new HashMap<String, AttributeValue>();
+
+        for (Field field : object.getClass().getDeclaredFields()) {
+
+            if (Modifier.isTransient(field.getModifiers()) || field.isAnnotationPresent(Transient.class)) {
+                continue;
+            }
+
+            field.setAccessible(true);
 
-        ItemParser.writeRecord(object);
+            map.put(field.getName(), AttributeWriter.parse(field.get(object)));
+        }
 
+        return map;
     }
 }
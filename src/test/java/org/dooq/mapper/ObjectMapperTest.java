@@ -2,13 +2,45 @@ package org.dooq.mapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dooq.api.ArrayFormat;
+import org.dooq.api.Compressed;
+import org.dooq.api.Deduplicate;
+import org.dooq.api.EnumFormat;
+import org.dooq.api.EpochEncoded;
+import org.dooq.api.Packed;
+import org.dooq.api.PackedField;
+import org.dooq.core.AttributeWriter;
 import org.dooq.core.ItemParser;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.dooq.parser.ReadMode;
+import org.dooq.parser.converter.AttributeValues;
+import org.dooq.parser.converter.CompressionCodec;
+import org.dooq.parser.converter.EnumCodec;
+import org.dooq.parser.converter.StringPool;
+import org.dooq.projection.Projection;
 import org.dooq.scheme.ProductRecord;
 import org.dooq.scheme.Tables;
+import org.dooq.util.IntArrayList;
+import org.dooq.util.LongArrayList;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class ObjectMapperTest {
 
@@ -40,4 +72,661 @@ public class ObjectMapperTest {
                 mapper.writeValueAsString(parsed));
 
     }
+
+    @Test
+    void testSinglePassReader() throws JsonProcessingException {
+
+        var mapper = new ObjectMapper();
+
+        var record = new ProductRecord()
+                .setCompanyId(1L)
+                .setUuid("uuid")
+                .setDescription("Description")
+                .setAutoWeigh(true)
+                .setAvgPurchasePrice(new BigDecimal("12"));
+
+        var parser = ParserCompiler.getConverter(ProductRecord.class, ObjectParser.class, ReadMode.SINGLE_PASS);
+
+        var parsed = parser.read(parser.write(record));
+
+        Assertions.assertEquals(mapper.writeValueAsString(record),
+                mapper.writeValueAsString(parsed));
+    }
+
+    @Test
+    void testSinglePassRecordReader() {
+
+        var parser = ParserCompiler.getConverter(Point.class, ObjectParser.class, ReadMode.SINGLE_PASS);
+
+        var point = new Point("origin", 3, null, List.of("a", "b"));
+
+        Assertions.assertEquals(point, parser.read(parser.write(point)));
+        Assertions.assertEquals(new Point(null, 0, 4L, null), parser.read(Map.of("y", AttributeValue.fromN("4"))));
+    }
+
+    @Test
+    void testNestedConverters() {
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(Route.class, ObjectParser.class, mode);
+
+            var origin = new Point("origin", 0, 0L, List.of());
+            var stop = new Point("stop", 2, 3L, List.of("a"));
+
+            var route = new Route("route", origin, List.of(origin, stop), Set.of(stop), Map.of("last", stop),
+                    new Route("next", stop, null, null, null, null));
+
+            var item = parser.write(route);
+
+            Assertions.assertTrue(item.get("stops").hasL());
+            Assertions.assertTrue(item.get("named").hasM());
+            Assertions.assertEquals(route, parser.read(item));
+        }
+    }
+
+    @Test
+    void testProjectionParser() {
+
+        var record = new ProductRecord()
+                .setCompanyId(1L)
+                .setUuid("uuid")
+                .setDescription("Description")
+                .setAvgPurchasePrice(new BigDecimal("12"));
+
+        var item = ParserCompiler.getConverter(ProductRecord.class).write(record);
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getProjectionParser(ProductRecord.class, ObjectParser.class, mode,
+                    List.of("uuid", "description"));
+
+            Assertions.assertSame(parser, ParserCompiler.getProjectionParser(ProductRecord.class, ObjectParser.class, mode,
+                    List.of("description", "uuid")));
+
+            var parsed = parser.read(item);
+
+            Assertions.assertEquals("uuid", parsed.getUuid());
+            Assertions.assertEquals("Description", parsed.getDescription());
+            Assertions.assertNull(parsed.getCompanyId());
+            Assertions.assertNull(parsed.getAvgPurchasePrice());
+        }
+
+        var point = ParserCompiler.getProjectionParser(Point.class, List.of("x"))
+                .read(Map.of("name", AttributeValue.fromS("origin"), "x", AttributeValue.fromN("2")));
+
+        Assertions.assertEquals(new Point(null, 2, null, null), point);
+    }
+
+    @Test
+    void testTupleParser() {
+
+        var parser = ParserCompiler.getTupleParser(Projection.ProjectionResult2.class, ProductRecord.class,
+                List.of(Tables.PRODUCT.UUID, Tables.PRODUCT.COMPANYID));
+
+        var tuple = parser.read(Map.of("uuid", AttributeValue.fromS("uuid"),
+                "companyId", AttributeValue.fromN("3")));
+
+        Assertions.assertEquals(new Projection.ProjectionResult2<>("uuid", 3L), tuple);
+        Assertions.assertEquals(Map.of("uuid", AttributeValue.fromS("uuid"), "companyId", AttributeValue.fromN("3")),
+                parser.write(tuple));
+    }
+
+    @Test
+    void testPrimitiveFields() {
+
+        var counters = new Counters(70_000, 5_000_000_000L, 12.5, (short) 7, true, 0.25f, 3.75, (short) -2);
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(Counters.class, ObjectParser.class, mode);
+
+            var item = parser.write(counters);
+
+            Assertions.assertEquals("70000", item.get("quantity").n());
+            Assertions.assertEquals("12.5", item.get("price").n());
+            Assertions.assertEquals(counters, parser.read(item));
+            Assertions.assertEquals(new Counters(0, 0, 0, (short) 0, false, 0, null, null), parser.read(Map.of()));
+        }
+
+        var price = ParserCompiler.getProjectionParser(Counters.class, List.of("price"))
+                .read(Map.of("price", AttributeValue.fromN("1.5"), "views", AttributeValue.fromN("3")));
+
+        Assertions.assertEquals(new Counters(0, 0, 1.5, (short) 0, false, 0, null, null), price);
+    }
+
+    @Test
+    void testCompressedFields() throws IOException {
+
+        var body = "Receipt line, 2 x coffee, 1 x croissant\n".repeat(50);
+        var receipt = new Receipt("r1", body, "short note");
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(Receipt.class, ObjectParser.class, mode);
+
+            var item = parser.write(receipt);
+
+            Assertions.assertNotNull(item.get("body").b());
+            Assertions.assertTrue(item.get("body").b().asByteArray().length < body.length() / 10);
+            Assertions.assertEquals("short note", item.get("note").s());
+            Assertions.assertEquals(receipt, parser.read(item));
+
+            //Plain strings and values compressed by AttributeWriter are read as well
+            Assertions.assertEquals(new Receipt("r2", "plain", body), parser.read(Map.of(
+                    "id", AttributeValue.fromS("r2"),
+                    "body", AttributeValue.fromS("plain"),
+                    "note", AttributeWriter.compressed(body))));
+        }
+    }
+
+    @Test
+    void testCompressedUntrustedSize() {
+
+        //Beyond the trusted ratio, inflated by the growing stream
+        var repeated = "a".repeat(2_000_000).getBytes(StandardCharsets.UTF_8);
+        Assertions.assertArrayEquals(repeated, CompressionCodec.decompress(CompressionCodec.compress(repeated, 6)));
+
+        var compressed = CompressionCodec.compress("corrupted size".getBytes(StandardCharsets.UTF_8), 6);
+
+        for (int size : new int[]{-1, Integer.MAX_VALUE}) {
+
+            var corrupted = compressed.clone();
+
+            for (int i = 0; i < 4; i++) {
+                corrupted[corrupted.length - 4 + i] = (byte) (size >>> (8 * i));
+            }
+
+            Assertions.assertThrows(UncheckedIOException.class, () -> CompressionCodec.decompress(corrupted));
+        }
+    }
+
+    @Test
+    void testPackedNested() {
+
+        var previous = new Metrics(1, 10L, 0.5, "ms", new BigDecimal("-12.75"), List.of("a"), null, null, Unit.SECONDS);
+        var metrics = new Metrics(-3, Long.MAX_VALUE, 2.25, null, BigDecimal.ZERO, List.of("b", "c"),
+                List.of(previous), previous, Unit.MILLIS);
+        var sample = new Sample("s1", metrics, new Shape(2, "box", null));
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(Sample.class, ObjectParser.class, mode);
+
+            var item = parser.write(sample);
+
+            Assertions.assertNotNull(item.get("metrics").b());
+            Assertions.assertNotNull(item.get("shape").b());
+            Assertions.assertEquals(sample, parser.read(item));
+
+            //Stored as a map before being packed
+            var map = ParserCompiler.getConverter(Shape.class).write(sample.shape());
+            Assertions.assertEquals(sample.shape(), parser.read(Map.of("shape", AttributeValue.fromM(map))).shape());
+        }
+    }
+
+    @Test
+    void testPackedEvolution() {
+
+        var older = ParserCompiler.getPackedCodec(ShapeV1.class);
+        var newer = ParserCompiler.getPackedCodec(Shape.class);
+
+        Assertions.assertEquals(new Shape(3, "cube", null), newer.decode(older.encode(new ShapeV1(3, "cube"))));
+        Assertions.assertEquals(new ShapeV1(3, "cube"), older.decode(newer.encode(new Shape(3, "cube", 9L))));
+    }
+
+    @Test
+    void testPackedIndices() {
+
+        var codec = ParserCompiler.getPackedCodec(Parcel.class);
+
+        var parcel = new Parcel();
+        parcel.setLabel("fragile");
+        parcel.setWeight(2.5);
+
+        var decoded = codec.decode(codec.encode(parcel));
+
+        Assertions.assertEquals("fragile", decoded.getLabel());
+        Assertions.assertEquals(2.5, decoded.getWeight());
+
+        //Written by index, not by component order
+        var reordered = ParserCompiler.getPackedCodec(ShapeReordered.class);
+
+        Assertions.assertEquals(new ShapeV1(3, "cube"),
+                ParserCompiler.getPackedCodec(ShapeV1.class).decode(reordered.encode(new ShapeReordered("cube", 3))));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> ParserCompiler.getPackedCodec(Unordered.class));
+    }
+
+    @Test
+    void testPackedVersionMismatch() {
+
+        var older = ParserCompiler.getPackedCodec(ShapeV1.class);
+        var unversioned = ParserCompiler.getPackedCodec(ShapeUnversioned.class);
+
+        //Same version, different fields
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> older.decode(unversioned.encode(new ShapeUnversioned(3, "cube", 9L))));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> unversioned.decode(older.encode(new ShapeV1(3, "cube"))));
+    }
+
+    @Test
+    void testPrimitiveArrays() {
+
+        var series = new Series(new float[]{0.5f, -1f}, new double[]{Math.PI, 0}, new long[]{Long.MIN_VALUE, 7},
+                new int[]{}, new int[]{3, 1, 3}, new long[]{5, 5, 9});
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(Series.class, ObjectParser.class, mode);
+
+            var item = parser.write(series);
+
+            Assertions.assertEquals(8, item.get("embedding").b().asByteArray().length);
+            Assertions.assertEquals(16, item.get("stamps").b().asByteArray().length);
+            Assertions.assertEquals(3, item.get("legacy").l().size());
+            Assertions.assertEquals(2, item.get("ids").ns().size());
+
+            var read = parser.read(item);
+
+            Assertions.assertArrayEquals(series.embedding(), read.embedding());
+            Assertions.assertArrayEquals(series.samples(), read.samples());
+            Assertions.assertArrayEquals(series.stamps(), read.stamps());
+            Assertions.assertArrayEquals(series.counts(), read.counts());
+            Assertions.assertArrayEquals(series.legacy(), read.legacy());
+            Assertions.assertEquals(Set.of(5L, 9L), Arrays.stream(read.ids()).boxed().collect(Collectors.toSet()));
+
+            //Any encoding is readable
+            var compatible = parser.read(Map.of(
+                    "embedding", AttributeValue.fromL(List.of(AttributeValue.fromN("1.5"))),
+                    "stamps", AttributeValue.fromNs(List.of("42"))));
+
+            Assertions.assertArrayEquals(new float[]{1.5f}, compatible.embedding());
+            Assertions.assertArrayEquals(new long[]{42}, compatible.stamps());
+            Assertions.assertNull(compatible.samples());
+        }
+    }
+
+    @Test
+    void testNumericCollections() {
+
+        var skus = new LongArrayList();
+
+        for (long sku = 0; sku < 2_000; sku++) {
+            skus.addLong(9_000_000_000L + sku);
+        }
+
+        var inventory = new Inventory(skus, IntArrayList.of(4, 4, 2), Set.of(7L, 11L), List.of(1, 2, 2),
+                Set.of(new BigDecimal("1.50")));
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(Inventory.class, ObjectParser.class, mode);
+
+            var item = parser.write(inventory);
+
+            Assertions.assertEquals(2_000, item.get("skus").ns().size());
+            Assertions.assertEquals(12, item.get("quantities").b().asByteArray().length);
+            Assertions.assertEquals(Set.of("7", "11"), Set.copyOf(item.get("warehouses").ns()));
+            Assertions.assertEquals(List.of("1.50"), item.get("prices").ns());
+
+            var read = parser.read(item);
+
+            Assertions.assertEquals(Set.copyOf(inventory.skus()), Set.copyOf(read.skus()));
+            Assertions.assertArrayEquals(new int[]{4, 4, 2}, read.quantities().toIntArray());
+            Assertions.assertEquals(inventory.warehouses(), read.warehouses());
+            Assertions.assertEquals(inventory.bins(), read.bins());
+            Assertions.assertEquals(inventory.prices(), read.prices());
+
+            //Former versions wrote number sets as SS
+            var legacy = parser.read(Map.of("warehouses", AttributeValue.fromSs(List.of("7")),
+                    "bins", AttributeValue.fromNs(List.of("3"))));
+
+            Assertions.assertEquals(Set.of(7L), legacy.warehouses());
+            Assertions.assertEquals(List.of(3), legacy.bins());
+        }
+    }
+
+    @Test
+    void testEnums() {
+
+        var order = new Order(Status.SHIPPED, Status.PAID, List.of(Status.NEW, Status.PAID), Set.of(Status.SHIPPED),
+                Priority.HIGH);
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(Order.class, ObjectParser.class, mode);
+
+            var item = parser.write(order);
+
+            Assertions.assertEquals("SHIPPED", item.get("status").s());
+            Assertions.assertEquals("1", item.get("previous").n());
+            Assertions.assertEquals(List.of("NEW", "PAID"), item.get("history").l().stream().map(AttributeValue::s).toList());
+            Assertions.assertEquals(List.of("SHIPPED"), item.get("flags").ss());
+            Assertions.assertEquals("2", item.get("priority").n());
+
+            //Every constant is encoded by a shared value
+            Assertions.assertSame(item.get("status"), parser.write(order).get("status"));
+
+            Assertions.assertEquals(order, parser.read(item));
+
+            //Any encoding is readable
+            var read = parser.read(Map.of("status", AttributeValue.fromN("0"), "previous", AttributeValue.fromS("PAID")));
+
+            Assertions.assertEquals(Status.NEW, read.status());
+            Assertions.assertEquals(Status.PAID, read.previous());
+
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> parser.read(Map.of("status", AttributeValue.fromS("LOST"))));
+        }
+    }
+
+    @Test
+    void testEnumHashCollisions() {
+
+        //"Aa" and "BB" share the same hash code
+        var codec = EnumCodec.of(Collision.class, EnumFormat.Encoding.NAME);
+
+        Assertions.assertEquals("Aa".hashCode(), "BB".hashCode());
+        Assertions.assertEquals(Collision.Aa, codec.valueOf("Aa"));
+        Assertions.assertEquals(Collision.BB, codec.valueOf("BB"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.valueOf("CC"));
+    }
+
+    @Test
+    void testSharedValues() {
+
+        var parser = ParserCompiler.getConverter(Counters.class);
+
+        var first = parser.write(new Counters(12, 5_000_000_000L, 3.5d, (short) 1, true, 1.5f, null, (short) 4));
+        var second = parser.write(new Counters(12, 5_000_000_000L, 3.5d, (short) 1, true, 1.5f, null, (short) 4));
+
+        Assertions.assertSame(AttributeValues.TRUE, first.get("active"));
+        Assertions.assertSame(first.get("quantity"), second.get("quantity"));
+        Assertions.assertSame(first.get("level"), second.get("level"));
+        Assertions.assertNotSame(first.get("views"), second.get("views"));
+
+        Assertions.assertSame(AttributeWriter.parse(12), AttributeWriter.parse(12L));
+        Assertions.assertSame(AttributeWriter.parse("ACTIVE"), AttributeWriter.parse("ACTIVE"));
+        Assertions.assertSame(AttributeValues.NULL, AttributeWriter.parse(null));
+        Assertions.assertEquals("SHIPPED", AttributeWriter.parse(Status.SHIPPED).s());
+        Assertions.assertEquals("5000000000", AttributeWriter.parse(5_000_000_000L).n());
+    }
+
+    @Test
+    void testDeduplicatedStrings() {
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(Listing.class, ObjectParser.class, mode);
+
+            var first = parser.read(Map.of("currency", AttributeValue.fromS(new String("EUR")),
+                    "title", AttributeValue.fromS(new String("Lamp"))));
+            var second = parser.read(Map.of("currency", AttributeValue.fromS(new String("EUR")),
+                    "title", AttributeValue.fromS(new String("Lamp"))));
+
+            Assertions.assertEquals("EUR", second.currency());
+            Assertions.assertSame(first.currency(), second.currency());
+            Assertions.assertNotSame(first.title(), second.title());
+        }
+
+        var stats = StringPool.of("currencies", 16).getStats();
+
+        Assertions.assertEquals(16, stats.capacity());
+        Assertions.assertEquals(1, stats.size());
+        Assertions.assertTrue(stats.hitRate() > 0.5);
+        Assertions.assertTrue(StringPool.stats().contains(stats));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> ParserCompiler.getConverter(WrongPool.class));
+    }
+
+    public record Listing(String title, @Deduplicate(pool = "currencies", capacity = 16) String currency) {
+    }
+
+    public record WrongPool(@Deduplicate Integer amount) {
+    }
+
+    @Test
+    void testEpochEncoded() {
+
+        var event = new AuditEvent(Instant.parse("2024-03-10T12:30:45.123Z"),
+                OffsetDateTime.parse("2024-03-10T14:30:45+02:00"), LocalDate.of(2024, 3, 10),
+                LocalDateTime.parse("1969-12-31T23:59:59.500"), LocalTime.of(8, 15, 30),
+                Instant.parse("2024-03-10T12:30:45.123456Z"), LocalTime.of(23, 59), LocalDateTime.parse("2024-03-10T12:30"));
+
+        for (ReadMode mode : ReadMode.values()) {
+            var parser = ParserCompiler.getConverter(AuditEvent.class, ObjectParser.class, mode);
+
+            var item = parser.write(event);
+
+            Assertions.assertEquals("1710073845123", item.get("at").n());
+            Assertions.assertEquals("1710073845", item.get("received").n());
+            Assertions.assertEquals("19792", item.get("day").n());
+            Assertions.assertEquals("-500", item.get("local").n());
+            Assertions.assertEquals("29730", item.get("time").n());
+            Assertions.assertEquals("2024-03-10T12:30:45.123456Z", item.get("iso").s());
+
+            var read = parser.read(item);
+
+            Assertions.assertEquals(event.at(), read.at());
+            Assertions.assertEquals(event.received().toInstant(), read.received().toInstant());
+            Assertions.assertEquals(event, new AuditEvent(read.at(), event.received(), read.day(), read.local(),
+                    read.time(), read.iso(), read.plainTime(), read.plainLocal()));
+
+            //ISO strings and numbers written by other clients are readable
+            var legacy = parser.read(Map.of("at", AttributeValue.fromS("2024-03-10T12:30:45Z"),
+                    "day", AttributeValue.fromS("2024-03-10"),
+                    "local", AttributeValue.fromN("1.5E3"),
+                    "plainLocal", AttributeValue.fromS("2024-03-10T12:30:45.1")));
+
+            Assertions.assertEquals(Instant.parse("2024-03-10T12:30:45Z"), legacy.at());
+            Assertions.assertEquals(LocalDate.of(2024, 3, 10), legacy.day());
+            Assertions.assertEquals(LocalDateTime.parse("1970-01-01T00:00:01.500"), legacy.local());
+            Assertions.assertEquals(LocalDateTime.parse("2024-03-10T12:30:45.100"), legacy.plainLocal());
+        }
+
+        Assertions.assertThrows(IllegalStateException.class, () -> ParserCompiler.getConverter(WrongEpoch.class));
+    }
+
+    public record AuditEvent(@EpochEncoded Instant at,
+                             @EpochEncoded(EpochEncoded.Unit.SECONDS) OffsetDateTime received,
+                             @EpochEncoded(EpochEncoded.Unit.DAYS) LocalDate day,
+                             @EpochEncoded LocalDateTime local,
+                             @EpochEncoded(EpochEncoded.Unit.SECONDS) LocalTime time,
+                             Instant iso, LocalTime plainTime, LocalDateTime plainLocal) {
+    }
+
+    public record WrongEpoch(@EpochEncoded(EpochEncoded.Unit.DAYS) LocalTime time) {
+    }
+
+    @Test
+    void testCopier() {
+
+        var record = new ProductRecord()
+                .setCompanyId(7L)
+                .setUuid("uuid")
+                .setDescription("Description")
+                .setSkus(Set.of("a", "b"))
+                .setAvgPurchasePrice(new BigDecimal("12.5"));
+
+        var dto = record.into(ProductDto.class);
+
+        Assertions.assertEquals(new ProductDto("uuid", 7L, "Description", Set.of("a", "b"),
+                new BigDecimal("12.5"), 0), dto);
+
+        var summary = record.into(ProductSummary.class);
+
+        Assertions.assertEquals("uuid", summary.getUuid());
+        Assertions.assertEquals(7L, summary.getCompanyId());
+        Assertions.assertEquals("Description", summary.getDescription());
+        Assertions.assertEquals(-1, summary.getType());
+
+        //Null wrappers keep the primitive defaults
+        var empty = new ProductRecord().into(ProductSummary.class);
+
+        Assertions.assertEquals(0, empty.getCompanyId());
+        Assertions.assertNull(new ProductRecord().into(ProductDto.class).companyId());
+
+        var copier = ParserCompiler.getCopier(ProductRecord.class, ProductDto.class);
+
+        Assertions.assertSame(copier, ParserCompiler.getCopier(ProductRecord.class, ProductDto.class));
+        Assertions.assertEquals(ProductDto.class, copier.targetType());
+
+        //Records into classes, boxing the primitives
+        var back = ParserCompiler.getCopier(ProductSummary.class, ProductRecord.class).copy(summary);
+
+        Assertions.assertEquals(7L, back.getCompanyId());
+        Assertions.assertEquals(-1, back.getType());
+        Assertions.assertEquals("Description", back.getDescription());
+
+        //Lazy records are copied through their accessors
+        var lazy = ParserCompiler.getLazyConverter(ProductRecord.class)
+                .read(ParserCompiler.getConverter(ProductRecord.class).write(record));
+
+        Assertions.assertEquals(dto, lazy.into(ProductDto.class));
+    }
+
+    public record ProductDto(String uuid, Long companyId, String description, Set<String> skus,
+                             BigDecimal avgPurchasePrice, long missing) {
+    }
+
+    public static class ProductSummary {
+
+        private String uuid;
+        private long companyId;
+        private String description;
+        private int type = -1;
+
+        public String getUuid() {
+            return uuid;
+        }
+
+        public void setUuid(String uuid) {
+            this.uuid = uuid;
+        }
+
+        public long getCompanyId() {
+            return companyId;
+        }
+
+        public void setCompanyId(long companyId) {
+            this.companyId = companyId;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public ProductSummary setDescription(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public int getType() {
+            return type;
+        }
+
+        public void setType(int type) {
+            this.type = type;
+        }
+    }
+
+    public enum Status {
+        NEW, PAID, SHIPPED
+    }
+
+    @EnumFormat(EnumFormat.Encoding.ORDINAL)
+    public enum Priority {
+        LOW, MEDIUM, HIGH
+    }
+
+    public enum Collision {
+        Aa, BB
+    }
+
+    public record Order(Status status, @EnumFormat(EnumFormat.Encoding.ORDINAL) Status previous, List<Status> history,
+                        Set<Status> flags, Priority priority) {
+    }
+
+    public record Inventory(@ArrayFormat(ArrayFormat.Encoding.NUMBER_SET) LongArrayList skus, IntArrayList quantities,
+                            Set<Long> warehouses, List<Integer> bins, Set<BigDecimal> prices) {
+    }
+
+    public record Series(float[] embedding, double[] samples, long[] stamps, int[] counts,
+                         @ArrayFormat(ArrayFormat.Encoding.LIST) int[] legacy,
+                         @ArrayFormat(ArrayFormat.Encoding.NUMBER_SET) long[] ids) {
+    }
+
+    public enum Unit {
+        MILLIS, SECONDS
+    }
+
+    @Packed
+    public record Metrics(int count, Long total, double mean, String unit, BigDecimal price, List<String> tags,
+                          List<Metrics> history, Metrics previous, Unit timeUnit) {
+    }
+
+    public record Sample(String id, @Packed Metrics metrics, @Packed Shape shape) {
+    }
+
+    public record ShapeV1(int width, String name) {
+    }
+
+    @Packed(version = 2)
+    public record Shape(int width, String name, Long depth) {
+    }
+
+    public record ShapeUnversioned(int width, String name, Long depth) {
+    }
+
+    public record ShapeReordered(@PackedField(1) String name, @PackedField(0) int width) {
+    }
+
+    /**
+     * The index 1 was a removed property
+     */
+    @Packed
+    public static class Parcel {
+
+        @PackedField(0)
+        private String label;
+
+        @PackedField(2)
+        private double weight;
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public void setWeight(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public static class Unordered {
+
+        private String label;
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+    }
+
+    public record Receipt(String id, @Compressed(threshold = 128, level = 6) String body, @Compressed String note) {
+    }
+
+    public record Counters(int quantity, long views, double price, short rank, boolean active, float ratio,
+                           Double discount, Short level) {
+    }
+
+    public record Point(String name, int x, Long y, List<String> tags) {
+    }
+
+    public record Route(String name, Point origin, List<Point> stops, Set<Point> unique,
+                        Map<String, Point> named, Route next) {
+    }
 }
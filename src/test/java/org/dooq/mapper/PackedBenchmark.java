@@ -0,0 +1,104 @@
+package org.dooq.mapper;
+
+import org.dooq.api.Packed;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the decoding of a nested object stored as a {@code M} map against the {@link Packed} binary,
+ * the item sizes, as billed by DynamoDB, are printed on setup
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class PackedBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    public record Address(String street, String city, String zip, String country, double latitude, double longitude) {
+    }
+
+    public record Order(String id, int quantity, long placedAt, BigDecimal total, String status,
+                        List<String> tags, Address address) {
+    }
+
+    public record MapItem(String pk, Order order) {
+    }
+
+    public record PackedItem(String pk, @Packed Order order) {
+    }
+
+    private ObjectParser<MapItem> mapParser;
+    private ObjectParser<PackedItem> packedParser;
+    private Map<String, AttributeValue> mapItem;
+    private Map<String, AttributeValue> packedItem;
+
+    @Setup
+    public void setup() {
+        mapParser = ParserCompiler.getConverter(MapItem.class);
+        packedParser = ParserCompiler.getConverter(PackedItem.class);
+
+        var order = new Order("order-0001", 3, 1_700_000_000_000L, new BigDecimal("129.90"), "SHIPPED",
+                List.of("priority", "gift"),
+                new Address("221B Baker Street", "London", "NW1 6XE", "UK", 51.5237, -0.1585));
+
+        mapItem = mapParser.write(new MapItem("customer#1", order));
+        packedItem = packedParser.write(new PackedItem("customer#1", order));
+
+        System.out.printf("%nmap item: %d bytes, packed item: %d bytes%n", size(mapItem), size(packedItem));
+    }
+
+    @Benchmark
+    public MapItem decodeMap() {
+        return mapParser.read(mapItem);
+    }
+
+    @Benchmark
+    public PackedItem decodePacked() {
+        return packedParser.read(packedItem);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> encodeMap() {
+        return mapParser.write(decodeMap());
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> encodePacked() {
+        return packedParser.write(decodePacked());
+    }
+
+    /**
+     * Approximation of the DynamoDB item size: names, values and the documents overhead
+     */
+    private static int size(Map<String, AttributeValue> item) {
+
+        int size = 0;
+
+        for (Map.Entry<String, AttributeValue> entry : item.entrySet()) {
+            size += entry.getKey().length() + size(entry.getValue());
+        }
+
+        return size;
+    }
+
+    private static int size(AttributeValue value) {
+
+        if (value.s() != null) return value.s().length();
+        if (value.n() != null) return value.n().length();
+        if (value.b() != null) return value.b().asByteArrayUnsafe().length;
+        if (value.hasM()) return 3 + size(value.m());
+        if (value.hasL()) return 3 + value.l().stream().mapToInt(a -> 1 + size(a)).sum();
+
+        return 1;
+    }
+}
@@ -0,0 +1,26 @@
+package org.dooq.mapper;
+
+/**
+ * Loaded by a disposable class loader in {@link ConverterUnloadingTest}
+ */
+public class PluginRecord {
+
+    private String name;
+    private Integer size;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+}
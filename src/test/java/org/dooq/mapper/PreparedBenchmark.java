@@ -0,0 +1,72 @@
+package org.dooq.mapper;
+
+import org.dooq.Bindings;
+import org.dooq.DynamoSL;
+import org.dooq.PreparedQuery;
+import org.dooq.scheme.ProductKey;
+import org.dooq.scheme.ProductRecord;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.io.IOException;
+
+import static org.dooq.scheme.Tables.PRODUCT;
+
+/**
+ * Compares executing a prepared query against building and compiling the query on each call,
+ * the client answers with an empty response
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class PreparedBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    private final DynamoDbClient client = new DynamoDbClient() {
+        @Override
+        public QueryResponse query(QueryRequest request) {
+            return QueryResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "benchmark";
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private DynamoSL dsl;
+    private PreparedQuery<ProductRecord, ProductKey> prepared;
+    private long companyId;
+
+    @Setup
+    public void setup() {
+        dsl = new DynamoSL(client);
+        prepared = dsl.prepare(dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(1L)
+                        .and(PRODUCT.CATEGORYID.eq("category"))
+                        .and(PRODUCT.BULK.eq(true))));
+    }
+
+    @Benchmark
+    public Object prepared() {
+        return prepared.execute(Bindings.of(PRODUCT.COMPANYID, ++companyId));
+    }
+
+    @Benchmark
+    public Object compiled() {
+        return dsl.selectFrom(PRODUCT)
+                .where(PRODUCT.COMPANYID.eq(++companyId)
+                        .and(PRODUCT.CATEGORYID.eq("category"))
+                        .and(PRODUCT.BULK.eq(true)))
+                .execute();
+    }
+}
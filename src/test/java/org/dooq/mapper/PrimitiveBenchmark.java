@@ -0,0 +1,59 @@
+package org.dooq.mapper;
+
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Compares primitive against boxed numeric records, run with {@code -prof gc}: the primitive reader
+ * allocates no wrappers, only the record and the {@code Double.parseDouble} buffer, the boxed one
+ * adds a wrapper per field to {@code gc.alloc.rate.norm}
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class PrimitiveBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    public record PrimitiveItem(int quantity, long views, double price, boolean active) {
+    }
+
+    public record BoxedItem(Integer quantity, Long views, Double price, Boolean active) {
+    }
+
+    private ObjectParser<PrimitiveItem> primitive;
+    private ObjectParser<BoxedItem> boxed;
+    private PrimitiveItem primitiveItem;
+    private Map<String, AttributeValue> item;
+
+    @Setup
+    public void setup() {
+        primitive = ParserCompiler.getConverter(PrimitiveItem.class);
+        boxed = ParserCompiler.getConverter(BoxedItem.class);
+
+        primitiveItem = new PrimitiveItem(12, 900, 10.5, true);
+        item = primitive.write(primitiveItem);
+    }
+
+    @Benchmark
+    public PrimitiveItem readPrimitive() {
+        return primitive.read(item);
+    }
+
+    @Benchmark
+    public BoxedItem readBoxed() {
+        return boxed.read(item);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> writePrimitive() {
+        return primitive.write(primitiveItem);
+    }
+}
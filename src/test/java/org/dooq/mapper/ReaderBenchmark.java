@@ -0,0 +1,49 @@
+package org.dooq.mapper;
+
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.dooq.parser.ReadMode;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares the lookup reader against the single-pass reader on a wide and sparse item
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class ReaderBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    private ObjectParser<WideItem> lookUp;
+    private ObjectParser<WideItem> singlePass;
+    private Map<String, AttributeValue> item;
+
+    @Setup
+    public void setup() {
+        lookUp = ParserCompiler.getConverter(WideItem.class, ObjectParser.class, ReadMode.LOOKUP);
+        singlePass = ParserCompiler.getConverter(WideItem.class, ObjectParser.class, ReadMode.SINGLE_PASS);
+
+        item = new HashMap<>();
+        item.put("field02", AttributeValue.fromS("two"));
+        item.put("field12", AttributeValue.fromN("12"));
+        item.put("field33", AttributeValue.fromS("thirty three"));
+    }
+
+    @Benchmark
+    public WideItem lookUpReader() {
+        return lookUp.read(item);
+    }
+
+    @Benchmark
+    public WideItem singlePassReader() {
+        return singlePass.read(item);
+    }
+}
@@ -0,0 +1,67 @@
+package org.dooq.mapper;
+
+import org.dooq.engine.ExpressionCompiler;
+import org.dooq.engine.ExpressionRenderer;
+import org.dooq.scheme.ProductKey;
+import org.dooq.scheme.ProductRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.dooq.scheme.Tables.PRODUCT;
+
+/**
+ * Rendering of the key condition, the filter and the names and values of a query
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class RenderBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    private List<ExpressionRenderer<ProductRecord, ProductKey>> key;
+    private List<ExpressionRenderer<ProductRecord, ProductKey>> compound;
+    private List<ExpressionRenderer<ProductRecord, ProductKey>> in;
+
+    @Setup
+    public void setup() {
+
+        key = List.of(PRODUCT.COMPANYID.eq(1L)
+                .and(PRODUCT.UUID.eq("8f14e45f-ceea-467f-a0e6-7d2f4b4f1c11")));
+
+        compound = List.of(PRODUCT.COMPANYID.eq(1L)
+                .and(PRODUCT.SKU.eq("SKU-1"))
+                .and(PRODUCT.DESCRIPTION.eq("Description"))
+                .and(PRODUCT.IMAGEURL.attributeExists())
+                .and(PRODUCT.PURCHASEUNITID.eq("unit"))
+                .and(PRODUCT.SALESUNITID.eq("unit"))
+                .and(PRODUCT.FACTOR.greaterThan(BigDecimal.ONE))
+                .and(PRODUCT.BULK.eq(true))
+                .and(PRODUCT.AUTOWEIGH.eq(false))
+                .and(PRODUCT.CATEGORYID.eq("category")
+                        .or(PRODUCT.DEPARTMENTID.eq("department"))));
+
+        in = List.of(PRODUCT.COMPANYID.eq(1L)
+                .and(PRODUCT.CATEGORYID.in(List.of("a", "b", "c", "d", "e", "f", "g", "h"))));
+    }
+
+    @Benchmark
+    public Object keyLookup() {
+        return ExpressionCompiler.compile(PRODUCT, key, null);
+    }
+
+    @Benchmark
+    public Object compoundFilter() {
+        return ExpressionCompiler.compile(PRODUCT, compound, null);
+    }
+
+    @Benchmark
+    public Object inList() {
+        return ExpressionCompiler.compile(PRODUCT, in, null);
+    }
+}
@@ -0,0 +1,78 @@
+package org.dooq.mapper;
+
+import org.dooq.api.EpochEncoded;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Compares ISO-8601 temporal properties against epoch encoded ones
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class TemporalBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    public record IsoEvent(LocalDateTime created, LocalDateTime updated, LocalDateTime expires) {
+    }
+
+    public record EpochEvent(@EpochEncoded Instant created, @EpochEncoded Instant updated, @EpochEncoded Instant expires) {
+    }
+
+    private ObjectParser<IsoEvent> isoParser;
+    private ObjectParser<EpochEvent> epochParser;
+    private Map<String, AttributeValue> isoItem;
+    private Map<String, AttributeValue> epochItem;
+    private IsoEvent isoEvent;
+    private EpochEvent epochEvent;
+
+    @Setup
+    public void setup() {
+        isoParser = ParserCompiler.getConverter(IsoEvent.class);
+        epochParser = ParserCompiler.getConverter(EpochEvent.class);
+
+        var now = Instant.parse("2024-03-10T12:30:45.123Z");
+
+        isoEvent = new IsoEvent(LocalDateTime.parse("2024-03-10T12:30:45.123"),
+                LocalDateTime.parse("2024-03-11T08:00:00"), LocalDateTime.parse("2025-03-10T12:30:45.123"));
+        epochEvent = new EpochEvent(now, now.plusSeconds(70_000), now.plusSeconds(31_536_000));
+
+        isoItem = isoParser.write(isoEvent);
+        epochItem = epochParser.write(epochEvent);
+    }
+
+    @Benchmark
+    public IsoEvent decodeIso() {
+        return isoParser.read(isoItem);
+    }
+
+    @Benchmark
+    public EpochEvent decodeEpoch() {
+        return epochParser.read(epochItem);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> encodeIso() {
+        return isoParser.write(isoEvent);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> encodeEpoch() {
+        return epochParser.write(epochEvent);
+    }
+
+    @Benchmark
+    public LocalDateTime jdkParse() {
+        return LocalDateTime.parse("2024-03-10T12:30:45.123");
+    }
+}
@@ -0,0 +1,51 @@
+package org.dooq.mapper;
+
+import lombok.Data;
+
+/**
+ * A wide item, most of its attributes are absent in the stored items
+ */
+@Data
+public class WideItem {
+
+    private String field01;
+    private String field02;
+    private String field03;
+    private Integer field04;
+    private String field05;
+    private String field06;
+    private String field07;
+    private Integer field08;
+    private String field09;
+    private String field10;
+    private String field11;
+    private Integer field12;
+    private String field13;
+    private String field14;
+    private String field15;
+    private Integer field16;
+    private String field17;
+    private String field18;
+    private String field19;
+    private Integer field20;
+    private String field21;
+    private String field22;
+    private String field23;
+    private Integer field24;
+    private String field25;
+    private String field26;
+    private String field27;
+    private Integer field28;
+    private String field29;
+    private String field30;
+    private String field31;
+    private Integer field32;
+    private String field33;
+    private String field34;
+    private String field35;
+    private Integer field36;
+    private String field37;
+    private String field38;
+    private String field39;
+    private Integer field40;
+}
@@ -0,0 +1,57 @@
+package org.dooq.mapper;
+
+import org.dooq.core.AttributeWriter;
+import org.dooq.parser.ObjectParser;
+import org.dooq.parser.ParserCompiler;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Allocation of a write-heavy record made of flags, counters and short status strings,
+ * run with {@code -prof gc}
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+public class WriteBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    public record Counter(String id, String status, String region, boolean active, boolean deleted, Boolean archived,
+                          int views, int likes, long shares, Integer comments, Long version) {
+    }
+
+    private ObjectParser<Counter> parser;
+    private Counter counter;
+    private Map<String, Object> update;
+
+    @Setup
+    public void setup() {
+        parser = ParserCompiler.getConverter(Counter.class);
+        counter = new Counter("7f1c6e0e-51b4-4c1b-9d53-6f0b6f0f2a11", "ACTIVE", "us-east-1", true, false, null,
+                120, 8, 3L, 0, 1L);
+
+        update = new LinkedHashMap<>();
+        update.put(":status", "ACTIVE");
+        update.put(":active", true);
+        update.put(":views", 120);
+        update.put(":version", 1L);
+        update.put(":archived", null);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> writeRecord() {
+        return parser.write(counter);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> writeParameters() {
+        return AttributeWriter.parseMap(update);
+    }
+}
@@ -0,0 +1,66 @@
+package org.dooq.parser;
+
+import org.dooq.scheme.ProductRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+public class ConverterCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testStoreAndLoad() throws IOException {
+
+        var cache = new ConverterCache(directory);
+
+        byte[] bytecode = {1, 2, 3, 4};
+
+        cache.store("entry", bytecode, List.of("converter:a.B"), 1234);
+
+        var entry = cache.load("entry");
+
+        Assertions.assertNotNull(entry);
+        Assertions.assertArrayEquals(bytecode, entry.bytecode());
+        Assertions.assertEquals(List.of("converter:a.B"), entry.recipes());
+        Assertions.assertEquals(1234, entry.generationNanos());
+
+        Files.write(directory.resolve("entry.bin"), new byte[]{0, 1});
+
+        Assertions.assertNull(cache.load("entry"));
+        Assertions.assertNull(cache.load("missing"));
+    }
+
+    @Test
+    void testKey() {
+
+        var properties = ParserCompiler.getProperties(ProductRecord.class);
+
+        var lookUp = new ParserCompiler.Generation(ProductRecord.class, ObjectParser.class, ReadMode.LOOKUP,
+                "a", properties, null);
+
+        var singlePass = new ParserCompiler.Generation(ProductRecord.class, ObjectParser.class, ReadMode.SINGLE_PASS,
+                "b", properties, null);
+
+        Assertions.assertEquals(ConverterCache.key(lookUp, Set.of()), ConverterCache.key(
+                new ParserCompiler.Generation(ProductRecord.class, ObjectParser.class, ReadMode.LOOKUP,
+                        "c", properties, null), Set.of()));
+
+        Assertions.assertNotEquals(ConverterCache.key(lookUp, Set.of()), ConverterCache.key(singlePass, Set.of()));
+        Assertions.assertNotEquals(ConverterCache.key(lookUp, Set.of()), ConverterCache.key(lookUp, Set.of(String.class)));
+    }
+
+    @Test
+    void testReadMode() {
+        Assertions.assertEquals(ReadMode.SINGLE_PASS, ReadMode.of("single-pass"));
+        Assertions.assertEquals(ReadMode.LOOKUP, ReadMode.of("single_pas"));
+        Assertions.assertEquals(ReadMode.LOOKUP, ReadMode.of(null));
+    }
+}